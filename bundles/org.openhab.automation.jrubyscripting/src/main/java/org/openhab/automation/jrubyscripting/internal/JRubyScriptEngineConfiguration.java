@@ -60,10 +60,16 @@ public class JRubyScriptEngineConfiguration {
     private static final String REQUIRE_CONFIG_KEY = "require";
     private static final String CHECK_UPDATE_CONFIG_KEY = "check_update";
     private static final String DEPENDENCY_TRACKING_CONFIG_KEY = "dependency_tracking";
+    private static final String LOCAL_CONTEXT_CONFIG_KEY = "local_context";
+    private static final String PRELOADED_ENGINES_CONFIG_KEY = "preloaded_engines";
+    private static final String SCRIPT_LOADING_THREADS_CONFIG_KEY = "script_loading_threads";
+    private static final String SINGLETON_LOCAL_CONTEXT = "singleton";
+    // every loading thread boots a Ruby runtime of its own, which takes a lot of memory while the runtime boots
+    private static final int MAX_SCRIPT_LOADING_THREADS = 8;
 
     // Map of configuration parameters
     private final Map<String, OptionalConfigurationElement> configurationParameters = Map.ofEntries(
-            Map.entry("local_context",
+            Map.entry(LOCAL_CONTEXT_CONFIG_KEY,
                     new OptionalConfigurationElement(OptionalConfigurationElement.Type.SYSTEM_PROPERTY, "singlethread",
                             "org.jruby.embed.localcontext.scope")),
 
@@ -85,7 +91,12 @@ public class JRubyScriptEngineConfiguration {
 
             Map.entry(CHECK_UPDATE_CONFIG_KEY, new OptionalConfigurationElement("true")),
 
-            Map.entry(DEPENDENCY_TRACKING_CONFIG_KEY, new OptionalConfigurationElement("true")));
+            Map.entry(DEPENDENCY_TRACKING_CONFIG_KEY, new OptionalConfigurationElement("true")),
+
+            Map.entry(PRELOADED_ENGINES_CONFIG_KEY, new OptionalConfigurationElement("0")),
+
+            // read by the script file watcher, listed here so it is not reported as unexpected
+            Map.entry(SCRIPT_LOADING_THREADS_CONFIG_KEY, new OptionalConfigurationElement("1")));
 
     /**
      * Update configuration
@@ -334,6 +345,56 @@ public class JRubyScriptEngineConfiguration {
         return "true".equals(get(DEPENDENCY_TRACKING_CONFIG_KEY));
     }
 
+    /**
+     * Gets the number of script engines that are booted in advance, so that scripts do not have to wait for a new
+     * Ruby runtime.
+     */
+    public int getPreloadedEngines() {
+        if (SINGLETON_LOCAL_CONTEXT.equals(get(LOCAL_CONTEXT_CONFIG_KEY))) {
+            // all engines share the one runtime, which is booted only once anyway
+            return 0;
+        }
+        return parseCount(get(PRELOADED_ENGINES_CONFIG_KEY), 0);
+    }
+
+    /**
+     * Whether every script engine has its own Ruby runtime, which can be terminated without affecting other scripts.
+     */
+    public boolean hasRuntimePerEngine() {
+        return !SINGLETON_LOCAL_CONTEXT.equals(get(LOCAL_CONTEXT_CONFIG_KEY));
+    }
+
+    /**
+     * Gets the number of threads loading Ruby files from the add-on configuration. Files are loaded one at a time when
+     * all scripts share a single runtime, because the scripts would overwrite each other's globals, like
+     * <code>$se</code>, while they are loaded.
+     *
+     * @param config the add-on configuration
+     */
+    public static int getScriptLoadingThreads(Map<String, ?> config) {
+        Object localContext = config.get(LOCAL_CONTEXT_CONFIG_KEY);
+        if (localContext != null && SINGLETON_LOCAL_CONTEXT.equals(localContext.toString().trim())) {
+            return 1;
+        }
+        Object threads = config.get(SCRIPT_LOADING_THREADS_CONFIG_KEY);
+        return threads == null ? 1
+                : Math.min(MAX_SCRIPT_LOADING_THREADS, Math.max(1, parseCount(threads.toString(), 1)));
+    }
+
+    /**
+     * Parses a non-negative number from a configuration value.
+     *
+     * @param value the configuration value
+     * @param defaultValue the value used if the configuration value is not a valid number
+     */
+    private static int parseCount(String value, int defaultValue) {
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     /**
      * Configure system properties
      * 
@@ -13,10 +13,14 @@
 package org.openhab.automation.jrubyscripting.internal;
 
 import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,6 +35,7 @@ import org.openhab.core.automation.module.script.AbstractScriptEngineFactory;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
 import org.openhab.core.automation.module.script.ScriptExtensionManagerWrapper;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.service.WatchService;
 import org.osgi.framework.Constants;
@@ -62,6 +67,13 @@ public class JRubyScriptEngineFactory extends AbstractScriptEngineFactory {
 
     private final JRubyDependencyTracker jrubyDependencyTracker;
 
+    // engines with an already booted Ruby runtime, handed out to new scripts
+    private final Queue<ScriptEngine> preloadedEngines = new ArrayDeque<>();
+    // number of engines that are being booted in the background, guarded by preloadedEngines like the queue
+    private int preloading = 0;
+    // incremented on configuration changes, so engines booted with an outdated configuration are discarded
+    private final AtomicInteger configurationVersion = new AtomicInteger();
+
     // Adds $ in front of a set of variables so that Ruby recognizes them as global
     // variables
     private static Map.Entry<String, Object> mapGlobalPresets(Map.Entry<String, Object> entry) {
@@ -82,13 +94,19 @@ public class JRubyScriptEngineFactory extends AbstractScriptEngineFactory {
 
     @Deactivate
     protected void deactivate() {
+        configurationVersion.incrementAndGet();
+        discardPreloadedEngines();
         jrubyDependencyTracker.deactivate();
     }
 
     // The modified call updates configuration for the automation
     @Modified
     protected void modified(Map<String, Object> config) {
+        configurationVersion.incrementAndGet();
+        // terminated while the local context of the configuration they were booted with still applies
+        discardPreloadedEngines();
         configuration.update(config, factory);
+        preloadEngines();
         // Re-initialize the dependency tracker's watchers.
         jrubyDependencyTracker.deactivate();
         if (configuration.enableDependencyTracking()) {
@@ -158,9 +176,98 @@ public class JRubyScriptEngineFactory extends AbstractScriptEngineFactory {
         if (!scriptTypes.contains(scriptType)) {
             return null;
         }
+        long start = System.nanoTime();
+        ScriptEngine engine;
+        synchronized (preloadedEngines) {
+            engine = preloadedEngines.poll();
+            preloadEngines();
+        }
+        boolean preloaded = engine != null;
+        if (engine == null) {
+            engine = createConfiguredEngine();
+        }
+        logger.debug("Created {} script engine in {} ms", preloaded ? "preloaded" : "new",
+                (System.nanoTime() - start) / 1_000_000);
+        return new JRubyEngineWrapper((org.jruby.embed.jsr223.JRubyEngine) engine);
+    }
+
+    private ScriptEngine createConfiguredEngine() {
         ScriptEngine engine = factory.getScriptEngine();
         configuration.configureRubyEnvironment(engine);
-        return new JRubyEngineWrapper((org.jruby.embed.jsr223.JRubyEngine) engine);
+        return engine;
+    }
+
+    /**
+     * Boots Ruby runtimes in the background until the configured number of preloaded engines is available.
+     * The required scripts are not loaded in advance, because they need the script's presets.
+     *
+     * Each preloaded engine still gets a runtime of its own. Sharing one runtime between scripts is what the singleton
+     * local context does, but its variable map is shared by all engines too, so the globals every script gets, like
+     * <code>$se</code> and <code>$dependencyListener</code>, would be overwritten by the next script.
+     */
+    private void preloadEngines() {
+        int target = configuration.getPreloadedEngines();
+        int version = configurationVersion.get();
+        // the engines are counted and the boots started under one lock, so concurrent callers do not overshoot
+        synchronized (preloadedEngines) {
+            while (preloadedEngines.size() + preloading < target) {
+                preloading++;
+                ThreadPoolManager.getPool("automation").execute(() -> preloadEngine(version));
+            }
+        }
+    }
+
+    private void preloadEngine(int version) {
+        boolean added = false;
+        try {
+            if (version != configurationVersion.get()) {
+                return;
+            }
+            long start = System.nanoTime();
+            ScriptEngine engine = createConfiguredEngine();
+            synchronized (preloadedEngines) {
+                if (version == configurationVersion.get()) {
+                    added = preloadedEngines.add(engine);
+                }
+            }
+            if (added) {
+                logger.debug("Preloaded script engine in {} ms", (System.nanoTime() - start) / 1_000_000);
+            } else {
+                terminate(engine);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to preload script engine: {}", e.getMessage());
+        } finally {
+            synchronized (preloadedEngines) {
+                preloading--;
+            }
+        }
+    }
+
+    private void discardPreloadedEngines() {
+        List<ScriptEngine> engines;
+        synchronized (preloadedEngines) {
+            engines = new ArrayList<>(preloadedEngines);
+            preloadedEngines.clear();
+        }
+        engines.forEach(this::terminate);
+    }
+
+    /**
+     * Terminates the Ruby runtime of an engine that was never handed out, running its at_exit blocks and releasing
+     * its threads and memory. Nothing is done while the runtime is shared with the engines of running scripts.
+     */
+    private void terminate(ScriptEngine engine) {
+        if (!configuration.hasRuntimePerEngine()) {
+            return;
+        }
+        try {
+            // JRuby's JSR 223 engine tears down its runtime after an evaluation when termination is requested
+            engine.getContext().setAttribute("org.jruby.embed.termination", true, ScriptContext.ENGINE_SCOPE);
+            engine.eval("nil");
+        } catch (ScriptException | RuntimeException e) {
+            logger.debug("Failed to terminate preloaded script engine: {}", e.getMessage());
+        }
     }
 
     @Override
@@ -14,21 +14,28 @@ package org.openhab.automation.jrubyscripting.internal.watch;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.automation.jrubyscripting.internal.JRubyScriptEngineConfiguration;
 import org.openhab.automation.jrubyscripting.internal.JRubyScriptEngineFactory;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
 import org.openhab.core.automation.module.script.ScriptEngineManager;
 import org.openhab.core.automation.module.script.rulesupport.loader.AbstractScriptFileWatcher;
 import org.openhab.core.automation.module.script.rulesupport.loader.ScriptFileWatcher;
+import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.service.ReadyService;
 import org.openhab.core.service.StartLevelService;
 import org.openhab.core.service.WatchService;
+import org.openhab.core.service.WatchService.Kind;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,7 +46,8 @@ import org.slf4j.LoggerFactory;
  * @author Cody Cutrer - Initial contribution
  * @author Jan N. Klug - Refactored to new WatchService
  */
-@Component(immediate = true, service = { ScriptFileWatcher.class, ScriptDependencyTracker.Listener.class })
+@Component(immediate = true, service = { ScriptFileWatcher.class,
+        ScriptDependencyTracker.Listener.class }, configurationPid = "org.openhab.automation.jrubyscripting")
 @NonNullByDefault
 public class JRubyScriptFileWatcher extends AbstractScriptFileWatcher {
     private final Logger logger = LoggerFactory.getLogger(JRubyScriptFileWatcher.class);
@@ -48,15 +56,61 @@ public class JRubyScriptFileWatcher extends AbstractScriptFileWatcher {
 
     private final JRubyScriptEngineFactory scriptEngineFactory;
 
+    // set while the super constructor runs, an initializer would reset it afterwards
+    private @Nullable ScriptLoadingExecutor loader;
+
     @Activate
     public JRubyScriptFileWatcher(final @Reference ScriptEngineManager manager,
             final @Reference ReadyService readyService, final @Reference StartLevelService startLevelService,
             final @Reference(target = "(" + Constants.SERVICE_PID
                     + "=org.openhab.automation.jrubyscripting)") ScriptEngineFactory scriptEngineFactory,
-            final @Reference(target = WatchService.CONFIG_WATCHER_FILTER) WatchService watchService) {
+            final @Reference(target = WatchService.CONFIG_WATCHER_FILTER) WatchService watchService,
+            Map<String, Object> config) {
         super(watchService, manager, readyService, startLevelService, FILE_DIRECTORY, true);
 
         this.scriptEngineFactory = (JRubyScriptEngineFactory) scriptEngineFactory;
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        int threads = JRubyScriptEngineConfiguration.getScriptLoadingThreads(config);
+        ScriptLoadingExecutor localLoader = loader;
+        if (localLoader != null && localLoader.getCorePoolSize() != threads) {
+            logger.debug("Loading Ruby files with {} thread(s)", threads);
+            localLoader.setCorePoolSize(threads);
+        }
+    }
+
+    @Override
+    protected ScheduledExecutorService getScheduler() {
+        // Ruby files are loaded in order until modified() applies script_loading_threads, each thread creating the
+        // script engines of the files it loads, preferably from the preloaded engines of the factory
+        ScriptLoadingExecutor localLoader = new ScriptLoadingExecutor(1,
+                new NamedThreadFactory("jrubyscripting-loader"));
+        loader = localLoader;
+        return localLoader;
+    }
+
+    @Override
+    public void processWatchEvent(Kind kind, Path path) {
+        ScriptLoadingExecutor localLoader = loader;
+        if (localLoader != null) {
+            // a file that changes again while it is loaded is reloaded after the running load
+            localLoader.runFor(getWatchPath().resolve(path).toString(), () -> super.processWatchEvent(kind, path));
+        } else {
+            super.processWatchEvent(kind, path);
+        }
+    }
+
+    @Override
+    public void onDependencyChange(String scriptId) {
+        ScriptLoadingExecutor localLoader = loader;
+        if (localLoader != null) {
+            localLoader.runFor(scriptId, () -> super.onDependencyChange(scriptId));
+        } else {
+            super.onDependencyChange(scriptId);
+        }
     }
 
     @Override
@@ -38,12 +38,12 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import javax.script.ScriptContext;
-import javax.script.ScriptException;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.openhab.automation.jsscripting.internal.fs.DelegatingFileSystem;
@@ -92,7 +92,10 @@ public class OpenhabGraalJSScriptEngine
             throw new IllegalStateException("Failed to load @openhab-globals.js", e);
         }
     }
-    private static final String OPENHAB_JS_INJECTION_CODE = "Object.assign(this, require('openhab'));";
+    /** Shared between all contexts, so the injection code is parsed only once */
+    private static final Source OPENHAB_JS_INJECTION_SOURCE = Source
+            .newBuilder("js", "Object.assign(this, require('openhab'));", "@openhab-injection.js").cached(true)
+            .buildLiteral();
 
     private static final String REQUIRE_WRAPPER_NAME = "__wraprequire__";
     /** Final CommonJS search path for our library */
@@ -138,6 +141,9 @@ public class OpenhabGraalJSScriptEngine
     private String engineIdentifier; // this field is very helpful for debugging, please do not remove it
 
     private boolean initialized = false;
+    private final long createdNanos = System.nanoTime();
+    private long initializationNanos = -1;
+    private boolean loaded = false;
     private final boolean injectionEnabled;
     private final boolean injectionCachingEnabled;
 
@@ -277,6 +283,7 @@ public class OpenhabGraalJSScriptEngine
 
         initialized = true;
 
+        long initializationStart = System.nanoTime();
         try {
             LOGGER.debug("Evaluating cached global script...");
             delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
@@ -286,27 +293,46 @@ public class OpenhabGraalJSScriptEngine
                     delegate.getPolyglotContext().eval(OPENHAB_JS_SOURCE);
                 } else {
                     LOGGER.debug("Evaluating openhab-js injection from the file system...");
-                    eval(OPENHAB_JS_INJECTION_CODE);
+                    delegate.getPolyglotContext().eval(OPENHAB_JS_INJECTION_SOURCE);
                 }
             }
             LOGGER.debug("Successfully initialized GraalJS script engine.");
-        } catch (ScriptException e) {
+        } catch (PolyglotException e) {
             LOGGER.error("Could not inject global script", e);
         }
+        initializationNanos = System.nanoTime() - initializationStart;
     }
 
     @Override
     protected Object afterInvocation(Object obj) {
+        logLoadTime();
         lock.unlock();
         return super.afterInvocation(obj);
     }
 
     @Override
     protected Exception afterThrowsInvocation(Exception e) {
+        logLoadTime();
         lock.unlock();
         return super.afterThrowsInvocation(e);
     }
 
+    /**
+     * Logs the time it took to create the engine and run the first invocation, which for script files is loading the
+     * file.
+     */
+    private void logLoadTime() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (LOGGER.isDebugEnabled()) {
+            long total = System.nanoTime() - createdNanos;
+            LOGGER.debug("Loaded '{}' in {} ms, of which {} ms were spent injecting globals", engineIdentifier,
+                    total / 1_000_000, Math.max(0, initializationNanos) / 1_000_000);
+        }
+    }
+
     @Override
     public void close() {
         jsRuntimeFeatures.close();
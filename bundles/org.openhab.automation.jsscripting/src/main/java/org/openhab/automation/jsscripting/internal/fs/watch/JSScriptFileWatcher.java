@@ -14,19 +14,28 @@ package org.openhab.automation.jsscripting.internal.fs.watch;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineManager;
 import org.openhab.core.automation.module.script.rulesupport.loader.AbstractScriptFileWatcher;
 import org.openhab.core.automation.module.script.rulesupport.loader.ScriptFileWatcher;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.service.ReadyService;
 import org.openhab.core.service.StartLevelService;
 import org.openhab.core.service.WatchService;
+import org.openhab.core.service.WatchService.Kind;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Monitors {@code <openHAB-conf>/automation/js} for Javascript files, but not libraries
@@ -34,16 +43,64 @@ import org.osgi.service.component.annotations.Reference;
  * @author Jonathan Gilbert - Initial contribution
  * @author Jan N. Klug - Refactored to new WatchService
  */
-@Component(immediate = true, service = { ScriptFileWatcher.class, ScriptDependencyTracker.Listener.class })
+@Component(immediate = true, service = { ScriptFileWatcher.class,
+        ScriptDependencyTracker.Listener.class }, configurationPid = "org.openhab.jsscripting")
 @NonNullByDefault
 public class JSScriptFileWatcher extends AbstractScriptFileWatcher {
     private static final String FILE_DIRECTORY = "automation" + File.separator + "js";
+    private static final String CFG_SCRIPT_LOADING_THREADS = "scriptLoadingThreads";
+    private static final int MAX_SCRIPT_LOADING_THREADS = 8;
+
+    private final Logger logger = LoggerFactory.getLogger(JSScriptFileWatcher.class);
+
+    // no initializer: this field is assigned by getScheduler(), which is called from the super constructor
+    private @Nullable ScriptLoadingExecutor loader;
 
     @Activate
     public JSScriptFileWatcher(final @Reference(target = WatchService.CONFIG_WATCHER_FILTER) WatchService watchService,
             final @Reference ScriptEngineManager manager, final @Reference ReadyService readyService,
-            final @Reference StartLevelService startLevelService) {
+            final @Reference StartLevelService startLevelService, Map<String, Object> config) {
         super(watchService, manager, readyService, startLevelService, FILE_DIRECTORY, true);
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, ?> config) {
+        int threads = Math.min(MAX_SCRIPT_LOADING_THREADS,
+                Math.max(1, ConfigParser.valueAsOrElse(config.get(CFG_SCRIPT_LOADING_THREADS), Integer.class, 1)));
+        ScriptLoadingExecutor localLoader = loader;
+        if (localLoader != null && localLoader.getCorePoolSize() != threads) {
+            logger.debug("Loading JavaScript files with {} thread(s)", threads);
+            localLoader.setCorePoolSize(threads);
+        }
+    }
+
+    @Override
+    protected ScheduledExecutorService getScheduler() {
+        // script files are loaded by the threads of this executor, the events of a file are processed in order
+        ScriptLoadingExecutor localLoader = new ScriptLoadingExecutor(1, new NamedThreadFactory("jsscripting-loader"));
+        loader = localLoader;
+        return localLoader;
+    }
+
+    @Override
+    public void processWatchEvent(Kind kind, Path path) {
+        ScriptLoadingExecutor localLoader = loader;
+        if (localLoader == null) {
+            super.processWatchEvent(kind, path);
+        } else {
+            localLoader.runFor(getWatchPath().resolve(path).toString(), () -> super.processWatchEvent(kind, path));
+        }
+    }
+
+    @Override
+    public void onDependencyChange(String scriptId) {
+        ScriptLoadingExecutor localLoader = loader;
+        if (localLoader == null) {
+            super.onDependencyChange(scriptId);
+        } else {
+            localLoader.runFor(scriptId, () -> super.onDependencyChange(scriptId));
+        }
     }
 
     @Override
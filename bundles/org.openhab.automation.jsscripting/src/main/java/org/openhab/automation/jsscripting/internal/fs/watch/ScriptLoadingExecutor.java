@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.fs.watch;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ScriptLoadingExecutor} loads script files on several threads, but runs the tasks submitted for the same
+ * file one after the other, in the order they were submitted. The file of a task is the one passed to
+ * {@link #runFor(String, Runnable)} by the thread submitting it. Tasks submitted outside of it, like the initial
+ * import of all files, are not ordered.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScriptLoadingExecutor extends ScheduledThreadPoolExecutor {
+    private final ThreadLocal<@Nullable String> submittingFile = new ThreadLocal<>();
+    // tasks waiting for the running task of their file, a file has an entry while one of its tasks is running
+    private final Map<String, Queue<Runnable>> waitingTasks = new HashMap<>();
+
+    public ScriptLoadingExecutor(int corePoolSize, ThreadFactory threadFactory) {
+        super(corePoolSize, threadFactory);
+    }
+
+    /**
+     * Runs code that submits tasks for a file, for example the processing of a watch event
+     *
+     * @param file the file the tasks are for
+     * @param submission the code submitting the tasks
+     */
+    public void runFor(String file, Runnable submission) {
+        submittingFile.set(file);
+        try {
+            submission.run();
+        } finally {
+            submittingFile.remove();
+        }
+    }
+
+    @Override
+    public void execute(@Nullable Runnable command) {
+        String file = submittingFile.get();
+        if (file == null || command == null) {
+            super.execute(command);
+            return;
+        }
+        synchronized (waitingTasks) {
+            Queue<Runnable> queue = waitingTasks.get(file);
+            if (queue != null) {
+                queue.add(command);
+                return;
+            }
+            waitingTasks.put(file, new ArrayDeque<>());
+        }
+        super.execute(() -> runInOrder(file, command));
+    }
+
+    private void runInOrder(String file, Runnable command) {
+        try {
+            command.run();
+        } finally {
+            Runnable next;
+            synchronized (waitingTasks) {
+                Queue<Runnable> queue = waitingTasks.get(file);
+                next = queue == null ? null : queue.poll();
+                if (next == null) {
+                    waitingTasks.remove(file);
+                }
+            }
+            if (next != null) {
+                Runnable localNext = next;
+                super.execute(() -> runInOrder(file, localNext));
+            }
+        }
+    }
+}
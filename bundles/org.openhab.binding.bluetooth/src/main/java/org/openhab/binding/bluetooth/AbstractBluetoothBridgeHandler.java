@@ -88,6 +88,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     @Override
     public void initialize() {
         config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
+        devices.values().forEach(this::configureDevice);
 
         int intervalSecs = config.inactiveDeviceCleanupInterval;
         inactiveRemovalJob = scheduler.scheduleWithFixedDelay(this::removeInactiveDevices, intervalSecs, intervalSecs,
@@ -102,10 +103,8 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         }
         this.inactiveRemovalJob = null;
 
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                removeDevice(device);
-            }
+        for (BD device : devices.values()) {
+            removeDevice(device);
         }
     }
 
@@ -115,21 +114,19 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     private void removeInactiveDevices() {
         // clean up orphaned entries
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                if (shouldRemove(device)) {
-                    logger.debug("Removing device '{}' due to inactivity", device.getAddress());
-                    removeDevice(device);
-                }
+        for (BD device : devices.values()) {
+            if (shouldRemove(device)) {
+                logger.debug("Removing device '{}' due to inactivity", device.getAddress());
+                removeDevice(device);
             }
         }
     }
 
     protected void removeDevice(BD device) {
         device.dispose();
-        synchronized (devices) {
-            devices.remove(device.getAddress());
-        }
+        device.disposeScanCoalescing();
+        // only remove this very device, a new one may have been created for the address in the meantime
+        devices.remove(device.getAddress(), device);
         discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
     }
 
@@ -172,9 +169,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     protected void refreshDiscoveredDevices() {
         logger.debug("Refreshing Bluetooth device list...");
-        synchronized (devices) {
-            devices.values().forEach(this::deviceDiscovered);
-        }
+        devices.values().forEach(this::deviceDiscovered);
     }
 
     @Override
@@ -186,9 +181,23 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     @Override
     public BD getDevice(BluetoothAddress address) {
-        synchronized (devices) {
-            return Objects.requireNonNull(devices.computeIfAbsent(address, this::createDevice));
+        // advertisements of known devices are looked up without locking, the map only locks to create a device
+        BD device = devices.get(address);
+        if (device != null) {
+            return device;
         }
+        return Objects.requireNonNull(devices.computeIfAbsent(address, this::createConfiguredDevice));
+    }
+
+    private BD createConfiguredDevice(BluetoothAddress address) {
+        BD device = createDevice(address);
+        configureDevice(device);
+        return device;
+    }
+
+    private void configureDevice(BD device) {
+        device.configureScanCoalescing(config.advertisementDuplicateWindow, config.advertisementUpdateInterval,
+                scheduler);
     }
 
     protected abstract BD createDevice(BluetoothAddress address);
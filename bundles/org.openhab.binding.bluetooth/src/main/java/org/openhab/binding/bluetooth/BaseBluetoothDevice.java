@@ -19,6 +19,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -26,6 +27,8 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.openhab.binding.bluetooth.util.ScanNotificationCoalescer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,6 +93,12 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
 
     private volatile boolean servicesDiscovered = false;
 
+    /**
+     * Drops repeated advertisements before they are passed on to the listeners
+     */
+    private final ScanNotificationCoalescer scanNotificationCoalescer = new ScanNotificationCoalescer(
+            this::notifyScanRecordListeners);
+
     /**
      * Construct a Bluetooth device taking the Bluetooth address
      *
@@ -268,6 +277,21 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
     protected void dispose() {
     }
 
+    /**
+     * Configures how scan notifications of this device are coalesced, see {@link ScanNotificationCoalescer}.
+     *
+     * @param duplicateWindowMs time in milliseconds within which identical advertisements are dropped
+     * @param updateIntervalMs minimum time in milliseconds between two scan notifications passed to the listeners
+     * @param scheduler used to deliver coalesced scan notifications
+     */
+    void configureScanCoalescing(long duplicateWindowMs, long updateIntervalMs, ScheduledExecutorService scheduler) {
+        scanNotificationCoalescer.configure(duplicateWindowMs, updateIntervalMs, scheduler);
+    }
+
+    void disposeScanCoalescing() {
+        scanNotificationCoalescer.dispose();
+    }
+
     @Override
     public boolean isServicesDiscovered() {
         return servicesDiscovered;
@@ -337,12 +361,20 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
                     deviceLock.unlock();
                 }
                 break;
+            case SCAN_RECORD:
+                // listeners are notified by the coalescer
+                scanNotificationCoalescer.offer((BluetoothScanNotification) args[0]);
+                return;
             default:
                 break;
         }
         super.notifyListeners(event, args);
     }
 
+    private void notifyScanRecordListeners(BluetoothScanNotification notification) {
+        super.notifyListeners(BluetoothEventType.SCAN_RECORD, notification);
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
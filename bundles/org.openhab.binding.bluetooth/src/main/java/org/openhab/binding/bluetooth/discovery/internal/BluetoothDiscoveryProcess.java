@@ -62,6 +62,9 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult> {
     private final Collection<BluetoothDiscoveryParticipant> participants;
     private final Set<BluetoothAdapter> adapters;
 
+    // false if the device could not be checked by all participants, e.g. because a connection failed
+    private volatile boolean conclusive = true;
+
     public BluetoothDiscoveryProcess(BluetoothDeviceSnapshot device,
             Collection<BluetoothDiscoveryParticipant> participants, Set<BluetoothAdapter> adapters) {
         this.participants = participants;
@@ -88,13 +91,14 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult> {
                 }
             } catch (RuntimeException e) {
                 logger.warn("Participant '{}' threw an exception", participant.getClass().getName(), e);
+                conclusive = false;
             }
         }
 
         // Since we couldn't find a result, lets try the connection based participants
         DiscoveryResult result = null;
         BluetoothAddress address = device.getAddress();
-        if (isAddressAvailable(address)) {
+        if (isAddressAvailable(adapters, address)) {
             result = findConnectionResult(connectionParticipants);
             // make sure to disconnect before letting go of the device
             if (device.getConnectionState() == ConnectionState.CONNECTED) {
@@ -107,6 +111,8 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult> {
                             device.getAdapter().getUID(), ex);
                 }
             }
+        } else if (!connectionParticipants.isEmpty()) {
+            conclusive = false;
         }
         if (result == null) {
             result = createDefaultResult();
@@ -114,7 +120,17 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult> {
         return result;
     }
 
-    private boolean isAddressAvailable(BluetoothAddress address) {
+    /**
+     * Tells whether the result of this process can be reused for the same device. This is not the case if
+     * participants requiring a connection could not check the device.
+     *
+     * @return true if all participants have checked the device
+     */
+    public boolean isConclusive() {
+        return conclusive;
+    }
+
+    static boolean isAddressAvailable(Set<BluetoothAdapter> adapters, BluetoothAddress address) {
         // if a device with this address has a handler on any of the adapters, we abandon discovery
         return adapters.stream().noneMatch(adapter -> adapter.hasHandlerForDevice(address));
     }
@@ -157,10 +173,12 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult> {
                     if (device.getConnectionState() != ConnectionState.CONNECTING && !device.connect()) {
                         logger.debug("Connection attempt failed to start for device {}", device.getAddress());
                         // something failed, so we abandon connection discovery
+                        conclusive = false;
                         return null;
                     }
                     if (!device.awaitConnection(1, TimeUnit.SECONDS)) {
                         logger.debug("Connection to device {} timed out", device.getAddress());
+                        conclusive = false;
                         return null;
                     }
                     if (!device.isServicesDiscovered()) {
@@ -168,6 +186,7 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult> {
                         if (!device.awaitServiceDiscovery(10, TimeUnit.SECONDS)) {
                             logger.debug("Service discovery for device {} timed out", device.getAddress());
                             // something failed, so we abandon connection discovery
+                            conclusive = false;
                             return null;
                         }
                     }
@@ -182,10 +201,11 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult> {
                     }
                 } catch (RuntimeException e) {
                     logger.warn("Participant '{}' threw an exception", participant.getClass().getName(), e);
+                    conclusive = false;
                 }
             }
         } catch (InterruptedException e) {
-            // do nothing
+            conclusive = false;
         }
         return null;
     }
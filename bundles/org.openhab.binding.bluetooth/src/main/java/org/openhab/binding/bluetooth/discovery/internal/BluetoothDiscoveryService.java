@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -31,6 +32,7 @@ import org.openhab.binding.bluetooth.BluetoothAddress;
 import org.openhab.binding.bluetooth.BluetoothBindingConstants;
 import org.openhab.binding.bluetooth.BluetoothDevice;
 import org.openhab.binding.bluetooth.BluetoothDiscoveryListener;
+import org.openhab.binding.bluetooth.discovery.internal.DiscoveryFingerprintCache.Fingerprint;
 import org.openhab.binding.bluetooth.discovery.BluetoothDiscoveryParticipant;
 import org.openhab.core.cache.ExpiringCache;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
@@ -63,12 +65,18 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
     private final Logger logger = LoggerFactory.getLogger(BluetoothDiscoveryService.class);
 
     private static final int SEARCH_TIME = 15;
+    private static final int FINGERPRINT_CACHE_SIZE = 1024;
+    // matches the expiry of the latest snapshot, so discovery results are refreshed as often as before
+    private static final int REPUBLISH_INTERVAL_MINUTES = 1;
 
     private final Set<BluetoothAdapter> adapters = new CopyOnWriteArraySet<>();
     private final Set<BluetoothDiscoveryParticipant> participants = new CopyOnWriteArraySet<>();
     @NonNullByDefault({})
     private final Map<BluetoothAddress, DiscoveryCache> discoveryCaches = new ConcurrentHashMap<>();
 
+    private final DiscoveryFingerprintCache fingerprints = new DiscoveryFingerprintCache(FINGERPRINT_CACHE_SIZE,
+            REPUBLISH_INTERVAL_MINUTES, TimeUnit.MINUTES);
+
     private final Set<ThingTypeUID> supportedThingTypes = new CopyOnWriteArraySet<>();
 
     public BluetoothDiscoveryService() {
@@ -110,11 +118,14 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
     protected void addBluetoothDiscoveryParticipant(BluetoothDiscoveryParticipant participant) {
         this.participants.add(participant);
         supportedThingTypes.addAll(participant.getSupportedThingTypeUIDs());
+        // the new participant may recognize devices that have been classified already
+        fingerprints.clear();
     }
 
     protected void removeBluetoothDiscoveryParticipant(BluetoothDiscoveryParticipant participant) {
         supportedThingTypes.removeAll(participant.getSupportedThingTypeUIDs());
         this.participants.remove(participant);
+        fingerprints.clear();
     }
 
     @Override
@@ -141,21 +152,28 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
         discoveryCaches.values().forEach(discoveryCache -> {
             discoveryCache.latestSnapshot.putValue(null);
         });
+        fingerprints.unpublishAll();
         removeOlderResults(getTimestampOfLastScan());
     }
 
     @Override
     public void deviceRemoved(BluetoothDevice device) {
+        fingerprints.unpublished(device);
         discoveryCaches.computeIfPresent(device.getAddress(), (addr, cache) -> cache.removeDiscoveries(device));
     }
 
     @Override
     public void deviceDiscovered(BluetoothDevice device) {
+        Fingerprint fingerprint = Fingerprint.of(device);
+        if (fingerprints.isPublished(device, fingerprint)) {
+            // nothing has changed since the device has been classified, so there is nothing to do
+            return;
+        }
         logger.debug("Discovered bluetooth device '{}': {}", device.getName(), device);
 
         DiscoveryCache cache = Objects
                 .requireNonNull(discoveryCaches.computeIfAbsent(device.getAddress(), addr -> new DiscoveryCache()));
-        cache.handleDiscovery(device);
+        cache.handleDiscovery(device, fingerprint);
     }
 
     private static ThingUID createThingUIDWithBridge(DiscoveryResult result, BluetoothAdapter adapter) {
@@ -204,19 +222,19 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
             return this;
         }
 
-        public synchronized void handleDiscovery(BluetoothDevice device) {
+        public synchronized void handleDiscovery(BluetoothDevice device, Fingerprint fingerprint) {
             if (!discoveryFutures.isEmpty()) {
                 CompletableFuture
                         // we have an ongoing futures so lets create our discovery after they all finish
                         .allOf(discoveryFutures.values().stream().map(sf -> sf.future)
                                 .toArray(CompletableFuture[]::new))
-                        .thenRun(() -> createDiscoveryFuture(device));
+                        .thenRun(() -> createDiscoveryFuture(device, fingerprint));
             } else {
-                createDiscoveryFuture(device);
+                createDiscoveryFuture(device, fingerprint);
             }
         }
 
-        private synchronized void createDiscoveryFuture(BluetoothDevice device) {
+        private synchronized void createDiscoveryFuture(BluetoothDevice device, Fingerprint fingerprint) {
             BluetoothAdapter adapter = device.getAdapter();
             CompletableFuture<DiscoveryResult> future = null;
 
@@ -253,7 +271,7 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
             if (future == null) {
                 // we pass in the snapshot since it acts as a delegate for the device. It will also retain any new
                 // fields added to the device as part of the discovery process.
-                future = startDiscoveryProcess(snapshot);
+                future = startDiscoveryProcess(snapshot, fingerprint);
             }
 
             if (discoveryFutures.containsKey(adapter)) {
@@ -280,6 +298,7 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
              */
             future = future.thenApply(result -> {
                 publishDiscoveryResult(adapter, result);
+                fingerprints.published(device.getAddress(), adapter, fingerprint);
                 return result;
             }).whenComplete((r, t) -> {
                 if (t != null) {
@@ -320,9 +339,23 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
             }
         }
 
-        private CompletableFuture<DiscoveryResult> startDiscoveryProcess(BluetoothDeviceSnapshot device) {
-            return CompletableFuture.supplyAsync(new BluetoothDiscoveryProcess(device, participants, adapters),
-                    scheduler);
+        private CompletableFuture<DiscoveryResult> startDiscoveryProcess(BluetoothDeviceSnapshot device,
+                Fingerprint fingerprint) {
+            BluetoothAddress address = device.getAddress();
+            DiscoveryResult knownResult = fingerprints.getResult(address, fingerprint);
+            // a device that got a handler meanwhile is not connected to, so it is classified without the cache as well
+            if (knownResult != null && BluetoothDiscoveryProcess.isAddressAvailable(adapters, address)) {
+                // the participants have already classified this device, including the ones that didn't support it
+                logger.trace("Reusing discovery result for device {}", address);
+                return CompletableFuture.completedFuture(knownResult);
+            }
+            BluetoothDiscoveryProcess process = new BluetoothDiscoveryProcess(device, participants, adapters);
+            return CompletableFuture.supplyAsync(process, scheduler).thenApply(result -> {
+                if (process.isConclusive()) {
+                    fingerprints.putResult(address, fingerprint, result);
+                }
+                return result;
+            });
         }
     }
 
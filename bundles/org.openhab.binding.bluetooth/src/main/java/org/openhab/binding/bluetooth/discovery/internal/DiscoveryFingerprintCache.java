@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.discovery.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.BluetoothAdapter;
+import org.openhab.binding.bluetooth.BluetoothAddress;
+import org.openhab.binding.bluetooth.BluetoothDevice;
+import org.openhab.binding.bluetooth.BluetoothService;
+import org.openhab.core.config.discovery.DiscoveryResult;
+
+/**
+ * The {@link DiscoveryFingerprintCache} remembers a compact fingerprint of the most recently discovered devices, so
+ * repeated discovery events of an already classified device can be rejected without creating a
+ * {@link BluetoothDeviceSnapshot}, and the result of the discovery participants can be reused instead of running
+ * them again. The cache is bounded and evicts the least recently discovered devices.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class DiscoveryFingerprintCache {
+
+    private final int capacity;
+    private final long republishIntervalNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<BluetoothAddress, Entry> entries;
+
+    DiscoveryFingerprintCache(int capacity, long republishInterval, TimeUnit unit) {
+        this(capacity, republishInterval, unit, System::nanoTime);
+    }
+
+    DiscoveryFingerprintCache(int capacity, long republishInterval, TimeUnit unit, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.republishIntervalNanos = unit.toNanos(republishInterval);
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BluetoothAddress, Entry> eldest) {
+                return size() > DiscoveryFingerprintCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Checks whether a result for the device in its current state has recently been published for the device's
+     * adapter, in which case the discovery event doesn't need any further processing.
+     */
+    synchronized boolean isPublished(BluetoothDevice device, Fingerprint fingerprint) {
+        Entry entry = entries.get(device.getAddress());
+        if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+            return false;
+        }
+        Long publishTime = entry.publishTimes.get(device.getAdapter());
+        return publishTime != null && nanoClock.getAsLong() - publishTime < republishIntervalNanos;
+    }
+
+    synchronized void published(BluetoothAddress address, BluetoothAdapter adapter, Fingerprint fingerprint) {
+        entryFor(address, fingerprint).publishTimes.put(adapter, nanoClock.getAsLong());
+    }
+
+    /**
+     * @return the result the participants produced for the device with the same fingerprint, or null if the
+     *         participants still need to be run
+     */
+    synchronized @Nullable DiscoveryResult getResult(BluetoothAddress address, Fingerprint fingerprint) {
+        Entry entry = entries.get(address);
+        return entry != null && entry.fingerprint.equals(fingerprint) ? entry.result : null;
+    }
+
+    synchronized void putResult(BluetoothAddress address, Fingerprint fingerprint, DiscoveryResult result) {
+        entryFor(address, fingerprint).result = result;
+    }
+
+    private Entry entryFor(BluetoothAddress address, Fingerprint fingerprint) {
+        Entry entry = entries.get(address);
+        if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+            entry = new Entry(fingerprint);
+            entries.put(address, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Forgets that a result has been published for the device's adapter, the participants result is kept.
+     */
+    synchronized void unpublished(BluetoothDevice device) {
+        Entry entry = entries.get(device.getAddress());
+        if (entry != null) {
+            entry.publishTimes.remove(device.getAdapter());
+        }
+    }
+
+    /**
+     * Forgets all published results, e.g. after they have been removed from the inbox.
+     */
+    synchronized void unpublishAll() {
+        entries.values().forEach(entry -> entry.publishTimes.clear());
+    }
+
+    /**
+     * Forgets everything, e.g. after the set of participants has changed.
+     */
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+        private final Fingerprint fingerprint;
+        private final Map<BluetoothAdapter, Long> publishTimes = new LinkedHashMap<>();
+        private @Nullable DiscoveryResult result;
+
+        private Entry(Fingerprint fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * The identity fields of a device relevant for discovery: manufacturer ID, transmit power, service UUIDs and
+     * name. Service UUIDs and name are only kept as hashes, to keep the fingerprint small.
+     */
+    static class Fingerprint {
+        private final int manufacturerId;
+        private final int txPower;
+        private final int servicesHash;
+        private final int nameHash;
+
+        private Fingerprint(int manufacturerId, int txPower, int servicesHash, int nameHash) {
+            this.manufacturerId = manufacturerId;
+            this.txPower = txPower;
+            this.servicesHash = servicesHash;
+            this.nameHash = nameHash;
+        }
+
+        static Fingerprint of(BluetoothDevice device) {
+            Integer manufacturerId = device.getManufacturerId();
+            Integer txPower = device.getTxPower();
+            int servicesHash = 0;
+            for (BluetoothService service : device.getServices()) {
+                // order independent, services are kept in hash maps
+                servicesHash += service.getUuid().hashCode();
+            }
+            return new Fingerprint(manufacturerId == null ? Integer.MIN_VALUE : manufacturerId,
+                    txPower == null ? Integer.MIN_VALUE : txPower, servicesHash, Objects.hashCode(device.getName()));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(manufacturerId, txPower, servicesHash, nameHash);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Fingerprint other)) {
+                return false;
+            }
+            return manufacturerId == other.manufacturerId && txPower == other.txPower
+                    && servicesHash == other.servicesHash && nameHash == other.nameHash;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.util;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification.BluetoothBeaconType;
+
+/**
+ * The {@link ScanNotificationCoalescer} reduces the scan notifications of a single device before they are passed on to
+ * the device listeners.
+ * <p>
+ * A notification whose payload (raw data, manufacturer data, service data, name and beacon type) is byte-identical to
+ * one seen within the duplicate window is dropped, regardless of its RSSI. Notifications without payload, e.g. RSSI
+ * only updates, are never dropped. If an update interval is set, at most one notification is delivered per interval:
+ * notifications arriving earlier are merged and the merged notification is delivered at the end of the interval, so no
+ * payload change is lost.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScanNotificationCoalescer {
+    // number of distinct payloads remembered per device, devices alternating more payloads are not deduplicated
+    private static final int MAX_FINGERPRINTS = 16;
+
+    private final Consumer<BluetoothScanNotification> delivery;
+    private final LongSupplier nanoClock;
+
+    private long duplicateWindowNanos = 0;
+    private long updateIntervalNanos = 0;
+    private @Nullable ScheduledExecutorService scheduler;
+
+    private final Map<Fingerprint, Long> recentPayloads = new LinkedHashMap<>();
+    private boolean delivered = false;
+    private long lastDelivery = 0;
+    private @Nullable BluetoothScanNotification pending;
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private long duplicates = 0;
+    private long coalesced = 0;
+
+    /**
+     * @param delivery receives the notifications that pass the coalescer
+     */
+    public ScanNotificationCoalescer(Consumer<BluetoothScanNotification> delivery) {
+        this(delivery, System::nanoTime);
+    }
+
+    ScanNotificationCoalescer(Consumer<BluetoothScanNotification> delivery, LongSupplier nanoClock) {
+        this.delivery = delivery;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Configures the coalescer. A window or interval of 0 disables the respective reduction.
+     *
+     * @param duplicateWindowMs time in milliseconds within which identical payloads are dropped
+     * @param updateIntervalMs minimum time in milliseconds between two delivered notifications
+     * @param scheduler used to deliver merged notifications at the end of the update interval
+     */
+    public synchronized void configure(long duplicateWindowMs, long updateIntervalMs,
+            ScheduledExecutorService scheduler) {
+        this.duplicateWindowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, duplicateWindowMs));
+        this.updateIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, updateIntervalMs));
+        this.scheduler = scheduler;
+        recentPayloads.clear();
+    }
+
+    /**
+     * Passes a notification through the coalescer. The notification is either delivered immediately, merged into the
+     * pending notification or dropped.
+     */
+    public void offer(BluetoothScanNotification notification) {
+        BluetoothScanNotification toDeliver = null;
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            if (duplicateWindowNanos > 0) {
+                Fingerprint fingerprint = new Fingerprint(notification);
+                if (!fingerprint.isEmpty() && isDuplicate(fingerprint, now)) {
+                    duplicates++;
+                    return;
+                }
+            }
+            ScheduledExecutorService scheduler = this.scheduler;
+            BluetoothScanNotification pending = this.pending;
+            if (updateIntervalNanos == 0 || scheduler == null) {
+                toDeliver = notification;
+            } else if (pending == null && (!delivered || now - lastDelivery >= updateIntervalNanos)) {
+                delivered = true;
+                lastDelivery = now;
+                toDeliver = notification;
+            } else {
+                this.pending = pending == null ? notification : merge(pending, notification);
+                coalesced++;
+                if (flushJob == null) {
+                    long delay = Math.max(0, lastDelivery + updateIntervalNanos - now);
+                    flushJob = scheduler.schedule(this::flush, delay, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        if (toDeliver != null) {
+            delivery.accept(toDeliver);
+        }
+    }
+
+    private boolean isDuplicate(Fingerprint fingerprint, long now) {
+        Long seen = recentPayloads.remove(fingerprint);
+        if (seen != null && now - seen < duplicateWindowNanos) {
+            // keep the time the payload was first seen, so a payload repeated forever is still delivered once a window
+            recentPayloads.put(fingerprint, seen);
+            return true;
+        }
+        recentPayloads.put(fingerprint, now);
+        if (recentPayloads.size() > MAX_FINGERPRINTS) {
+            Iterator<Fingerprint> eldest = recentPayloads.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+        }
+        return false;
+    }
+
+    private void flush() {
+        BluetoothScanNotification toDeliver;
+        synchronized (this) {
+            flushJob = null;
+            toDeliver = pending;
+            if (toDeliver == null) {
+                return;
+            }
+            pending = null;
+            delivered = true;
+            lastDelivery = nanoClock.getAsLong();
+        }
+        delivery.accept(toDeliver);
+    }
+
+    /**
+     * Merges two notifications, values of the newer notification replace the ones of the older notification.
+     */
+    private static BluetoothScanNotification merge(BluetoothScanNotification older, BluetoothScanNotification newer) {
+        BluetoothScanNotification merged = new BluetoothScanNotification();
+        merged.setRssi(newer.getRssi() != Integer.MIN_VALUE ? newer.getRssi() : older.getRssi());
+        merged.setData(newer.getData().length > 0 ? newer.getData() : older.getData());
+        merged.setManufacturerData(newer.getManufacturerData().length > 0 ? newer.getManufacturerData()
+                : older.getManufacturerData());
+        Map<String, byte[]> serviceData = new HashMap<>(older.getServiceData());
+        serviceData.putAll(newer.getServiceData());
+        merged.setServiceData(serviceData);
+        merged.setBeaconType(newer.getBeaconType() != BluetoothBeaconType.BEACON_UNKNOWN ? newer.getBeaconType()
+                : older.getBeaconType());
+        merged.setDeviceName(!newer.getDeviceName().isEmpty() ? newer.getDeviceName() : older.getDeviceName());
+        return merged;
+    }
+
+    /**
+     * Drops the pending notification and cancels its delivery.
+     */
+    public synchronized void dispose() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+        }
+        this.flushJob = null;
+        pending = null;
+        recentPayloads.clear();
+    }
+
+    /**
+     * @return the number of notifications dropped as duplicates
+     */
+    public synchronized long getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * @return the number of notifications merged into a later notification
+     */
+    public synchronized long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * The payload of a scan notification, without the RSSI.
+     */
+    private static class Fingerprint {
+        private final ByteBuffer data;
+        private final ByteBuffer manufacturerData;
+        private final Map<String, ByteBuffer> serviceData = new HashMap<>();
+        private final BluetoothBeaconType beaconType;
+        private final String name;
+        private final int hashCode;
+
+        private Fingerprint(BluetoothScanNotification notification) {
+            data = ByteBuffer.wrap(notification.getData());
+            manufacturerData = ByteBuffer.wrap(notification.getManufacturerData());
+            notification.getServiceData().forEach((uuid, value) -> serviceData.put(uuid, ByteBuffer.wrap(value)));
+            beaconType = notification.getBeaconType();
+            name = notification.getDeviceName();
+            hashCode = Objects.hash(data, manufacturerData, serviceData, beaconType, name);
+        }
+
+        /**
+         * @return true if the notification carries nothing but the RSSI
+         */
+        private boolean isEmpty() {
+            return !data.hasRemaining() && !manufacturerData.hasRemaining() && serviceData.isEmpty()
+                    && beaconType == BluetoothBeaconType.BEACON_UNKNOWN && name.isEmpty();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Fingerprint other)) {
+                return false;
+            }
+            return hashCode == other.hashCode && data.equals(other.data)
+                    && manufacturerData.equals(other.manufacturerData) && serviceData.equals(other.serviceData)
+                    && beaconType == other.beaconType && name.equals(other.name);
+        }
+    }
+}
@@ -164,6 +164,70 @@ public class BluetoothDiscoveryServiceTest {
                 ArgumentMatchers.argThat(arg -> arg.getThingTypeUID().equals(participant1.typeUID)));
     }
 
+    @Test
+    public void classifiedDeviceIsNotReprocessedTest() {
+        MockBluetoothAdapter mockAdapter1 = new MockBluetoothAdapter();
+        MockBluetoothDevice device = mockAdapter1.getDevice(TestUtils.randomAddress());
+        discoveryService.deviceDiscovered(device);
+
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(1)).thingDiscovered(
+                ArgumentMatchers.same(discoveryService),
+                ArgumentMatchers.argThat(arg -> arg.getThingTypeUID().equals(participant1.typeUID)));
+
+        // the results are removed from the inbox after a scan, so the device is published again
+        discoveryService.stopScan();
+        discoveryService.deviceDiscovered(device);
+
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(2)).thingDiscovered(
+                ArgumentMatchers.same(discoveryService),
+                ArgumentMatchers.argThat(arg -> arg.getThingTypeUID().equals(participant1.typeUID)));
+        // but the participants don't have to classify it again
+        Mockito.verify(participant1, Mockito.times(1)).createResult(ArgumentMatchers.any());
+    }
+
+    @Test
+    public void inconclusiveDiscoveryIsRetriedTest() {
+        Mockito.doReturn(true).when(participant1).requiresConnection(ArgumentMatchers.any());
+
+        BluetoothAdapter mockAdapter1 = new MockBluetoothAdapter();
+        BadConnectionDevice device = new BadConnectionDevice(mockAdapter1, TestUtils.randomAddress(), 10);
+        discoveryService.deviceDiscovered(device);
+
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(1))
+                .thingDiscovered(ArgumentMatchers.same(discoveryService), ArgumentMatchers
+                        .argThat(arg -> arg.getThingTypeUID().equals(BluetoothBindingConstants.THING_TYPE_BEACON)));
+
+        // the connection failed, so the default result must not be reused
+        discoveryService.stopScan();
+        BadConnectionDevice spy = Mockito.spy(device);
+        discoveryService.deviceDiscovered(spy);
+
+        Mockito.verify(spy, Mockito.timeout(TIMEOUT).times(1)).connect();
+    }
+
+    @Test
+    public void failedParticipantIsRetriedTest() {
+        Mockito.doThrow(new IllegalStateException()).doCallRealMethod().when(participant1)
+                .createResult(ArgumentMatchers.any());
+
+        MockBluetoothAdapter mockAdapter1 = new MockBluetoothAdapter();
+        MockBluetoothDevice device = mockAdapter1.getDevice(TestUtils.randomAddress());
+        discoveryService.deviceDiscovered(device);
+
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(1))
+                .thingDiscovered(ArgumentMatchers.same(discoveryService), ArgumentMatchers
+                        .argThat(arg -> arg.getThingTypeUID().equals(BluetoothBindingConstants.THING_TYPE_BEACON)));
+
+        // the participant failed, so the default result must not be reused
+        discoveryService.stopScan();
+        discoveryService.deviceDiscovered(device);
+
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(1)).thingDiscovered(
+                ArgumentMatchers.same(discoveryService),
+                ArgumentMatchers.argThat(arg -> arg.getThingTypeUID().equals(participant1.typeUID)));
+        Mockito.verify(participant1, Mockito.times(2)).createResult(ArgumentMatchers.any());
+    }
+
     @Test
     public void useResultFromAnotherAdapterTest() {
         BluetoothAdapter mockAdapter1 = new MockBluetoothAdapter();
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class ScanNotificationCoalescerTest {
+
+    private final List<BluetoothScanNotification> delivered = new ArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @NonNullByDefault({}) ScanNotificationCoalescer coalescer;
+
+    @BeforeEach
+    public void init() {
+        scheduler = mock(ScheduledExecutorService.class);
+        coalescer = new ScanNotificationCoalescer(delivered::add, clock::get);
+    }
+
+    private static BluetoothScanNotification advertisement(int rssi, byte... manufacturerData) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        notification.setManufacturerData(manufacturerData);
+        return notification;
+    }
+
+    private void advanceMillis(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void unconfiguredCoalescerPassesEverything() {
+        coalescer.offer(advertisement(-60, (byte) 1));
+        coalescer.offer(advertisement(-60, (byte) 1));
+        assertEquals(2, delivered.size());
+    }
+
+    @Test
+    void identicalPayloadIsDroppedWithinWindow() {
+        coalescer.configure(1000, 0, scheduler);
+        coalescer.offer(advertisement(-60, (byte) 1, (byte) 2));
+        advanceMillis(100);
+        // a different RSSI alone does not make a new payload
+        coalescer.offer(advertisement(-70, (byte) 1, (byte) 2));
+        advanceMillis(100);
+        coalescer.offer(advertisement(-70, (byte) 1, (byte) 3));
+        assertEquals(2, delivered.size());
+        assertEquals(1, coalescer.getDuplicates());
+
+        // the payload is delivered again once the window has passed
+        advanceMillis(1000);
+        coalescer.offer(advertisement(-60, (byte) 1, (byte) 2));
+        assertEquals(3, delivered.size());
+    }
+
+    @Test
+    void rssiOnlyUpdatesAreNeverDropped() {
+        coalescer.configure(1000, 0, scheduler);
+        coalescer.offer(advertisement(-60));
+        advanceMillis(100);
+        coalescer.offer(advertisement(-65));
+        advanceMillis(100);
+        coalescer.offer(advertisement(-65));
+        assertEquals(3, delivered.size());
+        assertEquals(-65, delivered.get(2).getRssi());
+        assertEquals(0, coalescer.getDuplicates());
+    }
+
+    @Test
+    void alternatingPayloadsAreDeduplicated() {
+        coalescer.configure(1000, 0, scheduler);
+        BluetoothScanNotification serviceData = new BluetoothScanNotification();
+        serviceData.setServiceData(Map.of("0000fcd2-0000-1000-8000-00805f9b34fb", new byte[] { 4, 5 }));
+        for (int i = 0; i < 10; i++) {
+            coalescer.offer(advertisement(-60, (byte) 1));
+            coalescer.offer(serviceData);
+            advanceMillis(10);
+        }
+        assertEquals(2, delivered.size());
+        assertEquals(18, coalescer.getDuplicates());
+    }
+
+    @Test
+    void updatesWithinIntervalAreMergedAndDeliveredLater() {
+        coalescer.configure(0, 500, scheduler);
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        when(scheduler.schedule(flush.capture(), anyLong(), any())).thenReturn(null);
+
+        coalescer.offer(advertisement(-60, (byte) 1));
+        advanceMillis(100);
+        coalescer.offer(advertisement(-61, (byte) 2));
+        advanceMillis(100);
+        // RSSI only update, must not drop the manufacturer data received before
+        coalescer.offer(advertisement(-62));
+        assertEquals(1, delivered.size());
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(TimeUnit.MILLISECONDS.toNanos(400)),
+                eq(TimeUnit.NANOSECONDS));
+
+        advanceMillis(300);
+        flush.getValue().run();
+        assertEquals(2, delivered.size());
+        BluetoothScanNotification merged = delivered.get(1);
+        assertEquals(-62, merged.getRssi());
+        assertArrayEquals(new byte[] { 2 }, merged.getManufacturerData());
+        assertEquals(2, coalescer.getCoalesced());
+    }
+
+    @Test
+    void replayedTraceIsReduced() {
+        coalescer.configure(1000, 1000, scheduler);
+        List<Runnable> flushes = new ArrayList<>();
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any())).thenAnswer(invocation -> {
+            flushes.add(invocation.getArgument(0));
+            return null;
+        });
+
+        // a beacon advertising every 100 ms, whose measurement changes every 5 seconds, for one minute
+        int advertisements = 0;
+        for (int ms = 0; ms < 60_000; ms += 100) {
+            clock.set(TimeUnit.MILLISECONDS.toNanos(ms));
+            if (!flushes.isEmpty()) {
+                flushes.remove(0).run();
+            }
+            coalescer.offer(advertisement(-60 - (ms / 100) % 5, (byte) 0x99, (byte) 0x04, (byte) (ms / 5000)));
+            advertisements++;
+        }
+        assertEquals(600, advertisements);
+        // one update per measurement and per duplicate window
+        assertTrue(delivered.size() <= 60, "delivered " + delivered.size());
+        assertTrue(delivered.size() >= 12, "delivered " + delivered.size());
+        // every measurement has been delivered
+        for (int measurement = 0; measurement < 12; measurement++) {
+            byte value = (byte) measurement;
+            assertTrue(delivered.stream().anyMatch(n -> n.getManufacturerData()[2] == value));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.digitalstrom.internal.console;
+
+import static org.openhab.binding.digitalstrom.internal.DigitalSTROMBindingConstants.THING_TYPE_DSS_BRIDGE;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.digitalstrom.internal.handler.BridgeHandler;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.CircuitScheduler.CircuitStatistics;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandler;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link DigitalSTROMCommandExtension} is responsible for handling console commands
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class DigitalSTROMCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String FMT_CIRCUIT = "  Circuit %s: %d queued, %d executed, %d merged sensor jobs, "
+            + "average latency: %d ms, max latency: %d ms";
+
+    private static final String CIRCUITS = "circuits";
+
+    private static final StringsCompleter SUBCMD_COMPLETER = new StringsCompleter(List.of(CIRCUITS), false);
+
+    private final ThingRegistry thingRegistry;
+
+    @Activate
+    public DigitalSTROMCommandExtension(final @Reference ThingRegistry thingRegistry) {
+        super("digitalstrom", "Interact with the digitalSTROM binding.");
+        this.thingRegistry = thingRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length != 2 || !CIRCUITS.equals(args[1])) {
+            printUsage(console);
+            return;
+        }
+        Thing thing = getThing(args[0]);
+        ThingHandler thingHandler = thing != null ? thing.getHandler() : null;
+        if (thing == null) {
+            console.println("Bad thing id '" + args[0] + "'");
+        } else if (thingHandler == null) {
+            console.println("No handler initialized for the thingUID '" + args[0] + "'");
+        } else if (!(thingHandler instanceof BridgeHandler bridgeHandler)) {
+            console.println("'" + args[0] + "' is not a digitalSTROM-Server bridgeUID");
+        } else {
+            List<CircuitStatistics> statistics = bridgeHandler.getCircuitStatistics();
+            if (statistics.isEmpty()) {
+                console.println("No circuits with sensor jobs, the digitalSTROM-Server may not be connected yet");
+            }
+            for (CircuitStatistics circuit : statistics) {
+                console.println(String.format(FMT_CIRCUIT, circuit.meterDSID(), circuit.queueDepth(),
+                        circuit.executedJobs(), circuit.mergedJobs(), circuit.averageLatency(), circuit.maxLatency()));
+            }
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage("<bridgeUID> " + CIRCUITS,
+                "list the queue depth and the latency of the sensor jobs of every circuit"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return new StringsCompleter(thingRegistry.getAll().stream()
+                    .filter(t -> THING_TYPE_DSS_BRIDGE.equals(t.getThingTypeUID())).map(t -> t.getUID().getAsString())
+                    .toList(), true).complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        } else if (cursorArgumentIndex == 1) {
+            return SUBCMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+
+    private @Nullable Thing getThing(String uid) {
+        try {
+            return thingRegistry.get(new ThingUID(uid));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
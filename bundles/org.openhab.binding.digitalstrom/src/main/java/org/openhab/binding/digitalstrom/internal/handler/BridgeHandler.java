@@ -45,6 +45,7 @@ import org.openhab.binding.digitalstrom.internal.lib.manager.impl.DeviceStatusMa
 import org.openhab.binding.digitalstrom.internal.lib.manager.impl.SceneManagerImpl;
 import org.openhab.binding.digitalstrom.internal.lib.manager.impl.StructureManagerImpl;
 import org.openhab.binding.digitalstrom.internal.lib.manager.impl.TemperatureControlManager;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.CircuitScheduler.CircuitStatistics;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.Circuit;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.Device;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.DeviceStateUpdate;
@@ -391,6 +392,16 @@ public class BridgeHandler extends BaseBridgeHandler
 
     /* methods to store listener */
 
+    /**
+     * Returns the queue depth and the latency of the sensor jobs of every circuit of the digitalSTROM-Server.
+     *
+     * @return statistics of the circuits, empty if the {@link DeviceStatusManager} is not running
+     */
+    public List<CircuitStatistics> getCircuitStatistics() {
+        DeviceStatusManager localDevStatMan = devStatMan;
+        return localDevStatMan != null ? localDevStatMan.getCircuitStatistics() : List.of();
+    }
+
     /**
      * Registers a new {@link DeviceStatusListener} on the {@link DeviceStatusManager}.
      *
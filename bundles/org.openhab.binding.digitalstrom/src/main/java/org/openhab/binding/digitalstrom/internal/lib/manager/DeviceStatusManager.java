@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.digitalstrom.internal.lib.manager;
 
+import java.util.List;
+
 import org.openhab.binding.digitalstrom.internal.lib.event.EventHandler;
 import org.openhab.binding.digitalstrom.internal.lib.listener.ConnectionListener;
 import org.openhab.binding.digitalstrom.internal.lib.listener.DeviceStatusListener;
@@ -20,6 +22,7 @@ import org.openhab.binding.digitalstrom.internal.lib.listener.SceneStatusListene
 import org.openhab.binding.digitalstrom.internal.lib.listener.TotalPowerConsumptionListener;
 import org.openhab.binding.digitalstrom.internal.lib.listener.stateenums.ManagerStates;
 import org.openhab.binding.digitalstrom.internal.lib.listener.stateenums.ManagerTypes;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.CircuitScheduler.CircuitStatistics;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.Device;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.DeviceStateUpdate;
@@ -247,4 +250,12 @@ public interface DeviceStatusManager extends EventHandler {
      * @return the current total energy meter value in Ws
      */
     int getTotalEnergyMeterWsValue();
+
+    /**
+     * Returns the queue depth and the latency of the sensor jobs of every circuit, or an empty list if the
+     * {@link DeviceStatusManager} has not been started yet.
+     *
+     * @return statistics of the circuits
+     */
+    List<CircuitStatistics> getCircuitStatistics();
 }
@@ -42,6 +42,7 @@ import org.openhab.binding.digitalstrom.internal.lib.manager.ConnectionManager;
 import org.openhab.binding.digitalstrom.internal.lib.manager.DeviceStatusManager;
 import org.openhab.binding.digitalstrom.internal.lib.manager.SceneManager;
 import org.openhab.binding.digitalstrom.internal.lib.manager.StructureManager;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.CircuitScheduler.CircuitStatistics;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.SceneReadingJobExecutor;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.SensorJobExecutor;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
@@ -1242,6 +1243,12 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
         return tempEnergyMeterWs;
     }
 
+    @Override
+    public List<CircuitStatistics> getCircuitStatistics() {
+        SensorJobExecutor executor = sensorJobExecutor;
+        return executor != null ? executor.getCircuitStatistics() : List.of();
+    }
+
     private void setInizialStateWithLastCallScenes() {
         if (sceneMan == null) {
             return;
@@ -12,10 +12,11 @@
  */
 package org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -57,7 +58,7 @@ public abstract class AbstractSensorJobExecutor {
     protected Config config;
     private final ConnectionManager connectionManager;
 
-    private final List<CircuitScheduler> circuitSchedulerList = new LinkedList<>();
+    private final Map<DSID, CircuitScheduler> circuitSchedulers = new ConcurrentHashMap<>();
 
     private class ExecutorRunnable implements Runnable {
         private final CircuitScheduler circuit;
@@ -78,7 +79,8 @@ public abstract class AbstractSensorJobExecutor {
                 sensorJob.execute(dSAPI, connectionManager.getSessionToken());
             }
             if (circuit.noMoreJobs() && pollingSchedulers != null) {
-                logger.debug("no more jobs... stop circuit schedduler with id = {}", meter);
+                logger.debug("no more jobs... stop circuit schedduler with id = {}, {}", meter,
+                        circuit.getStatistics());
                 ScheduledFuture<?> scheduler = pollingSchedulers.get(meter);
                 if (scheduler != null) {
                     scheduler.cancel(true);
@@ -108,6 +110,11 @@ public abstract class AbstractSensorJobExecutor {
             }
             pollingSchedulers = null;
             logger.debug("stop all circuit schedulers.");
+            if (logger.isDebugEnabled()) {
+                for (CircuitScheduler circuit : circuitSchedulers.values()) {
+                    logger.debug("{}", circuit.getStatistics());
+                }
+            }
         }
     }
 
@@ -119,10 +126,8 @@ public abstract class AbstractSensorJobExecutor {
         if (pollingSchedulers == null) {
             pollingSchedulers = new HashMap<>();
         }
-        if (circuitSchedulerList != null && !circuitSchedulerList.isEmpty()) {
-            for (CircuitScheduler circuit : circuitSchedulerList) {
-                startSchedduler(circuit);
-            }
+        for (CircuitScheduler circuit : circuitSchedulers.values()) {
+            startSchedduler(circuit);
         }
     }
 
@@ -189,25 +194,33 @@ public abstract class AbstractSensorJobExecutor {
      * @param sensorJob to add
      */
     protected void addSensorJobToCircuitScheduler(SensorJob sensorJob) {
-        synchronized (this.circuitSchedulerList) {
+        synchronized (this.circuitSchedulers) {
             CircuitScheduler circuit = getCircuitScheduler(sensorJob.getMeterDSID());
             if (circuit != null) {
                 circuit.addSensorJob(sensorJob);
             } else {
                 circuit = new CircuitScheduler(sensorJob, config);
-                this.circuitSchedulerList.add(circuit);
+                this.circuitSchedulers.put(circuit.getMeterDSID(), circuit);
             }
             startSchedduler(circuit);
         }
     }
 
     private CircuitScheduler getCircuitScheduler(DSID dsid) {
-        for (CircuitScheduler circuit : this.circuitSchedulerList) {
-            if (circuit.getMeterDSID().equals(dsid)) {
-                return circuit;
-            }
+        return dsid != null ? this.circuitSchedulers.get(dsid) : null;
+    }
+
+    /**
+     * Returns the queue depth and the latency of the {@link SensorJob}s of every circuit.
+     *
+     * @return statistics of the circuit schedulers
+     */
+    public List<CircuitScheduler.CircuitStatistics> getCircuitStatistics() {
+        List<CircuitScheduler.CircuitStatistics> statistics = new ArrayList<>(circuitSchedulers.size());
+        for (CircuitScheduler circuit : circuitSchedulers.values()) {
+            statistics.add(circuit.getStatistics());
         }
-        return null;
+        return statistics;
     }
 
     /**
@@ -13,8 +13,11 @@
 package org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor;
 
 import java.util.Comparator;
-import java.util.Iterator;
-import java.util.PriorityQueue;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.openhab.binding.digitalstrom.internal.lib.config.Config;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
@@ -25,6 +28,10 @@ import org.slf4j.LoggerFactory;
 /**
  * This {@link CircuitScheduler} represents a circuit in the digitalSTROM-System and manages the priorities and
  * execution times for the {@link SensorJob}s on this circuit.
+ * <p>
+ * The scheduled {@link SensorJob}s are indexed by the job itself, their ID and the {@link DSID} of their device, so
+ * adding, rescheduling and removing a {@link SensorJob} does not have to search the whole queue.
+ * </p>
  *
  * @author Michael Ochel - Initial contribution
  * @author Matthias Siegele - Initial contribution
@@ -33,19 +40,55 @@ public class CircuitScheduler {
 
     private final Logger logger = LoggerFactory.getLogger(CircuitScheduler.class);
 
-    private class SensorJobComparator implements Comparator<SensorJob> {
+    /**
+     * Handle of a queued {@link SensorJob}. The priority is copied, because the initialization time of the
+     * {@link SensorJob} may be changed while it is queued.
+     */
+    private static class ScheduledSensorJob {
+        private final SensorJob sensorJob;
+        private final long priority;
+        private final long sequence;
+        private final long enqueueTime;
 
-        @Override
-        public int compare(SensorJob job1, SensorJob job2) {
-            return ((Long) job1.getInitalisationTime()).compareTo(job2.getInitalisationTime());
+        private ScheduledSensorJob(SensorJob sensorJob, long sequence, long enqueueTime) {
+            this.sensorJob = sensorJob;
+            this.priority = sensorJob.getInitalisationTime();
+            this.sequence = sequence;
+            this.enqueueTime = enqueueTime;
         }
     }
 
+    /**
+     * Statistics of a {@link CircuitScheduler}.
+     *
+     * @param meterDSID of the circuit
+     * @param queueDepth number of queued {@link SensorJob}s
+     * @param executedJobs number of {@link SensorJob}s handed out for execution
+     * @param mergedJobs number of added {@link SensorJob}s which were merged with an already queued one
+     * @param averageLatency average time in milliseconds between adding and executing a {@link SensorJob}
+     * @param maxLatency maximum time in milliseconds between adding and executing a {@link SensorJob}
+     */
+    public record CircuitStatistics(DSID meterDSID, int queueDepth, long executedJobs, long mergedJobs,
+            long averageLatency, long maxLatency) {
+    }
+
+    private static final Comparator<ScheduledSensorJob> PRIORITY_ORDER = Comparator
+            .comparingLong((ScheduledSensorJob job) -> job.priority).thenComparingLong(job -> job.sequence);
+
     private final DSID meterDSID;
     private long nextExecutionTime = System.currentTimeMillis();
-    private final PriorityQueue<SensorJob> sensorJobQueue = new PriorityQueue<>(10, new SensorJobComparator());
+    private final TreeSet<ScheduledSensorJob> sensorJobQueue = new TreeSet<>(PRIORITY_ORDER);
+    private final Map<SensorJob, ScheduledSensorJob> scheduledJobs = new HashMap<>();
+    private final Map<String, Set<ScheduledSensorJob>> scheduledJobsByID = new HashMap<>();
+    private final Map<DSID, Set<ScheduledSensorJob>> scheduledJobsByDSID = new HashMap<>();
     private final Config config;
 
+    private long sequence = 0;
+    private long executedJobs = 0;
+    private long mergedJobs = 0;
+    private long totalLatency = 0;
+    private long maxLatency = 0;
+
     /**
      * Creates a new {@link CircuitScheduler}.
      *
@@ -69,8 +112,8 @@ public class CircuitScheduler {
      */
     public CircuitScheduler(SensorJob sensorJob, Config config) {
         this.meterDSID = sensorJob.getMeterDSID();
-        this.sensorJobQueue.add(sensorJob);
         this.config = config;
+        schedule(sensorJob, System.currentTimeMillis());
         logger.debug("create circuitScheduler: {} and add sensorJob: {}", this.getMeterDSID(),
                 sensorJob.getDSID().toString());
     }
@@ -86,15 +129,23 @@ public class CircuitScheduler {
 
     /**
      * Adds a new SensorJob to this {@link CircuitScheduler}, if no {@link SensorJob} with a higher priority exists.
+     * An equal {@link SensorJob} with a lower priority is replaced, so each sensor is read only once.
      *
      * @param sensorJob to add
      */
     public void addSensorJob(SensorJob sensorJob) {
         synchronized (sensorJobQueue) {
-            if (!this.sensorJobQueue.contains(sensorJob)) {
-                sensorJobQueue.add(sensorJob);
+            ScheduledSensorJob existSensorJob = scheduledJobs.get(sensorJob);
+            if (existSensorJob == null) {
+                schedule(sensorJob, System.currentTimeMillis());
                 logger.debug("Add sensorJob: {} to circuitScheduler: {}", sensorJob.toString(), this.getMeterDSID());
-            } else if (checkSensorJobPrio(sensorJob)) {
+                return;
+            }
+            mergedJobs++;
+            if (sensorJob.getInitalisationTime() < existSensorJob.priority) {
+                unschedule(existSensorJob);
+                // the merged job keeps waiting since the first request
+                schedule(sensorJob, existSensorJob.enqueueTime);
                 logger.debug("add sensorJob: {} with higher priority to circuitScheduler: {}", sensorJob.toString(),
                         this.getMeterDSID());
             } else {
@@ -103,20 +154,28 @@ public class CircuitScheduler {
         }
     }
 
-    private boolean checkSensorJobPrio(SensorJob sensorJob) {
-        synchronized (sensorJobQueue) {
-            for (Iterator<SensorJob> iter = sensorJobQueue.iterator(); iter.hasNext();) {
-                SensorJob existSensorJob = iter.next();
-                if (existSensorJob.equals(sensorJob)) {
-                    if (sensorJob.getInitalisationTime() < existSensorJob.getInitalisationTime()) {
-                        iter.remove();
-                        sensorJobQueue.add(sensorJob);
-                        return true;
-                    }
-                }
-            }
+    private void schedule(SensorJob sensorJob, long enqueueTime) {
+        ScheduledSensorJob scheduledJob = new ScheduledSensorJob(sensorJob, sequence++, enqueueTime);
+        sensorJobQueue.add(scheduledJob);
+        scheduledJobs.put(sensorJob, scheduledJob);
+        scheduledJobsByID.computeIfAbsent(sensorJob.getID(), id -> new LinkedHashSet<>()).add(scheduledJob);
+        scheduledJobsByDSID.computeIfAbsent(sensorJob.getDSID(), dsid -> new LinkedHashSet<>()).add(scheduledJob);
+    }
+
+    private void unschedule(ScheduledSensorJob scheduledJob) {
+        SensorJob sensorJob = scheduledJob.sensorJob;
+        sensorJobQueue.remove(scheduledJob);
+        scheduledJobs.remove(sensorJob, scheduledJob);
+        removeFromIndex(scheduledJobsByID, sensorJob.getID(), scheduledJob);
+        removeFromIndex(scheduledJobsByDSID, sensorJob.getDSID(), scheduledJob);
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<ScheduledSensorJob>> index, K key,
+            ScheduledSensorJob scheduledJob) {
+        Set<ScheduledSensorJob> scheduledJobs = index.get(key);
+        if (scheduledJobs != null && scheduledJobs.remove(scheduledJob) && scheduledJobs.isEmpty()) {
+            index.remove(key);
         }
-        return false;
     }
 
     /**
@@ -127,9 +186,16 @@ public class CircuitScheduler {
      */
     public SensorJob getNextSensorJob() {
         synchronized (sensorJobQueue) {
-            if (sensorJobQueue.peek() != null && this.nextExecutionTime <= System.currentTimeMillis()) {
-                nextExecutionTime = System.currentTimeMillis() + config.getSensorReadingWaitTime();
-                return sensorJobQueue.poll();
+            long now = System.currentTimeMillis();
+            if (!sensorJobQueue.isEmpty() && this.nextExecutionTime <= now) {
+                nextExecutionTime = now + config.getSensorReadingWaitTime();
+                ScheduledSensorJob scheduledJob = sensorJobQueue.first();
+                unschedule(scheduledJob);
+                long latency = Math.max(0, now - scheduledJob.enqueueTime);
+                executedJobs++;
+                totalLatency += latency;
+                maxLatency = Math.max(maxLatency, latency);
+                return scheduledJob.sensorJob;
             } else {
                 return null;
             }
@@ -164,12 +230,13 @@ public class CircuitScheduler {
      */
     public void removeSensorJob(DSID dSID) {
         synchronized (sensorJobQueue) {
-            for (Iterator<SensorJob> iter = sensorJobQueue.iterator(); iter.hasNext();) {
-                SensorJob job = iter.next();
-                if (job.getDSID().equals(dSID)) {
-                    iter.remove();
-                    logger.debug("Remove SensorJob with ID {}.", job.getID());
-                }
+            Set<ScheduledSensorJob> scheduledJobs = scheduledJobsByDSID.get(dSID);
+            if (scheduledJobs == null) {
+                return;
+            }
+            for (ScheduledSensorJob scheduledJob : scheduledJobs.toArray(new ScheduledSensorJob[0])) {
+                unschedule(scheduledJob);
+                logger.debug("Remove SensorJob with ID {}.", scheduledJob.sensorJob.getID());
             }
         }
     }
@@ -181,13 +248,11 @@ public class CircuitScheduler {
      */
     public void removeSensorJob(String id) {
         synchronized (sensorJobQueue) {
-            for (Iterator<SensorJob> iter = sensorJobQueue.iterator(); iter.hasNext();) {
-                SensorJob job = iter.next();
-                if (job.getID().equals(id)) {
-                    iter.remove();
-                    logger.debug("Remove SensorJob with ID {}.", id);
-                    return;
-                }
+            Set<ScheduledSensorJob> scheduledJobs = scheduledJobsByID.get(id);
+            if (scheduledJobs != null) {
+                unschedule(scheduledJobs.iterator().next());
+                logger.debug("Remove SensorJob with ID {}.", id);
+                return;
             }
             logger.debug("No SensorJob with ID {} found, cannot remove a not existing SensorJob.", id);
         }
@@ -203,4 +268,27 @@ public class CircuitScheduler {
             return this.sensorJobQueue.isEmpty();
         }
     }
+
+    /**
+     * Returns the number of queued {@link SensorJob}s.
+     *
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        synchronized (sensorJobQueue) {
+            return this.sensorJobQueue.size();
+        }
+    }
+
+    /**
+     * Returns the queue depth and the latency of the {@link SensorJob}s of this {@link CircuitScheduler}.
+     *
+     * @return statistics
+     */
+    public CircuitStatistics getStatistics() {
+        synchronized (sensorJobQueue) {
+            return new CircuitStatistics(meterDSID, sensorJobQueue.size(), executedJobs, mergedJobs,
+                    executedJobs > 0 ? totalLatency / executedJobs : 0, maxLatency);
+        }
+    }
 }
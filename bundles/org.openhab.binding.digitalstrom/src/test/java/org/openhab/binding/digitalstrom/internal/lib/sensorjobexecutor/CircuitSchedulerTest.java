@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.*;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.digitalstrom.internal.lib.config.Config;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.CircuitScheduler.CircuitStatistics;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
+import org.openhab.binding.digitalstrom.internal.lib.serverconnection.DsAPI;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DSID;
+
+/**
+ * Test class for {@link CircuitScheduler}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class CircuitSchedulerTest {
+
+    private static final DSID METER = new DSID("3504175fe0000000000000aa");
+    private static final DSID DEVICE_1 = new DSID("00000001");
+    private static final DSID DEVICE_2 = new DSID("00000002");
+
+    private static class TestSensorJob implements SensorJob {
+        private final DSID dsid;
+        private final String sensor;
+        private long initalisationTime;
+
+        TestSensorJob(DSID dsid, String sensor, long initalisationTime) {
+            this.dsid = dsid;
+            this.sensor = sensor;
+            this.initalisationTime = initalisationTime;
+        }
+
+        @Override
+        public DSID getDSID() {
+            return dsid;
+        }
+
+        @Override
+        public DSID getMeterDSID() {
+            return METER;
+        }
+
+        @Override
+        public void execute(DsAPI dSAPI, String sessionToken) {
+        }
+
+        @Override
+        public long getInitalisationTime() {
+            return initalisationTime;
+        }
+
+        @Override
+        public void setInitalisationTime(long time) {
+            initalisationTime = time;
+        }
+
+        @Override
+        public String getID() {
+            return "TestSensorJob-" + dsid.getValue() + "-" + sensor;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj instanceof TestSensorJob other && getID().equals(other.getID());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dsid.getValue(), sensor);
+        }
+    }
+
+    private @NonNullByDefault({}) CircuitScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        Config config = new Config();
+        config.setSensorReadingWaitTime(0);
+        scheduler = new CircuitScheduler(METER, config);
+    }
+
+    @Test
+    void jobsAreExecutedInPriorityOrder() {
+        TestSensorJob late = new TestSensorJob(DEVICE_1, "power", 300);
+        TestSensorJob early = new TestSensorJob(DEVICE_2, "power", 100);
+        TestSensorJob middle = new TestSensorJob(DEVICE_1, "energy", 200);
+        scheduler.addSensorJob(late);
+        scheduler.addSensorJob(early);
+        scheduler.addSensorJob(middle);
+
+        assertThat(scheduler.getQueueDepth(), is(3));
+        assertThat(scheduler.getNextSensorJob(), is(early));
+        assertThat(scheduler.getNextSensorJob(), is(middle));
+        assertThat(scheduler.getNextSensorJob(), is(late));
+        assertNull(scheduler.getNextSensorJob());
+        assertThat(scheduler.noMoreJobs(), is(true));
+        assertThat(scheduler.getStatistics().executedJobs(), is(3L));
+    }
+
+    @Test
+    void duplicateJobsAreMerged() {
+        TestSensorJob first = new TestSensorJob(DEVICE_1, "power", 300);
+        TestSensorJob lowerPriority = new TestSensorJob(DEVICE_1, "power", 400);
+        TestSensorJob higherPriority = new TestSensorJob(DEVICE_1, "power", 100);
+        TestSensorJob other = new TestSensorJob(DEVICE_2, "power", 200);
+        scheduler.addSensorJob(first);
+        scheduler.addSensorJob(other);
+        scheduler.addSensorJob(lowerPriority);
+        assertThat(scheduler.getQueueDepth(), is(2));
+
+        scheduler.addSensorJob(higherPriority);
+        assertThat(scheduler.getQueueDepth(), is(2));
+        assertThat(scheduler.getNextSensorJob() == higherPriority, is(true));
+        assertThat(scheduler.getNextSensorJob(), is(other));
+        assertNull(scheduler.getNextSensorJob());
+
+        CircuitStatistics statistics = scheduler.getStatistics();
+        assertThat(statistics.meterDSID(), is(METER));
+        assertThat(statistics.mergedJobs(), is(2L));
+        assertThat(statistics.queueDepth(), is(0));
+    }
+
+    @Test
+    void jobsAreRemovedByIdAndDevice() {
+        TestSensorJob power1 = new TestSensorJob(DEVICE_1, "power", 100);
+        TestSensorJob energy1 = new TestSensorJob(DEVICE_1, "energy", 200);
+        TestSensorJob power2 = new TestSensorJob(DEVICE_2, "power", 300);
+        scheduler.addSensorJob(power1);
+        scheduler.addSensorJob(energy1);
+        scheduler.addSensorJob(power2);
+
+        scheduler.removeSensorJob(power2.getID());
+        scheduler.removeSensorJob(power2.getID());
+        assertThat(scheduler.getQueueDepth(), is(2));
+
+        scheduler.removeSensorJob(DEVICE_1);
+        assertThat(scheduler.noMoreJobs(), is(true));
+
+        // removed jobs can be added again
+        scheduler.addSensorJob(power1);
+        assertThat(scheduler.getNextSensorJob(), is(power1));
+    }
+}
@@ -14,8 +14,12 @@ package org.openhab.binding.enocean.internal.eep;
 
 import static org.openhab.binding.enocean.internal.messages.ESP3Packet.*;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -48,28 +52,44 @@ public class EEPFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(EEPFactory.class);
 
-    public static EEP createEEP(EEPType eepType) {
-        try {
+    private static final MethodType DEFAULT_CONSTRUCTOR = MethodType.methodType(void.class);
+    private static final MethodType ERP1_CONSTRUCTOR = MethodType.methodType(void.class, ERP1Message.class);
+
+    // constructors are resolved once per EEP type, so creating an EEP does not need any reflection
+    private static final Map<EEPType, MethodHandle> DEFAULT_CONSTRUCTORS = new ConcurrentHashMap<>();
+    private static final Map<EEPType, MethodHandle> ERP1_CONSTRUCTORS = new ConcurrentHashMap<>();
+
+    private static MethodHandle getConstructor(Map<EEPType, MethodHandle> constructors, EEPType eepType,
+            MethodType constructorType) throws NoSuchMethodException, IllegalAccessException {
+        MethodHandle constructor = constructors.get(eepType);
+        if (constructor == null) {
             Class<? extends EEP> cl = eepType.getEEPClass();
             if (cl == null) {
                 throw new IllegalArgumentException("Message " + eepType + " not implemented");
             }
-            return cl.getDeclaredConstructor().newInstance();
-        } catch (IllegalAccessException | InstantiationException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
+            constructor = MethodHandles.lookup().findConstructor(cl, constructorType)
+                    .asType(constructorType.changeReturnType(EEP.class));
+            constructors.put(eepType, constructor);
+        }
+        return constructor;
+    }
+
+    public static EEP createEEP(EEPType eepType) {
+        try {
+            return (EEP) getConstructor(DEFAULT_CONSTRUCTORS, eepType, DEFAULT_CONSTRUCTOR).invokeExact();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new IllegalArgumentException(e);
         }
     }
 
     public static EEP buildEEP(EEPType eepType, ERP1Message packet) {
         try {
-            Class<? extends EEP> cl = eepType.getEEPClass();
-            if (cl == null) {
-                throw new IllegalArgumentException("Message " + eepType + " not implemented");
-            }
-            return cl.getConstructor(ERP1Message.class).newInstance(packet);
-        } catch (IllegalAccessException | InstantiationException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
+            return (EEP) getConstructor(ERP1_CONSTRUCTORS, eepType, ERP1_CONSTRUCTOR).invokeExact(packet);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             logger.error("Cannot instantiate EEP {}-{}-{}: {}",
                     HexUtils.bytesToHex(new byte[] { eepType.getRORG().getValue() }),
                     HexUtils.bytesToHex(new byte[] { (byte) eepType.getFunc() }),
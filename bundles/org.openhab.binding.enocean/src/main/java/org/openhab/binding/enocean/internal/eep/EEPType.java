@@ -15,6 +15,7 @@ package org.openhab.binding.enocean.internal.eep;
 import static org.openhab.binding.enocean.internal.EnOceanBindingConstants.*;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Map;
 
@@ -542,6 +543,22 @@ public enum EEPType {
             CHANNEL_SUPPLYAIRFANAIRFLOWRATE, CHANNEL_EXHAUSTAIRFANAIRFLOWRATE, CHANNEL_SUPPLYFANSPEED,
             CHANNEL_EXHAUSTFANSPEED);
 
+    // lookup indexes, the first matching type in declaration order wins as with a linear search
+    private static final Map<String, EEPType> TYPES_BY_ID = new HashMap<>();
+    private static final Map<Class<? extends EEP>, EEPType> TYPES_BY_CLASS = new HashMap<>();
+    private static final Map<Integer, EEPType> TYPES_BY_EEP = new HashMap<>();
+    private static final Map<Long, EEPType> TYPES_BY_EEP_AND_MANUFACTURER = new HashMap<>();
+
+    static {
+        for (EEPType eep : values()) {
+            TYPES_BY_ID.putIfAbsent(eep.getId(), eep);
+            TYPES_BY_CLASS.putIfAbsent(eep.eepClass, eep);
+            int eepKey = eepKey(eep.rorg, eep.func, eep.type);
+            TYPES_BY_EEP.putIfAbsent(eepKey, eep);
+            TYPES_BY_EEP_AND_MANUFACTURER.putIfAbsent(eepAndManufacturerKey(eepKey, eep.manufactorId), eep);
+        }
+    }
+
     private RORG rorg;
     private int func;
     private int type;
@@ -760,37 +777,45 @@ public enum EEPType {
         return new Configuration();
     }
 
+    private static int eepKey(RORG rorg, int func, int type) {
+        return ((rorg.getValue() & 0xFF) << 16) | ((func & 0xFF) << 8) | (type & 0xFF);
+    }
+
+    private static long eepAndManufacturerKey(int eepKey, int manufId) {
+        return ((long) eepKey << 32) | (manufId & 0xFFFFFFFFL);
+    }
+
     public static EEPType getType(String receivingEEPId) {
-        for (EEPType eep : values()) {
-            if (eep.getId().equals(receivingEEPId)) {
-                return eep;
-            }
+        EEPType eep = TYPES_BY_ID.get(receivingEEPId);
+        if (eep != null) {
+            return eep;
         }
 
         throw new IllegalArgumentException(String.format("EEP with id %s could not be found", receivingEEPId));
     }
 
     public static EEPType getType(Class<? extends EEP> eepClass) {
-        for (EEPType eep : values()) {
-            if (eep.eepClass.equals(eepClass)) {
-                return eep;
-            }
+        EEPType eep = TYPES_BY_CLASS.get(eepClass);
+        if (eep != null) {
+            return eep;
         }
 
         throw new IllegalArgumentException(String.format("EEP with class %s could not be found", eepClass.getName()));
     }
 
     public static @Nullable EEPType getType(RORG rorg, int func, int type, int manufId) {
-        EEPType fallback = null;
+        if (func < 0 || func > 0xFF || type < 0 || type > 0xFF) {
+            // no EEP uses values outside of a byte
+            return null;
+        }
 
-        for (EEPType eep : values()) {
-            if (eep.rorg == rorg && eep.func == func && eep.type == type && eep.manufactorId == manufId) {
-                return eep;
-            } else if (fallback == null && eep.rorg == rorg && eep.func == func && eep.type == type) {
-                fallback = eep;
-            }
+        int eepKey = eepKey(rorg, func, type);
+        EEPType eep = TYPES_BY_EEP_AND_MANUFACTURER.get(eepAndManufacturerKey(eepKey, manufId));
+        if (eep != null) {
+            return eep;
         }
 
-        return fallback;
+        // fall back to the first type with this EEP, regardless of the manufacturer
+        return TYPES_BY_EEP.get(eepKey);
     }
 }
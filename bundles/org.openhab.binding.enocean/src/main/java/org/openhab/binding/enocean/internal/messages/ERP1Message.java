@@ -16,6 +16,7 @@ import java.security.InvalidParameterException;
 import java.util.Arrays;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.enocean.internal.eep.Base.UTEResponse;
 import org.openhab.binding.enocean.internal.eep.Base._1BSMessage;
 import org.openhab.binding.enocean.internal.eep.Base._4BSMessage;
@@ -39,6 +40,14 @@ public class ERP1Message extends BasePacket {
         SIG((byte) 0xD0, -1),
         MSC((byte) 0xD1, -1);
 
+        private static final @Nullable RORG[] RORGS_BY_VALUE = new RORG[256];
+
+        static {
+            for (RORG t : RORG.values()) {
+                RORGS_BY_VALUE[t.value & 0xFF] = t;
+            }
+        }
+
         private byte value;
         private int dataLength;
 
@@ -56,10 +65,9 @@ public class ERP1Message extends BasePacket {
         }
 
         public static RORG getRORG(byte value) {
-            for (RORG t : RORG.values()) {
-                if (t.value == value) {
-                    return t;
-                }
+            RORG t = RORGS_BY_VALUE[value & 0xFF];
+            if (t != null) {
+                return t;
             }
 
             throw new InvalidParameterException("Unknown choice");
@@ -15,11 +15,12 @@ package org.openhab.binding.enocean.internal.transceiver;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.TooManyListenersException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -156,8 +157,9 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
     @Nullable
     Request currentRequest = null;
 
-    protected Map<Long, HashSet<PacketListener>> listeners;
-    protected HashSet<EventListener> eventListeners;
+    // listeners are registered under the lock of this transceiver, but notified without locking
+    protected Map<Long, Set<PacketListener>> listeners;
+    protected Set<EventListener> eventListeners;
     protected @Nullable TeachInListener teachInListener;
 
     protected @Nullable InputStream inputStream;
@@ -171,8 +173,8 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
             @Nullable SerialPortManager serialPortManager) {
         requestQueue = new RequestQueue(scheduler);
 
-        listeners = new HashMap<>();
-        eventListeners = new HashSet<>();
+        listeners = new ConcurrentHashMap<>();
+        eventListeners = new CopyOnWriteArraySet<>();
         teachInListener = null;
 
         this.errorListener = errorListener;
@@ -365,12 +367,9 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
                             return;
                         }
 
-                        long s = Long.parseLong(HexUtils.bytesToHex(senderId), 16);
-                        synchronized (this) {
-                            HashSet<PacketListener> pl = listeners.get(s);
-                            if (pl != null) {
-                                pl.forEach(l -> l.packetReceived(msg));
-                            }
+                        Set<PacketListener> pl = listeners.get(toSenderIdKey(senderId));
+                        if (pl != null) {
+                            pl.forEach(l -> l.packetReceived(msg));
                         }
                     }
                 } else {
@@ -400,9 +399,7 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
                     }
                 }
 
-                synchronized (this) {
-                    eventListeners.forEach(l -> l.eventReceived(event));
-                }
+                eventListeners.forEach(l -> l.eventReceived(event));
             }
         } catch (Exception e) {
             logger.error("Exception in informListeners", e);
@@ -447,14 +444,23 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
 
     protected abstract byte[] serializePacket(BasePacket packet) throws EnOceanException;
 
+    private static long toSenderIdKey(byte[] senderId) {
+        // same value as parsing the hex representation of the sender id
+        long key = 0;
+        for (byte b : senderId) {
+            key = (key << 8) | (b & 0xFF);
+        }
+        return key;
+    }
+
     public synchronized void addPacketListener(PacketListener listener, long senderIdToListenTo) {
-        if (listeners.computeIfAbsent(senderIdToListenTo, k -> new HashSet<>()).add(listener)) {
+        if (listeners.computeIfAbsent(senderIdToListenTo, k -> new CopyOnWriteArraySet<>()).add(listener)) {
             logger.debug("Listener added: {}", senderIdToListenTo);
         }
     }
 
     public synchronized void removePacketListener(PacketListener listener, long senderIdToListenTo) {
-        HashSet<PacketListener> pl = listeners.get(senderIdToListenTo);
+        Set<PacketListener> pl = listeners.get(senderIdToListenTo);
         if (pl != null) {
             pl.remove(listener);
             if (pl.isEmpty()) {
@@ -55,6 +55,7 @@ public class HomematicConfig {
     private long discoveryTimeToLive = -1;
     private boolean unpairOnDeletion = false;
     private boolean factoryResetOnDeletion = false;
+    private boolean metadataCache = true;
     private int bufferSize = 2048;
 
     private HmGatewayInfo gatewayInfo;
@@ -262,6 +263,25 @@ public class HomematicConfig {
         this.factoryResetOnDeletion = factoryResetOnDeletion;
     }
 
+    /**
+     * Returns if the device metadata is cached on disk
+     *
+     * @return <i>true</i> if the paramset descriptions of the devices are cached on disk between restarts
+     */
+    public boolean isMetadataCache() {
+        return metadataCache;
+    }
+
+    /**
+     * Sets metadataCache
+     *
+     * @param metadataCache if set to <i>true</i>, the paramset descriptions of the devices are cached on disk between
+     *            restarts
+     */
+    public void setMetadataCache(boolean metadataCache) {
+        this.metadataCache = metadataCache;
+    }
+
     /**
      * Returns the TclRegaScript url.
      */
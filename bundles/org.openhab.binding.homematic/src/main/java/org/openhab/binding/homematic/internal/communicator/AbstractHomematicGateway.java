@@ -16,6 +16,7 @@ import static org.openhab.binding.homematic.internal.HomematicBindingConstants.G
 import static org.openhab.binding.homematic.internal.misc.HomematicConstants.*;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -76,6 +77,7 @@ import org.openhab.binding.homematic.internal.model.HmInterface;
 import org.openhab.binding.homematic.internal.model.HmParamsetType;
 import org.openhab.binding.homematic.internal.model.HmRssiInfo;
 import org.openhab.binding.homematic.internal.model.HmValueType;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -111,6 +113,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     private boolean newDeviceEventsEnabled;
     private ScheduledFuture<?> enableNewDeviceFuture;
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(GATEWAY_POOL_NAME);
+    private final DeviceMetadataCache metadataCache;
 
     static {
         // loads all virtual datapoints
@@ -139,6 +142,9 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         this.config = config;
         this.gatewayAdapter = gatewayAdapter;
         this.httpClient = httpClient;
+        this.metadataCache = config.isMetadataCache()
+                ? new DeviceMetadataCache(Path.of(OpenHAB.getUserDataFolder(), "homematic", id + ".metadata"))
+                : null;
     }
 
     @Override
@@ -375,6 +381,9 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         cancelLoadAllMetadata = false;
         // load all device descriptions
         List<HmDevice> deviceDescriptions = getDeviceDescriptions();
+        if (metadataCache != null) {
+            metadataCache.load(config.getGatewayInfo().getFirmware());
+        }
 
         // loading datapoints for all channels
         Set<String> loadedDevices = new HashSet<>();
@@ -404,8 +413,8 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
                                     cloneAllDatapointsIntoChannel(channel, cachedDatapoints);
                                 } else {
                                     logger.trace("    Loading datapoints into channel {}", channel);
-                                    addChannelDatapoints(channel, HmParamsetType.MASTER);
-                                    addChannelDatapoints(channel, HmParamsetType.VALUES);
+                                    loadChannelDatapoints(channel, HmParamsetType.MASTER);
+                                    loadChannelDatapoints(channel, HmParamsetType.VALUES);
 
                                     // Make sure to only cache non-reconfigurable channels. For reconfigurable channels,
                                     // the data point set might change depending on the selected mode.
@@ -427,10 +436,29 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         }
         if (!cancelLoadAllMetadata) {
             devices.keySet().retainAll(loadedDevices);
+            if (metadataCache != null) {
+                metadataCache.save();
+                logger.debug("Loaded metadata of {} devices from gateway '{}', metadata cache hit rate {}% ({} of {})",
+                        loadedDevices.size(), id, metadataCache.getHitRate(), metadataCache.getHits(),
+                        metadataCache.getHits() + metadataCache.getMisses());
+            }
         }
         initialized = true;
     }
 
+    /**
+     * Loads the datapoints of the paramset from the metadata cache, or from the gateway if they are not cached.
+     * Reconfigurable channels are always loaded from the gateway, their datapoints depend on the selected mode.
+     */
+    private void loadChannelDatapoints(HmChannel channel, HmParamsetType paramsetType) throws IOException {
+        if (metadataCache == null || channel.isReconfigurable()) {
+            addChannelDatapoints(channel, paramsetType);
+        } else if (!metadataCache.addCachedDatapoints(channel, paramsetType)) {
+            addChannelDatapoints(channel, paramsetType);
+            metadataCache.put(channel, paramsetType);
+        }
+    }
+
     /**
      * Loads all datapoints from the gateway.
      */
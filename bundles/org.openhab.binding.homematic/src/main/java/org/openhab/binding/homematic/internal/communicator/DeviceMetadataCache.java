@@ -0,0 +1,382 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDatapoint;
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.openhab.binding.homematic.internal.model.HmValueType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of the paramset descriptions of the gateway devices. Entries are keyed by interface, device type,
+ * firmware version, channel number and paramset, as reported by listDevices, so a device with a new firmware is
+ * loaded from the gateway again. The whole cache is discarded if the firmware of the gateway has changed. Entries that
+ * were not used by the last load are dropped when the cache is saved.
+ *
+ * @author agent - Initial contribution
+ */
+public class DeviceMetadataCache {
+    private final Logger logger = LoggerFactory.getLogger(DeviceMetadataCache.class);
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_INTEGER = 1;
+    private static final byte VALUE_LONG = 2;
+    private static final byte VALUE_DOUBLE = 3;
+    private static final byte VALUE_BOOLEAN = 4;
+    private static final byte VALUE_STRING = 5;
+
+    private final Path file;
+    private final Map<String, List<CachedDatapoint>> entries = new HashMap<>();
+    private final Set<String> usedKeys = new HashSet<>();
+    private String gatewayFirmware = "";
+    private boolean modified;
+    private int hits;
+    private int misses;
+
+    public DeviceMetadataCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the cache from disk. A missing or unreadable cache file, or one written for another gateway firmware,
+     * results in an empty cache.
+     *
+     * @param gatewayFirmware the current firmware version of the gateway
+     */
+    public synchronized void load(String gatewayFirmware) {
+        this.gatewayFirmware = gatewayFirmware == null ? "" : gatewayFirmware;
+        entries.clear();
+        usedKeys.clear();
+        modified = false;
+        hits = 0;
+        misses = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                logger.debug("Ignoring metadata cache '{}' with an unknown format", file);
+                return;
+            }
+            String cachedGatewayFirmware = in.readUTF();
+            if (!cachedGatewayFirmware.equals(this.gatewayFirmware)) {
+                logger.debug("Ignoring metadata cache '{}' of gateway firmware {}, the gateway runs {}", file,
+                        cachedGatewayFirmware, this.gatewayFirmware);
+                // rewrite the cache even if no entry is added
+                modified = true;
+                return;
+            }
+            int entryCount = in.readInt();
+            for (int i = 0; i < entryCount; i++) {
+                String key = in.readUTF();
+                int datapointCount = in.readInt();
+                List<CachedDatapoint> datapoints = new ArrayList<>(datapointCount);
+                for (int j = 0; j < datapointCount; j++) {
+                    datapoints.add(CachedDatapoint.read(in));
+                }
+                entries.put(key, datapoints);
+            }
+            logger.debug("Loaded {} paramset descriptions from metadata cache '{}'", entries.size(), file);
+        } catch (NoSuchFileException ex) {
+            logger.debug("No metadata cache '{}' available yet", file);
+        } catch (IOException | IllegalArgumentException ex) {
+            logger.warn("Ignoring unreadable metadata cache '{}': {}", file, ex.getMessage());
+            entries.clear();
+        }
+    }
+
+    /**
+     * Adds the cached datapoints of the paramset to the channel.
+     *
+     * @return true, if the paramset was found in the cache
+     */
+    public synchronized boolean addCachedDatapoints(HmChannel channel, HmParamsetType paramsetType) {
+        String key = getKey(channel, paramsetType);
+        List<CachedDatapoint> datapoints = entries.get(key);
+        if (datapoints == null) {
+            misses++;
+            return false;
+        }
+        for (CachedDatapoint cachedDatapoint : datapoints) {
+            channel.addDatapoint(cachedDatapoint.toDatapoint(paramsetType));
+        }
+        usedKeys.add(key);
+        hits++;
+        return true;
+    }
+
+    /**
+     * Stores the datapoints of the paramset that have been loaded from the gateway into the channel.
+     */
+    public synchronized void put(HmChannel channel, HmParamsetType paramsetType) {
+        List<CachedDatapoint> datapoints = new ArrayList<>();
+        for (HmDatapoint dp : channel.getDatapoints()) {
+            if (!dp.isVirtual() && dp.getParamsetType() == paramsetType) {
+                if (!CachedDatapoint.isCacheable(dp)) {
+                    logger.trace("Not caching paramset {} of channel {}, unsupported value in datapoint {}",
+                            paramsetType, channel, dp.getName());
+                    return;
+                }
+                datapoints.add(new CachedDatapoint(dp));
+            }
+        }
+        String key = getKey(channel, paramsetType);
+        entries.put(key, datapoints);
+        usedKeys.add(key);
+        modified = true;
+    }
+
+    /**
+     * Saves the cache to disk if it has changed, dropping all entries that have not been used since it was loaded.
+     */
+    public synchronized void save() {
+        modified |= entries.keySet().retainAll(usedKeys);
+        if (!modified) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(gatewayFirmware);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, List<CachedDatapoint>> entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().size());
+                    for (CachedDatapoint cachedDatapoint : entry.getValue()) {
+                        cachedDatapoint.write(out);
+                    }
+                }
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            modified = false;
+            logger.debug("Saved {} paramset descriptions to metadata cache '{}'", entries.size(), file);
+        } catch (IOException ex) {
+            logger.warn("Unable to save metadata cache '{}': {}", file, ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number of paramsets that were found in the cache since it was loaded.
+     */
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of paramsets that had to be loaded from the gateway since the cache was loaded.
+     */
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the percentage of paramsets that were found in the cache since it was loaded.
+     */
+    public synchronized int getHitRate() {
+        int total = hits + misses;
+        return total == 0 ? 0 : hits * 100 / total;
+    }
+
+    private static String getKey(HmChannel channel, HmParamsetType paramsetType) {
+        HmDevice device = channel.getDevice();
+        return String.format("%s:%s:%s:%s:%s", device.getHmInterface(), device.getType(), device.getFirmware(),
+                channel.getNumber(), paramsetType);
+    }
+
+    /**
+     * The metadata of a datapoint, as parsed from a paramset description.
+     */
+    private static class CachedDatapoint {
+        private final String name;
+        private final String description;
+        private final HmValueType type;
+        private final Number minValue;
+        private final Number maxValue;
+        private final String[] options;
+        private final boolean readOnly;
+        private final boolean readable;
+        private final String info;
+        private final String unit;
+        private final boolean trigger;
+        private final Object defaultValue;
+
+        private CachedDatapoint(HmDatapoint dp) {
+            this(dp.getName(), dp.getDescription(), dp.getType(), dp.getMinValue(), dp.getMaxValue(), dp.getOptions(),
+                    dp.isReadOnly(), dp.isReadable(), dp.getInfo(), dp.getUnit(), dp.isTrigger(),
+                    dp.getDefaultValue());
+        }
+
+        private CachedDatapoint(String name, String description, HmValueType type, Number minValue, Number maxValue,
+                String[] options, boolean readOnly, boolean readable, String info, String unit, boolean trigger,
+                Object defaultValue) {
+            this.name = name;
+            this.description = description;
+            this.type = type;
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+            this.options = options;
+            this.readOnly = readOnly;
+            this.readable = readable;
+            this.info = info;
+            this.unit = unit;
+            this.trigger = trigger;
+            this.defaultValue = defaultValue;
+        }
+
+        private static boolean isCacheable(HmDatapoint dp) {
+            return dp.getName() != null && dp.getType() != null && isCacheableValue(dp.getMinValue())
+                    && isCacheableValue(dp.getMaxValue()) && isCacheableValue(dp.getDefaultValue());
+        }
+
+        private static boolean isCacheableValue(Object value) {
+            return value == null || value instanceof Integer || value instanceof Long || value instanceof Double
+                    || value instanceof Boolean || value instanceof String;
+        }
+
+        private HmDatapoint toDatapoint(HmParamsetType paramsetType) {
+            HmDatapoint dp = new HmDatapoint(name, description, type, defaultValue, readOnly, paramsetType);
+            dp.setMinValue(minValue);
+            dp.setMaxValue(maxValue);
+            dp.setOptions(options == null ? null : options.clone());
+            dp.setReadable(readable);
+            dp.setInfo(info);
+            dp.setUnit(unit);
+            dp.setTrigger(trigger);
+            dp.setDefaultValue(defaultValue);
+            return dp;
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeUTF(name);
+            writeString(out, description);
+            out.writeUTF(type.name());
+            writeValue(out, minValue);
+            writeValue(out, maxValue);
+            out.writeInt(options == null ? -1 : options.length);
+            if (options != null) {
+                for (String option : options) {
+                    writeString(out, option);
+                }
+            }
+            out.writeBoolean(readOnly);
+            out.writeBoolean(readable);
+            writeString(out, info);
+            writeString(out, unit);
+            out.writeBoolean(trigger);
+            writeValue(out, defaultValue);
+        }
+
+        private static CachedDatapoint read(DataInputStream in) throws IOException {
+            String name = in.readUTF();
+            String description = readString(in);
+            HmValueType type = HmValueType.valueOf(in.readUTF());
+            Number minValue = (Number) readValue(in);
+            Number maxValue = (Number) readValue(in);
+            int optionCount = in.readInt();
+            String[] options = null;
+            if (optionCount >= 0) {
+                options = new String[optionCount];
+                for (int i = 0; i < optionCount; i++) {
+                    options[i] = readString(in);
+                }
+            }
+            boolean readOnly = in.readBoolean();
+            boolean readable = in.readBoolean();
+            String info = readString(in);
+            String unit = readString(in);
+            boolean trigger = in.readBoolean();
+            Object defaultValue = readValue(in);
+            return new CachedDatapoint(name, description, type, minValue, maxValue, options, readOnly, readable, info,
+                    unit, trigger, defaultValue);
+        }
+
+        private static void writeString(DataOutputStream out, String value) throws IOException {
+            writeValue(out, value);
+        }
+
+        private static String readString(DataInputStream in) throws IOException {
+            Object value = readValue(in);
+            if (value != null && !(value instanceof String)) {
+                throw new IOException("Unexpected value " + value + " instead of a string");
+            }
+            return (String) value;
+        }
+
+        private static void writeValue(DataOutputStream out, Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(VALUE_NULL);
+            } else if (value instanceof Integer intValue) {
+                out.writeByte(VALUE_INTEGER);
+                out.writeInt(intValue);
+            } else if (value instanceof Long longValue) {
+                out.writeByte(VALUE_LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Double doubleValue) {
+                out.writeByte(VALUE_DOUBLE);
+                out.writeDouble(doubleValue);
+            } else if (value instanceof Boolean booleanValue) {
+                out.writeByte(VALUE_BOOLEAN);
+                out.writeBoolean(booleanValue);
+            } else {
+                out.writeByte(VALUE_STRING);
+                out.writeUTF(value.toString());
+            }
+        }
+
+        private static Object readValue(DataInputStream in) throws IOException {
+            byte valueType = in.readByte();
+            switch (valueType) {
+                case VALUE_NULL:
+                    return null;
+                case VALUE_INTEGER:
+                    return in.readInt();
+                case VALUE_LONG:
+                    return in.readLong();
+                case VALUE_DOUBLE:
+                    return in.readDouble();
+                case VALUE_BOOLEAN:
+                    return in.readBoolean();
+                case VALUE_STRING:
+                    return in.readUTF();
+                default:
+                    throw new IOException("Unknown value type " + valueType);
+            }
+        }
+    }
+}
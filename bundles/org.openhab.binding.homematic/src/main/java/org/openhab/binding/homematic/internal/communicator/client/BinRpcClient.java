@@ -78,7 +78,11 @@ public class BinRpcClient extends RpcClient<byte[]> {
         BinRpcMessage resp = null;
         try {
             Socket socket = socketHandler.getSocket(port);
-            socket.getOutputStream().write(request.createMessage());
+            if (request instanceof BinRpcMessage binRpcRequest) {
+                binRpcRequest.writeTo(socket.getOutputStream());
+            } else {
+                socket.getOutputStream().write(request.createMessage());
+            }
             resp = new BinRpcMessage(socket.getInputStream(), false, config.getEncoding());
             return new RpcResponseParser(request).parse(resp.getResponseData());
         } catch (UnknownRpcFailureException | UnknownParameterSetException rpcEx) {
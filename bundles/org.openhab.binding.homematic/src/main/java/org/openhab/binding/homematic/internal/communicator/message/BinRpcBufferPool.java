@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.message;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of heap buffers used to read, decode and encode BIN-RPC messages. Buffers keep the size they had to grow to, so
+ * after the first large event burst following bursts are decoded without allocating new buffers.
+ *
+ * @author agent - Initial contribution
+ */
+public class BinRpcBufferPool {
+    public static final BinRpcBufferPool SHARED = new BinRpcBufferPool(16, 8192, 1024 * 1024);
+
+    private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final int maxPooled;
+    private final int initialCapacity;
+    private final int maxRetainedCapacity;
+
+    /**
+     * Creates a pool that retains up to maxPooled buffers, new buffers start with initialCapacity bytes and buffers
+     * larger than maxRetainedCapacity are left to the garbage collector.
+     */
+    public BinRpcBufferPool(int maxPooled, int initialCapacity, int maxRetainedCapacity) {
+        this.maxPooled = maxPooled;
+        this.initialCapacity = initialCapacity;
+        this.maxRetainedCapacity = maxRetainedCapacity;
+    }
+
+    /**
+     * Returns a cleared big-endian buffer with at least the given capacity.
+     */
+    public ByteBuffer acquire(int minCapacity) {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer != null) {
+            pooled.decrementAndGet();
+            if (buffer.capacity() >= minCapacity) {
+                return buffer.clear();
+            }
+        }
+        return ByteBuffer.allocate(capacityFor(minCapacity));
+    }
+
+    /**
+     * Returns a buffer with at least the given capacity holding the bytes written to the given buffer so far, both
+     * buffers being in write mode. The given buffer is released if it had to be replaced.
+     */
+    public ByteBuffer ensureCapacity(ByteBuffer buffer, int minCapacity) {
+        if (buffer.capacity() >= minCapacity) {
+            return buffer;
+        }
+        ByteBuffer larger = acquire(minCapacity);
+        larger.put(buffer.flip());
+        release(buffer);
+        return larger;
+    }
+
+    /**
+     * Hands a buffer back to the pool, the buffer must not be used by the caller afterwards.
+     */
+    public void release(ByteBuffer buffer) {
+        if (!buffer.hasArray() || buffer.capacity() > maxRetainedCapacity) {
+            return;
+        }
+        if (pooled.incrementAndGet() <= maxPooled) {
+            buffers.offer(buffer);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    private int capacityFor(int minCapacity) {
+        int capacity = initialCapacity;
+        while (capacity < minCapacity && capacity > 0) {
+            capacity <<= 1;
+        }
+        return capacity > 0 ? capacity : minCapacity;
+    }
+}
@@ -15,16 +15,18 @@ package org.openhab.binding.homematic.internal.communicator.message;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -41,18 +43,23 @@ import org.slf4j.LoggerFactory;
 public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     private final Logger logger = LoggerFactory.getLogger(BinRpcMessage.class);
 
+    public static final int HEADER_LENGTH = 8;
+
+    private static final int MAX_CACHED_STRING_LENGTH = 48;
+    private static final CachedString[] STRING_CACHE = new CachedString[1024];
+
     public enum TYPE {
         REQUEST,
         RESPONSE
     }
 
     private Object[] messageData;
-    private byte[] binRpcData;
-    private int offset;
+    private List<Object> arguments;
+    // the buffer a message is encoded into, only set while encoding
+    private ByteBuffer binRpcData;
 
     private String methodName;
     private TYPE type;
-    private int args;
     private Charset encoding;
 
     public BinRpcMessage(String methodName, Charset encoding) {
@@ -66,7 +73,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         this.methodName = methodName;
         this.type = type;
         this.encoding = encoding;
-        createHeader();
+        this.arguments = new ArrayList<>();
     }
 
     /**
@@ -74,38 +81,28 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
      */
     public BinRpcMessage(InputStream is, boolean methodHeader, Charset encoding) throws IOException {
         this.encoding = encoding;
-        byte[] sig = new byte[8];
-        int length = is.read(sig, 0, 4);
-        if (length != 4) {
-            throw new EOFException("Only " + length + " bytes received reading signature");
-        }
-        validateBinXSignature(sig);
-        length = is.read(sig, 4, 4);
-        if (length != 4) {
-            throw new EOFException("Only " + length + " bytes received reading message length");
-        }
-        int datasize = (new BigInteger(Arrays.copyOfRange(sig, 4, 8))).intValue();
-        byte[] payload = new byte[datasize];
-        int offset = 0;
-        int currentLength;
-
-        while (offset < datasize && (currentLength = is.read(payload, offset, datasize - offset)) != -1) {
-            offset += currentLength;
-        }
-        if (offset != datasize) {
-            throw new EOFException("Only " + offset + " bytes received while reading message payload, expected "
-                    + datasize + " bytes");
-        }
-        byte[] message = new byte[sig.length + payload.length];
-        System.arraycopy(sig, 0, message, 0, sig.length);
-        System.arraycopy(payload, 0, message, sig.length, payload.length);
-
-        decodeMessage(message, methodHeader);
-    }
-
-    private void validateBinXSignature(byte[] sig) throws UnsupportedEncodingException {
-        if (sig[0] != 'B' || sig[1] != 'i' || sig[2] != 'n') {
-            throw new UnsupportedEncodingException("No BinX signature");
+        ByteBuffer buffer = BinRpcBufferPool.SHARED.acquire(HEADER_LENGTH);
+        try {
+            int length = is.readNBytes(buffer.array(), 0, 4);
+            if (length != 4) {
+                throw new EOFException("Only " + length + " bytes received reading signature");
+            }
+            validateBinXSignature(buffer, 0);
+            length = is.readNBytes(buffer.array(), 4, 4);
+            if (length != 4) {
+                throw new EOFException("Only " + length + " bytes received reading message length");
+            }
+            int messageLength = getMessageLength(buffer.limit(HEADER_LENGTH));
+            buffer = BinRpcBufferPool.SHARED.ensureCapacity(buffer.position(HEADER_LENGTH), messageLength);
+            int datasize = messageLength - HEADER_LENGTH;
+            int offset = is.readNBytes(buffer.array(), HEADER_LENGTH, datasize);
+            if (offset != datasize) {
+                throw new EOFException("Only " + offset + " bytes received while reading message payload, expected "
+                        + datasize + " bytes");
+            }
+            decodeMessage(buffer.position(0).limit(messageLength), methodHeader);
+        } finally {
+            BinRpcBufferPool.SHARED.release(buffer);
         }
     }
 
@@ -113,51 +110,98 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
      * Decodes a BIN-RPC message from the given byte array.
      */
     public BinRpcMessage(byte[] message, boolean methodHeader, Charset encoding) throws IOException, ParseException {
+        this(ByteBuffer.wrap(message), methodHeader, encoding);
+    }
+
+    /**
+     * Decodes the BIN-RPC message starting at the position of the given buffer and advances the position to the end
+     * of the message. The decoded message does not keep a reference to the buffer, so it may be reused afterwards.
+     */
+    public BinRpcMessage(ByteBuffer message, boolean methodHeader, Charset encoding) throws IOException {
         this.encoding = encoding;
-        if (message.length < 8) {
-            throw new EOFException("Only " + message.length + " bytes received");
-        }
-        validateBinXSignature(message);
         decodeMessage(message, methodHeader);
     }
 
-    private void decodeMessage(byte[] message, boolean methodHeader) throws IOException {
-        binRpcData = message;
+    /**
+     * Returns the length of the BIN-RPC message including the header if the header starting at the position of the
+     * given buffer is complete, otherwise -1.
+     */
+    public static int getMessageLength(ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_LENGTH) {
+            return -1;
+        }
+        validateBinXSignature(buffer, start);
+        int datasize = buffer.getInt(start + 4);
+        if (datasize < 0 || datasize > Integer.MAX_VALUE - HEADER_LENGTH) {
+            throw new IOException("Invalid BIN-RPC message length " + datasize);
+        }
+        return datasize + HEADER_LENGTH;
+    }
+
+    private static void validateBinXSignature(ByteBuffer buffer, int start) throws UnsupportedEncodingException {
+        if (buffer.get(start) != 'B' || buffer.get(start + 1) != 'i' || buffer.get(start + 2) != 'n') {
+            throw new UnsupportedEncodingException("No BinX signature");
+        }
+    }
 
-        offset = 8;
+    private void decodeMessage(ByteBuffer message, boolean methodHeader) throws IOException {
+        int start = message.position();
+        int messageLength = getMessageLength(message);
+        if (messageLength < 0 || messageLength > message.remaining()) {
+            throw new EOFException("Only " + message.remaining() + " bytes received");
+        }
+        ByteBuffer in = message.slice(start, messageLength);
+        message.position(start + messageLength);
 
-        if (methodHeader) {
-            methodName = readString();
-            readInt();
+        type = in.get(3) == 1 ? TYPE.RESPONSE : TYPE.REQUEST;
+        in.position(HEADER_LENGTH);
+        try {
+            if (methodHeader) {
+                methodName = readString(in);
+                in.getInt();
+            }
+            messageData = readRpcValues(in);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("BIN-RPC message truncated at byte " + in.position());
         }
-        generateResponseData();
     }
 
     public void setType(TYPE type) {
-        binRpcData[3] = type == TYPE.RESPONSE ? (byte) 1 : (byte) 0;
+        this.type = type;
     }
 
-    private void generateResponseData() throws IOException {
-        offset = 8 + (methodName != null ? methodName.length() + 8 : 0);
-        List<Object> values = new ArrayList<>();
-        while (offset < binRpcData.length) {
-            values.add(readRpcValue());
+    /**
+     * Encodes the message into a buffer of the {@link BinRpcBufferPool}, which the caller has to release. The
+     * arguments are encoded on every call, so a message may be sent again, e.g. when a request is retried.
+     */
+    private synchronized ByteBuffer encode() {
+        if (arguments == null) {
+            throw new IllegalStateException("A decoded BIN-RPC message can not be encoded again");
         }
-        messageData = values.toArray();
-        values.clear();
-    }
-
-    private void createHeader() {
-        binRpcData = new byte[256];
-        addString("Bin ");
-        setType(type);
-        addInt(0); // placeholder content length
-        if (methodName != null) {
-            addInt(methodName.length());
-            addString(methodName);
-            addInt(0); // placeholder arguments
+        binRpcData = BinRpcBufferPool.SHARED.acquire(HEADER_LENGTH);
+        boolean encoded = false;
+        try {
+            binRpcData.put((byte) 'B').put((byte) 'i').put((byte) 'n');
+            binRpcData.put(type == TYPE.RESPONSE ? (byte) 1 : (byte) 0);
+            binRpcData.putInt(0); // placeholder content length
+            if (methodName != null) {
+                addString(methodName);
+                addInt(arguments.size());
+            }
+            for (Object argument : arguments) {
+                addObject(argument);
+            }
+            binRpcData.putInt(4, binRpcData.position() - HEADER_LENGTH);
+            encoded = true;
+            return binRpcData;
+        } finally {
+            // the caller only gets the buffer to release if the message could be encoded
+            if (!encoded && binRpcData != null) {
+                BinRpcBufferPool.SHARED.release(binRpcData);
+            }
+            binRpcData = null;
         }
-        setInt(4, offset - 8);
     }
 
     /**
@@ -165,16 +209,11 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
      */
     @Override
     public void addArg(Object argument) {
-        addObject(argument);
-        setInt(4, offset - 8);
-
-        if (methodName != null) {
-            setInt(12 + methodName.length(), ++args);
-        }
+        arguments.add(argument);
     }
 
     public int getArgCount() {
-        return args;
+        return arguments == null ? 0 : arguments.size();
     }
 
     @Override
@@ -184,14 +223,24 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
 
     @Override
     public byte[] createMessage() {
-        trimBinRpcData();
-        return binRpcData;
+        ByteBuffer buffer = encode();
+        try {
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        } finally {
+            BinRpcBufferPool.SHARED.release(buffer);
+        }
     }
 
-    private void trimBinRpcData() {
-        byte[] trimmed = new byte[offset];
-        System.arraycopy(binRpcData, 0, trimmed, 0, offset);
-        binRpcData = trimmed;
+    /**
+     * Encodes the message and writes it to the given stream, without copying it out of the pooled encode buffer.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ByteBuffer buffer = encode();
+        try {
+            out.write(buffer.array(), 0, buffer.position());
+        } finally {
+            BinRpcBufferPool.SHARED.release(buffer);
+        }
     }
 
     @Override
@@ -200,92 +249,121 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     }
 
     // read rpc values
-    private int readInt() {
-        byte[] bi = new byte[4];
-        System.arraycopy(binRpcData, offset, bi, 0, 4);
-        offset += 4;
-        return (new BigInteger(bi)).intValue();
+    private Object[] readRpcValues(ByteBuffer in) throws IOException {
+        List<Object> values = new ArrayList<>();
+        while (in.hasRemaining()) {
+            values.add(readRpcValue(in));
+        }
+        return values.toArray();
+    }
+
+    private String readString(ByteBuffer in) throws IOException {
+        int len = readLength(in, 1);
+        String string;
+        if (len <= MAX_CACHED_STRING_LENGTH && in.hasArray()) {
+            string = readCachedString(in.array(), in.arrayOffset() + in.position(), len);
+        } else if (in.hasArray()) {
+            string = new String(in.array(), in.arrayOffset() + in.position(), len, encoding);
+        } else {
+            byte[] bytes = new byte[len];
+            in.get(in.position(), bytes);
+            string = new String(bytes, encoding);
+        }
+        in.position(in.position() + len);
+        return string;
     }
 
-    private long readInt64() {
-        byte[] bi = new byte[8];
-        System.arraycopy(binRpcData, offset, bi, 0, 8);
-        offset += 8;
-        return (new BigInteger(bi)).longValue();
+    /**
+     * Event bursts repeat the same addresses, datapoint names and struct keys over and over again, so short strings
+     * are looked up in a small lossy cache before a new String is created.
+     */
+    private String readCachedString(byte[] data, int offset, int len) {
+        int hash = encoding.hashCode();
+        for (int i = offset; i < offset + len; i++) {
+            hash = 31 * hash + data[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & (STRING_CACHE.length - 1);
+        CachedString cached = STRING_CACHE[index];
+        if (cached != null && cached.encoding.equals(encoding)
+                && Arrays.equals(cached.bytes, 0, cached.bytes.length, data, offset, offset + len)) {
+            return cached.value;
+        }
+        String string = new String(data, offset, len, encoding);
+        STRING_CACHE[index] = new CachedString(Arrays.copyOfRange(data, offset, offset + len), encoding, string);
+        return string;
     }
 
-    private String readString() {
-        int len = readInt();
-        offset += len;
-        return new String(binRpcData, offset - len, len, encoding);
+    /**
+     * Reads a length or element count and checks that the remaining data can hold it.
+     */
+    private int readLength(ByteBuffer in, int minElementSize) throws IOException {
+        int len = in.getInt();
+        if (len < 0 || len > in.remaining() / minElementSize) {
+            throw new EOFException("Invalid length " + len + ", only " + in.remaining() + " bytes left");
+        }
+        return len;
     }
 
-    private Object readRpcValue() throws IOException {
-        int type = readInt();
+    private Object readRpcValue(ByteBuffer in) throws IOException {
+        int type = in.getInt();
         switch (type) {
             case 1:
-                return Integer.valueOf(readInt());
+                return Integer.valueOf(in.getInt());
             case 2:
-                return binRpcData[offset++] != 0 ? Boolean.TRUE : Boolean.FALSE;
+                return in.get() != 0 ? Boolean.TRUE : Boolean.FALSE;
             case 3:
-                return readString();
+                return readString(in);
             case 4:
-                int mantissa = readInt();
-                int exponent = readInt();
+                int mantissa = in.getInt();
+                int exponent = in.getInt();
                 BigDecimal bd = new BigDecimal((double) mantissa / (double) (1 << 30) * Math.pow(2, exponent));
                 return bd.setScale(6, RoundingMode.HALF_DOWN).doubleValue();
             case 5:
-                return new Date(readInt() * 1000);
+                return new Date(in.getInt() * 1000);
             case 0xD1:
                 // Int64
-                return Long.valueOf(readInt64());
+                return Long.valueOf(in.getLong());
             case 0x100:
                 // Array
-                int numElements = readInt();
-                Collection<Object> array = new ArrayList<>();
-                while (numElements-- > 0) {
-                    array.add(readRpcValue());
+                Object[] array = new Object[readLength(in, 4)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readRpcValue(in);
                 }
-                return array.toArray();
+                return array;
             case 0x101:
                 // Struct
-                numElements = readInt();
+                int numElements = readLength(in, 8);
                 Map<String, Object> struct = new TreeMap<>();
                 while (numElements-- > 0) {
-                    String name = readString();
-                    struct.put(name, readRpcValue());
+                    String name = readString(in);
+                    struct.put(name, readRpcValue(in));
                 }
                 return struct;
 
             default:
-                for (int i = 0; i < binRpcData.length; i++) {
-                    logger.info("{} {}", Integer.toHexString(binRpcData[i]), (char) binRpcData[i]);
+                if (logger.isTraceEnabled()) {
+                    for (int i = 0; i < in.limit(); i++) {
+                        logger.trace("{} {}", Integer.toHexString(in.get(i)), (char) in.get(i));
+                    }
                 }
                 throw new IOException("Unknown data type " + type);
         }
     }
 
-    private void setInt(int position, int value) {
-        int temp = offset;
-        offset = position;
-        addInt(value);
-        offset = temp;
+    private void ensureCapacity(int length) {
+        if (binRpcData.remaining() < length) {
+            binRpcData = BinRpcBufferPool.SHARED.ensureCapacity(binRpcData, binRpcData.position() + length);
+        }
     }
 
     private void addByte(byte b) {
-        if (offset == binRpcData.length) {
-            byte[] newdata = new byte[binRpcData.length * 2];
-            System.arraycopy(binRpcData, 0, newdata, 0, binRpcData.length);
-            binRpcData = newdata;
-        }
-        binRpcData[offset++] = b;
+        ensureCapacity(1);
+        binRpcData.put(b);
     }
 
     private void addInt(int value) {
-        addByte((byte) (value >> 24));
-        addByte((byte) (value >> 16));
-        addByte((byte) (value >> 8));
-        addByte((byte) (value));
+        ensureCapacity(4);
+        binRpcData.putInt(value);
     }
 
     private void addDouble(double value) {
@@ -310,11 +388,13 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         addInt(exp);
     }
 
+    /**
+     * Adds the length of the encoded string followed by the encoded string.
+     */
     private void addString(String string) {
         byte[] sd = string.getBytes(encoding);
-        for (byte ch : sd) {
-            addByte(ch);
-        }
+        ensureCapacity(4 + sd.length);
+        binRpcData.putInt(sd.length).put(sd);
     }
 
     private void addList(Collection<?> collection) {
@@ -326,9 +406,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     private void addObject(Object object) {
         if (object.getClass() == String.class) {
             addInt(3);
-            String string = (String) object;
-            addInt(string.length());
-            addString(string);
+            addString((String) object);
         } else if (object.getClass() == Boolean.class) {
             addInt(2);
             addByte(((Boolean) object).booleanValue() ? (byte) 1 : (byte) 0);
@@ -361,9 +439,8 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
             for (Map.Entry<?, ?> entry : map.entrySet()) {
                 String key = (String) entry.getKey();
                 if (key != null) {
-                    addInt(key.length());
                     addString(key);
-                    addList(Collections.singleton(entry.getValue()));
+                    addObject(entry.getValue());
                 }
             }
         }
@@ -376,11 +453,20 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     @Override
     public String toString() {
         try {
-            trimBinRpcData();
-            generateResponseData();
+            if (arguments != null) {
+                ByteBuffer in = ByteBuffer.wrap(createMessage()).position(HEADER_LENGTH);
+                if (methodName != null) {
+                    readString(in);
+                    in.getInt();
+                }
+                messageData = readRpcValues(in);
+            }
             return RpcUtils.dumpRpcMessage(methodName, messageData);
         } catch (Exception e) {
             throw new RuntimeException(e.getMessage(), e);
         }
     }
+
+    private record CachedString(byte[] bytes, Charset encoding, String value) {
+    }
 }
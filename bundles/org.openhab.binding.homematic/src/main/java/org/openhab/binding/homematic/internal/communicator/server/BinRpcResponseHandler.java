@@ -12,63 +12,159 @@
  */
 package org.openhab.binding.homematic.internal.communicator.server;
 
-import java.io.EOFException;
 import java.io.IOException;
-import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
 
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
+import org.openhab.binding.homematic.internal.communicator.message.BinRpcBufferPool;
 import org.openhab.binding.homematic.internal.communicator.message.BinRpcMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Reads a BIN-RPC message from the socket and handles the method call.
+ * Reads BIN-RPC messages from a connection of the Homematic gateway and handles the method calls. Reading and writing
+ * is done by the selector thread of the {@link BinRpcNetworkService}, the method calls are handled in the thread pool.
+ * While a method call is handled, no further data is read from the connection, so the responses are sent in the
+ * order of the requests.
  *
  * @author Gerhard Riegler - Initial contribution
  */
 public class BinRpcResponseHandler implements Runnable {
     private final Logger logger = LoggerFactory.getLogger(BinRpcResponseHandler.class);
 
-    private Socket socket;
-    private RpcResponseHandler<byte[]> rpcResponseHandler;
-    private HomematicConfig config;
-    private long created;
+    private final SelectionKey key;
+    private final SocketChannel channel;
+    private final BinRpcNetworkService networkService;
+    private final RpcResponseHandler<byte[]> rpcResponseHandler;
+    private final HomematicConfig config;
+    private final long created;
 
-    public BinRpcResponseHandler(Socket socket, RpcResponseHandler<byte[]> rpcResponseHandler, HomematicConfig config) {
-        this.socket = socket;
+    private ByteBuffer readBuffer;
+    private ByteBuffer writeBuffer;
+    private BinRpcMessage message;
+    private boolean closed;
+
+    public BinRpcResponseHandler(SelectionKey key, BinRpcNetworkService networkService,
+            RpcResponseHandler<byte[]> rpcResponseHandler, HomematicConfig config) {
+        this.key = key;
+        this.channel = (SocketChannel) key.channel();
+        this.networkService = networkService;
         this.rpcResponseHandler = rpcResponseHandler;
         this.config = config;
         this.created = System.currentTimeMillis();
+        this.readBuffer = BinRpcBufferPool.SHARED.acquire(BinRpcMessage.HEADER_LENGTH);
     }
 
     /**
-     * Reads the event from the Homematic gateway and handles the method call.
+     * Called by the selector thread when the connection is ready for reading or writing.
      */
-    @Override
-    public void run() {
+    void handleSelection() {
         try {
-            boolean isMaxAliveReached;
-            do {
-                BinRpcMessage message = new BinRpcMessage(socket.getInputStream(), true, config.getEncoding());
-                logger.trace("Event BinRpcMessage: {}", message);
-                byte[] returnValue = rpcResponseHandler.handleMethodCall(message.getMethodName(),
-                        message.getResponseData());
-                if (returnValue != null) {
-                    socket.getOutputStream().write(returnValue);
+            if (key.isReadable()) {
+                if (channel.read(readBuffer) < 0) {
+                    close();
+                    return;
                 }
-                isMaxAliveReached = System.currentTimeMillis() - created > (config.getSocketMaxAlive() * 1000);
-            } while (!isMaxAliveReached);
+                processReadBuffer();
+            } else if (key.isWritable()) {
+                writeResponse();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (channel.isOpen()) {
+                logger.warn("{}", e.getMessage(), e);
+            }
+            close();
+        }
+    }
 
-        } catch (EOFException eof) {
-            // ignore
+    /**
+     * Decodes the next message if it has been received completely and hands it over to the thread pool.
+     */
+    private void processReadBuffer() throws IOException {
+        readBuffer.flip();
+        int messageLength = BinRpcMessage.getMessageLength(readBuffer);
+        if (messageLength < 0 || messageLength > readBuffer.remaining()) {
+            readBuffer.compact();
+            readBuffer = BinRpcBufferPool.SHARED.ensureCapacity(readBuffer, messageLength);
+            return;
+        }
+        message = new BinRpcMessage(readBuffer, true, config.getEncoding());
+        readBuffer.compact();
+        key.interestOps(0);
+        networkService.execute(this);
+    }
+
+    /**
+     * Handles the method call of the decoded message.
+     */
+    @Override
+    public void run() {
+        try {
+            logger.trace("Event BinRpcMessage: {}", message);
+            byte[] returnValue = rpcResponseHandler.handleMethodCall(message.getMethodName(),
+                    message.getResponseData());
+            message = null;
+            networkService.runOnSelector(() -> startResponse(returnValue));
         } catch (Exception e) {
             logger.warn("{}", e.getMessage(), e);
-        } finally {
-            try {
-                socket.close();
-            } catch (IOException ioe) {
-                // ignore
+            networkService.runOnSelector(this::close);
+        }
+    }
+
+    private void startResponse(byte[] returnValue) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (returnValue != null) {
+                writeBuffer = ByteBuffer.wrap(returnValue);
+                writeResponse();
+            } else {
+                responseFinished();
             }
+        } catch (IOException | RuntimeException e) {
+            close();
+        }
+    }
+
+    private void writeResponse() throws IOException {
+        channel.write(writeBuffer);
+        if (writeBuffer.hasRemaining()) {
+            key.interestOps(SelectionKey.OP_WRITE);
+        } else {
+            writeBuffer = null;
+            responseFinished();
+        }
+    }
+
+    /**
+     * Closes the connection if the max alive time has been reached, otherwise continues with the next message.
+     */
+    private void responseFinished() throws IOException {
+        if (System.currentTimeMillis() - created > (config.getSocketMaxAlive() * 1000)) {
+            close();
+        } else {
+            key.interestOps(SelectionKey.OP_READ);
+            processReadBuffer();
+        }
+    }
+
+    /**
+     * Closes the connection, must be called by the selector thread.
+     */
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ioe) {
+            // ignore
         }
+        BinRpcBufferPool.SHARED.release(readBuffer);
     }
 }
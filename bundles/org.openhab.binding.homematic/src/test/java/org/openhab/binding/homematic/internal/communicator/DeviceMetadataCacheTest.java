@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDatapoint;
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.openhab.binding.homematic.internal.model.HmInterface;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.openhab.binding.homematic.internal.model.HmValueType;
+
+/**
+ * Tests for {@link DeviceMetadataCache}.
+ *
+ * @author agent - Initial contribution
+ */
+public class DeviceMetadataCacheTest {
+
+    private static final String GATEWAY_FIRMWARE = "3.65.11";
+
+    private @TempDir Path tempDir;
+    private Path cacheFile;
+
+    @BeforeEach
+    public void setup() {
+        cacheFile = tempDir.resolve("homematic").resolve("ccu.metadata");
+    }
+
+    private static HmChannel createChannel(String firmware) {
+        HmDevice device = new HmDevice("ABC12345678", HmInterface.RF, "HM-LC-Dim1-Pl3", "ccu", "", firmware);
+        HmChannel channel = new HmChannel("DIMMER", 1);
+        device.addChannel(channel);
+        return channel;
+    }
+
+    private static void loadFromGateway(HmChannel channel) {
+        HmDatapoint level = new HmDatapoint("LEVEL", "LEVEL", HmValueType.FLOAT, 0.0, false, HmParamsetType.VALUES);
+        level.setMinValue(0.0);
+        level.setMaxValue(1.01);
+        level.setUnit("100%");
+        level.setReadable(true);
+        level.setDefaultValue(0.0);
+        channel.addDatapoint(level);
+
+        HmDatapoint direction = new HmDatapoint("DIRECTION", "DIRECTION", HmValueType.ENUM, 0, true,
+                HmParamsetType.VALUES);
+        direction.setOptions(new String[] { "NONE", "UP", "DOWN", "UNDEFINED" });
+        direction.setMinValue(0);
+        direction.setMaxValue(3);
+        direction.setReadable(true);
+        direction.setDefaultValue(0);
+        channel.addDatapoint(direction);
+
+        HmDatapoint rampTime = new HmDatapoint("RAMP_TIME", "RAMP_TIME", HmValueType.FLOAT, null, false,
+                HmParamsetType.MASTER);
+        channel.addDatapoint(rampTime);
+    }
+
+    @Test
+    public void testParamsetsAreCachedOnDisk() {
+        DeviceMetadataCache cache = new DeviceMetadataCache(cacheFile);
+        cache.load(GATEWAY_FIRMWARE);
+        HmChannel channel = createChannel("2.9");
+        assertThat(cache.addCachedDatapoints(channel, HmParamsetType.VALUES), is(false));
+        loadFromGateway(channel);
+        cache.put(channel, HmParamsetType.VALUES);
+        cache.save();
+        assertThat(Files.exists(cacheFile), is(true));
+
+        DeviceMetadataCache restarted = new DeviceMetadataCache(cacheFile);
+        restarted.load(GATEWAY_FIRMWARE);
+        HmChannel cachedChannel = createChannel("2.9");
+        assertThat(restarted.addCachedDatapoints(cachedChannel, HmParamsetType.VALUES), is(true));
+        assertThat(cachedChannel.getDatapoints().size(), is(2));
+        assertThat(cachedChannel.getDatapoint(HmParamsetType.MASTER, "RAMP_TIME"), is(nullValue()));
+
+        HmDatapoint level = cachedChannel.getDatapoint(HmParamsetType.VALUES, "LEVEL");
+        assertThat(level.getType(), is(HmValueType.FLOAT));
+        assertThat(level.getMaxValue(), is(1.01));
+        assertThat(level.getUnit(), is("100%"));
+        assertThat(level.isReadOnly(), is(false));
+        assertThat(level.getChannel(), is(cachedChannel));
+
+        HmDatapoint direction = cachedChannel.getDatapoint(HmParamsetType.VALUES, "DIRECTION");
+        assertThat(direction.getOptions(), is(new String[] { "NONE", "UP", "DOWN", "UNDEFINED" }));
+        assertThat(direction.getMaxValue(), is(3));
+        assertThat(direction.getDefaultValue(), is(0));
+        assertThat(direction.getValue(), is(0));
+        assertThat(direction.isReadOnly(), is(true));
+
+        assertThat(restarted.getHits(), is(1));
+        assertThat(restarted.getMisses(), is(0));
+        assertThat(restarted.getHitRate(), is(100));
+    }
+
+    @Test
+    public void testNewFirmwareIsLoadedFromGateway() {
+        DeviceMetadataCache cache = new DeviceMetadataCache(cacheFile);
+        cache.load(GATEWAY_FIRMWARE);
+        HmChannel channel = createChannel("2.9");
+        loadFromGateway(channel);
+        cache.put(channel, HmParamsetType.VALUES);
+        cache.save();
+
+        DeviceMetadataCache restarted = new DeviceMetadataCache(cacheFile);
+        restarted.load(GATEWAY_FIRMWARE);
+        assertThat(restarted.addCachedDatapoints(createChannel("2.11"), HmParamsetType.VALUES), is(false));
+        assertThat(restarted.getHitRate(), is(0));
+        // the entry of the old firmware has not been used and is dropped
+        restarted.save();
+
+        DeviceMetadataCache pruned = new DeviceMetadataCache(cacheFile);
+        pruned.load(GATEWAY_FIRMWARE);
+        assertThat(pruned.addCachedDatapoints(createChannel("2.9"), HmParamsetType.VALUES), is(false));
+    }
+
+    @Test
+    public void testNewGatewayFirmwareInvalidatesCache() {
+        DeviceMetadataCache cache = new DeviceMetadataCache(cacheFile);
+        cache.load(GATEWAY_FIRMWARE);
+        HmChannel channel = createChannel("2.9");
+        loadFromGateway(channel);
+        cache.put(channel, HmParamsetType.VALUES);
+        cache.save();
+
+        DeviceMetadataCache updated = new DeviceMetadataCache(cacheFile);
+        updated.load("3.67.10");
+        assertThat(updated.addCachedDatapoints(createChannel("2.9"), HmParamsetType.VALUES), is(false));
+        updated.save();
+
+        // the cache has been rewritten for the new gateway firmware
+        DeviceMetadataCache downgraded = new DeviceMetadataCache(cacheFile);
+        downgraded.load(GATEWAY_FIRMWARE);
+        assertThat(downgraded.addCachedDatapoints(createChannel("2.9"), HmParamsetType.VALUES), is(false));
+    }
+
+    @Test
+    public void testUnreadableCacheIsIgnored() throws IOException {
+        Files.createDirectories(cacheFile.getParent());
+        byte[] firmware = GATEWAY_FIRMWARE.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer truncated = ByteBuffer.allocate(firmware.length + 11);
+        truncated.putInt(2).putShort((short) firmware.length).put(firmware).putInt(5).put((byte) 1);
+        Files.write(cacheFile, truncated.array());
+
+        DeviceMetadataCache cache = new DeviceMetadataCache(cacheFile);
+        cache.load(GATEWAY_FIRMWARE);
+        assertThat(cache.addCachedDatapoints(createChannel("2.9"), HmParamsetType.VALUES), is(false));
+    }
+}
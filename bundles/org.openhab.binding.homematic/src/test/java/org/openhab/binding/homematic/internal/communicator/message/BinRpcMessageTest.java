@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.message;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BinRpcMessage}.
+ *
+ * @author agent - Initial contribution
+ */
+public class BinRpcMessageTest {
+
+    /**
+     * Creates a system.multicall with the given number of events, like a CCU sends it after a burst of state changes.
+     */
+    public static byte[] createEventBurst(int events) {
+        List<Object> calls = new ArrayList<>();
+        for (int i = 0; i < events; i++) {
+            List<Object> params = List.of("ccu-RF", "MEQ00" + (i % 10) + "1234:1", "LEVEL", Double.valueOf(0.5));
+            calls.add(Map.of("methodName", "event", "params", params));
+        }
+        BinRpcMessage request = new BinRpcMessage("system.multicall", StandardCharsets.ISO_8859_1);
+        request.addArg(calls);
+        return request.createMessage();
+    }
+
+    @Test
+    public void encodedRequestIsDecodedAgain() throws Exception {
+        BinRpcMessage request = new BinRpcMessage("setValue", StandardCharsets.UTF_8);
+        request.addArg("MEQ0001234:1");
+        request.addArg("STATE");
+        request.addArg(Boolean.TRUE);
+        request.addArg(Integer.valueOf(-42));
+        request.addArg(Double.valueOf(0.25));
+        request.addArg(Map.of("NAME", "Küche"));
+
+        BinRpcMessage decoded = new BinRpcMessage(request.createMessage(), true, StandardCharsets.UTF_8);
+
+        assertThat(decoded.getMethodName(), is("setValue"));
+        Object[] data = decoded.getResponseData();
+        assertThat(data.length, is(6));
+        assertThat(data[0], is("MEQ0001234:1"));
+        assertThat(data[1], is("STATE"));
+        assertThat(data[2], is(Boolean.TRUE));
+        assertThat(data[3], is(-42));
+        assertThat(data[4], is(0.25));
+        assertThat(data[5], is(Map.of("NAME", "Küche")));
+    }
+
+    @Test
+    public void requestIsEncodedAgainWhenSentTwice() throws Exception {
+        BinRpcMessage request = new BinRpcMessage("system.multicall", StandardCharsets.ISO_8859_1);
+        request.addArg(List.of(Map.of("methodName", "event", "params", List.of("ccu-RF", "x".repeat(20000)))));
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        request.writeTo(first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        request.writeTo(second);
+
+        assertThat(first.toByteArray(), is(request.createMessage()));
+        assertThat(second.toByteArray(), is(first.toByteArray()));
+        assertThat(BinRpcMessage.getMessageLength(ByteBuffer.wrap(first.toByteArray())), is(first.size()));
+        assertThat(request.getArgCount(), is(1));
+    }
+
+    @Test
+    public void eventBurstIsDecodedWithSharedStrings() throws Exception {
+        BinRpcMessage decoded = new BinRpcMessage(createEventBurst(100), true, StandardCharsets.ISO_8859_1);
+
+        assertThat(decoded.getMethodName(), is("system.multicall"));
+        Object[] calls = (Object[]) decoded.getResponseData()[0];
+        assertThat(calls.length, is(100));
+        Object[] first = (Object[]) ((Map<?, ?>) calls[0]).get("params");
+        Object[] eleventh = (Object[]) ((Map<?, ?>) calls[10]).get("params");
+        assertThat(Arrays.asList(first), is(List.of("ccu-RF", "MEQ0001234:1", "LEVEL", 0.5)));
+        assertThat(eleventh[1], is(sameInstance(first[1])));
+        assertThat(eleventh[2], is(sameInstance(first[2])));
+    }
+
+    @Test
+    public void consecutiveMessagesAreDecodedFromOneBuffer() throws Exception {
+        byte[] burst = createEventBurst(3);
+        ByteBuffer buffer = ByteBuffer.allocate(burst.length * 2 + 4);
+        buffer.put(burst).put(burst).put(Arrays.copyOf(burst, 4)).flip();
+
+        assertThat(BinRpcMessage.getMessageLength(buffer), is(burst.length));
+        new BinRpcMessage(buffer, true, StandardCharsets.ISO_8859_1);
+        assertThat(buffer.position(), is(burst.length));
+        new BinRpcMessage(buffer, true, StandardCharsets.ISO_8859_1);
+        assertThat(buffer.remaining(), is(4));
+        assertThat(BinRpcMessage.getMessageLength(buffer), is(-1));
+    }
+
+    @Test
+    public void messageIsReadFromStream() throws Exception {
+        byte[] burst = createEventBurst(1000);
+        BinRpcMessage decoded = new BinRpcMessage(new ByteArrayInputStream(burst), true,
+                StandardCharsets.ISO_8859_1);
+        assertThat(((Object[]) decoded.getResponseData()[0]).length, is(1000));
+
+        ByteArrayInputStream truncated = new ByteArrayInputStream(Arrays.copyOf(burst, burst.length - 1));
+        assertThrows(EOFException.class, () -> new BinRpcMessage(truncated, true, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void invalidMessagesAreRejected() {
+        byte[] burst = createEventBurst(1);
+        byte[] noSignature = burst.clone();
+        noSignature[0] = 'X';
+        assertThrows(IOException.class, () -> new BinRpcMessage(noSignature, true, StandardCharsets.ISO_8859_1));
+
+        byte[] invalidLength = burst.clone();
+        invalidLength[36] = (byte) 0x7F;
+        assertThrows(EOFException.class, () -> new BinRpcMessage(invalidLength, true, StandardCharsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.server;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openhab.binding.homematic.internal.communicator.message.BinRpcMessageTest.createEventBurst;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.homematic.internal.common.HomematicConfig;
+import org.openhab.binding.homematic.internal.model.HmDatapointInfo;
+
+/**
+ * Replays CCU event bursts against the {@link BinRpcNetworkService}.
+ *
+ * @author agent - Initial contribution
+ */
+public class BinRpcNetworkServiceTest {
+    private static final int EVENTS_PER_BURST = 300;
+    private static final int BURSTS = 20;
+    private static final byte[] EMPTY_EVENT_LIST_RESPONSE = { 'B', 'i', 'n', 1, 0, 0, 0, 21, 0, 0, 1, 0, 0, 0, 0, 1,
+            0, 0, 0, 3, 0, 0, 0, 5, 'e', 'v', 'e', 'n', 't' };
+
+    private final List<HmDatapointInfo> events = Collections.synchronizedList(new ArrayList<>());
+    private BinRpcNetworkService networkService;
+    private Thread networkServiceThread;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        HomematicConfig config = new HomematicConfig();
+        config.setBinCallbackPort(0);
+        networkService = new BinRpcNetworkService(new RpcEventListener() {
+            @Override
+            public void eventReceived(HmDatapointInfo dpInfo, Object newValue) {
+                events.add(dpInfo);
+            }
+
+            @Override
+            public void newDevices(List<String> adresses) {
+            }
+
+            @Override
+            public void deleteDevices(List<String> addresses) {
+            }
+        }, config);
+        networkServiceThread = new Thread(networkService);
+        networkServiceThread.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        networkService.shutdown();
+        networkServiceThread.join(5000);
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), networkService.getLocalPort());
+        socket.setSoTimeout(10000);
+        return socket;
+    }
+
+    private static void assertResponse(DataInputStream in) throws IOException {
+        byte[] response = new byte[EMPTY_EVENT_LIST_RESPONSE.length];
+        in.readFully(response);
+        assertThat(response, is(EMPTY_EVENT_LIST_RESPONSE));
+    }
+
+    @Test
+    public void burstsAreAnsweredOneByOne() throws IOException {
+        byte[] burst = createEventBurst(EVENTS_PER_BURST);
+        try (Socket socket = connect()) {
+            OutputStream out = socket.getOutputStream();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            for (int i = 0; i < BURSTS; i++) {
+                // split the message to force partial reads on the server side
+                out.write(burst, 0, 5);
+                out.flush();
+                out.write(burst, 5, burst.length - 5);
+                assertResponse(in);
+            }
+        }
+        assertThat(events.size(), is(EVENTS_PER_BURST * BURSTS));
+        assertThat(events.get(0).getAddress(), is("MEQ0001234"));
+        assertThat(events.get(0).getName(), is("LEVEL"));
+    }
+
+    @Test
+    public void pipelinedBurstsAreAnsweredInOrder() throws IOException {
+        byte[] burst = createEventBurst(EVENTS_PER_BURST);
+        byte[] bursts = new byte[burst.length * BURSTS];
+        for (int i = 0; i < BURSTS; i++) {
+            System.arraycopy(burst, 0, bursts, i * burst.length, burst.length);
+        }
+        try (Socket socket = connect()) {
+            socket.getOutputStream().write(bursts);
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            for (int i = 0; i < BURSTS; i++) {
+                assertResponse(in);
+            }
+        }
+        assertThat(events.size(), is(EVENTS_PER_BURST * BURSTS));
+    }
+
+    @Test
+    public void connectionIsClosedOnInvalidMessage() throws IOException {
+        try (Socket socket = connect()) {
+            socket.getOutputStream().write(new byte[] { 'X', 'm', 'l', 0, 0, 0, 0, 0 });
+            assertThat(socket.getInputStream().read(), is(-1));
+        }
+    }
+}
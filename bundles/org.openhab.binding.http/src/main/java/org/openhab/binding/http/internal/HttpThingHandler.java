@@ -20,6 +20,7 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
@@ -29,10 +30,12 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Authentication;
 import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.util.BasicAuthentication;
@@ -44,6 +47,7 @@ import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.RefreshingUrlCacheRegistry;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.PointType;
@@ -90,20 +94,23 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     private final RateLimitedHttpClient rateLimitedHttpClient;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
+    private final RefreshingUrlCacheRegistry urlCacheRegistry;
 
     private HttpThingConfig config = new HttpThingConfig();
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
     private final Map<ChannelUID, ChannelHandler> channels = new HashMap<>();
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
+    private final List<Runnable> sharedUrlHandlerReleases = new ArrayList<>();
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
             HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
-            TimeZoneProvider timeZoneProvider) {
+            TimeZoneProvider timeZoneProvider, RefreshingUrlCacheRegistry urlCacheRegistry) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
         this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
         this.timeZoneProvider = timeZoneProvider;
+        this.urlCacheRegistry = urlCacheRegistry;
     }
 
     @Override
@@ -236,7 +243,10 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
                     urlHandlerCount, thing.getUID(), config.delay, config.refresh);
         }
 
-        urlHandlers.values().forEach(urlHandler -> urlHandler.start(scheduler, config.refresh));
+        if (config.delay != 0) {
+            // shared handlers are started by the registry
+            urlHandlers.values().forEach(urlHandler -> urlHandler.start(scheduler, config.refresh));
+        }
 
         updateStatus(ThingStatus.UNKNOWN);
     }
@@ -244,10 +254,15 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     @Override
     public void dispose() {
         // stop update tasks
-        urlHandlers.values().forEach(RefreshingUrlCache::stop);
+        if (sharedUrlHandlerReleases.isEmpty()) {
+            urlHandlers.values().forEach(RefreshingUrlCache::stop);
+        } else {
+            sharedUrlHandlerReleases.forEach(Runnable::run);
+        }
         rateLimitedHttpClient.shutdown();
 
         // clear lists
+        sharedUrlHandlerReleases.clear();
         urlHandlers.clear();
         channels.clear();
         channelUrls.clear();
@@ -332,11 +347,21 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             // we need a key consisting of stateContent and URL, only if both are equal, we can use the same cache
             String key = channelConfig.stateContent + "$" + stateUrl;
             channelUrls.put(channelUID, key);
-            Objects.requireNonNull(
-                    urlHandlers.computeIfAbsent(key,
-                            k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config,
-                                    channelConfig.stateContent, config.contentType, this)))
-                    .addConsumer(itemValueConverter::process);
+            Consumer<@Nullable ChannelHandlerContent> consumer = itemValueConverter::process;
+            if (config.delay == 0) {
+                // without rate-limiting, the request can be shared with other things polling the same URL
+                HttpClient httpClient = config.ignoreSSLErrors ? httpClientProvider.getInsecureClient()
+                        : httpClientProvider.getSecureClient();
+                RefreshingUrlCache urlHandler = urlCacheRegistry.acquire(httpClient, stateUrl, config,
+                        channelConfig.stateContent, config.contentType, this, consumer);
+                urlHandlers.put(key, urlHandler);
+                sharedUrlHandlerReleases.add(() -> urlCacheRegistry.release(urlHandler, this, consumer));
+            } else {
+                Objects.requireNonNull(urlHandlers.computeIfAbsent(key,
+                        k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config,
+                                channelConfig.stateContent, config.contentType, this)))
+                        .addConsumer(consumer);
+            }
         }
 
         StateDescription stateDescription = StateDescriptionFragmentBuilder.create()
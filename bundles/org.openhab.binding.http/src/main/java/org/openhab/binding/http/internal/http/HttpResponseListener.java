@@ -35,6 +35,12 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class HttpResponseListener extends BufferingResponseListener {
+    /**
+     * Content completed for a <code>304 Not Modified</code> response to a conditional request
+     */
+    public static final ChannelHandlerContent NOT_MODIFIED = new ChannelHandlerContent(new byte[0],
+            StandardCharsets.UTF_8.name(), null);
+
     private final Logger logger = LoggerFactory.getLogger(HttpResponseListener.class);
     private final CompletableFuture<@Nullable ChannelHandlerContent> future;
     private final HttpStatusListener httpStatusListener;
@@ -87,6 +93,10 @@ public class HttpResponseListener extends BufferingResponseListener {
                     }
                     httpStatusListener.onHttpSuccess();
                     break;
+                case HttpStatus.NOT_MODIFIED_304:
+                    future.complete(NOT_MODIFIED);
+                    httpStatusListener.onHttpSuccess();
+                    break;
                 case HttpStatus.UNAUTHORIZED_401:
                     logger.debug("Requesting '{}' (method='{}', content='{}') failed: Authorization error",
                             request.getURI(), request.getMethod(), request.getContent());
@@ -15,6 +15,7 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
@@ -29,7 +30,11 @@ import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
@@ -38,7 +43,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
- * channels
+ * channels. GET requests are sent as conditional requests if the server provided an <code>ETag</code> or a
+ * <code>Last-Modified</code> header.
  *
  * @author Jan N. Klug - Initial contribution
  */
@@ -58,9 +64,12 @@ public class RefreshingUrlCache {
     private final String httpContent;
     private final @Nullable String httpContentType;
     private final HttpStatusListener httpStatusListener;
+    private final boolean skipUnchangedContent;
 
     private @Nullable ScheduledFuture<?> future;
     private @Nullable ChannelHandlerContent lastContent;
+    private volatile @Nullable String lastETag;
+    private volatile @Nullable String lastModified;
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
@@ -74,6 +83,7 @@ public class RefreshingUrlCache {
         this.httpContent = httpContent;
         this.httpContentType = httpContentType;
         this.httpStatusListener = httpStatusListener;
+        this.skipUnchangedContent = thingConfig.skipUnchangedContent;
         fallbackEncoding = thingConfig.encoding;
     }
 
@@ -114,6 +124,9 @@ public class RefreshingUrlCache {
             httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
+                if (httpMethod == HttpMethod.GET) {
+                    addConditionalHeaders(request);
+                }
 
                 CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
                 responseContentFuture.exceptionally(t -> {
@@ -147,15 +160,70 @@ public class RefreshingUrlCache {
         }
     }
 
+    private void addConditionalHeaders(Request request) {
+        if (lastContent != null) {
+            String eTag = lastETag;
+            String lastModified = this.lastModified;
+            if (eTag != null) {
+                request.header(HttpHeader.IF_NONE_MATCH, eTag);
+            }
+            if (lastModified != null) {
+                request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+        request.onResponseHeaders(response -> {
+            if (response.getStatus() == HttpStatus.OK_200) {
+                HttpFields responseHeaders = response.getHeaders();
+                lastETag = responseHeaders.get(HttpHeader.ETAG);
+                lastModified = responseHeaders.get(HttpHeader.LAST_MODIFIED);
+            }
+        });
+    }
+
     public void addConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
         consumers.add(consumer);
     }
 
+    public void removeConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
+        consumers.remove(consumer);
+    }
+
+    /**
+     * Pass the last received content to a consumer, so that a consumer joining a running cache does not have to wait
+     * for the next refresh
+     *
+     * @param consumer a consumer added before
+     */
+    public void replayLastContent(Consumer<@Nullable ChannelHandlerContent> consumer) {
+        ChannelHandlerContent content = lastContent;
+        if (content != null && consumers.contains(consumer)) {
+            try {
+                consumer.accept(content);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                logger.warn("Failed processing cached result for URL {}: {}", url, e.getMessage());
+            }
+        }
+    }
+
     public Optional<ChannelHandlerContent> get() {
         return Optional.ofNullable(lastContent);
     }
 
     private void processResult(@Nullable ChannelHandlerContent content) {
+        ChannelHandlerContent last = lastContent;
+        if (content == HttpResponseListener.NOT_MODIFIED) {
+            if (skipUnchangedContent || last == null) {
+                logger.trace("Content of URL {} not modified, skipping update", url);
+                return;
+            }
+            // process the cached content again, so the channels are updated as before
+            content = last;
+        } else if (skipUnchangedContent && content != null && last != null
+                && Arrays.equals(content.getRawContent(), last.getRawContent())) {
+            logger.trace("Content of URL {} unchanged, skipping update", url);
+            lastContent = content;
+            return;
+        }
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
                 try {
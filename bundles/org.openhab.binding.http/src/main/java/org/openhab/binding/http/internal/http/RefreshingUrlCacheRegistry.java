@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RefreshingUrlCacheRegistry} shares {@link RefreshingUrlCache}s between things. Things requesting the
+ * same URL with identical request parameters (method, content, headers, authentication, timeout, refresh time) use
+ * a single cache, so the URL is only requested once per refresh interval, independent of the number of things.
+ * <p>
+ * Only things without a request delay use the registry, because the delay rate-limits all requests of one thing.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshingUrlCacheRegistry {
+    private final Logger logger = LoggerFactory.getLogger(RefreshingUrlCacheRegistry.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, SharedCache> caches = new HashMap<>();
+
+    public RefreshingUrlCacheRegistry(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Get a started cache for the given request and register a consumer and status listener. If the cache is already
+     * shared with other things, the consumer immediately receives the last content of the cache.
+     *
+     * @param httpClient the (secure or insecure) client used for the requests
+     * @param url the state URL
+     * @param thingConfig the configuration of the requesting thing
+     * @param httpContent the request content
+     * @param httpContentType the request content type
+     * @param httpStatusListener the status listener of the requesting thing
+     * @param consumer the consumer for the content
+     * @return the shared cache
+     */
+    public synchronized RefreshingUrlCache acquire(HttpClient httpClient, String url, HttpThingConfig thingConfig,
+            String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener,
+            Consumer<@Nullable ChannelHandlerContent> consumer) {
+        String key = createKey(httpClient, url, thingConfig, httpContent, httpContentType);
+        SharedCache sharedCache = caches.get(key);
+        if (sharedCache == null) {
+            sharedCache = new SharedCache(key, httpClient, url, thingConfig, httpContent, httpContentType);
+            caches.put(key, sharedCache);
+            logger.trace("Created shared cache for URL '{}'", url);
+        }
+        RefreshingUrlCache cache = sharedCache.cache;
+        sharedCache.statusListeners.add(httpStatusListener);
+        cache.addConsumer(consumer);
+        if (sharedCache.consumerCount++ > 0) {
+            // the cache is already polling, serve its last content instead of waiting for the next refresh
+            scheduler.execute(() -> cache.replayLastContent(consumer));
+        }
+        return cache;
+    }
+
+    /**
+     * Remove a consumer and status listener from a cache acquired before. The cache is stopped when its last
+     * consumer is released.
+     *
+     * @param cache the cache returned by {@link #acquire}
+     * @param httpStatusListener the status listener of the releasing thing
+     * @param consumer the consumer to remove
+     */
+    public synchronized void release(RefreshingUrlCache cache, HttpStatusListener httpStatusListener,
+            Consumer<@Nullable ChannelHandlerContent> consumer) {
+        caches.values().stream().filter(sharedCache -> sharedCache.cache == cache).findAny().ifPresent(sharedCache -> {
+            sharedCache.cache.removeConsumer(consumer);
+            sharedCache.statusListeners.remove(httpStatusListener);
+            if (--sharedCache.consumerCount <= 0) {
+                sharedCache.stop();
+                caches.remove(sharedCache.key);
+                logger.trace("Removed shared cache '{}'", sharedCache.key);
+            }
+        });
+    }
+
+    /**
+     * Stop all caches
+     */
+    public synchronized void dispose() {
+        caches.values().forEach(SharedCache::stop);
+        caches.clear();
+    }
+
+    /**
+     * @return the number of caches currently shared
+     */
+    public synchronized int size() {
+        return caches.size();
+    }
+
+    private static String createKey(HttpClient httpClient, String url, HttpThingConfig thingConfig,
+            String httpContent, @Nullable String httpContentType) {
+        return String.join("\n", String.valueOf(System.identityHashCode(httpClient)), url,
+                thingConfig.stateMethod.asString(), httpContent, String.valueOf(httpContentType),
+                new TreeMap<>(thingConfig.getHeaders()).toString(), thingConfig.authMode.name(), thingConfig.username,
+                thingConfig.password, String.valueOf(thingConfig.timeout), String.valueOf(thingConfig.refresh),
+                String.valueOf(thingConfig.bufferSize), String.valueOf(thingConfig.encoding),
+                String.valueOf(thingConfig.strictErrorHandling), String.valueOf(thingConfig.skipUnchangedContent));
+    }
+
+    private class SharedCache implements HttpStatusListener {
+        private final String key;
+        private final RateLimitedHttpClient rateLimitedHttpClient;
+        private final RefreshingUrlCache cache;
+        private final Set<HttpStatusListener> statusListeners = ConcurrentHashMap.newKeySet();
+        private int consumerCount = 0;
+
+        SharedCache(String key, HttpClient httpClient, String url, HttpThingConfig thingConfig, String httpContent,
+                @Nullable String httpContentType) {
+            this.key = key;
+            this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+            this.cache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig, httpContent, httpContentType,
+                    this);
+            cache.start(scheduler, thingConfig.refresh);
+        }
+
+        void stop() {
+            cache.stop();
+            rateLimitedHttpClient.shutdown();
+        }
+
+        @Override
+        public void onHttpError(@Nullable String message) {
+            statusListeners.forEach(listener -> listener.onHttpError(message));
+        }
+
+        @Override
+        public void onHttpSuccess() {
+            statusListeners.forEach(HttpStatusListener::onHttpSuccess);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.resetAllRequests;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.HttpStatusListener;
+import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.RefreshingUrlCacheRegistry;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+
+/**
+ * The {@link RefreshingUrlCacheRegistryTest} implements tests for the {@link RefreshingUrlCacheRegistry}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RefreshingUrlCacheRegistryTest extends AbstractWireMockTest {
+    private static final String TEST_LOCATION = "/testlocation";
+    private static final String TEST_CONTENT = "TESTCONTENT";
+
+    private @NonNullByDefault({}) RefreshingUrlCacheRegistry registry;
+    private @NonNullByDefault({}) String url;
+
+    private final List<@Nullable ChannelHandlerContent> firstContents = new CopyOnWriteArrayList<>();
+    private final List<@Nullable ChannelHandlerContent> secondContents = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void initTest() {
+        httpClient.setUserAgentField(null);
+        registry = new RefreshingUrlCacheRegistry(scheduler);
+        url = "http://localhost:" + port + TEST_LOCATION;
+        resetAllRequests();
+    }
+
+    @AfterEach
+    public void cleanUpTest() {
+        registry.dispose();
+        firstContents.clear();
+        secondContents.clear();
+        super.cleanUpTest();
+    }
+
+    @Test
+    public void testThingsWithSameRequestShareOnePoller() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+
+        Consumer<@Nullable ChannelHandlerContent> firstConsumer = firstContents::add;
+        Consumer<@Nullable ChannelHandlerContent> secondConsumer = secondContents::add;
+        HttpStatusListener firstListener = mock(HttpStatusListener.class);
+        HttpStatusListener secondListener = mock(HttpStatusListener.class);
+
+        RefreshingUrlCache first = registry.acquire(httpClient, url, createConfig(), "", null, firstListener,
+                firstConsumer);
+        RefreshingUrlCache second = registry.acquire(httpClient, url, createConfig(), "", null, secondListener,
+                secondConsumer);
+
+        assertSame(first, second);
+        assertEquals(1, registry.size());
+
+        // wait until we got at least three results for both things
+        waitForAssert(() -> assertTrue(secondContents.size() >= 3));
+        registry.release(first, firstListener, firstConsumer);
+        registry.release(second, secondListener, secondConsumer);
+        assertEquals(0, registry.size());
+
+        // both things were served by the same requests (one request may still be in flight on release)
+        int requestCount = findAll(getRequestedFor(urlEqualTo(TEST_LOCATION))).size();
+        assertTrue(requestCount <= secondContents.size() + 1);
+        assertTrue(Math.abs(firstContents.size() - secondContents.size()) <= 1);
+    }
+
+    @Test
+    public void testJoiningThingIsServedCachedContent() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        HttpThingConfig thingConfig = createConfig();
+        thingConfig.refresh = 60;
+
+        registry.acquire(httpClient, url, thingConfig, "", null, mock(HttpStatusListener.class), firstContents::add);
+        waitForAssert(() -> assertEquals(1, firstContents.size()));
+
+        registry.acquire(httpClient, url, thingConfig, "", null, mock(HttpStatusListener.class), secondContents::add);
+        waitForAssert(() -> assertEquals(1, secondContents.size()));
+        assertEquals(1, findAll(getRequestedFor(urlEqualTo(TEST_LOCATION))).size());
+    }
+
+    @Test
+    public void testDifferentHeadersAreNotShared() {
+        HttpThingConfig otherConfig = createConfig();
+        otherConfig.headers = new ArrayList<>(List.of("X-SMARTHOME=TESTVALUE"));
+
+        RefreshingUrlCache first = registry.acquire(httpClient, url, createConfig(), "", null,
+                mock(HttpStatusListener.class), firstContents::add);
+        RefreshingUrlCache second = registry.acquire(httpClient, url, otherConfig, "", null,
+                mock(HttpStatusListener.class), secondContents::add);
+
+        assertNotSame(first, second);
+        assertEquals(2, registry.size());
+    }
+
+    private HttpThingConfig createConfig() {
+        HttpThingConfig thingConfig = new HttpThingConfig();
+        thingConfig.baseURL = "http://localhost:" + port;
+        thingConfig.timeout = 500;
+        thingConfig.refresh = 1;
+        return thingConfig;
+    }
+}
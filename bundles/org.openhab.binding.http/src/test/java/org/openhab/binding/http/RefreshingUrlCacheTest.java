@@ -13,7 +13,10 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
@@ -245,6 +248,59 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
         assertTrue(returnedQueryValue.matches("\\d{4}-\\d{2}-\\d{2}"));
     }
 
+    @Test
+    public void testConditionalRequestReprocessesCachedContent() {
+        String eTag = "\"v1\"";
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(5)
+                .willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo(eTag)).atPriority(1)
+                .willReturn(aResponse().withStatus(304)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until we got at least three results or timeout (after 10s)
+        waitForAssert(() -> assertTrue(contentWrappers.size() >= 3));
+        urlCache.stop();
+
+        // only the first request is unconditional, all others are answered with 304
+        assertEquals(1, findAll(getRequestedFor(urlEqualTo(TEST_LOCATION)).withoutHeader("If-None-Match")).size());
+        verify(statusListener, never()).onHttpError(any());
+        assertTrue(contentWrappers.stream().map(Objects::requireNonNull).map(ChannelHandlerContent::getAsString)
+                .allMatch(TEST_CONTENT::equals));
+    }
+
+    @Test
+    public void testUnchangedContentIsSkipped() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.skipUnchangedContent = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait for at least three requests, but only the first one is processed
+        verify(statusListener, timeout(5000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testNotModifiedContentIsSkipped() {
+        String eTag = "\"v1\"";
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(5)
+                .willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo(eTag)).atPriority(1)
+                .willReturn(aResponse().withStatus(304)));
+        thingConfig.skipUnchangedContent = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        verify(statusListener, timeout(5000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        assertEquals(1, contentWrappers.size());
+    }
+
     /**
      * helper method to create a {@link RefreshingUrlCache} and add a test listener
      *
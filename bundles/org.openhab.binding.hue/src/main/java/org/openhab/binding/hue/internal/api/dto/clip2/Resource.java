@@ -402,6 +402,10 @@ public class Resource {
         return UnDefType.NULL;
     }
 
+    public @Nullable Dynamics getDynamics() {
+        return dynamics;
+    }
+
     public @Nullable Effects getFixedEffects() {
         return effects;
     }
@@ -823,6 +827,11 @@ public class Resource {
         return this;
     }
 
+    public Resource setDynamics(@Nullable Dynamics dynamics) {
+        this.dynamics = dynamics;
+        return this;
+    }
+
     public Resource setDynamicsDuration(Duration duration) {
         dynamics = new Dynamics().setDuration(duration);
         return this;
@@ -30,10 +30,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -82,6 +86,7 @@ import org.openhab.binding.hue.internal.api.serialization.InstantDeserializer;
 import org.openhab.binding.hue.internal.exceptions.ApiException;
 import org.openhab.binding.hue.internal.exceptions.HttpUnauthorizedException;
 import org.openhab.binding.hue.internal.handler.Clip2BridgeHandler;
+import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.io.net.http.HttpUtil;
 import org.slf4j.Logger;
@@ -516,6 +521,7 @@ public class Clip2Bridge implements Closeable {
     private static final int CHECK_ALIVE_SECONDS = 300;
     private static final int REQUEST_INTERVAL_MILLISECS = 50;
     private static final int MAX_CONCURRENT_STREAMS = 3;
+    private static final Duration COMMAND_QUEUE_TIMEOUT = Duration.ofSeconds(TIMEOUT_SECONDS * 3);
 
     private static final ResourceReference BRIDGE = new ResourceReference().setType(ResourceType.BRIDGE);
 
@@ -563,6 +569,9 @@ public class Clip2Bridge implements Closeable {
     private final Semaphore streamMutex = new Semaphore(MAX_CONCURRENT_STREAMS, true); // i.e. fair
     private final ReadWriteLock sessionUseCreateLock = new ReentrantReadWriteLock(true); // i.e. fair
     private final Map<Integer, Future<?>> fatalErrorTasks = new ConcurrentHashMap<>();
+    private final Clip2CommandQueue commandQueue = new Clip2CommandQueue();
+    private final ExecutorService commandExecutor = Executors
+            .newSingleThreadExecutor(new NamedThreadFactory("hue-clip2-commands", true));
 
     private boolean recreatingSession;
     private boolean closing;
@@ -648,6 +657,8 @@ public class Clip2Bridge implements Closeable {
             recreateThread.interrupt();
         }
         close2();
+        commandExecutor.shutdownNow();
+        commandQueue.abort(new ApiException("Connection closed"));
         try {
             stopHttp2Client();
         } catch (ApiException e) {
@@ -716,6 +727,53 @@ public class Clip2Bridge implements Closeable {
         }
     }
 
+    /**
+     * Send all pending commands in the command queue until it is empty. Uses a Throttler to prevent too many concurrent
+     * calls, and to prevent too frequent calls on the Hue bridge server. The next batch is only taken from the queue
+     * after the Throttler has been acquired, so that commands arriving while waiting can still be merged.
+     * <p>
+     * A single drainer does not reduce throughput, since a PUT has always acquired all MAX_CONCURRENT_STREAMS permits
+     * of the Throttler, and so PUT requests were never sent in parallel.
+     * <p>
+     * This method runs on the dedicated command executor, so that the thread of the caller who started draining is not
+     * blocked by sending the commands of other callers. If draining ends abnormally, the queue is aborted so that
+     * waiting callers are released, and a later caller becomes the drainer again.
+     */
+    private void drainCommandQueue() {
+        boolean drained = false;
+        try {
+            while (!commandQueue.releaseDrainerIfIdle()) {
+                try (Throttler throttler = new Throttler(MAX_CONCURRENT_STREAMS)) {
+                    Clip2CommandQueue.Batch batch = commandQueue.poll();
+                    if (Objects.isNull(batch)) {
+                        continue;
+                    }
+                    try {
+                        batch.complete(putResourceImpl(batch.getResource()));
+                    } catch (ApiException e) {
+                        batch.fail(e);
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("drainCommandQueue() unexpected error sending {}", batch.getResource(), e);
+                        batch.fail(new ApiException("Error sending PUT request", e));
+                    } catch (InterruptedException e) {
+                        batch.fail(new ApiException("Command queue interrupted"));
+                        throw e;
+                    }
+                    LOGGER.debug("drainCommandQueue() sent {} for {} command(s), queued:{}, latency:{}ms",
+                            batch.getResource(), batch.getCommandCount(), commandQueue.getQueueLength(),
+                            commandQueue.getLastLatency().toMillis());
+                }
+            }
+            drained = true;
+        } catch (InterruptedException e) {
+            LOGGER.debug("drainCommandQueue() interrupted");
+        } finally {
+            if (!drained) {
+                commandQueue.abort(new ApiException("Command queue aborted"));
+            }
+        }
+    }
+
     /**
      * Method that is called back in case of fatal stream or session events. The error is only processed if the
      * connection is online, not in process of closing, and the identities of the current session and the session that
@@ -768,6 +826,24 @@ public class Clip2Bridge implements Closeable {
         }
     }
 
+    /**
+     * Get the average time between a command being queued and its result being received.
+     *
+     * @return the average end-to-end latency of PUT commands.
+     */
+    public Duration getCommandLatency() {
+        return commandQueue.getAverageLatency();
+    }
+
+    /**
+     * Get the number of PUT requests that are waiting to be sent.
+     *
+     * @return the command queue length.
+     */
+    public int getCommandQueueLength() {
+        return commandQueue.getQueueLength();
+    }
+
     /**
      * HTTP GET a Resources object, for a given resource Reference, from the Hue Bridge. The reference is a class
      * comprising a resource type and an id. If the id is a specific resource id then only the one specific resource
@@ -1081,9 +1157,10 @@ public class Clip2Bridge implements Closeable {
     }
 
     /**
-     * Use an HTTP/2 PUT command to send a resource to the server. Uses a Throttler to prevent too many concurrent
-     * calls, and to prevent too frequent calls on the Hue bridge server. Also uses a SessionSynchronizer to delay
-     * accessing the session while it is being recreated.
+     * Use an HTTP/2 PUT command to send a resource to the server. The resource is placed in the command queue, where
+     * it may be merged with other pending commands for the same resource, or fused with identical commands for the
+     * other lights in the same room or zone. The first caller to find the queue idle starts draining it on the command
+     * executor, and all callers then just wait for the result of their respective command.
      *
      * @param resource the resource to put.
      * @return the resource, which may contain errors.
@@ -1091,9 +1168,29 @@ public class Clip2Bridge implements Closeable {
      * @throws InterruptedException
      */
     public Resources putResource(Resource resource) throws ApiException, InterruptedException {
+        Clip2CommandQueue.Command command = commandQueue.offer(resource);
+        if (command.isDrainer()) {
+            try {
+                commandExecutor.execute(this::drainCommandQueue);
+            } catch (RejectedExecutionException e) {
+                commandQueue.abort(new ApiException("Connection closed"));
+            }
+        }
+        return command.awaitResult(COMMAND_QUEUE_TIMEOUT);
+    }
+
+    /**
+     * Internal method to send an HTTP/2 PUT command to the Hue Bridge and process its response. The caller must hold
+     * a Throttler. Uses a SessionSynchronizer to delay accessing the session while it is being recreated.
+     *
+     * @param resource the resource to put.
+     * @return the resource, which may contain errors.
+     * @throws ApiException if something fails.
+     * @throws InterruptedException
+     */
+    private Resources putResourceImpl(Resource resource) throws ApiException, InterruptedException {
         Stream stream = null;
-        try (Throttler throttler = new Throttler(MAX_CONCURRENT_STREAMS);
-                SessionSynchronizer sessionSynchronizer = new SessionSynchronizer(false)) {
+        try (SessionSynchronizer sessionSynchronizer = new SessionSynchronizer(false)) {
             Session session = getSession();
             String requestJson = jsonParser.toJson(resource);
             ByteBuffer requestBytes = ByteBuffer.wrap(requestJson.getBytes(StandardCharsets.UTF_8));
@@ -1216,6 +1313,16 @@ public class Clip2Bridge implements Closeable {
         throw new HttpUnauthorizedException("Application key registration failed");
     }
 
+    /**
+     * Set the map of room and zone grouped light resource IDs to the IDs of the lights that they control. This allows
+     * the command queue to fuse identical commands to all lights of a room or zone into one single command.
+     *
+     * @param lightGroups map of grouped_light resource ID to the set of light resource IDs.
+     */
+    public void setLightGroups(Map<String, Set<String>> lightGroups) {
+        commandQueue.setLightGroups(lightGroups);
+    }
+
     private void startHttp2Client() throws ApiException {
         try {
             http2Client.start();
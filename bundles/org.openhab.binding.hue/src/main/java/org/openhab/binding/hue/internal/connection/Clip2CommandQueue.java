@@ -0,0 +1,389 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hue.internal.api.dto.clip2.Alerts;
+import org.openhab.binding.hue.internal.api.dto.clip2.ColorTemperature;
+import org.openhab.binding.hue.internal.api.dto.clip2.Effects;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.TimedEffects;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Outbound queue for HTTP PUT commands to a Hue Bridge running CLIP 2.
+ * <p>
+ * Commands are keyed by their resource ID. If a command arrives for a <code>light</code> or
+ * <code>grouped_light</code> resource that already has a command waiting in the queue, the two are merged so that
+ * only one PUT is sent, whereby the fields of the later command win. And if every light of a room or zone has a
+ * pending command with identical content, then the respective commands are fused into one single PUT on the
+ * <code>grouped_light</code> resource of that room or zone.
+ * <p>
+ * The queue does not own a thread. The first caller that finds the queue idle becomes the 'drainer' and is
+ * responsible for starting a task that sends commands until the queue is empty again. All callers then simply wait for
+ * their respective result. A command whose caller gives up waiting is removed from the queue, so that it is not sent
+ * any more.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2CommandQueue {
+
+    /**
+     * A caller's handle on a queued command.
+     */
+    public class Command {
+        private final CompletableFuture<Resources> result = new CompletableFuture<>();
+        private final long enqueueNanos = System.nanoTime();
+        private final boolean drainer;
+
+        private Command(boolean drainer) {
+            this.drainer = drainer;
+        }
+
+        /**
+         * Wait for the command to be sent, and return the bridge's response.
+         *
+         * @param timeout the maximum time to wait.
+         * @return the response resources, which may contain errors.
+         * @throws ApiException if sending failed, or the result did not arrive in time.
+         * @throws InterruptedException
+         */
+        public Resources awaitResult(Duration timeout) throws ApiException, InterruptedException {
+            try {
+                return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                cancel(this);
+                throw new ApiException("Timeout waiting for PUT request to be sent", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof ApiException apiException) {
+                    throw apiException;
+                }
+                throw new ApiException("Error sending PUT request", cause);
+            }
+        }
+
+        /**
+         * @return true if the caller of this command is responsible for draining the queue.
+         */
+        public boolean isDrainer() {
+            return drainer;
+        }
+    }
+
+    /**
+     * A single PUT request, built from one or more merged or fused commands.
+     */
+    public class Batch {
+        private final Resource resource;
+        private final List<Command> commands;
+
+        private Batch(Resource resource, List<Command> commands) {
+            this.resource = resource;
+            this.commands = commands;
+        }
+
+        public void complete(Resources resources) {
+            commands.forEach(command -> {
+                recordLatency(command);
+                command.result.complete(resources);
+            });
+        }
+
+        public void fail(ApiException e) {
+            commands.forEach(command -> {
+                recordLatency(command);
+                command.result.completeExceptionally(e);
+            });
+        }
+
+        public int getCommandCount() {
+            return commands.size();
+        }
+
+        public Resource getResource() {
+            return resource;
+        }
+    }
+
+    /**
+     * A resource waiting in the queue, together with the commands that contributed to it.
+     */
+    private static class Entry {
+        private Resource resource;
+        private final List<Command> commands = new ArrayList<>();
+
+        private Entry(Resource resource) {
+            this.resource = resource;
+        }
+    }
+
+    private static final Set<ResourceType> MERGEABLE_TYPES = Set.of(ResourceType.LIGHT, ResourceType.GROUPED_LIGHT);
+
+    private final Gson gson = new Gson();
+    private final Deque<Entry> queue = new ArrayDeque<>();
+    private final Map<String, Entry> mergeableEntries = new HashMap<>();
+    private Map<String, List<LightGroup>> lightGroupsByLightId = Map.of();
+
+    private boolean draining;
+    private long completedCount;
+    private long totalLatencyNanos;
+    private long lastLatencyNanos;
+
+    /**
+     * A <code>grouped_light</code> resource and the IDs of all the lights that it controls.
+     */
+    private record LightGroup(String groupedLightId, Set<String> lightIds) {
+    }
+
+    /**
+     * Add a resource to the queue. If another resource with the same ID is already waiting, and both are lights or
+     * grouped lights, then the new resource is merged into it.
+     *
+     * @param resource the resource to be sent.
+     * @return a command handle by means of which the caller can await the result.
+     */
+    public synchronized Command offer(Resource resource) {
+        Command command = new Command(!draining);
+        draining = true;
+        String id = resource.getId();
+        Entry entry = mergeableEntries.get(id);
+        if (Objects.nonNull(entry) && entry.resource.getType() == resource.getType()) {
+            entry.resource = merge(entry.resource, resource);
+        } else {
+            entry = new Entry(resource);
+            queue.add(entry);
+            if (MERGEABLE_TYPES.contains(resource.getType())) {
+                mergeableEntries.put(id, entry);
+            }
+        }
+        entry.commands.add(command);
+        return command;
+    }
+
+    /**
+     * Fail all pending commands and reset the queue. Called if the drainer is interrupted or the connection closes.
+     *
+     * @param e the exception to be returned to waiting callers.
+     */
+    public synchronized void abort(ApiException e) {
+        queue.forEach(entry -> entry.commands.forEach(command -> command.result.completeExceptionally(e)));
+        queue.clear();
+        mergeableEntries.clear();
+        draining = false;
+    }
+
+    /**
+     * Remove a command, whose caller no longer waits for it, from the queue. If it was the last command of its queue
+     * entry, then the entry is removed too. Fields that the command has already merged into an entry that is still
+     * needed by other commands are sent nevertheless. A command that is already being sent cannot be cancelled.
+     *
+     * @param command the command to be removed.
+     */
+    public synchronized void cancel(Command command) {
+        for (Iterator<Entry> iterator = queue.iterator(); iterator.hasNext();) {
+            Entry entry = iterator.next();
+            if (entry.commands.remove(command)) {
+                if (entry.commands.isEmpty()) {
+                    iterator.remove();
+                    mergeableEntries.remove(entry.resource.getId(), entry);
+                }
+                command.result.cancel(false);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove the next request from the queue. If the head of the queue is a light whose room or zone peers all have
+     * identical pending commands, they are fused into a single <code>grouped_light</code> request. The largest
+     * matching group wins.
+     *
+     * @return the next batch, or null if the queue is empty.
+     */
+    public synchronized @Nullable Batch poll() {
+        Entry entry = queue.poll();
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+        Resource resource = entry.resource;
+        String id = resource.getId();
+        mergeableEntries.remove(id, entry);
+
+        if (ResourceType.LIGHT == resource.getType() && Objects.isNull(resource.getFixedEffects())
+                && Objects.isNull(resource.getTimedEffects())) {
+            JsonObject content = getContent(resource);
+            LightGroup bestGroup = null;
+            for (LightGroup group : lightGroupsByLightId.getOrDefault(id, List.of())) {
+                if ((Objects.isNull(bestGroup) || group.lightIds().size() > bestGroup.lightIds().size())
+                        && group.lightIds().stream().filter(lightId -> !lightId.equals(id))
+                                .allMatch(lightId -> isSameLightContent(mergeableEntries.get(lightId), content))) {
+                    bestGroup = group;
+                }
+            }
+            if (Objects.nonNull(bestGroup)) {
+                List<Command> commands = new ArrayList<>(entry.commands);
+                for (String lightId : bestGroup.lightIds()) {
+                    Entry peer = lightId.equals(id) ? null : mergeableEntries.remove(lightId);
+                    if (Objects.nonNull(peer)) {
+                        queue.remove(peer);
+                        commands.addAll(peer.commands);
+                    }
+                }
+                return new Batch(toGroupedLight(resource, bestGroup.groupedLightId()), commands);
+            }
+        }
+        return new Batch(resource, entry.commands);
+    }
+
+    /**
+     * Check if the queue is empty, and if so, release the caller from its duty as drainer. This check and the
+     * release are atomic with respect to {@link #offer(Resource)} so that no command can be left stranded.
+     *
+     * @return true if the queue was empty and the drainer has been released.
+     */
+    public synchronized boolean releaseDrainerIfIdle() {
+        if (queue.isEmpty()) {
+            draining = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Set the map of room and zone <code>grouped_light</code> resource IDs to the IDs of all the lights that they
+     * control. Groups with fewer than two lights are ignored.
+     *
+     * @param lightGroups map of grouped_light resource ID to the set of light resource IDs.
+     */
+    public synchronized void setLightGroups(Map<String, Set<String>> lightGroups) {
+        Map<String, List<LightGroup>> index = new HashMap<>();
+        lightGroups.forEach((groupedLightId, lightIds) -> {
+            if (lightIds.size() > 1) {
+                LightGroup group = new LightGroup(groupedLightId, Set.copyOf(lightIds));
+                lightIds.forEach(lightId -> index.computeIfAbsent(lightId, k -> new ArrayList<>()).add(group));
+            }
+        });
+        lightGroupsByLightId = index;
+    }
+
+    public synchronized Duration getAverageLatency() {
+        return Duration.ofNanos(completedCount == 0 ? 0 : totalLatencyNanos / completedCount);
+    }
+
+    public synchronized Duration getLastLatency() {
+        return Duration.ofNanos(lastLatencyNanos);
+    }
+
+    public synchronized int getQueueLength() {
+        return queue.size();
+    }
+
+    private JsonObject getContent(Resource resource) {
+        JsonObject content = gson.toJsonTree(resource).getAsJsonObject();
+        content.remove("id");
+        return content;
+    }
+
+    private boolean isSameLightContent(@Nullable Entry entry, JsonObject content) {
+        return Objects.nonNull(entry) && ResourceType.LIGHT == entry.resource.getType()
+                && content.equals(getContent(entry.resource));
+    }
+
+    /**
+     * Merge a later resource into an earlier one. Fields present in the later resource win. Since the bridge would
+     * reject or mis-apply a request that carries both color xy and color temperature, the earlier color fields are
+     * only taken over if the later resource has neither of them. Neither of the resources is modified, since they
+     * belong to the respective callers.
+     *
+     * @param earlier the resource already in the queue.
+     * @param later the newly arrived resource.
+     * @return a new resource with the fields of the later resource, completed with any fields from the earlier one
+     *         that the later one does not itself have.
+     */
+    private static Resource merge(Resource earlier, Resource later) {
+        Resource merged = new Resource(later.getType()).setId(later.getId());
+        merged.setOnState(Objects.nonNull(later.getOnState()) ? later.getOnState() : earlier.getOnState());
+        merged.setDimming(Objects.nonNull(later.getDimming()) ? later.getDimming() : earlier.getDimming());
+        Resource color = Objects.isNull(later.getColorXy()) && Objects.isNull(later.getColorTemperature()) ? earlier
+                : later;
+        merged.setColorXy(color.getColorXy());
+        ColorTemperature colorTemperature = color.getColorTemperature();
+        if (Objects.nonNull(colorTemperature)) {
+            merged.setColorTemperature(colorTemperature);
+        }
+        Alerts alerts = Objects.nonNull(later.getAlerts()) ? later.getAlerts() : earlier.getAlerts();
+        if (Objects.nonNull(alerts)) {
+            merged.setAlerts(alerts);
+        }
+        Effects effects = Objects.nonNull(later.getFixedEffects()) ? later.getFixedEffects()
+                : earlier.getFixedEffects();
+        if (Objects.nonNull(effects)) {
+            merged.setFixedEffects(effects);
+        }
+        TimedEffects timedEffects = Objects.nonNull(later.getTimedEffects()) ? later.getTimedEffects()
+                : earlier.getTimedEffects();
+        if (Objects.nonNull(timedEffects)) {
+            merged.setTimedEffects(timedEffects);
+        }
+        merged.setDynamics(Objects.nonNull(later.getDynamics()) ? later.getDynamics() : earlier.getDynamics());
+        return merged;
+    }
+
+    private synchronized void recordLatency(Command command) {
+        lastLatencyNanos = System.nanoTime() - command.enqueueNanos;
+        totalLatencyNanos += lastLatencyNanos;
+        completedCount++;
+    }
+
+    /**
+     * Create a <code>grouped_light</code> resource that carries the fields of the given light resource that the
+     * grouped light supports.
+     */
+    private static Resource toGroupedLight(Resource light, String groupedLightId) {
+        Resource groupedLight = new Resource(ResourceType.GROUPED_LIGHT).setId(groupedLightId)
+                .setOnState(light.getOnState()).setDimming(light.getDimming()).setColorXy(light.getColorXy())
+                .setDynamics(light.getDynamics());
+        ColorTemperature colorTemperature = light.getColorTemperature();
+        if (Objects.nonNull(colorTemperature)) {
+            groupedLight.setColorTemperature(colorTemperature);
+        }
+        Alerts alerts = light.getAlerts();
+        if (Objects.nonNull(alerts)) {
+            groupedLight.setAlerts(alerts);
+        }
+        return groupedLight;
+    }
+}
@@ -15,8 +15,10 @@ package org.openhab.binding.hue.internal.handler;
 import static org.openhab.binding.hue.internal.HueBindingConstants.*;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -27,6 +29,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -100,6 +103,12 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
      */
     private static final List<ResourceReference> MASS_DOWNLOAD_RESOURCE_REFERENCES = List.of(SCENE, DEVICE, ROOM, ZONE);
 
+    /**
+     * List of resource references that are needed to build the light groups of the command queue.
+     * NOTE: the order DEVICE, ROOM, ZONE matters, see updateLightGroups()
+     */
+    private static final List<ResourceReference> LIGHT_GROUP_RESOURCE_REFERENCES = List.of(DEVICE, ROOM, ZONE);
+
     private final Logger logger = LoggerFactory.getLogger(Clip2BridgeHandler.class);
 
     private final HttpClientFactory httpClientFactory;
@@ -115,6 +124,7 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private @Nullable Future<?> checkConnectionTask;
     private @Nullable Future<?> updateOnlineStateTask;
     private @Nullable ScheduledFuture<?> scheduledUpdateTask;
+    private @Nullable ScheduledFuture<?> lightGroupsUpdateTask;
     private Map<Integer, Future<?>> resourcesEventTasks = new ConcurrentHashMap<>();
 
     private boolean assetsLoaded;
@@ -268,9 +278,11 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
             cancelTask(checkConnectionTask, true);
             cancelTask(updateOnlineStateTask, true);
             cancelTask(scheduledUpdateTask, true);
+            cancelTask(lightGroupsUpdateTask, true);
             checkConnectionTask = null;
             updateOnlineStateTask = null;
             scheduledUpdateTask = null;
+            lightGroupsUpdateTask = null;
             synchronized (resourcesEventTasks) {
                 resourcesEventTasks.values().forEach(task -> cancelTask(task, true));
                 resourcesEventTasks.clear();
@@ -316,6 +328,26 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         throw new AssetNotLoadedException("Clip2Bridge is null");
     }
 
+    /**
+     * Return the average end-to-end latency of PUT commands for the console app.
+     *
+     * @return the average latency.
+     * @throws AssetNotLoadedException if the Clip2Bridge is null.
+     */
+    public Duration getCommandLatency() throws AssetNotLoadedException {
+        return getClip2Bridge().getCommandLatency();
+    }
+
+    /**
+     * Return the number of PUT requests waiting to be sent for the console app.
+     *
+     * @return the command queue length.
+     * @throws AssetNotLoadedException if the Clip2Bridge is null.
+     */
+    public int getCommandQueueLength() throws AssetNotLoadedException {
+        return getClip2Bridge().getCommandQueueLength();
+    }
+
     /**
      * Return the IP address for the console app.
      *
@@ -535,6 +567,10 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         if (numberOfResources != resources.size()) {
             logger.debug("onResourcesEventTask() merged to {} resources", resources.size());
         }
+        if (resources.stream().anyMatch(resource -> LIGHT_GROUP_RESOURCE_REFERENCES.stream()
+                .anyMatch(reference -> reference.getType() == resource.getType()))) {
+            updateLightGroupsScheduled();
+        }
         getThing().getThings().forEach(thing -> {
             if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
                 clip2ThingHandler.onResources(resources);
@@ -592,6 +628,93 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         discoveryService = null;
     }
 
+    /**
+     * Update the map of room and zone grouped light IDs to the IDs of the lights that they control. Devices must be
+     * processed before rooms, and rooms before zones, so that the children of each group can be resolved to lights. A
+     * group having any child that cannot be resolved is omitted, since fusing commands for it would not be safe.
+     *
+     * @param resourceList a list of device, room or zone resources.
+     * @param lightIdsByOwnerId map of device or room IDs to the IDs of their respective lights.
+     * @param lightGroups map of grouped light IDs to the IDs of their respective lights.
+     */
+    private void updateLightGroups(List<Resource> resourceList, Map<String, Set<String>> lightIdsByOwnerId,
+            Map<String, Set<String>> lightGroups) {
+        for (Resource resource : resourceList) {
+            switch (resource.getType()) {
+                case DEVICE:
+                    lightIdsByOwnerId.put(resource.getId(),
+                            resource.getServiceReferences().stream().filter(r -> ResourceType.LIGHT == r.getType())
+                                    .map(ResourceReference::getId).filter(Objects::nonNull)
+                                    .collect(Collectors.toSet()));
+                    break;
+
+                case ROOM:
+                case ZONE:
+                    Set<String> lightIds = new HashSet<>();
+                    boolean resolved = true;
+                    for (ResourceReference child : resource.getChildren()) {
+                        String childId = child.getId();
+                        Set<String> childLightIds = Objects.isNull(childId) ? null
+                                : ResourceType.LIGHT == child.getType() ? Set.of(childId)
+                                        : lightIdsByOwnerId.get(childId);
+                        if (Objects.isNull(childLightIds)) {
+                            resolved = false;
+                            break;
+                        }
+                        lightIds.addAll(childLightIds);
+                    }
+                    if (resolved) {
+                        lightIdsByOwnerId.put(resource.getId(), lightIds);
+                        resource.getServiceReferences().stream()
+                                .filter(r -> ResourceType.GROUPED_LIGHT == r.getType()).map(ResourceReference::getId)
+                                .filter(Objects::nonNull).forEach(id -> lightGroups.put(id, lightIds));
+                    }
+                    break;
+
+                default:
+                    continue;
+            }
+        }
+    }
+
+    /**
+     * Download the device, room and zone resources, and rebuild the light groups of the command queue from them.
+     */
+    private void updateLightGroupsNow() {
+        logger.debug("updateLightGroupsNow()");
+        try {
+            Clip2Bridge bridge = getClip2Bridge();
+            Map<String, Set<String>> lightIdsByOwnerId = new HashMap<>();
+            Map<String, Set<String>> lightGroups = new HashMap<>();
+            for (ResourceReference reference : LIGHT_GROUP_RESOURCE_REFERENCES) {
+                updateLightGroups(bridge.getResources(reference).getResources(), lightIdsByOwnerId, lightGroups);
+            }
+            bridge.setLightGroups(lightGroups);
+        } catch (ApiException | AssetNotLoadedException e) {
+            logger.debug("updateLightGroupsNow() unexpected exception", e);
+        } catch (InterruptedException e) {
+        }
+    }
+
+    /**
+     * Called when an SSE event reports a change to a device, room or zone, which may have changed the membership of
+     * the light groups. The light groups are cleared at once, since SSE events only carry the changed fields and so
+     * fusing commands on the old groups would not be safe, and a task is scheduled to rebuild them. Any rebuild that
+     * is still pending is replaced, so that a burst of such events is handled by a single rebuild.
+     */
+    private void updateLightGroupsScheduled() {
+        try {
+            getClip2Bridge().setLightGroups(Map.of());
+        } catch (AssetNotLoadedException e) {
+            return;
+        }
+        synchronized (this) {
+            cancelTask(lightGroupsUpdateTask, false);
+            lightGroupsUpdateTask = scheduler.schedule(() -> updateLightGroupsNow(), FAST_SCHEDULE_MILLI_SECONDS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
     /**
      * Update the bridge's online state and update its dependent things. Called when the connection goes online.
      */
@@ -730,6 +853,8 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         logger.debug("updateThingsNow()");
         try {
             Clip2Bridge bridge = getClip2Bridge();
+            Map<String, Set<String>> lightIdsByOwnerId = new HashMap<>();
+            Map<String, Set<String>> lightGroups = new HashMap<>();
             for (ResourceReference reference : MASS_DOWNLOAD_RESOURCE_REFERENCES) {
                 ResourceType resourceType = reference.getType();
                 List<Resource> resourceList = bridge.getResources(reference).getResources();
@@ -753,7 +878,9 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
                         ((Clip2ThingHandler) handler).onResourcesList(resourceType, resourceList);
                     }
                 });
+                updateLightGroups(resourceList, lightIdsByOwnerId, lightGroups);
             }
+            bridge.setLightGroups(lightGroups);
         } catch (ApiException | AssetNotLoadedException e) {
             if (logger.isDebugEnabled()) {
                 logger.debug("updateThingsNow() unexpected exception", e);
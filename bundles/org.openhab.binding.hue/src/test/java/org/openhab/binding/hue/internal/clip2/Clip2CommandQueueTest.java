@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.clip2;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Dimming;
+import org.openhab.binding.hue.internal.api.dto.clip2.OnState;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.connection.Clip2CommandQueue;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+import org.openhab.binding.hue.internal.exceptions.DTOPresentButEmptyException;
+
+/**
+ * Tests for {@link Clip2CommandQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2CommandQueueTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    @Test
+    void pendingCommandsForSameLightAreMergedLatestWins()
+            throws ApiException, InterruptedException, DTOPresentButEmptyException {
+        Clip2CommandQueue queue = new Clip2CommandQueue();
+        Clip2CommandQueue.Command first = queue.offer(createLight("1").setOnState(new OnState().setOn(true))
+                .setDimming(new Dimming().setBrightness(20)));
+        Resource later = createLight("1").setDimming(new Dimming().setBrightness(80));
+        Clip2CommandQueue.Command second = queue.offer(later);
+
+        assertTrue(first.isDrainer());
+        assertFalse(second.isDrainer());
+        assertThat(queue.getQueueLength(), is(equalTo(1)));
+
+        Clip2CommandQueue.Batch batch = Objects.requireNonNull(queue.poll());
+        Resource resource = batch.getResource();
+        assertThat(batch.getCommandCount(), is(equalTo(2)));
+        assertThat(resource.getId(), is(equalTo("1")));
+        assertThat(Objects.requireNonNull(resource.getOnState()).isOn(), is(true));
+        assertThat(Objects.requireNonNull(resource.getDimming()).getBrightness(), is(equalTo(80.0)));
+        assertThat(later.getOnState(), is(nullValue()));
+
+        Resources resources = new Resources();
+        batch.complete(resources);
+        assertThat(first.awaitResult(TIMEOUT), is(sameInstance(resources)));
+        assertThat(second.awaitResult(TIMEOUT), is(sameInstance(resources)));
+        assertTrue(queue.releaseDrainerIfIdle());
+    }
+
+    @Test
+    void identicalCommandsForAllLightsInGroupAreFused() {
+        Clip2CommandQueue queue = new Clip2CommandQueue();
+        queue.setLightGroups(Map.of("group", Set.of("1", "2", "3")));
+        queue.offer(createLight("1").setOnState(new OnState().setOn(true)));
+        queue.offer(createLight("2").setOnState(new OnState().setOn(true)));
+        queue.offer(createLight("3").setOnState(new OnState().setOn(true)));
+
+        Clip2CommandQueue.Batch batch = Objects.requireNonNull(queue.poll());
+        assertThat(batch.getCommandCount(), is(equalTo(3)));
+        assertThat(batch.getResource().getType(), is(equalTo(ResourceType.GROUPED_LIGHT)));
+        assertThat(batch.getResource().getId(), is(equalTo("group")));
+        assertThat(queue.getQueueLength(), is(equalTo(0)));
+    }
+
+    @Test
+    void differentCommandsForLightsInGroupAreNotFused() {
+        Clip2CommandQueue queue = new Clip2CommandQueue();
+        queue.setLightGroups(Map.of("group", Set.of("1", "2")));
+        queue.offer(createLight("1").setOnState(new OnState().setOn(true)));
+        queue.offer(createLight("2").setOnState(new OnState().setOn(false)));
+
+        Clip2CommandQueue.Batch batch = Objects.requireNonNull(queue.poll());
+        assertThat(batch.getResource().getType(), is(equalTo(ResourceType.LIGHT)));
+        assertThat(batch.getResource().getId(), is(equalTo("1")));
+        assertThat(queue.getQueueLength(), is(equalTo(1)));
+    }
+
+    @Test
+    void abortFailsPendingCommands() {
+        Clip2CommandQueue queue = new Clip2CommandQueue();
+        Clip2CommandQueue.Command command = queue.offer(createLight("1").setOnState(new OnState().setOn(true)));
+        queue.abort(new ApiException("closed"));
+
+        assertThrows(ApiException.class, () -> command.awaitResult(TIMEOUT));
+        assertTrue(queue.offer(createLight("1")).isDrainer());
+    }
+
+    @Test
+    void awaitResultTimesOut() {
+        Clip2CommandQueue queue = new Clip2CommandQueue();
+        Clip2CommandQueue.Command command = queue.offer(createLight("1").setOnState(new OnState().setOn(true)));
+
+        assertThrows(ApiException.class, () -> command.awaitResult(Duration.ofMillis(10)));
+    }
+
+    @Test
+    void timedOutCommandIsRemovedFromQueue() {
+        Clip2CommandQueue queue = new Clip2CommandQueue();
+        Clip2CommandQueue.Command command = queue.offer(createLight("1").setOnState(new OnState().setOn(true)));
+
+        assertThrows(ApiException.class, () -> command.awaitResult(Duration.ofMillis(10)));
+        assertThat(queue.getQueueLength(), is(equalTo(0)));
+        assertThat(queue.poll(), is(nullValue()));
+        assertTrue(queue.releaseDrainerIfIdle());
+    }
+
+    @Test
+    void timedOutCommandMergedWithOtherCommandKeepsEntry() throws ApiException, InterruptedException {
+        Clip2CommandQueue queue = new Clip2CommandQueue();
+        Clip2CommandQueue.Command first = queue.offer(createLight("1").setOnState(new OnState().setOn(true)));
+        Clip2CommandQueue.Command second = queue.offer(createLight("1").setDimming(new Dimming().setBrightness(50)));
+
+        assertThrows(ApiException.class, () -> first.awaitResult(Duration.ofMillis(10)));
+        assertThat(queue.getQueueLength(), is(equalTo(1)));
+
+        Clip2CommandQueue.Batch batch = Objects.requireNonNull(queue.poll());
+        assertThat(batch.getCommandCount(), is(equalTo(1)));
+        Resources resources = new Resources();
+        batch.complete(resources);
+        assertThat(second.awaitResult(TIMEOUT), is(sameInstance(resources)));
+    }
+
+    private Resource createLight(String id) {
+        return new Resource(ResourceType.LIGHT).setId(id);
+    }
+}
@@ -48,6 +48,7 @@ import org.openhab.binding.insteon.internal.driver.Port;
 import org.openhab.binding.insteon.internal.handler.InsteonDeviceHandler;
 import org.openhab.binding.insteon.internal.handler.InsteonNetworkHandler;
 import org.openhab.binding.insteon.internal.message.FieldException;
+import org.openhab.binding.insteon.internal.message.FieldName;
 import org.openhab.binding.insteon.internal.message.Msg;
 import org.openhab.binding.insteon.internal.message.MsgListener;
 import org.openhab.binding.insteon.internal.utils.Utils;
@@ -534,12 +535,12 @@ public class InsteonBinding {
         }
 
         private void handleInsteonMessage(Msg msg) {
-            InsteonAddress toAddr = msg.getAddr("toAddress");
+            InsteonAddress toAddr = msg.getAddr(FieldName.TO_ADDRESS);
             if (!msg.isBroadcast() && !driver.isMsgForUs(toAddr)) {
                 // not for one of our modems, do not process
                 return;
             }
-            InsteonAddress fromAddr = msg.getAddr("fromAddress");
+            InsteonAddress fromAddr = msg.getAddr(FieldName.FROM_ADDRESS);
             if (fromAddr == null) {
                 logger.debug("invalid fromAddress, ignoring msg {}", msg);
                 return;
@@ -549,8 +550,8 @@ public class InsteonBinding {
 
         private void handleX10Message(Msg msg) {
             try {
-                int x10Flag = msg.getByte("X10Flag") & 0xff;
-                int rawX10 = msg.getByte("rawX10") & 0xff;
+                int x10Flag = msg.getByte(FieldName.X10_FLAG) & 0xff;
+                int rawX10 = msg.getByte(FieldName.RAW_X10) & 0xff;
                 if (x10Flag == 0x80) { // actual command
                     if (x10HouseUnit != -1) {
                         InsteonAddress fromAddr = new InsteonAddress((byte) x10HouseUnit);
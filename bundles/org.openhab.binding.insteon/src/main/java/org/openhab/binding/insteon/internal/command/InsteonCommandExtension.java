@@ -27,6 +27,7 @@ import org.openhab.binding.insteon.internal.device.InsteonAddress;
 import org.openhab.binding.insteon.internal.device.InsteonDevice;
 import org.openhab.binding.insteon.internal.handler.InsteonNetworkHandler;
 import org.openhab.binding.insteon.internal.message.FieldException;
+import org.openhab.binding.insteon.internal.message.FieldName;
 import org.openhab.binding.insteon.internal.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.message.Msg;
 import org.openhab.binding.insteon.internal.message.MsgListener;
@@ -180,7 +181,7 @@ public class InsteonCommandExtension extends AbstractConsoleCommandExtension imp
 
     @Override
     public void msg(Msg msg) {
-        if (monitorAllDevices || monitoredAddresses.contains(msg.getAddr("fromAddress"))) {
+        if (monitorAllDevices || monitoredAddresses.contains(msg.getAddr(FieldName.FROM_ADDRESS))) {
             String date = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date());
             Console console = this.console;
             if (console != null) {
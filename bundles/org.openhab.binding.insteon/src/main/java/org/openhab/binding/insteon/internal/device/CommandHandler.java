@@ -12,7 +12,6 @@
  */
 package org.openhab.binding.insteon.internal.device;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -46,6 +45,7 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public abstract class CommandHandler {
     private static final Logger logger = LoggerFactory.getLogger(CommandHandler.class);
+    private static final HandlerFactory<CommandHandler> FACTORY = new HandlerFactory<>(CommandHandler.class);
     DeviceFeature feature; // related DeviceFeature
     Map<String, String> parameters = new HashMap<>();
 
@@ -848,7 +848,7 @@ public abstract class CommandHandler {
     }
 
     /**
-     * Factory method for creating handlers of a given name using java reflection
+     * Factory method for creating handlers of a given name
      *
      * @param name the name of the handler to create
      * @param params
@@ -857,17 +857,12 @@ public abstract class CommandHandler {
      */
     @Nullable
     public static <T extends CommandHandler> T makeHandler(String name, Map<String, String> params, DeviceFeature f) {
-        String cname = CommandHandler.class.getName() + "$" + name;
         try {
-            Class<?> c = Class.forName(cname);
             @SuppressWarnings("unchecked")
-            Class<? extends T> dc = (Class<? extends T>) c;
-            @Nullable
-            T ch = dc.getDeclaredConstructor(DeviceFeature.class).newInstance(f);
+            T ch = (T) FACTORY.create(name, f);
             ch.setParameters(params);
             return ch;
-        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+        } catch (ReflectiveOperationException | ClassCastException | SecurityException e) {
             logger.warn("error trying to create message handler: {}", name, e);
         }
         return null;
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.device;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Creates the handlers nested in a handler base class by name. The constructor of each handler class is
+ * resolved once and kept as a method handle, so creating the handlers of a device does not need a class
+ * and constructor lookup by reflection for every feature.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class HandlerFactory<T> {
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, DeviceFeature.class);
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, DeviceFeature.class);
+
+    private final Class<T> baseClass;
+    private final Map<String, MethodHandle> constructors = new ConcurrentHashMap<>();
+
+    HandlerFactory(Class<T> baseClass) {
+        this.baseClass = baseClass;
+    }
+
+    /**
+     * Creates a handler
+     *
+     * @param name the name of the nested handler class
+     * @param f the feature for which to create the handler
+     * @return the handler which was created
+     * @throws ReflectiveOperationException if there is no such handler, or its constructor failed
+     */
+    T create(String name, DeviceFeature f) throws ReflectiveOperationException {
+        MethodHandle constructor = constructors.get(name);
+        if (constructor == null) {
+            Class<? extends T> c = Class.forName(baseClass.getName() + "$" + name).asSubclass(baseClass);
+            constructor = MethodHandles.lookup().findConstructor(c, CONSTRUCTOR_TYPE).asType(FACTORY_TYPE);
+            constructors.put(name, constructor);
+        }
+        try {
+            return baseClass.cast((Object) constructor.invokeExact(f));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
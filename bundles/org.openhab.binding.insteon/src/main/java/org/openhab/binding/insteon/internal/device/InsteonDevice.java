@@ -28,6 +28,7 @@ import org.openhab.binding.insteon.internal.device.DeviceType.FeatureGroup;
 import org.openhab.binding.insteon.internal.device.GroupMessageStateMachine.GroupMessage;
 import org.openhab.binding.insteon.internal.driver.Driver;
 import org.openhab.binding.insteon.internal.message.FieldException;
+import org.openhab.binding.insteon.internal.message.FieldName;
 import org.openhab.binding.insteon.internal.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.message.Msg;
 import org.openhab.core.types.Command;
@@ -358,17 +359,17 @@ public class InsteonDevice {
         } else {
             addr = getAddress();
         }
-        m.setAddress("toAddress", addr);
-        m.setByte("messageFlags", f);
-        m.setByte("command1", cmd1);
-        m.setByte("command2", cmd2);
+        m.setAddress(FieldName.TO_ADDRESS, addr);
+        m.setByte(FieldName.MESSAGE_FLAGS, f);
+        m.setByte(FieldName.COMMAND1, cmd1);
+        m.setByte(FieldName.COMMAND2, cmd2);
         return m;
     }
 
     public Msg makeX10Message(byte rawX10, byte X10Flag) throws FieldException, InvalidMessageTypeException {
         Msg m = Msg.makeMessage("SendX10Message");
-        m.setByte("rawX10", rawX10);
-        m.setByte("X10Flag", X10Flag);
+        m.setByte(FieldName.RAW_X10, rawX10);
+        m.setByte(FieldName.X10_FLAG, X10Flag);
         m.setQuietTime(300L);
         return m;
     }
@@ -402,10 +403,10 @@ public class InsteonDevice {
     public Msg makeExtendedMessage(byte flags, byte cmd1, byte cmd2, byte[] data)
             throws FieldException, InvalidMessageTypeException {
         Msg m = Msg.makeMessage("SendExtendedMessage");
-        m.setAddress("toAddress", getAddress());
-        m.setByte("messageFlags", (byte) (((flags & 0xff) | 0x10) & 0xff));
-        m.setByte("command1", cmd1);
-        m.setByte("command2", cmd2);
+        m.setAddress(FieldName.TO_ADDRESS, getAddress());
+        m.setByte(FieldName.MESSAGE_FLAGS, (byte) (((flags & 0xff) | 0x10) & 0xff));
+        m.setByte(FieldName.COMMAND1, cmd1);
+        m.setByte(FieldName.COMMAND2, cmd2);
         m.setUserData(data);
         m.setCRC();
         return m;
@@ -425,10 +426,10 @@ public class InsteonDevice {
     public Msg makeExtendedMessageCRC2(byte flags, byte cmd1, byte cmd2, byte[] data)
             throws FieldException, InvalidMessageTypeException {
         Msg m = Msg.makeMessage("SendExtendedMessage");
-        m.setAddress("toAddress", getAddress());
-        m.setByte("messageFlags", (byte) (((flags & 0xff) | 0x10) & 0xff));
-        m.setByte("command1", cmd1);
-        m.setByte("command2", cmd2);
+        m.setAddress(FieldName.TO_ADDRESS, getAddress());
+        m.setByte(FieldName.MESSAGE_FLAGS, (byte) (((flags & 0xff) | 0x10) & 0xff));
+        m.setByte(FieldName.COMMAND1, cmd1);
+        m.setByte(FieldName.COMMAND2, cmd2);
         m.setUserData(data);
         m.setCRC2();
         return m;
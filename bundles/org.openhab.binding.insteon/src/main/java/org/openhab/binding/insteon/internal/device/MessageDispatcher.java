@@ -12,13 +12,13 @@
  */
 package org.openhab.binding.insteon.internal.device;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.insteon.internal.message.FieldException;
+import org.openhab.binding.insteon.internal.message.FieldName;
 import org.openhab.binding.insteon.internal.message.Msg;
 import org.openhab.binding.insteon.internal.utils.Utils;
 import org.slf4j.Logger;
@@ -33,6 +33,7 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public abstract class MessageDispatcher {
     private static final Logger logger = LoggerFactory.getLogger(MessageDispatcher.class);
+    private static final HandlerFactory<MessageDispatcher> FACTORY = new HandlerFactory<>(MessageDispatcher.class);
 
     DeviceFeature feature;
     @Nullable
@@ -62,13 +63,13 @@ public abstract class MessageDispatcher {
             return false;
         }
         try {
-            InsteonAddress a = msg.getAddress("toAddress");
+            InsteonAddress a = msg.getAddress(FieldName.TO_ADDRESS);
             // ALL_LINK_BROADCAST and ALL_LINK_CLEANUP
             // have a valid Command1 field
             // but the CLEANUP_SUCCESS (of type ALL_LINK_BROADCAST!)
             // message has cmd1 = 0x06 and the cmd as the
             // high byte of the toAddress.
-            byte cmd1 = msg.getByte("command1");
+            byte cmd1 = msg.getByte(FieldName.COMMAND1);
             if (!msg.isCleanup() && cmd1 == 0x06) {
                 cmd1 = a.getHighByte();
             }
@@ -76,7 +77,7 @@ public abstract class MessageDispatcher {
             // in the low byte of the toAddress. For direct
             // ALL_LINK_CLEANUP, it is in Command2
 
-            int group = (msg.isCleanup() ? msg.getByte("command2") : a.getLowByte()) & 0xff;
+            int group = (msg.isCleanup() ? msg.getByte(FieldName.COMMAND2) : a.getLowByte()) & 0xff;
             MessageHandler h = feature.getMsgHandlers().get(cmd1 & 0xFF);
             if (h == null) {
                 logger.debug("msg is not for this feature");
@@ -140,8 +141,8 @@ public abstract class MessageDispatcher {
             boolean isConsumed = false;
             int key = -1;
             try {
-                cmd = msg.getByte("Cmd");
-                cmd1 = msg.getByte("command1");
+                cmd = msg.getByte(FieldName.CMD);
+                cmd1 = msg.getByte(FieldName.COMMAND1);
             } catch (FieldException e) {
                 logger.debug("no command found, dropping msg {}", msg);
                 return false;
@@ -205,8 +206,8 @@ public abstract class MessageDispatcher {
             boolean isConsumed = false;
             int key = -1;
             try {
-                cmd = msg.getByte("Cmd");
-                cmd1 = msg.getByte("command1");
+                cmd = msg.getByte(FieldName.CMD);
+                cmd1 = msg.getByte(FieldName.COMMAND1);
             } catch (FieldException e) {
                 logger.debug("no command found, dropping msg {}", msg);
                 return false;
@@ -304,7 +305,7 @@ public abstract class MessageDispatcher {
                     // in response to a direct status query message
                     return false;
                 }
-                cmd1 = msg.getByte("command1");
+                cmd1 = msg.getByte(FieldName.COMMAND1);
             } catch (FieldException e) {
                 logger.debug("no cmd1 found, dropping msg {}", msg);
                 return false;
@@ -332,7 +333,7 @@ public abstract class MessageDispatcher {
         @Override
         public boolean dispatch(Msg msg) {
             try {
-                byte rawX10 = msg.getByte("rawX10");
+                byte rawX10 = msg.getByte(FieldName.RAW_X10);
                 int cmd = (rawX10 & 0x0f);
                 MessageHandler h = feature.getMsgHandlers().get(cmd);
                 if (h == null) {
@@ -382,7 +383,7 @@ public abstract class MessageDispatcher {
     }
 
     /**
-     * Factory method for creating a dispatcher of a given name using java reflection
+     * Factory method for creating a dispatcher of a given name
      *
      * @param name the name of the dispatcher to create
      * @param params
@@ -392,17 +393,12 @@ public abstract class MessageDispatcher {
     @Nullable
     public static <T extends MessageDispatcher> T makeHandler(String name, @Nullable Map<String, String> params,
             DeviceFeature f) {
-        String cname = MessageDispatcher.class.getName() + "$" + name;
         try {
-            Class<?> c = Class.forName(cname);
             @SuppressWarnings("unchecked")
-            Class<? extends T> dc = (Class<? extends T>) c;
-            @Nullable
-            T ch = dc.getDeclaredConstructor(DeviceFeature.class).newInstance(f);
+            T ch = (T) FACTORY.create(name, f);
             ch.setParameters(params);
             return ch;
-        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+        } catch (ReflectiveOperationException | ClassCastException | SecurityException e) {
             logger.warn("error trying to create dispatcher: {}", name, e);
         }
         return null;
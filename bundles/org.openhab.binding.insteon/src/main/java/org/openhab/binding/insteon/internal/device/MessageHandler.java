@@ -12,7 +12,6 @@
  */
 package org.openhab.binding.insteon.internal.device;
 
-import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.HashMap;
@@ -24,6 +23,7 @@ import org.openhab.binding.insteon.internal.device.DeviceFeatureListener.StateCh
 import org.openhab.binding.insteon.internal.device.GroupMessageStateMachine.GroupMessage;
 import org.openhab.binding.insteon.internal.handler.InsteonDeviceHandler;
 import org.openhab.binding.insteon.internal.message.FieldException;
+import org.openhab.binding.insteon.internal.message.FieldName;
 import org.openhab.binding.insteon.internal.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.message.Msg;
 import org.openhab.binding.insteon.internal.message.MsgType;
@@ -52,6 +52,7 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public abstract class MessageHandler {
     private static final Logger logger = LoggerFactory.getLogger(MessageHandler.class);
+    private static final HandlerFactory<MessageHandler> FACTORY = new HandlerFactory<>(MessageHandler.class);
 
     protected DeviceFeature feature;
     protected Map<String, String> parameters = new HashMap<>();
@@ -210,7 +211,7 @@ public abstract class MessageHandler {
      * @return true if parameter matches
      * @throws FieldException if field not there
      */
-    protected boolean testMatch(String param, Msg msg, String field) throws FieldException {
+    protected boolean testMatch(String param, Msg msg, FieldName field) throws FieldException {
         int mp = getIntParameter(param, -1);
         // parameter not filtered for, declare this a match!
         if (mp == -1) {
@@ -233,20 +234,20 @@ public abstract class MessageHandler {
                 if ((msg.isExtended() && ext != 1) || (!msg.isExtended() && ext != 0)) {
                     return (false);
                 }
-                if (!testMatch("match_cmd1", msg, "command1")) {
+                if (!testMatch("match_cmd1", msg, FieldName.COMMAND1)) {
                     return (false);
                 }
             }
-            if (!testMatch("match_cmd2", msg, "command2")) {
+            if (!testMatch("match_cmd2", msg, FieldName.COMMAND2)) {
                 return (false);
             }
-            if (!testMatch("match_d1", msg, "userData1")) {
+            if (!testMatch("match_d1", msg, FieldName.USER_DATA1)) {
                 return (false);
             }
-            if (!testMatch("match_d2", msg, "userData2")) {
+            if (!testMatch("match_d2", msg, FieldName.USER_DATA2)) {
                 return (false);
             }
-            if (!testMatch("match_d3", msg, "userData3")) {
+            if (!testMatch("match_d3", msg, FieldName.USER_DATA3)) {
                 return (false);
             }
         } catch (FieldException e) {
@@ -265,10 +266,10 @@ public abstract class MessageHandler {
     protected boolean isDuplicate(Msg msg) {
         boolean isDuplicate = false;
         try {
-            MsgType t = MsgType.fromValue(msg.getByte("messageFlags"));
+            MsgType t = MsgType.fromValue(msg.getByte(FieldName.MESSAGE_FLAGS));
             if (t == MsgType.ALL_LINK_BROADCAST) {
-                int group = msg.getAddress("toAddress").getLowByte() & 0xff;
-                byte cmd1 = msg.getByte("command1");
+                int group = msg.getAddress(FieldName.TO_ADDRESS).getLowByte() & 0xff;
+                byte cmd1 = msg.getByte(FieldName.COMMAND1);
                 // if the command is 0x06, then it's success message
                 // from the original broadcaster, with which the device
                 // confirms that it got all cleanup replies successfully.
@@ -277,7 +278,7 @@ public abstract class MessageHandler {
             } else if (t == MsgType.ALL_LINK_CLEANUP) {
                 // the cleanup messages are direct messages, so the
                 // group # is not in the toAddress, but in cmd2
-                int group = msg.getByte("command2") & 0xff;
+                int group = msg.getByte(FieldName.COMMAND2) & 0xff;
                 isDuplicate = !feature.getDevice().getGroupState(group, GroupMessage.CLEAN, (byte) 0);
             }
         } catch (IllegalArgumentException e) {
@@ -299,8 +300,8 @@ public abstract class MessageHandler {
         // the cleanup messages have the button number in the command2 field
         // the broadcast messages have it as the lsb of the toAddress
         try {
-            int bclean = msg.getByte("command2") & 0xff;
-            int bbcast = msg.getAddress("toAddress").getLowByte() & 0xff;
+            int bclean = msg.getByte(FieldName.COMMAND2) & 0xff;
+            int bbcast = msg.getAddress(FieldName.TO_ADDRESS).getLowByte() & 0xff;
             int button = msg.isCleanup() ? bclean : bbcast;
             logger.trace("{} button: {} bclean: {} bbcast: {}", f.getDevice().getAddress(), button, bclean, bbcast);
             return button;
@@ -483,7 +484,7 @@ public abstract class MessageHandler {
 
         private int getLevel(Msg msg) {
             try {
-                byte cmd2 = msg.getByte("command2");
+                byte cmd2 = msg.getByte(FieldName.COMMAND2);
                 return (int) Math.round(((cmd2 >> 4) & 0x0f) * (100 / 15d));
             } catch (FieldException e) {
                 logger.warn("Can't access command2 byte", e);
@@ -507,7 +508,7 @@ public abstract class MessageHandler {
         public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
             try {
                 InsteonAddress a = f.getDevice().getAddress();
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(FieldName.COMMAND2) & 0xff;
                 int button = this.getIntParameter("button", -1);
                 if (button < 0) {
                     handleNoButtons(cmd2, a, msg);
@@ -574,7 +575,7 @@ public abstract class MessageHandler {
         public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
             InsteonDevice dev = f.getDevice();
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(FieldName.COMMAND2) & 0xff;
                 if (cmd2 == 0xfe) {
                     // sometimes dimmer devices are returning 0xfe when on instead of 0xff
                     cmd2 = 0xff;
@@ -636,7 +637,7 @@ public abstract class MessageHandler {
         @Override
         public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(FieldName.COMMAND2) & 0xff;
                 int upDown = (cmd2 == 0) ? 0 : 2;
                 logger.debug("{}: dev {} manual state change: {}", nm(), f.getDevice().getAddress(),
                         (upDown == 0) ? "DOWN" : "UP");
@@ -679,12 +680,12 @@ public abstract class MessageHandler {
                 return;
             }
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(FieldName.COMMAND2) & 0xff;
                 switch (cmd2) {
                     case 0x00: // this is a product data response message
                         int prodKey = msg.getInt24("userData2", "userData3", "userData4");
-                        int devCat = msg.getByte("userData5");
-                        int subCat = msg.getByte("userData6");
+                        int devCat = msg.getByte(FieldName.USER_DATA5);
+                        int subCat = msg.getByte(FieldName.USER_DATA6);
                         logger.debug("{} {} got product data: cat: {} subcat: {} key: {} ", nm(), dev.getAddress(),
                                 devCat, subCat, Utils.getHexString(prodKey));
                         break;
@@ -714,14 +715,14 @@ public abstract class MessageHandler {
                 return;
             }
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(FieldName.COMMAND2) & 0xff;
                 int batteryLevel;
                 int lightLevel;
                 int temperatureLevel;
                 switch (cmd2) {
                     case 0x00: // this is a product data response message
-                        batteryLevel = msg.getByte("userData12") & 0xff;
-                        lightLevel = msg.getByte("userData11") & 0xff;
+                        batteryLevel = msg.getByte(FieldName.USER_DATA12) & 0xff;
+                        lightLevel = msg.getByte(FieldName.USER_DATA11) & 0xff;
                         logger.debug("{}: {} got light level: {}, battery level: {}", nm(), dev.getAddress(),
                                 lightLevel, batteryLevel);
                         feature.publish(new DecimalType(lightLevel), StateChangeType.CHANGED,
@@ -730,9 +731,9 @@ public abstract class MessageHandler {
                                 InsteonDeviceHandler.FIELD, InsteonDeviceHandler.FIELD_BATTERY_LEVEL);
                         break;
                     case 0x03: // this is the 2844-222 data response message
-                        batteryLevel = msg.getByte("userData6") & 0xff;
-                        lightLevel = msg.getByte("userData7") & 0xff;
-                        temperatureLevel = msg.getByte("userData8") & 0xff;
+                        batteryLevel = msg.getByte(FieldName.USER_DATA6) & 0xff;
+                        lightLevel = msg.getByte(FieldName.USER_DATA7) & 0xff;
+                        temperatureLevel = msg.getByte(FieldName.USER_DATA8) & 0xff;
                         logger.debug("{}: {} got light level: {}, battery level: {}, temperature level: {}", nm(),
                                 dev.getAddress(), lightLevel, batteryLevel, temperatureLevel);
                         feature.publish(new DecimalType(lightLevel), StateChangeType.CHANGED,
@@ -775,14 +776,14 @@ public abstract class MessageHandler {
             InsteonDevice dev = f.getDevice();
             try {
                 // group 0x0B (11) - alternate heartbeat group
-                InsteonAddress toAddr = msg.getAddr("toAddress");
+                InsteonAddress toAddr = msg.getAddr(FieldName.TO_ADDRESS);
                 if (toAddr == null) {
                     logger.warn("toAddr is null");
                     return;
                 }
                 int batteryLevel = toAddr.getHighByte() & 0xff;
                 int lightLevel = toAddr.getMiddleByte() & 0xff;
-                int temperatureLevel = msg.getByte("command2") & 0xff;
+                int temperatureLevel = msg.getByte(FieldName.COMMAND2) & 0xff;
 
                 logger.debug("{}: {} got light level: {}, battery level: {}, temperature level: {}", nm(),
                         dev.getAddress(), lightLevel, batteryLevel, temperatureLevel);
@@ -824,11 +825,11 @@ public abstract class MessageHandler {
                 return;
             }
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(FieldName.COMMAND2) & 0xff;
                 switch (cmd2) {
                     case 0x00: // this is a product data response message
-                        int batteryLevel = msg.getByte("userData4") & 0xff;
-                        int batteryWatermark = msg.getByte("userData7") & 0xff;
+                        int batteryLevel = msg.getByte(FieldName.USER_DATA4) & 0xff;
+                        int batteryWatermark = msg.getByte(FieldName.USER_DATA7) & 0xff;
                         logger.debug("{}: {} got light level: {}, battery level: {}", nm(), dev.getAddress(),
                                 batteryWatermark, batteryLevel);
                         feature.publish(new DecimalType(batteryWatermark), StateChangeType.CHANGED,
@@ -856,17 +857,17 @@ public abstract class MessageHandler {
             if (msg.isExtended()) {
                 try {
                     // see iMeter developer notes 2423A1dev-072013-en.pdf
-                    int b7 = msg.getByte("userData7") & 0xff;
-                    int b8 = msg.getByte("userData8") & 0xff;
+                    int b7 = msg.getByte(FieldName.USER_DATA7) & 0xff;
+                    int b8 = msg.getByte(FieldName.USER_DATA8) & 0xff;
                     int watts = (b7 << 8) | b8;
                     if (watts > 32767) {
                         watts -= 65535;
                     }
 
-                    int b9 = msg.getByte("userData9") & 0xff;
-                    int b10 = msg.getByte("userData10") & 0xff;
-                    int b11 = msg.getByte("userData11") & 0xff;
-                    int b12 = msg.getByte("userData12") & 0xff;
+                    int b9 = msg.getByte(FieldName.USER_DATA9) & 0xff;
+                    int b10 = msg.getByte(FieldName.USER_DATA10) & 0xff;
+                    int b11 = msg.getByte(FieldName.USER_DATA11) & 0xff;
+                    int b12 = msg.getByte(FieldName.USER_DATA12) & 0xff;
                     BigDecimal kwh = BigDecimal.ZERO;
                     if (b9 < 254) {
                         int e = (b9 << 24) | (b10 << 16) | (b11 << 8) | b12;
@@ -924,8 +925,8 @@ public abstract class MessageHandler {
             byte cmd = 0x00;
             byte cmd2 = 0x00;
             try {
-                cmd = msg.getByte("Cmd");
-                cmd2 = msg.getByte("command2");
+                cmd = msg.getByte(FieldName.CMD);
+                cmd2 = msg.getByte(FieldName.COMMAND2);
             } catch (FieldException e) {
                 logger.debug("{} no cmd found, dropping msg {}", nm(), msg);
                 return;
@@ -968,7 +969,7 @@ public abstract class MessageHandler {
         @Override
         public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
             try {
-                byte cmd2 = msg.getByte("command2");
+                byte cmd2 = msg.getByte(FieldName.COMMAND2);
                 switch (cmd1) {
                     case 0x11:
                         switch (cmd2) {
@@ -1301,7 +1302,7 @@ public abstract class MessageHandler {
     }
 
     /**
-     * Factory method for creating handlers of a given name using java reflection
+     * Factory method for creating handlers of a given name
      *
      * @param name the name of the handler to create
      * @param params
@@ -1310,17 +1311,12 @@ public abstract class MessageHandler {
      */
     public static @Nullable <T extends MessageHandler> T makeHandler(String name, Map<String, String> params,
             DeviceFeature f) {
-        String cname = MessageHandler.class.getName() + "$" + name;
         try {
-            Class<?> c = Class.forName(cname);
             @SuppressWarnings("unchecked")
-            Class<? extends T> dc = (Class<? extends T>) c;
-            @Nullable
-            T mh = dc.getDeclaredConstructor(DeviceFeature.class).newInstance(f);
+            T mh = (T) FACTORY.create(name, f);
             mh.setParameters(params);
             return mh;
-        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+        } catch (ReflectiveOperationException | ClassCastException | SecurityException e) {
             logger.warn("error trying to create message handler: {}", name, e);
         }
         return null;
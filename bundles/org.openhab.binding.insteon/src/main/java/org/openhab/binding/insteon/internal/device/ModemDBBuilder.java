@@ -25,6 +25,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.insteon.internal.driver.ModemDBEntry;
 import org.openhab.binding.insteon.internal.driver.Port;
 import org.openhab.binding.insteon.internal.message.FieldException;
+import org.openhab.binding.insteon.internal.message.FieldName;
 import org.openhab.binding.insteon.internal.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.message.Msg;
 import org.openhab.binding.insteon.internal.message.MsgListener;
@@ -121,17 +122,17 @@ public class ModemDBBuilder implements MsgListener {
             return;
         }
         try {
-            if (msg.getByte("Cmd") == 0x69 || msg.getByte("Cmd") == 0x6a) {
+            if (msg.getByte(FieldName.CMD) == 0x69 || msg.getByte(FieldName.CMD) == 0x6a) {
                 // If the flag is "ACK/NACK", a record response
                 // will follow, so we do nothing here.
                 // If its "NACK", there are none
-                if (msg.getByte("ACK/NACK") == 0x15) {
+                if (msg.getByte(FieldName.ACK_NACK) == 0x15) {
                     logger.debug("got all link records.");
                     done();
                 }
-            } else if (msg.getByte("Cmd") == 0x57) {
+            } else if (msg.getByte(FieldName.CMD) == 0x57) {
                 // we got the link record response
-                updateModemDB(msg.getAddress("LinkAddr"), port, msg, false);
+                updateModemDB(msg.getAddress(FieldName.LINK_ADDR), port, msg, false);
                 port.writeMessage(Msg.makeMessage("GetNextALLLinkRecord"));
             }
         } catch (FieldException e) {
@@ -159,11 +160,11 @@ public class ModemDBBuilder implements MsgListener {
             for (Entry<InsteonAddress, ModemDBEntry> db : dbes.entrySet()) {
                 List<Msg> lrs = db.getValue().getLinkRecords();
                 for (Msg m : lrs) {
-                    int recordFlags = m.getByte("RecordFlags") & 0xff;
+                    int recordFlags = m.getByte(FieldName.RECORD_FLAGS) & 0xff;
                     String ms = ((recordFlags & (0x1 << 6)) != 0) ? "CTRL" : "RESP";
                     logger.debug("MDB {}: {} group: {} data1: {} data2: {} data3: {}", db.getKey(), ms,
-                            toHex(m.getByte("ALLLinkGroup")), toHex(m.getByte("LinkData1")),
-                            toHex(m.getByte("LinkData2")), toHex(m.getByte("LinkData2")));
+                            toHex(m.getByte(FieldName.ALL_LINK_GROUP)), toHex(m.getByte(FieldName.LINK_DATA1)),
+                            toHex(m.getByte(FieldName.LINK_DATA2)), toHex(m.getByte(FieldName.LINK_DATA2)));
                 }
                 logger.debug("MDB -----");
             }
@@ -191,8 +192,8 @@ public class ModemDBBuilder implements MsgListener {
             if (m != null) {
                 dbe.addLinkRecord(m);
                 try {
-                    byte group = m.getByte("ALLLinkGroup");
-                    int recordFlags = m.getByte("RecordFlags") & 0xff;
+                    byte group = m.getByte(FieldName.ALL_LINK_GROUP);
+                    int recordFlags = m.getByte(FieldName.RECORD_FLAGS) & 0xff;
                     if ((recordFlags & (0x1 << 6)) != 0) {
                         dbe.addControls(group);
                     } else {
@@ -12,7 +12,6 @@
  */
 package org.openhab.binding.insteon.internal.device;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,6 +34,7 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public abstract class PollHandler {
     private static final Logger logger = LoggerFactory.getLogger(PollHandler.class);
+    private static final HandlerFactory<PollHandler> FACTORY = new HandlerFactory<>(PollHandler.class);
     DeviceFeature feature;
     Map<String, String> parameters = new HashMap<>();
 
@@ -134,7 +134,7 @@ public abstract class PollHandler {
     }
 
     /**
-     * Factory method for creating handlers of a given name using java reflection
+     * Factory method for creating handlers of a given name
      *
      * @param ph the name of the handler to create
      * @param f the feature for which to create the handler
@@ -142,17 +142,12 @@ public abstract class PollHandler {
      */
     @Nullable
     public static <T extends PollHandler> T makeHandler(HandlerEntry ph, DeviceFeature f) {
-        String cname = PollHandler.class.getName() + "$" + ph.getName();
         try {
-            Class<?> c = Class.forName(cname);
             @SuppressWarnings("unchecked")
-            Class<? extends T> dc = (Class<? extends T>) c;
-            @Nullable
-            T phc = dc.getDeclaredConstructor(DeviceFeature.class).newInstance(f);
+            T phc = (T) FACTORY.create(ph.getName(), f);
             phc.setParameters(ph.getParams());
             return phc;
-        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+        } catch (ReflectiveOperationException | ClassCastException | SecurityException e) {
             logger.warn("error trying to create message handler: {}", ph.getName(), e);
         }
         return null;
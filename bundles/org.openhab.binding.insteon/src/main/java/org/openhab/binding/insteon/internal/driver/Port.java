@@ -29,6 +29,7 @@ import org.openhab.binding.insteon.internal.device.InsteonDevice;
 import org.openhab.binding.insteon.internal.device.ModemDBBuilder;
 import org.openhab.binding.insteon.internal.handler.InsteonDeviceHandler;
 import org.openhab.binding.insteon.internal.message.FieldException;
+import org.openhab.binding.insteon.internal.message.FieldName;
 import org.openhab.binding.insteon.internal.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.message.Msg;
 import org.openhab.binding.insteon.internal.message.MsgFactory;
@@ -486,9 +487,9 @@ public class Port {
                 if (msg.isPureNack()) {
                     return;
                 }
-                if (msg.getByte("Cmd") == 0x60) {
+                if (msg.getByte(FieldName.CMD) == 0x60) {
                     // add the modem to the device list
-                    InsteonAddress a = new InsteonAddress(msg.getAddress("IMAddress"));
+                    InsteonAddress a = new InsteonAddress(msg.getAddress(FieldName.IM_ADDRESS));
                     DeviceTypeLoader instance = DeviceTypeLoader.instance();
                     if (instance != null) {
                         DeviceType dt = instance.getDeviceType(InsteonDeviceHandler.PLM_PRODUCT_KEY);
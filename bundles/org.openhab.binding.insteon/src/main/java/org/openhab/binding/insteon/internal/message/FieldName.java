@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.message;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Name of a message field, interned to a dense index. A {@link MsgDefinition} keeps its fields in an array indexed by
+ * it, so accessing a field by one of the constants below is an array lookup instead of hashing the name string.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public final class FieldName {
+    private static final Map<String, FieldName> NAMES = new ConcurrentHashMap<>();
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    public static final FieldName CMD = of("Cmd");
+    public static final FieldName ACK_NACK = of("ACK/NACK");
+    public static final FieldName MESSAGE_FLAGS = of("messageFlags");
+    public static final FieldName FROM_ADDRESS = of("fromAddress");
+    public static final FieldName TO_ADDRESS = of("toAddress");
+    public static final FieldName COMMAND1 = of("command1");
+    public static final FieldName COMMAND2 = of("command2");
+    public static final FieldName USER_DATA1 = of("userData1");
+    public static final FieldName USER_DATA2 = of("userData2");
+    public static final FieldName USER_DATA3 = of("userData3");
+    public static final FieldName USER_DATA4 = of("userData4");
+    public static final FieldName USER_DATA5 = of("userData5");
+    public static final FieldName USER_DATA6 = of("userData6");
+    public static final FieldName USER_DATA7 = of("userData7");
+    public static final FieldName USER_DATA8 = of("userData8");
+    public static final FieldName USER_DATA9 = of("userData9");
+    public static final FieldName USER_DATA10 = of("userData10");
+    public static final FieldName USER_DATA11 = of("userData11");
+    public static final FieldName USER_DATA12 = of("userData12");
+    public static final FieldName USER_DATA13 = of("userData13");
+    public static final FieldName USER_DATA14 = of("userData14");
+    public static final FieldName RAW_X10 = of("rawX10");
+    public static final FieldName X10_FLAG = of("X10Flag");
+    public static final FieldName ALL_LINK_GROUP = of("ALLLinkGroup");
+    public static final FieldName RECORD_FLAGS = of("RecordFlags");
+    public static final FieldName LINK_ADDR = of("LinkAddr");
+    public static final FieldName LINK_DATA1 = of("LinkData1");
+    public static final FieldName LINK_DATA2 = of("LinkData2");
+    public static final FieldName IM_ADDRESS = of("IMAddress");
+
+    private static final FieldName[] USER_DATA = { USER_DATA1, USER_DATA2, USER_DATA3, USER_DATA4, USER_DATA5,
+            USER_DATA6, USER_DATA7, USER_DATA8, USER_DATA9, USER_DATA10, USER_DATA11, USER_DATA12, USER_DATA13,
+            USER_DATA14 };
+
+    private final String name;
+    private final int index;
+
+    private FieldName(String name, int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * Get the interned field name for a string, as used in the message definitions and the device features
+     *
+     * @param name the name of the field
+     * @return the field name, always the same instance for the same string
+     */
+    public static FieldName of(String name) {
+        FieldName fieldName = NAMES.get(name);
+        if (fieldName == null) {
+            fieldName = NAMES.computeIfAbsent(name, n -> new FieldName(n, COUNT.getAndIncrement()));
+        }
+        return fieldName;
+    }
+
+    /**
+     * @param number number of the user data field, from 1 to 14
+     * @return the name of the user data field
+     */
+    public static FieldName userData(int number) {
+        return USER_DATA[number - 1];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
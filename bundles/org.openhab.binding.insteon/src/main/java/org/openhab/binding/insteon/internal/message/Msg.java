@@ -107,15 +107,15 @@ public class Msg {
 
     /**
      * Copy constructor, needed to make a copy of the templates when
-     * generating messages from them.
+     * generating messages from them. Only the data is copied, the
+     * message definition is not modified after loading and is shared.
      *
      * @param m the message to make a copy of
      */
     public Msg(Msg m) {
         headerLength = m.headerLength;
         data = m.data.clone();
-        // the message definition usually doesn't change, but just to be sure...
-        definition = new MsgDefinition(m.definition);
+        definition = m.definition;
         direction = m.direction;
     }
 
@@ -187,11 +187,11 @@ public class Msg {
         if (getLength() < 2) {
             return false;
         }
-        if (!definition.containsField("messageFlags")) {
+        if (!definition.containsField(FieldName.MESSAGE_FLAGS)) {
             return (false);
         }
         try {
-            byte flags = getByte("messageFlags");
+            byte flags = getByte(FieldName.MESSAGE_FLAGS);
             return ((flags & 0x10) == 0x10);
         } catch (FieldException e) {
             // do nothing
@@ -202,7 +202,7 @@ public class Msg {
     public boolean isUnsolicited() {
         // if the message has an ACK/NACK, it is in response to our message,
         // otherwise it is out-of-band, i.e. unsolicited
-        return !definition.containsField("ACK/NACK");
+        return !definition.containsField(FieldName.ACK_NACK);
     }
 
     public boolean isEcho() {
@@ -211,7 +211,7 @@ public class Msg {
 
     public boolean isOfType(MsgType mt) {
         try {
-            MsgType t = MsgType.fromValue(getByte("messageFlags"));
+            MsgType t = MsgType.fromValue(getByte(FieldName.MESSAGE_FLAGS));
             return (t == mt);
         } catch (FieldException e) {
             return false;
@@ -240,7 +240,7 @@ public class Msg {
 
     public boolean isX10() {
         try {
-            int cmd = getByte("Cmd") & 0xff;
+            int cmd = getByte(FieldName.CMD) & 0xff;
             if (cmd == 0x63 || cmd == 0x52) {
                 return true;
             }
@@ -272,8 +272,19 @@ public class Msg {
         return a;
     }
 
+    public @Nullable InsteonAddress getAddr(FieldName name) {
+        @Nullable
+        InsteonAddress a = null;
+        try {
+            a = definition.getField(name).getAddress(data);
+        } catch (FieldException e) {
+            // do nothing, we'll return null
+        }
+        return a;
+    }
+
     public int getHopsLeft() throws FieldException {
-        int hops = (getByte("messageFlags") & 0x0c) >> 2;
+        int hops = (getByte(FieldName.MESSAGE_FLAGS) & 0x0c) >> 2;
         return hops;
     }
 
@@ -288,6 +299,16 @@ public class Msg {
         f.setByte(data, value);
     }
 
+    /**
+     * Will put a byte at the specified field
+     *
+     * @param name the name of the field
+     * @param value the byte to put
+     */
+    public void setByte(FieldName name, byte value) throws FieldException {
+        definition.getField(name).setByte(data, value);
+    }
+
     /**
      * Will put an int at the specified field key
      *
@@ -310,6 +331,16 @@ public class Msg {
         f.setAddress(data, adr);
     }
 
+    /**
+     * Will put address bytes at the field
+     *
+     * @param name the name of the field
+     * @param adr the address to put
+     */
+    public void setAddress(FieldName name, InsteonAddress adr) throws FieldException {
+        definition.getField(name).setAddress(data, adr);
+    }
+
     /**
      * Will fetch a byte
      *
@@ -320,6 +351,16 @@ public class Msg {
         return (definition.getField(key).getByte(data));
     }
 
+    /**
+     * Will fetch a byte
+     *
+     * @param name the name of the field
+     * @return the byte
+     */
+    public byte getByte(FieldName name) throws FieldException {
+        return definition.getField(name).getByte(data);
+    }
+
     /**
      * Will fetch a byte array starting at a certain field
      *
@@ -328,7 +369,22 @@ public class Msg {
      * @return the byte array
      */
     public byte[] getBytes(String key, int numBytes) throws FieldException {
-        int offset = definition.getField(key).getOffset();
+        return getBytes(definition.getField(key), numBytes);
+    }
+
+    /**
+     * Will fetch a byte array starting at a certain field
+     *
+     * @param name the name of the first field
+     * @param numBytes of bytes to get
+     * @return the byte array
+     */
+    public byte[] getBytes(FieldName name, int numBytes) throws FieldException {
+        return getBytes(definition.getField(name), numBytes);
+    }
+
+    private byte[] getBytes(Field field, int numBytes) throws FieldException {
+        int offset = field.getOffset();
         if (offset < 0 || offset + numBytes > data.length) {
             throw new FieldException("data index out of bounds!");
         }
@@ -348,6 +404,16 @@ public class Msg {
         return (definition.getField(field).getAddress(data));
     }
 
+    /**
+     * Will fetch address from field
+     *
+     * @param name the field name to fetch
+     * @return the address
+     */
+    public InsteonAddress getAddress(FieldName name) throws FieldException {
+        return definition.getField(name).getAddress(data);
+    }
+
     /**
      * Fetch 3-byte (24bit) from message
      *
@@ -374,20 +440,9 @@ public class Msg {
     public void setUserData(byte[] arg) {
         byte[] data = Arrays.copyOf(arg, 14); // appends zeros if short
         try {
-            setByte("userData1", data[0]);
-            setByte("userData2", data[1]);
-            setByte("userData3", data[2]);
-            setByte("userData4", data[3]);
-            setByte("userData5", data[4]);
-            setByte("userData6", data[5]);
-            setByte("userData7", data[6]);
-            setByte("userData8", data[7]);
-            setByte("userData9", data[8]);
-            setByte("userData10", data[9]);
-            setByte("userData11", data[10]);
-            setByte("userData12", data[11]);
-            setByte("userData13", data[12]);
-            setByte("userData14", data[13]);
+            for (int i = 0; i < data.length; i++) {
+                setByte(FieldName.userData(i + 1), data[i]);
+            }
         } catch (FieldException e) {
             logger.warn("got field exception on msg {}:", e.getMessage());
         }
@@ -401,13 +456,13 @@ public class Msg {
     public int setCRC() {
         int crc;
         try {
-            crc = getByte("command1") + getByte("command2");
-            byte[] bytes = getBytes("userData1", 13); // skip userData14!
+            crc = getByte(FieldName.COMMAND1) + getByte(FieldName.COMMAND2);
+            byte[] bytes = getBytes(FieldName.USER_DATA1, 13); // skip userData14!
             for (byte b : bytes) {
                 crc += b;
             }
             crc = ((~crc) + 1) & 0xFF;
-            setByte("userData14", (byte) (crc & 0xFF));
+            setByte(FieldName.USER_DATA14, (byte) (crc & 0xFF));
         } catch (FieldException e) {
             logger.warn("got field exception on msg {}:", this, e);
             crc = 0;
@@ -423,7 +478,7 @@ public class Msg {
     public int setCRC2() {
         int crc = 0;
         try {
-            byte[] bytes = getBytes("command1", 14);
+            byte[] bytes = getBytes(FieldName.COMMAND1, 14);
             for (int loop = 0; loop < bytes.length; loop++) {
                 int b = bytes[loop] & 0xFF;
                 for (int bit = 0; bit < 8; bit++) {
@@ -444,8 +499,8 @@ public class Msg {
                     b = b >> 1;
                 }
             }
-            setByte("userData13", (byte) ((crc >> 8) & 0xFF));
-            setByte("userData14", (byte) (crc & 0xFF));
+            setByte(FieldName.USER_DATA13, (byte) ((crc >> 8) & 0xFF));
+            setByte(FieldName.USER_DATA14, (byte) (crc & 0xFF));
         } catch (FieldException e) {
             logger.warn("got field exception on msg {}:", this, e);
             crc = 0;
@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.insteon.internal.message;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,12 +24,16 @@ import org.eclipse.jdt.annotation.Nullable;
  * For more info, see the public Insteon Developer's Guide, 2nd edition,
  * and the Insteon Modem Developer's Guide.
  *
+ * Besides the map by name, the fields are kept in a table indexed by {@link FieldName}, so the
+ * offset and type of a field can be found without hashing its name.
+ *
  * @author Daniel Pfrommer - Initial contribution
  * @author Rob Nielsen - Port to openHAB 2 insteon binding
  */
 @NonNullByDefault
 public class MsgDefinition {
     private Map<String, Field> fields = new HashMap<>();
+    private @Nullable Field[] fieldTable = new Field[0];
 
     MsgDefinition() {
     }
@@ -40,6 +45,7 @@ public class MsgDefinition {
      */
     MsgDefinition(MsgDefinition m) {
         fields = new HashMap<>(m.fields);
+        fieldTable = m.fieldTable.clone();
     }
 
     public Map<String, Field> getFields() {
@@ -50,8 +56,22 @@ public class MsgDefinition {
         return fields.containsKey(name);
     }
 
+    public boolean containsField(FieldName name) {
+        return findField(name) != null;
+    }
+
     public void addField(Field field) {
         fields.put(field.getName(), field);
+        int index = FieldName.of(field.getName()).getIndex();
+        if (index >= fieldTable.length) {
+            fieldTable = Arrays.copyOf(fieldTable, index + 1);
+        }
+        fieldTable[index] = field;
+    }
+
+    private @Nullable Field findField(FieldName name) {
+        int index = name.getIndex();
+        return index < fieldTable.length ? fieldTable[index] : null;
     }
 
     /**
@@ -69,4 +89,19 @@ public class MsgDefinition {
         }
         return f;
     }
+
+    /**
+     * Finds field of a given name, without hashing the name
+     *
+     * @param name name of the field to search for
+     * @return reference to field
+     * @throws FieldException if no such field can be found
+     */
+    public Field getField(FieldName name) throws FieldException {
+        Field f = findField(name);
+        if (f == null) {
+            throw new FieldException("field " + name + " not found");
+        }
+        return f;
+    }
 }
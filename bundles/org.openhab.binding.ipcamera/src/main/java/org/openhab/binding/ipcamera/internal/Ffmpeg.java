@@ -18,6 +18,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -54,6 +55,7 @@ public class Ffmpeg {
     private int keepAlive = 8;
     private String password;
     private Boolean notFrozen = true;
+    private List<byte[]> inputFrames = List.of();
 
     public Ffmpeg(IpCameraHandler handle, FFmpegFormat format, String ffmpegLocation, String inputArguments,
             String input, String outArguments, String output, String username, String password) {
@@ -78,6 +80,14 @@ public class Ffmpeg {
         commandArrayList.add(0, ffmpegLocation);
     }
 
+    /**
+     * Sets jpgs to feed to FFmpeg through its standard input, for use with an input of <code>-</code>. The frames are
+     * written once each time FFmpeg is started, and the input is closed afterwards.
+     */
+    public void setInputFrames(List<byte[]> frames) {
+        inputFrames = frames;
+    }
+
     public void setKeepAlive(int numberOfEightSeconds) {
         // We poll every 8 seconds due to mjpeg stream requirement.
         if (keepAlive == -1 && numberOfEightSeconds > 1) {
@@ -113,6 +123,16 @@ public class Ffmpeg {
                     new DecimalType(++ipCameraHandler.gifHistoryLength));
         }
 
+        private void writeInputFrames(Process process, List<byte[]> frames) {
+            try (OutputStream input = process.getOutputStream()) {
+                for (byte[] frame : frames) {
+                    input.write(frame);
+                }
+            } catch (IOException e) {
+                logger.debug("Could not pipe the snapshots to FFmpeg: {}", e.getMessage());
+            }
+        }
+
         private void mp4Created() {
             ipCameraHandler.setChannelState(CHANNEL_RECORDING_MP4, DecimalType.ZERO);
             ipCameraHandler.setChannelState(CHANNEL_MP4_HISTORY_LENGTH,
@@ -122,9 +142,16 @@ public class Ffmpeg {
         @Override
         public void run() {
             try {
-                process = Runtime.getRuntime().exec(commandArrayList.toArray(new String[commandArrayList.size()]));
+                Process localProcess = Runtime.getRuntime()
+                        .exec(commandArrayList.toArray(new String[commandArrayList.size()]));
+                process = localProcess;
+                List<byte[]> frames = inputFrames;
+                if (!frames.isEmpty()) {
+                    // written from another thread so FFmpeg's log output can not block it
+                    threadPool.execute(() -> writeInputFrames(localProcess, frames));
+                }
 
-                InputStream errorStream = process.getErrorStream();
+                InputStream errorStream = localProcess.getErrorStream();
                 InputStreamReader errorStreamReader = new InputStreamReader(errorStream);
                 BufferedReader bufferedReader = new BufferedReader(errorStreamReader);
                 String line = null;
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link GifEncoder} creates animated GIF files from jpg snapshots in Java, for cameras that only provide
+ * snapshots or when FFmpeg is not installed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GifEncoder {
+    private static final String METADATA_FORMAT = "javax_imageio_gif_image_1.0";
+
+    /**
+     * Encodes the snapshots as an endlessly looping animated GIF.
+     *
+     * @param snapshots jpg snapshots, in the order to show them
+     * @param frameDelayMs time each frame is shown, in milliseconds
+     * @param output stream to write the GIF to, not closed by this method
+     * @return number of frames written, snapshots that can not be decoded are skipped
+     */
+    public static int encode(List<byte[]> snapshots, int frameDelayMs, OutputStream output) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("gif");
+        if (!writers.hasNext()) {
+            throw new IOException("No GIF writer is available");
+        }
+        ImageWriter writer = writers.next();
+        int frames = 0;
+        // ImageIO.createImageOutputStream() may cache in a temporary file, the frames are kept in memory instead
+        try (ImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.prepareWriteSequence(null);
+            for (byte[] snapshot : snapshots) {
+                BufferedImage image = decode(snapshot);
+                if (image == null) {
+                    continue;
+                }
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image),
+                        param);
+                configureFrame(metadata, frameDelayMs, frames == 0);
+                writer.writeToSequence(new IIOImage(image, null, metadata), param);
+                frames++;
+            }
+            if (frames > 0) {
+                writer.endWriteSequence();
+            }
+        } finally {
+            writer.dispose();
+        }
+        return frames;
+    }
+
+    private static @Nullable BufferedImage decode(byte[] snapshot) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(snapshot));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void configureFrame(IIOMetadata metadata, int frameDelayMs, boolean firstFrame)
+            throws IOException {
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(METADATA_FORMAT);
+        IIOMetadataNode control = getChild(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("delayTime", Integer.toString(Math.max(1, frameDelayMs / 10)));
+        control.setAttribute("transparentColorIndex", "0");
+        if (firstFrame) {
+            // NETSCAPE2.0 extension with a loop count of 0 makes the animation repeat forever
+            IIOMetadataNode extensions = getChild(root, "ApplicationExtensions");
+            IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+            loop.setAttribute("applicationID", "NETSCAPE");
+            loop.setAttribute("authenticationCode", "2.0");
+            loop.setUserObject(new byte[] { 0x1, 0, 0 });
+            extensions.appendChild(loop);
+        }
+        metadata.setFromTree(METADATA_FORMAT, root);
+    }
+
+    private static IIOMetadataNode getChild(IIOMetadataNode root, String name) {
+        for (int i = 0; i < root.getLength(); i++) {
+            if (root.item(i).getNodeName().equalsIgnoreCase(name)) {
+                return (IIOMetadataNode) root.item(i);
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        root.appendChild(node);
+        return node;
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SnapshotBuffer} is a ring buffer of the most recent jpg snapshots, used as the preroll of GIF recordings.
+ * It is bounded both by the number of snapshots and by the bytes they use, so large snapshots can not exhaust the
+ * memory.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnapshotBuffer {
+    private final long maxBytes;
+    private byte[][] snapshots = new byte[0][];
+    private int first = 0;
+    private int size = 0;
+    private long bytes = 0;
+
+    public SnapshotBuffer(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Sets how many snapshots are kept, dropping the oldest ones if needed.
+     */
+    public synchronized void setCapacity(int capacity) {
+        if (capacity == snapshots.length) {
+            return;
+        }
+        List<byte[]> kept = getSnapshots();
+        snapshots = new byte[Math.max(0, capacity)][];
+        first = 0;
+        size = 0;
+        bytes = 0;
+        for (byte[] snapshot : kept.subList(Math.max(0, kept.size() - snapshots.length), kept.size())) {
+            add(snapshot);
+        }
+    }
+
+    public synchronized void add(byte[] snapshot) {
+        if (snapshots.length == 0) {
+            return;
+        }
+        if (size == snapshots.length) {
+            removeOldest();
+        }
+        snapshots[(first + size) % snapshots.length] = snapshot;
+        size++;
+        bytes += snapshot.length;
+        while (bytes > maxBytes && size > 1) {
+            removeOldest();
+        }
+    }
+
+    private void removeOldest() {
+        byte[] oldest = snapshots[first];
+        bytes -= oldest.length;
+        snapshots[first] = new byte[0];
+        first = (first + 1) % snapshots.length;
+        size--;
+    }
+
+    /**
+     * @return the buffered snapshots, oldest first. The jpgs themselves are shared, not copied.
+     */
+    public synchronized List<byte[]> getSnapshots() {
+        List<byte[]> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(snapshots[(first + i) % snapshots.length]);
+        }
+        return list;
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized void clear() {
+        snapshots = new byte[snapshots.length][];
+        first = 0;
+        size = 0;
+        bytes = 0;
+    }
+}
@@ -15,7 +15,7 @@ package org.openhab.binding.ipcamera.internal.handler;
 import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
 
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -28,11 +28,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -50,6 +50,7 @@ import org.openhab.binding.ipcamera.internal.DahuaHandler;
 import org.openhab.binding.ipcamera.internal.DoorBirdHandler;
 import org.openhab.binding.ipcamera.internal.Ffmpeg;
 import org.openhab.binding.ipcamera.internal.FoscamHandler;
+import org.openhab.binding.ipcamera.internal.GifEncoder;
 import org.openhab.binding.ipcamera.internal.GroupTracker;
 import org.openhab.binding.ipcamera.internal.Helper;
 import org.openhab.binding.ipcamera.internal.HikvisionHandler;
@@ -60,6 +61,7 @@ import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegForm
 import org.openhab.binding.ipcamera.internal.IpCameraDynamicStateDescriptionProvider;
 import org.openhab.binding.ipcamera.internal.MyNettyAuthHandler;
 import org.openhab.binding.ipcamera.internal.ReolinkHandler;
+import org.openhab.binding.ipcamera.internal.SnapshotBuffer;
 import org.openhab.binding.ipcamera.internal.onvif.OnvifConnection;
 import org.openhab.binding.ipcamera.internal.servlet.CameraServlet;
 import org.openhab.core.OpenHAB;
@@ -129,6 +131,8 @@ public class IpCameraHandler extends BaseThingHandler {
     public final Logger logger = LoggerFactory.getLogger(getClass());
     public final IpCameraDynamicStateDescriptionProvider stateDescriptionProvider;
     private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(2);
+    // Encoding a GIF in Java can take seconds, so it must not hold up the polling and snapshot jobs
+    private ExecutorService gifExecutor = Executors.newSingleThreadExecutor();
     private GroupTracker groupTracker;
     public CameraConfig cameraConfig = new CameraConfig();
 
@@ -163,7 +167,11 @@ public class IpCameraHandler extends BaseThingHandler {
     private String mp4Filename = "ipcamera";
     private int mp4RecordTime;
     private int gifRecordTime = 5;
-    private LinkedList<byte[]> fifoSnapshotBuffer = new LinkedList<>();
+    // Limits the RAM used by the GIF preroll, even with a long preroll and large snapshots.
+    private static final long SNAPSHOT_BUFFER_MAX_BYTES = 32 * 1024 * 1024;
+    private final SnapshotBuffer snapshotBuffer = new SnapshotBuffer(SNAPSHOT_BUFFER_MAX_BYTES);
+    // The snapshots used for the last GIF, served as snapshotN.jpg
+    private volatile List<byte[]> gifSnapshots = List.of();
     private int snapCount;
     private boolean updateImageChannel = false;
     private byte lowPriorityCounter = 0;
@@ -267,11 +275,9 @@ public class IpCameraHandler extends BaseThingHandler {
                 if (msg instanceof HttpContent content) {
                     if (mjpegUri.equals(requestUrl) && !(content instanceof LastHttpContent)) {
                         // multiple MJPEG stream packets come back as this.
-                        byte[] chunkedFrame = new byte[content.content().readableBytes()];
-                        content.content().getBytes(content.content().readerIndex(), chunkedFrame);
                         CameraServlet localServlet = servlet;
                         if (localServlet != null) {
-                            localServlet.openStreams.queueFrame(chunkedFrame);
+                            localServlet.openStreams.queueChunk(content.content());
                         }
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
@@ -679,10 +685,8 @@ public class IpCameraHandler extends BaseThingHandler {
         try {
             currentSnapshot = incommingSnapshot;
             if (cameraConfig.getGifPreroll() > 0) {
-                fifoSnapshotBuffer.add(incommingSnapshot);
-                if (fifoSnapshotBuffer.size() > (cameraConfig.getGifPreroll() + gifRecordTime)) {
-                    fifoSnapshotBuffer.removeFirst();
-                }
+                snapshotBuffer.setCapacity(cameraConfig.getGifPreroll() + gifRecordTime);
+                snapshotBuffer.add(incommingSnapshot);
             }
         } finally {
             lockCurrentSnapshot.unlock();
@@ -773,27 +777,64 @@ public class IpCameraHandler extends BaseThingHandler {
         }
     }
 
-    private void storeSnapshots() {
-        int count = 0;
-        // Need to lock as fifoSnapshotBuffer is not thread safe and new snapshots can be incoming.
-        lockCurrentSnapshot.lock();
-        try {
-            for (byte[] foo : fifoSnapshotBuffer) {
-                File file = new File(cameraConfig.getFfmpegOutput() + "snapshot" + count + ".jpg");
-                count++;
-                try {
-                    OutputStream fos = new FileOutputStream(file);
-                    fos.write(foo);
-                    fos.close();
-                } catch (FileNotFoundException e) {
-                    logger.warn("FileNotFoundException {}", e.getMessage());
-                } catch (IOException e) {
-                    logger.warn("IOException {}", e.getMessage());
-                }
+    /**
+     * Takes the buffered snapshots for a GIF. They stay available as snapshotN.jpg until the next GIF is created.
+     */
+    private List<byte[]> takeGifSnapshots() {
+        List<byte[]> snapshots = snapshotBuffer.getSnapshots();
+        gifSnapshots = snapshots;
+        return snapshots;
+    }
+
+    /**
+     * @return a snapshot used for the last GIF created from the preroll, or null if there is none with this index
+     */
+    public byte @Nullable [] getGifSnapshot(int index) {
+        List<byte[]> snapshots = gifSnapshots;
+        return index >= 0 && index < snapshots.size() ? snapshots.get(index) : null;
+    }
+
+    private void createGif() {
+        if (cameraConfig.getGifPreroll() > 0 && cameraConfig.getFfmpegLocation().isEmpty()) {
+            // FFmpeg is not installed
+            encodeGif();
+        } else {
+            setupFfmpegFormat(FFmpegFormat.GIF);
+        }
+    }
+
+    private void encodeGif() {
+        if (cameraConfig.getFfmpegOutput().isEmpty()) {
+            logger.warn("The camera tried to create a GIF when the output folder is not set.");
+            return;
+        }
+        List<byte[]> snapshots = takeGifSnapshots();
+        String filename = cameraConfig.getFfmpegOutput() + gifFilename + ".gif";
+        updateGifHistory();
+        gifExecutor.execute(() -> {
+            new File(cameraConfig.getFfmpegOutput()).mkdirs();
+            try (OutputStream output = new BufferedOutputStream(new FileOutputStream(filename))) {
+                int frames = GifEncoder.encode(snapshots, 1000, output);
+                logger.debug("Created {} from {} snapshots", filename, frames);
+            } catch (IOException e) {
+                logger.warn("Could not create GIF {}: {}", filename, e.getMessage());
+            }
+            setChannelState(CHANNEL_RECORDING_GIF, DecimalType.ZERO);
+            setChannelState(CHANNEL_GIF_HISTORY_LENGTH, new DecimalType(++gifHistoryLength));
+        });
+    }
+
+    private void updateGifHistory() {
+        if (gifHistory.isEmpty()) {
+            gifHistory = gifFilename;
+        } else if (!"ipcamera".equals(gifFilename)) {
+            gifHistory = gifFilename + "," + gifHistory;
+            if (gifHistoryLength > 49) {
+                int endIndex = gifHistory.lastIndexOf(",");
+                gifHistory = gifHistory.substring(0, endIndex);
             }
-        } finally {
-            lockCurrentSnapshot.unlock();
         }
+        setChannelState(CHANNEL_GIF_HISTORY, new StringType(gifHistory));
     }
 
     public void setupFfmpegFormat(FFmpegFormat format) {
@@ -802,7 +843,8 @@ public class IpCameraHandler extends BaseThingHandler {
             logger.warn("The camera tried to use a FFmpeg feature when the output folder is not set.");
             return;
         }
-        if (rtspUri.isEmpty()) {
+        if (rtspUri.isEmpty() && !(format == FFmpegFormat.GIF && cameraConfig.getGifPreroll() > 0)) {
+            // a GIF with preroll is created from the buffered snapshots
             logger.warn("The camera tried to use a FFmpeg feature when no valid input for FFmpeg is provided.");
             return;
         }
@@ -840,12 +882,15 @@ public class IpCameraHandler extends BaseThingHandler {
                 break;
             case GIF:
                 if (cameraConfig.getGifPreroll() > 0) {
-                    ffmpegGIF = new Ffmpeg(this, format, cameraConfig.getFfmpegLocation(),
-                            "-y -r 1 -hide_banner -loglevel warning", cameraConfig.getFfmpegOutput() + "snapshot%d.jpg",
+                    // The buffered snapshots are piped to FFmpeg instead of being written to disk first
+                    Ffmpeg localPrerollGIF = new Ffmpeg(this, format, cameraConfig.getFfmpegLocation(),
+                            "-y -r 1 -f image2pipe -hide_banner -loglevel warning", "-",
                             "-frames:v " + (cameraConfig.getGifPreroll() + gifRecordTime) + " "
                                     + cameraConfig.getGifOutOptions(),
                             cameraConfig.getFfmpegOutput() + gifFilename + ".gif", cameraConfig.getUser(),
                             cameraConfig.getPassword());
+                    localPrerollGIF.setInputFrames(takeGifSnapshots());
+                    ffmpegGIF = localPrerollGIF;
                 } else {
                     if (!inputOptions.isEmpty()) {
                         inputOptions = "-y -t " + gifRecordTime + " -hide_banner -loglevel warning " + inputOptions;
@@ -856,22 +901,10 @@ public class IpCameraHandler extends BaseThingHandler {
                             cameraConfig.getGifOutOptions(), cameraConfig.getFfmpegOutput() + gifFilename + ".gif",
                             cameraConfig.getUser(), cameraConfig.getPassword());
                 }
-                if (cameraConfig.getGifPreroll() > 0) {
-                    storeSnapshots();
-                }
                 Ffmpeg localGIF = ffmpegGIF;
                 if (localGIF != null) {
                     localGIF.startConverting();
-                    if (gifHistory.isEmpty()) {
-                        gifHistory = gifFilename;
-                    } else if (!"ipcamera".equals(gifFilename)) {
-                        gifHistory = gifFilename + "," + gifHistory;
-                        if (gifHistoryLength > 49) {
-                            int endIndex = gifHistory.lastIndexOf(",");
-                            gifHistory = gifHistory.substring(0, endIndex);
-                        }
-                    }
-                    setChannelState(CHANNEL_GIF_HISTORY, new StringType(gifHistory));
+                    updateGifHistory();
                 }
                 break;
             case RECORD:
@@ -1047,7 +1080,7 @@ public class IpCameraHandler extends BaseThingHandler {
         if (cameraConfig.getGifPreroll() > 0) {
             snapCount = seconds;
         } else {
-            setupFfmpegFormat(FFmpegFormat.GIF);
+            createGif();
         }
         setChannelState(CHANNEL_RECORDING_GIF, DecimalType.valueOf(new String("" + seconds)));
     }
@@ -1471,7 +1504,7 @@ public class IpCameraHandler extends BaseThingHandler {
         updateSnapshot();
         if (snapCount > 0) {
             if (--snapCount == 0) {
-                setupFfmpegFormat(FFmpegFormat.GIF);
+                createGif();
             }
         }
     }
@@ -1650,6 +1683,7 @@ public class IpCameraHandler extends BaseThingHandler {
     public void initialize() {
         cameraConfig = getConfigAs(CameraConfig.class);
         threadPool = Executors.newScheduledThreadPool(2);
+        gifExecutor = Executors.newSingleThreadExecutor();
         mainEventLoopGroup = new NioEventLoopGroup(3);
         snapshotUri = getCorrectUrlFormat(cameraConfig.getSnapshotUrl());
         mjpegUri = getCorrectUrlFormat(cameraConfig.getMjpegUrl());
@@ -1787,9 +1821,6 @@ public class IpCameraHandler extends BaseThingHandler {
     private void keepMjpegRunning() {
         CameraServlet localServlet = servlet;
         if (localServlet != null && !localServlet.openStreams.isEmpty()) {
-            if (!mjpegUri.isEmpty() && !"ffmpeg".equals(mjpegUri)) {
-                localServlet.openStreams.queueFrame(("--" + localServlet.openStreams.boundary + "\r\n\r\n").getBytes());
-            }
             localServlet.openStreams.queueFrame(getSnapshot());
         }
     }
@@ -1868,6 +1899,7 @@ public class IpCameraHandler extends BaseThingHandler {
             servlet = null;
         }
         threadPool.shutdown();
+        gifExecutor.shutdown();
         // inform all group handlers that this camera has gone offline
         groupTracker.listOfOnlineCameraHandlers.remove(this);
         groupTracker.listOfOnlineCameraUID.remove(getThing().getUID().getId());
@@ -20,6 +20,8 @@ import java.time.Instant;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.ServletInputStream;
@@ -46,6 +48,7 @@ public class CameraServlet extends IpCameraServlet {
     private static final long serialVersionUID = -134658667574L;
     private static final Dictionary<Object, Object> INIT_PARAMETERS = new Hashtable<>(
             Map.of("async-supported", "true"));
+    private static final Pattern GIF_SNAPSHOT_PATTERN = Pattern.compile("/snapshot(\\d{1,3})\\.jpg");
 
     private final IpCameraHandler handler;
     public OpenStreams openStreams = new OpenStreams();
@@ -200,30 +203,9 @@ public class CameraServlet extends IpCameraServlet {
                     output = new StreamOutput(resp, handler.mjpegContentType);
                 }
                 openStreams.addStream(output);
-                do {
-                    try {
-                        output.sendFrame();
-                    } catch (InterruptedException | IOException e) {
-                        // Never stop streaming until IOException. Occurs when browser stops the stream.
-                        openStreams.removeStream(output);
-                        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
-                        if (openStreams.isEmpty()) {
-                            if (output.isSnapshotBased) {
-                                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
-                                if (localMjpeg != null) {
-                                    localMjpeg.stopConverting();
-                                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
-                                    // in handler's pollCameraRunnable() check for frozen camera
-                                    handler.ffmpegMjpeg = null;
-                                }
-                            } else {
-                                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
-                            }
-                            logger.debug("All ipcamera.mjpeg streams have stopped.");
-                        }
-                        return;
-                    }
-                } while (!openStreams.isEmpty());
+                // frames are written with non-blocking I/O, the request thread is not held while streaming
+                output.startAsync(req.startAsync(req, resp), openStreams.getRing(), this::mjpegStreamClosed);
+                return;
             case "/autofps.mjpeg":
                 handler.streamingAutoFps = true;
                 output = new StreamOutput(resp);
@@ -261,8 +243,16 @@ public class CameraServlet extends IpCameraServlet {
                 } else if (pathInfo.endsWith(".gif")) {
                     sendFile(resp, pathInfo, "image/gif");
                 } else if (pathInfo.endsWith(".jpg")) {
-                    // Allow access to the preroll and postroll jpg files
-                    sendFile(resp, pathInfo, "image/jpg");
+                    // Allow access to the preroll and postroll jpg files, which are kept in RAM
+                    Matcher matcher = GIF_SNAPSHOT_PATTERN.matcher(pathInfo);
+                    byte @Nullable [] gifSnapshot = matcher.matches()
+                            ? handler.getGifSnapshot(Integer.parseInt(matcher.group(1)))
+                            : null;
+                    if (gifSnapshot != null) {
+                        sendSnapshotImage(resp, "image/jpg", gifSnapshot);
+                    } else {
+                        sendFile(resp, pathInfo, "image/jpg");
+                    }
                 } else if (pathInfo.endsWith(".mp4")) {
                     sendFile(resp, pathInfo, "video/mp4");
                 }
@@ -270,6 +260,25 @@ public class CameraServlet extends IpCameraServlet {
         }
     }
 
+    private void mjpegStreamClosed(StreamOutput output) {
+        openStreams.removeStream(output);
+        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
+        if (openStreams.isEmpty()) {
+            if (output.isSnapshotBased) {
+                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
+                if (localMjpeg != null) {
+                    localMjpeg.stopConverting();
+                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
+                    // in handler's pollCameraRunnable() check for frozen camera
+                    handler.ffmpegMjpeg = null;
+                }
+            } else {
+                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
+            }
+            logger.debug("All ipcamera.mjpeg streams have stopped.");
+        }
+    }
+
     @Override
     protected void sendFile(HttpServletResponse response, String filename, String contentType) throws IOException {
         // Ensure no files can be sourced from parent or child folders
@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * The {@link MjpegFrameRing} holds the most recent chunks of a mjpeg stream, shared by all clients watching the
+ * stream. Each chunk is stored once as a reference counted {@link ByteBuf} together with the position of the last
+ * multipart boundary in it, so a client that falls behind can skip to the newest frame without ever sending a
+ * partial frame. Chunks are kept in heap buffers backed by a single array, so clients can write them to the servlet
+ * output without copying.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MjpegFrameRing {
+    private static final int CAPACITY = 64;
+    private static final byte[] CRLF = { '\r', '\n' };
+
+    private final @Nullable ByteBuf[] chunks = new ByteBuf[CAPACITY];
+    private final int[] partStarts = new int[CAPACITY];
+    // sequence number of the next chunk to be published
+    private long nextSequence = 0;
+    // sequence number of the newest chunk that starts a new frame
+    private long lastPartStart = -1;
+    private byte[] boundary = new byte[0];
+
+    /**
+     * A part of a chunk to send to a client, holding a reference to the chunk that must be released after use. The
+     * buffer is always backed by an array.
+     */
+    public static class Slice {
+        public final ByteBuf buffer;
+        public final long nextSequence;
+        public final int nextOffset;
+
+        private Slice(ByteBuf buffer, long nextSequence, int nextOffset) {
+            this.buffer = buffer;
+            this.nextSequence = nextSequence;
+            this.nextOffset = nextOffset;
+        }
+    }
+
+    public synchronized void setBoundary(String boundary) {
+        this.boundary = boundary.replaceFirst("^-+", "").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Publishes a chunk of a camera's native mjpeg stream. Chunks are not aligned with frames, so the chunk is
+     * searched for the multipart boundary. The ring keeps its own reference to the chunk, or a copy if the chunk is
+     * not backed by an array.
+     */
+    public void publishChunk(ByteBuf chunk) {
+        publish(chunk.hasArray() ? chunk.retainedDuplicate() : Unpooled.copiedBuffer(chunk), -2);
+    }
+
+    /**
+     * Publishes a buffer holding exactly one multipart part, that is the boundary, the headers and one jpeg. The ring
+     * takes over the reference of the caller.
+     */
+    public void publishPart(ByteBuf part) {
+        if (part.hasArray()) {
+            publish(part, 0);
+        } else {
+            publish(Unpooled.copiedBuffer(part), 0);
+            part.release();
+        }
+    }
+
+    private synchronized void publish(ByteBuf buffer, int partStart) {
+        int index = (int) (nextSequence % CAPACITY);
+        ByteBuf old = chunks[index];
+        if (old != null) {
+            old.release();
+        }
+        if (partStart == -2) {
+            partStart = findLastPartStart(buffer);
+        }
+        chunks[index] = buffer;
+        partStarts[index] = partStart;
+        if (partStart >= 0) {
+            lastPartStart = nextSequence;
+        }
+        nextSequence++;
+    }
+
+    private int findLastPartStart(ByteBuf buffer) {
+        int length = boundary.length;
+        if (length == 0) {
+            return -1;
+        }
+        int from = buffer.readerIndex();
+        for (int i = buffer.writerIndex() - length; i >= from; i--) {
+            int k = 0;
+            while (k < length && buffer.getByte(i + k) == boundary[k]) {
+                k++;
+            }
+            if (k == length) {
+                // include the leading dashes of the boundary line, which may also have been split off into the
+                // previous chunk, in which case the frame can not be started from this chunk
+                int start = i;
+                while (start > from && buffer.getByte(start - 1) == '-') {
+                    start--;
+                }
+                if (i - start >= 2) {
+                    return start - from;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the next data to send to a client. A client that is about to start a new frame while a newer frame is
+     * already available skips to the newest frame, and a client whose position has been overwritten resyncs at the
+     * newest frame. As the rest of the frame such a client was sending is lost, the resync starts with a line break,
+     * so the multipart delimiter is still recognised and only the interrupted frame is dropped by the viewer.
+     *
+     * @param sequence sequence number of the next chunk for the client, or -1 if the client has not started yet
+     * @param offset offset inside the chunk to start sending from
+     * @return the data to send, or null if the client has to wait for more data
+     */
+    public synchronized @Nullable Slice next(long sequence, int offset) {
+        long oldest = Math.max(0, nextSequence - CAPACITY);
+        if (sequence < oldest) {
+            if (lastPartStart >= oldest) {
+                ByteBuf chunk = chunks[(int) (lastPartStart % CAPACITY)];
+                if (chunk == null) {
+                    return null;
+                }
+                int partStart = partStarts[(int) (lastPartStart % CAPACITY)];
+                if (sequence < 0) {
+                    return new Slice(chunk.retainedSlice(chunk.readerIndex() + partStart,
+                            chunk.readableBytes() - partStart), lastPartStart + 1, 0);
+                }
+                // the client was interrupted in the middle of a frame, end it before the next boundary
+                int length = chunk.readableBytes() - partStart;
+                ByteBuf resync = Unpooled.buffer(CRLF.length + length).writeBytes(CRLF)
+                        .writeBytes(chunk, chunk.readerIndex() + partStart, length);
+                return new Slice(resync, lastPartStart + 1, 0);
+            } else if (boundary.length == 0 && nextSequence > 0) {
+                // frames can not be located without a boundary, start with the newest chunk
+                sequence = nextSequence - 1;
+                offset = 0;
+            } else {
+                return null;
+            }
+        } else if (sequence >= nextSequence) {
+            return null;
+        }
+        int index = (int) (sequence % CAPACITY);
+        ByteBuf chunk = chunks[index];
+        if (chunk == null) {
+            return null;
+        }
+        int partStart = partStarts[index];
+        if (offset == 0 && partStart >= 0 && lastPartStart > sequence) {
+            // a newer frame exists, finish the current frame and skip the frames in between
+            int lastOffset = partStarts[(int) (lastPartStart % CAPACITY)];
+            if (partStart > 0) {
+                return new Slice(chunk.retainedSlice(chunk.readerIndex(), partStart), lastPartStart, lastOffset);
+            }
+            sequence = lastPartStart;
+            offset = lastOffset;
+            index = (int) (sequence % CAPACITY);
+            chunk = chunks[index];
+            if (chunk == null) {
+                return null;
+            }
+        }
+        return new Slice(chunk.retainedSlice(chunk.readerIndex() + offset, chunk.readableBytes() - offset),
+                sequence + 1, 0);
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < CAPACITY; i++) {
+            ByteBuf chunk = chunks[i];
+            if (chunk != null) {
+                chunk.release();
+                chunks[i] = null;
+            }
+        }
+        lastPartStart = -1;
+    }
+}
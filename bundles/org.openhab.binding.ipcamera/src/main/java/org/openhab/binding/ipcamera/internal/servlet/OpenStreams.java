@@ -12,22 +12,27 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams and the {@link MjpegFrameRing} they share, to allow
+ * 1 to many streams without needing to open more than 1 source stream or to copy frames per stream.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
-    private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
-    public String boundary = "thisMjpegStream";
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    private List<StreamOutput> openStreams = new CopyOnWriteArrayList<>();
+    private final MjpegFrameRing ring = new MjpegFrameRing();
+    public volatile String boundary = "thisMjpegStream";
 
     public synchronized void addStream(StreamOutput stream) {
         openStreams.add(stream);
@@ -35,6 +40,13 @@ public class OpenStreams {
 
     public synchronized void removeStream(StreamOutput stream) {
         openStreams.remove(stream);
+        if (openStreams.isEmpty()) {
+            ring.clear();
+        }
+    }
+
+    public MjpegFrameRing getRing() {
+        return ring;
     }
 
     public synchronized int getNumberOfStreams() {
@@ -47,21 +59,49 @@ public class OpenStreams {
 
     public synchronized void updateContentType(String contentType, String boundary) {
         this.boundary = boundary;
+        ring.setBoundary(boundary);
         for (StreamOutput stream : openStreams) {
             stream.updateContentType(contentType);
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
+    /**
+     * Queues a single jpeg as a complete multipart part, e.g. as sent by ffmpeg for cameras without a mjpeg stream of
+     * their own, or a snapshot to keep a stalled stream alive.
+     */
+    public void queueFrame(byte[] frame) {
+        if (openStreams.isEmpty()) {
+            return;
+        }
+        byte[] header = ("--" + boundary + "\r\nContent-Type: image/jpeg\r\nContent-Length: " + frame.length
+                + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        ByteBuf part = Unpooled.buffer(header.length + frame.length + CRLF.length);
+        ring.publishPart(part.writeBytes(header).writeBytes(frame).writeBytes(CRLF));
+        notifyStreams();
+    }
+
+    /**
+     * Queues a chunk of the camera's mjpeg stream. The chunk is shared with the streams, not copied.
+     */
+    public void queueChunk(ByteBuf chunk) {
+        if (openStreams.isEmpty()) {
+            return;
+        }
+        ring.publishChunk(chunk);
+        notifyStreams();
+    }
+
+    private void notifyStreams() {
         for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+            stream.frameAvailable();
         }
     }
 
     public synchronized void closeAllStreams() {
-        for (StreamOutput stream : openStreams) {
+        for (StreamOutput stream : List.copyOf(openStreams)) {
             stream.close();
         }
         openStreams.clear();
+        ring.clear();
     }
 }
@@ -13,18 +13,28 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ipcamera.internal.servlet.MjpegFrameRing.Slice;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.ByteBuf;
+
 /**
- * The {@link StreamOutput} Streams mjpeg out to a client
+ * The {@link StreamOutput} Streams mjpeg out to a client. Streams of the camera's mjpeg are written with non-blocking
+ * servlet I/O from a {@link MjpegFrameRing} shared by all clients, so no thread is held per client and a slow client
+ * skips frames instead of queueing them.
  *
  * @author Matthew Skinner - Initial contribution
  */
@@ -35,9 +45,25 @@ public class StreamOutput {
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
-    private boolean connected = false;
+    private volatile boolean connected = false;
     public boolean isSnapshotBased = false;
+    private @Nullable AsyncContext asyncContext;
+    private @Nullable MjpegFrameRing ring;
+    private Consumer<StreamOutput> onClose = stream -> {
+    };
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    // a writer has been dispatched to a container thread and has not started yet
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean pending = false;
+    // the client can not accept more data until the container calls onWritePossible()
+    private volatile boolean blocked = false;
+    // position of the client in the ring, only accessed while writing
+    private long sequence = -1;
+    private int offset = 0;
+    private boolean repeatFirstFrame = true;
+    // data handed to the container, kept until isReady() confirms the write has completed
+    private @Nullable ByteBuf inFlight;
 
     public StreamOutput(HttpServletResponse response) throws IOException {
         boundary = "thisMjpegStream";
@@ -74,29 +100,162 @@ public class StreamOutput {
         output.write("\r\n".getBytes());
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
-        }
-    }
-
     public void updateContentType(String contentType) {
         this.contentType = contentType;
         if (!connected) {
             sendInitialHeaders();
             connected = true;
         }
+        writeFrames();
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
-        if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
+    /**
+     * Switches the stream to non-blocking output, sending the frames published to the ring until the client
+     * disconnects. The request thread is released as soon as this method returns.
+     *
+     * @param asyncContext context of the request started in async mode
+     * @param ring ring holding the frames to send
+     * @param onClose called once when the client has disconnected or the stream was closed
+     */
+    public void startAsync(AsyncContext asyncContext, MjpegFrameRing ring, Consumer<StreamOutput> onClose) {
+        this.asyncContext = asyncContext;
+        this.ring = ring;
+        this.onClose = onClose;
+        if (isSnapshotBased && !connected) {
+            sendInitialHeaders();
+            connected = true;
+        }
+        asyncContext.setTimeout(0);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(@Nullable AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onTimeout(@Nullable AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onError(@Nullable AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onStartAsync(@Nullable AsyncEvent event) {
+            }
+        });
+        output.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() {
+                blocked = false;
+                writeFrames();
+            }
+
+            @Override
+            public void onError(@Nullable Throwable t) {
+                close();
+            }
+        });
+    }
+
+    /**
+     * Called when new frames are available in the ring. The frames are written by a container thread, as far as the
+     * client can accept them without blocking, so the camera's connection is never held up by a client. At most one
+     * writer is dispatched per client until it runs, however many chunks arrive in the meantime.
+     */
+    public void frameAvailable() {
+        AsyncContext localContext = asyncContext;
+        if (localContext == null || closed.get()) {
+            return;
+        }
+        // a client that is being written to, or is about to be, picks up the new frames itself
+        pending = true;
+        if (!writing.get() && !blocked && scheduled.compareAndSet(false, true)) {
+            try {
+                localContext.start(() -> {
+                    scheduled.set(false);
+                    writeFrames();
+                });
+            } catch (IllegalStateException e) {
+                scheduled.set(false);
+                close();
+            }
+        }
+    }
+
+    private void writeFrames() {
+        if (asyncContext == null) {
+            return;
+        }
+        pending = true;
+        while (pending && writing.compareAndSet(false, true)) {
+            pending = false;
+            try {
+                writeAvailableFrames();
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Mjpeg client has disconnected: {}", e.getMessage());
+                writing.set(false);
+                close();
+                return;
+            }
+            // a blocked client continues in onWritePossible(), which may already have been called while writing
+            writing.set(false);
+        }
+    }
+
+    /**
+     * @return true if all available frames have been written, false if the client can not accept more data now
+     */
+    private boolean writeAvailableFrames() throws IOException {
+        MjpegFrameRing localRing = ring;
+        if (localRing == null || closed.get()) {
+            return true;
+        }
+        while (true) {
+            // set before asking, as the container may call onWritePossible() as soon as isReady() returns false
+            blocked = true;
+            if (!output.isReady()) {
+                return false;
+            }
+            blocked = false;
+            releaseInFlight();
+            if (!connected) {
+                return true;
+            }
+            Slice slice = localRing.next(sequence, offset);
+            if (slice == null) {
+                return true;
+            }
+            ByteBuf buffer = slice.buffer;
+            setInFlight(buffer);
+            if (isSnapshotBased && repeatFirstFrame) {
+                // iOS needs to have two jpgs sent for the picture to appear instantly.
+                repeatFirstFrame = false;
+                sequence = slice.nextSequence - 1;
+            } else {
+                sequence = slice.nextSequence;
+                offset = slice.nextOffset;
+            }
+            // the container may keep using the array until the write has completed, so the buffer stays retained
+            output.write(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes());
+        }
+    }
+
+    private synchronized void setInFlight(ByteBuf buffer) {
+        if (closed.get()) {
+            buffer.release();
+            throw new IllegalStateException("stream closed");
+        }
+        inFlight = buffer;
+    }
+
+    private synchronized void releaseInFlight() {
+        ByteBuf buffer = inFlight;
+        if (buffer != null) {
+            inFlight = null;
+            buffer.release();
         }
     }
 
@@ -107,9 +266,23 @@ public class StreamOutput {
     }
 
     public void close() {
-        try {
-            output.close();
-        } catch (IOException e) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        AsyncContext localContext = asyncContext;
+        if (localContext != null) {
+            try {
+                localContext.complete();
+            } catch (IllegalStateException e) {
+                // already completed by the container
+            }
+        } else {
+            try {
+                output.close();
+            } catch (IOException e) {
+            }
         }
+        releaseInFlight();
+        onClose.accept(this);
     }
 }
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GifEncoder}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GifEncoderTest {
+
+    private static byte[] jpg(Color color) throws IOException {
+        BufferedImage image = new BufferedImage(16, 8, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        graphics.dispose();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertTrue(ImageIO.write(image, "jpg", output));
+        return output.toByteArray();
+    }
+
+    private static IIOMetadataNode getChild(IIOMetadataNode root, String name) {
+        for (int i = 0; i < root.getLength(); i++) {
+            if (root.item(i).getNodeName().equals(name)) {
+                return (IIOMetadataNode) root.item(i);
+            }
+        }
+        fail("No " + name + " node in the metadata");
+        throw new IllegalStateException();
+    }
+
+    @Test
+    public void testSnapshotsAreEncodedAsLoopingAnimation() throws IOException {
+        List<byte[]> snapshots = List.of(jpg(Color.RED), new byte[] { 1, 2, 3 }, jpg(Color.GREEN), jpg(Color.BLUE));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // the snapshot that can not be decoded is skipped
+        assertEquals(3, GifEncoder.encode(snapshots, 500, output));
+
+        ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            reader.setInput(input);
+            assertEquals(3, reader.getNumImages(true));
+            BufferedImage first = reader.read(0);
+            assertEquals(16, first.getWidth());
+            assertEquals(8, first.getHeight());
+
+            IIOMetadataNode root = (IIOMetadataNode) reader.getImageMetadata(0)
+                    .getAsTree("javax_imageio_gif_image_1.0");
+            assertEquals("50", getChild(root, "GraphicControlExtension").getAttribute("delayTime"));
+            IIOMetadataNode loop = (IIOMetadataNode) getChild(root, "ApplicationExtensions").getFirstChild();
+            assertEquals("NETSCAPE", loop.getAttribute("applicationID"));
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    @Test
+    public void testNothingIsWrittenWithoutFrames() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertEquals(0, GifEncoder.encode(List.of(new byte[] { 1, 2, 3 }), 1000, output));
+    }
+}
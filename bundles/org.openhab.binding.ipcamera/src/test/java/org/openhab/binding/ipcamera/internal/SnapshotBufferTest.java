@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SnapshotBuffer}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnapshotBufferTest {
+
+    private static byte[] snapshot(int id, int length) {
+        byte[] snapshot = new byte[length];
+        snapshot[0] = (byte) id;
+        return snapshot;
+    }
+
+    private static int[] ids(SnapshotBuffer buffer) {
+        return buffer.getSnapshots().stream().mapToInt(snapshot -> snapshot[0]).toArray();
+    }
+
+    @Test
+    public void testOldestSnapshotsAreDroppedAtCapacity() {
+        SnapshotBuffer buffer = new SnapshotBuffer(1000);
+        buffer.setCapacity(3);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(snapshot(i, 10));
+        }
+        assertArrayEquals(new int[] { 2, 3, 4 }, ids(buffer));
+        assertEquals(30, buffer.getBytes());
+    }
+
+    @Test
+    public void testByteBudgetIsRespected() {
+        SnapshotBuffer buffer = new SnapshotBuffer(100);
+        buffer.setCapacity(10);
+        buffer.add(snapshot(0, 40));
+        buffer.add(snapshot(1, 40));
+        buffer.add(snapshot(2, 40));
+        assertArrayEquals(new int[] { 1, 2 }, ids(buffer));
+        assertEquals(80, buffer.getBytes());
+
+        // the newest snapshot is always kept, even when it exceeds the budget on its own
+        buffer.add(snapshot(3, 200));
+        assertArrayEquals(new int[] { 3 }, ids(buffer));
+    }
+
+    @Test
+    public void testChangingCapacityKeepsNewestSnapshots() {
+        SnapshotBuffer buffer = new SnapshotBuffer(1000);
+        buffer.setCapacity(4);
+        for (int i = 0; i < 4; i++) {
+            buffer.add(snapshot(i, 10));
+        }
+        buffer.setCapacity(2);
+        assertArrayEquals(new int[] { 2, 3 }, ids(buffer));
+        assertEquals(20, buffer.getBytes());
+
+        buffer.setCapacity(3);
+        buffer.add(snapshot(4, 10));
+        assertArrayEquals(new int[] { 2, 3, 4 }, ids(buffer));
+
+        buffer.clear();
+        assertEquals(List.of(), buffer.getSnapshots());
+        assertEquals(0, buffer.getBytes());
+    }
+
+    @Test
+    public void testNothingIsKeptWithoutCapacity() {
+        SnapshotBuffer buffer = new SnapshotBuffer(1000);
+        buffer.add(snapshot(0, 10));
+        assertEquals(List.of(), buffer.getSnapshots());
+    }
+}
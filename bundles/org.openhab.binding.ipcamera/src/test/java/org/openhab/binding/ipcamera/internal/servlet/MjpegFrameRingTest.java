@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.ipcamera.internal.servlet.MjpegFrameRing.Slice;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Tests for {@link MjpegFrameRing}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MjpegFrameRingTest {
+    private static final int CAPACITY = 64;
+
+    private final MjpegFrameRing ring = new MjpegFrameRing();
+
+    @BeforeEach
+    public void setUp() {
+        ring.setBoundary("--thisMjpegStream");
+    }
+
+    private static ByteBuf buffer(String content) {
+        return Unpooled.copiedBuffer(content, StandardCharsets.US_ASCII);
+    }
+
+    private static String part(String jpeg) {
+        return "--thisMjpegStream\r\n" + jpeg;
+    }
+
+    /**
+     * Get the content of a slice and release it
+     */
+    private static String read(@Nullable Slice slice) {
+        assertNotNull(slice);
+        try {
+            assertTrue(slice.buffer.hasArray());
+            return slice.buffer.toString(StandardCharsets.US_ASCII);
+        } finally {
+            slice.buffer.release();
+        }
+    }
+
+    @Test
+    public void testPartsAreSentInOrder() {
+        ring.publishPart(buffer(part("first")));
+        Slice slice = ring.next(-1, 0);
+        assertNotNull(slice);
+        assertEquals(1, slice.nextSequence);
+        assertEquals(0, slice.nextOffset);
+        assertEquals(part("first"), read(slice));
+        assertNull(ring.next(1, 0));
+
+        ring.publishPart(buffer(part("second")));
+        assertEquals(part("second"), read(ring.next(1, 0)));
+    }
+
+    @Test
+    public void testSlowReaderSkipsToNewestFrame() {
+        for (int i = 0; i < 3; i++) {
+            ring.publishPart(buffer(part("frame" + i)));
+        }
+        Slice slice = ring.next(0, 0);
+        assertNotNull(slice);
+        assertEquals(3, slice.nextSequence);
+        assertEquals(part("frame2"), read(slice));
+    }
+
+    @Test
+    public void testSlowReaderFinishesCurrentFrameBeforeSkipping() {
+        ring.publishChunk(buffer(part("AAAA")));
+        ring.publishChunk(buffer("BBBB" + part("CCCC")));
+        ring.publishChunk(buffer("DDDD"));
+        ring.publishChunk(buffer("EE" + part("FF")));
+
+        // the reader has sent the first chunk, so the rest of its frame is sent before skipping to the newest frame
+        Slice slice = ring.next(1, 0);
+        assertNotNull(slice);
+        assertEquals(3, slice.nextSequence);
+        assertEquals(2, slice.nextOffset);
+        assertEquals("BBBB", read(slice));
+
+        assertEquals(part("FF"), read(ring.next(3, 2)));
+        assertNull(ring.next(4, 0));
+    }
+
+    @Test
+    public void testReaderResyncsAfterWrapAround() {
+        List<ByteBuf> parts = new ArrayList<>();
+        for (int i = 0; i < CAPACITY + 10; i++) {
+            ByteBuf part = buffer(part("frame" + i));
+            parts.add(part);
+            ring.publishPart(part);
+        }
+        for (int i = 0; i < parts.size(); i++) {
+            assertEquals(i < 10 ? 0 : 1, parts.get(i).refCnt());
+        }
+
+        // the reader was interrupted in the middle of a frame, which is ended before the next boundary
+        Slice slice = ring.next(5, 0);
+        assertNotNull(slice);
+        assertEquals(CAPACITY + 10, slice.nextSequence);
+        assertEquals("\r\n" + part("frame" + (CAPACITY + 9)), read(slice));
+    }
+
+    @Test
+    public void testBoundarySplitOverChunksIsNotAPartStart() {
+        ring.publishChunk(buffer(part("AAAA") + "-"));
+        ring.publishChunk(buffer("-thisMjpegStream\r\nBBBB"));
+        ring.publishChunk(buffer("CCCC"));
+
+        // the second chunk does not start with the whole delimiter, so the first frame is still the newest one
+        assertEquals(part("AAAA") + "-", read(ring.next(-1, 0)));
+    }
+
+    @Test
+    public void testViewersOnlyReceiveWholeFrames() {
+        String delimiter = "--thisMjpegStream\r\n";
+        StringBuilder stream = new StringBuilder();
+        List<String> frames = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String frame = "frame" + i + ":" + "x".repeat(i % 30) + "\r\n";
+            frames.add(frame);
+            stream.append(part(frame));
+        }
+
+        // viewers draining the ring after every chunk, every few chunks, and too rarely to stay inside the ring
+        int[] intervals = { 1, 5, CAPACITY + 36 };
+        List<Viewer> viewers = new ArrayList<>();
+        for (int i = 0; i < intervals.length; i++) {
+            viewers.add(new Viewer());
+        }
+        int published = 0;
+        for (int start = 0; start < stream.length(); start += 40) {
+            ByteBuf chunk = buffer(stream.substring(start, Math.min(start + 40, stream.length())));
+            ring.publishChunk(chunk);
+            chunk.release();
+            published++;
+            for (int i = 0; i < intervals.length; i++) {
+                if (published % intervals[i] == 0) {
+                    viewers.get(i).drain();
+                }
+            }
+        }
+        assertEquals(stream.toString(), viewers.get(0).output.toString());
+
+        for (int i = 1; i < intervals.length; i++) {
+            String output = viewers.get(i).output.toString();
+            assertTrue(output.startsWith(delimiter));
+            String[] parts = output.substring(delimiter.length()).split(delimiter);
+            assertTrue(parts.length > 2);
+            int truncated = 0;
+            int lastFrame = -1;
+            // the last part may still be incomplete
+            for (int k = 0; k < parts.length - 1; k++) {
+                String part = parts[k];
+                int frame = frames.indexOf(part);
+                if (frame >= 0) {
+                    assertTrue(frame > lastFrame);
+                    lastFrame = frame;
+                } else {
+                    // an interrupted frame must still be ended with a line break before the next delimiter
+                    assertTrue(part.endsWith("\r\n"));
+                    assertTrue(stream.indexOf(delimiter + part.substring(0, part.length() - 2)) >= 0);
+                    truncated++;
+                }
+            }
+            if (intervals[i] < CAPACITY) {
+                assertEquals(0, truncated);
+            } else {
+                assertTrue(truncated > 0);
+            }
+        }
+        ring.clear();
+    }
+
+    /**
+     * A client reading from the ring, holding its position like {@link StreamOutput} does
+     */
+    private class Viewer {
+        private final StringBuilder output = new StringBuilder();
+        private long sequence = -1;
+        private int offset = 0;
+
+        private void drain() {
+            Slice slice;
+            while ((slice = ring.next(sequence, offset)) != null) {
+                sequence = slice.nextSequence;
+                offset = slice.nextOffset;
+                output.append(read(slice));
+            }
+        }
+    }
+
+    @Test
+    public void testReaderResyncsAtNewestChunkWithoutBoundary() {
+        MjpegFrameRing plainRing = new MjpegFrameRing();
+        for (int i = 0; i < CAPACITY + 6; i++) {
+            ByteBuf chunk = buffer("chunk" + i);
+            plainRing.publishChunk(chunk);
+            chunk.release();
+        }
+        Slice slice = plainRing.next(0, 0);
+        assertNotNull(slice);
+        assertEquals(CAPACITY + 6, slice.nextSequence);
+        assertEquals("chunk" + (CAPACITY + 5), read(slice));
+    }
+
+    @Test
+    public void testBuffersAreReleased() {
+        ByteBuf chunk = buffer(part("AAAA"));
+        ring.publishChunk(chunk);
+        assertEquals(2, chunk.refCnt());
+        chunk.release();
+        assertEquals(1, chunk.refCnt());
+
+        Slice slice = ring.next(-1, 0);
+        assertNotNull(slice);
+        assertEquals(2, chunk.refCnt());
+        slice.buffer.release();
+        assertEquals(1, chunk.refCnt());
+
+        ring.clear();
+        assertEquals(0, chunk.refCnt());
+        assertNull(ring.next(-1, 0));
+    }
+
+    @Test
+    public void testDirectBuffersAreCopiedToHeap() {
+        ByteBuf chunk = Unpooled.directBuffer().writeBytes(part("AAAA").getBytes(StandardCharsets.US_ASCII));
+        ring.publishChunk(chunk);
+        assertEquals(1, chunk.refCnt());
+        chunk.release();
+
+        ByteBuf part = Unpooled.wrappedBuffer(buffer(part("BBBB")), buffer("\r\n"));
+        assertFalse(part.hasArray());
+        ring.publishPart(part);
+        assertEquals(0, part.refCnt());
+
+        assertEquals(part("BBBB") + "\r\n", read(ring.next(-1, 0)));
+        ring.clear();
+    }
+}
@@ -12,18 +12,27 @@
  */
 package org.openhab.binding.modbus.handler;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.PlannedRead;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.ReadRange;
+import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
+import org.openhab.binding.modbus.internal.handler.PollerDecodePlan;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
@@ -40,6 +49,7 @@ import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.types.Command;
@@ -69,6 +79,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
 
         private volatile @Nullable AtomicStampedValue<PollResult> lastResult;
+        private final PollerDecodePlan decodePlan = new PollerDecodePlan();
 
         public synchronized void handleResult(PollResult result) {
             // Ignore all incoming data and errors if configuration is not correct
@@ -85,7 +96,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 }
             }
             logger.debug("Thing {} received response {}", thing.getUID(), result);
-            notifyChildren(result);
+            notifyChildren(result, false);
             if (result.failure != null) {
                 Exception error = result.failure.getCause();
                 assert error != null;
@@ -101,7 +112,10 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             // Casting to allow registers.orElse(null) below..
             Optional<@Nullable ModbusRegisterArray> registers = (Optional<@Nullable ModbusRegisterArray>) result
                     .getRegisters();
-            lastPolledDataCache.set(registers.orElse(null));
+            if (this == callbackDelegator) {
+                // the register cache is only used with a single request, see writeStart=X.Y in data things
+                lastPolledDataCache.set(registers.orElse(null));
+            }
             handleResult(new PollResult(result));
         }
 
@@ -125,27 +139,26 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
          * @return whether data was updated. Data is not updated when it's too old or there's no data at all.
          */
         @SuppressWarnings("null")
-        public boolean updateChildrenWithOldData(long oldestStamp) {
+        public synchronized boolean updateChildrenWithOldData(long oldestStamp) {
             return Optional.ofNullable(this.lastResult).map(result -> result.copyIfStampAfter(oldestStamp))
                     .map(result -> {
                         logger.debug("Thing {} reusing cached data: {}", thing.getUID(), result.getValue());
-                        notifyChildren(result.getValue());
+                        notifyChildren(result.getValue(), true);
                         return true;
                     }).orElse(false);
         }
 
-        private void notifyChildren(PollResult pollResult) {
+        private void notifyChildren(PollResult pollResult, boolean replay) {
             @Nullable
             AsyncModbusReadResult result = pollResult.result;
             @Nullable
             AsyncModbusFailure<ModbusReadRequestBlueprint> failure = pollResult.failure;
-            childCallbacks.forEach(handler -> {
-                if (result != null) {
-                    handler.onReadResult(result);
-                } else if (failure != null) {
-                    handler.handleReadError(failure);
-                }
-            });
+            if (result != null) {
+                // only children with changed data, or due for an update, are notified, unless replaying the cache
+                decodePlan.dispatch(childCallbacks, result, replay);
+            } else if (failure != null) {
+                childCallbacks.forEach(handler -> handler.handleReadError(failure));
+            }
         }
 
         /**
@@ -181,6 +194,22 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Read request planned automatically, along with its poll task and callback
+     */
+    private class PlannedPoll {
+
+        private volatile PlannedRead plannedRead;
+        private final ModbusReadRequestBlueprint request;
+        private final ReadCallbackDelegator delegator = new ReadCallbackDelegator();
+        private @Nullable PollTask pollTask;
+
+        PlannedPoll(PlannedRead plannedRead, ModbusReadRequestBlueprint request) {
+            this.plannedRead = plannedRead;
+            this.request = request;
+        }
+    }
+
     private final Logger logger = LoggerFactory.getLogger(ModbusPollerThingHandler.class);
 
     private static final List<String> SORTED_READ_FUNCTION_CODES = ModbusBindingConstantsInternal.READ_FUNCTION_CODES
@@ -194,6 +223,9 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
     private volatile AtomicReference<@Nullable ModbusRegisterArray> lastPolledDataCache = new AtomicReference<>();
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile int slaveId;
+    private volatile List<PlannedPoll> plannedPolls = List.of();
+    private final Set<ThingUID> disposedChildren = new HashSet<>();
 
     private ReadCallbackDelegator callbackDelegator = new ReadCallbackDelegator();
 
@@ -244,6 +276,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         comms = null;
         request = null;
         disposed = false;
+        disposedChildren.clear();
         logger.trace("Initializing {} from status {}", this.getThing().getUID(), this.getThing().getStatus());
         try {
             config = getConfigAs(ModbusPollerConfiguration.class);
@@ -255,25 +288,34 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 return;
             }
             functionCode = ModbusBindingConstantsInternal.READ_FUNCTION_CODES.get(type);
-            switch (functionCode) {
-                case READ_INPUT_REGISTERS:
-                case READ_MULTIPLE_REGISTERS:
-                    if (config.getLength() > ModbusConstants.MAX_REGISTERS_READ_COUNT) {
-                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
-                                "Maximum of %d registers can be polled at once due to protocol limitations. Length %d is out of bounds.",
-                                ModbusConstants.MAX_REGISTERS_READ_COUNT, config.getLength()));
-                        return;
-                    }
-                    break;
-                case READ_COILS:
-                case READ_INPUT_DISCRETES:
-                    if (config.getLength() > ModbusConstants.MAX_BITS_READ_COUNT) {
-                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
-                                "Maximum of %d coils/discrete inputs can be polled at once due to protocol limitations. Length %d is out of bounds.",
-                                ModbusConstants.MAX_BITS_READ_COUNT, config.getLength()));
-                        return;
-                    }
-                    break;
+            // with automatic planning the requests are computed from the data things, within protocol limits
+            if (!config.isAutoPlan()) {
+                if (config.getLength() <= 0) {
+                    // length used to be a required parameter, it is optional only with automatic planning
+                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                            "Length is required unless read requests are planned automatically");
+                    return;
+                }
+                switch (functionCode) {
+                    case READ_INPUT_REGISTERS:
+                    case READ_MULTIPLE_REGISTERS:
+                        if (config.getLength() > ModbusConstants.MAX_REGISTERS_READ_COUNT) {
+                            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
+                                    "Maximum of %d registers can be polled at once due to protocol limitations. Length %d is out of bounds.",
+                                    ModbusConstants.MAX_REGISTERS_READ_COUNT, config.getLength()));
+                            return;
+                        }
+                        break;
+                    case READ_COILS:
+                    case READ_INPUT_DISCRETES:
+                        if (config.getLength() > ModbusConstants.MAX_BITS_READ_COUNT) {
+                            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
+                                    "Maximum of %d coils/discrete inputs can be polled at once due to protocol limitations. Length %d is out of bounds.",
+                                    ModbusConstants.MAX_BITS_READ_COUNT, config.getLength()));
+                            return;
+                        }
+                        break;
+                }
             }
             cacheMillis = this.config.getCacheMillis();
             registerPollTask();
@@ -313,6 +355,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             comms.unregisterRegularPoll(localPollTask);
         }
         this.pollTask = null;
+        unregisterPlannedPolls();
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -352,6 +395,17 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         if (localFunctionCode == null) {
             return;
         }
+        slaveId = slaveEndpointThingHandler.getSlaveId();
+
+        if (config.isAutoPlan()) {
+            updatePlan();
+            if (config.getRefresh() <= 0L) {
+                updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
+            } else {
+                updateStatus(ThingStatus.ONLINE);
+            }
+            return;
+        }
 
         ModbusReadRequestBlueprint localRequest = new ModbusReadRequestBlueprint(slaveEndpointThingHandler.getSlaveId(),
                 localFunctionCode, config.getStart(), config.getLength(), config.getMaxTries());
@@ -395,6 +449,143 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         if (childHandler instanceof ModbusDataThingHandler) {
             this.childCallbacks.remove(childHandler);
         }
+        if (isAutoPlanning()) {
+            synchronized (this) {
+                // Thing is still attached to this bridge while disposing. Leave it out from the plan until it is
+                // initialized again.
+                disposedChildren.add(childThing.getUID());
+                updatePlan();
+            }
+        }
+    }
+
+    /**
+     * Whether the read requests of this poller are planned automatically from the data things
+     *
+     * @return true with automatic planning
+     */
+    public boolean isAutoPlanning() {
+        ModbusPollerConfiguration localConfig = config;
+        return localConfig != null && localConfig.isAutoPlan();
+    }
+
+    /**
+     * Get the function code used to read data
+     *
+     * Note that function code might be <code>null</code> in case initialization is not complete.
+     *
+     * @return function code of this poller
+     */
+    public @Nullable ModbusReadFunctionCode getFunctionCode() {
+        return functionCode;
+    }
+
+    /**
+     * Get the slave id of the endpoint this poller reads from
+     *
+     * @return slave id
+     */
+    public int getSlaveId() {
+        return slaveId;
+    }
+
+    /**
+     * Get the automatically planned read requests
+     *
+     * @return planned requests, empty if planning is not enabled
+     */
+    public List<PlannedRead> getPlan() {
+        return plannedPolls.stream().map(poll -> poll.plannedRead).toList();
+    }
+
+    /**
+     * Get the automatically planned request reading the given elements. The requests are planned again in case no
+     * request reads the elements yet, e.g. when a data thing was added or its configuration changed.
+     *
+     * @param childUID UID of the data thing reading the elements
+     * @param start address of the first element
+     * @param length number of elements
+     * @return request reading the elements, or <code>null</code> if there is none
+     */
+    public synchronized @Nullable ModbusReadRequestBlueprint getPlannedRequest(ThingUID childUID, int start,
+            int length) {
+        ModbusReadFunctionCode localFunctionCode = functionCode;
+        if (!isAutoPlanning() || localFunctionCode == null) {
+            return null;
+        }
+        disposedChildren.remove(childUID);
+        ModbusReadRequestBlueprint plannedRequest = findPlannedRequest(localFunctionCode, start, length);
+        if (plannedRequest == null) {
+            updatePlan();
+            plannedRequest = findPlannedRequest(localFunctionCode, start, length);
+        }
+        return plannedRequest;
+    }
+
+    private @Nullable ModbusReadRequestBlueprint findPlannedRequest(ModbusReadFunctionCode localFunctionCode,
+            int start, int length) {
+        return plannedPolls.stream().filter(poll -> poll.plannedRead.covers(localFunctionCode, start, length))
+                .map(poll -> poll.request).findFirst().orElse(null);
+    }
+
+    /**
+     * Plan the read requests from the configuration of the data things, and register their polling. Polling is left
+     * untouched in case the planned requests did not change, even if the number of used elements did.
+     */
+    private synchronized void updatePlan() {
+        ModbusCommunicationInterface localComms = comms;
+        ModbusReadFunctionCode localFunctionCode = functionCode;
+        if (disposed || localComms == null || localFunctionCode == null) {
+            return;
+        }
+        List<ReadRange> ranges = new ArrayList<>();
+        for (Thing child : getThing().getThings()) {
+            if (disposedChildren.contains(child.getUID())) {
+                continue;
+            }
+            ModbusDataConfiguration childConfig = child.getConfiguration().as(ModbusDataConfiguration.class);
+            ReadRange range = ModbusReadPlanner.parseReadRange(localFunctionCode, childConfig.getReadStart(),
+                    childConfig.getReadValueType(), config.getRefresh());
+            if (range != null) {
+                ranges.add(range);
+            }
+        }
+        List<PlannedRead> plan = ModbusReadPlanner.plan(ranges, config.getMaxGap());
+        List<PlannedPoll> currentPolls = plannedPolls;
+        if (plan.size() == currentPolls.size() && IntStream.range(0, plan.size())
+                .allMatch(i -> plan.get(i).isSameRequest(currentPolls.get(i).plannedRead))) {
+            // same requests, e.g. a data thing was added within an already polled range: keep polling as is
+            for (int i = 0; i < plan.size(); i++) {
+                currentPolls.get(i).plannedRead = plan.get(i);
+            }
+            return;
+        }
+
+        unregisterPlannedPolls();
+        List<PlannedPoll> polls = new ArrayList<>(plan.size());
+        for (PlannedRead plannedRead : plan) {
+            PlannedPoll poll = new PlannedPoll(plannedRead, new ModbusReadRequestBlueprint(slaveId,
+                    plannedRead.functionCode(), plannedRead.start(), plannedRead.length(), config.getMaxTries()));
+            if (config.getRefresh() > 0L) {
+                poll.pollTask = localComms.registerRegularPoll(poll.request, config.getRefresh(), 0, poll.delegator,
+                        poll.delegator);
+            }
+            polls.add(poll);
+        }
+        plannedPolls = List.copyOf(polls);
+        logger.debug("Poller {} planned {} read requests for {} data things: {}", getThing().getUID(), plan.size(),
+                ranges.size(), plan);
+    }
+
+    private synchronized void unregisterPlannedPolls() {
+        ModbusCommunicationInterface localComms = comms;
+        for (PlannedPoll poll : plannedPolls) {
+            PollTask localPollTask = poll.pollTask;
+            if (localPollTask != null && localComms != null) {
+                localComms.unregisterRegularPoll(localPollTask);
+            }
+        }
+        plannedPolls = List.of();
     }
 
     /**
@@ -423,12 +614,20 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
      * If data or error was just recently received (i.e. cache is fresh), return the cached response.
      */
     public void refresh() {
+        if (isAutoPlanning()) {
+            plannedPolls.forEach(poll -> refresh(poll.request, poll.delegator));
+            return;
+        }
         ModbusReadRequestBlueprint localRequest = this.request;
         if (localRequest == null) {
             return;
         }
+        refresh(localRequest, callbackDelegator);
+    }
+
+    private void refresh(ModbusReadRequestBlueprint localRequest, ReadCallbackDelegator delegator) {
         ModbusRegisterArray possiblyMutatedCache = lastPolledDataCache.get();
-        AtomicStampedValue<PollResult> lastPollResult = callbackDelegator.lastResult;
+        AtomicStampedValue<PollResult> lastPollResult = delegator.lastResult;
         if (lastPollResult != null && possiblyMutatedCache != null) {
             AsyncModbusReadResult lastSuccessfulPollResult = lastPollResult.getValue().result;
             if (lastSuccessfulPollResult != null) {
@@ -437,14 +636,14 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 if (lastRegisters != null && !possiblyMutatedCache.equals(lastRegisters)) {
                     // Register has been mutated in between by a data thing that writes "individual bits"
                     // Invalidate cache for a fresh poll
-                    callbackDelegator.resetCache();
+                    delegator.resetCache();
                 }
             }
         }
 
         long oldDataThreshold = System.currentTimeMillis() - cacheMillis;
         boolean cacheWasRecentEnoughForUpdate = cacheMillis > 0
-                && this.callbackDelegator.updateChildrenWithOldData(oldDataThreshold);
+                && delegator.updateChildrenWithOldData(oldDataThreshold);
         if (cacheWasRecentEnoughForUpdate) {
             logger.debug(
                     "Poller {} received refresh() and cache was recent enough (age at most {} ms). Reusing old response",
@@ -455,7 +654,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                     getThing().getUID());
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
-                localComms.submitOneTimePoll(localRequest, callbackDelegator, callbackDelegator);
+                localComms.submitOneTimePoll(localRequest, delegator, delegator);
             }
         }
     }
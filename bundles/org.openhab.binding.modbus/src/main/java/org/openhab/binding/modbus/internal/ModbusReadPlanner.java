@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+
+/**
+ * Plans the read requests needed to poll a set of data elements (registers, coils or discrete inputs).
+ *
+ * Ranges with the same function code and refresh interval are merged into a single request as long as the gap between
+ * them is at most the given number of unused elements and the request stays within the protocol limits (125
+ * registers, 2000 coils/discrete inputs). The ranges are merged greedily in address order, which gives the minimum
+ * number of requests for these constraints.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlanner {
+
+    /**
+     * Data elements read by a single data thing
+     *
+     * @param functionCode function code used to read the elements
+     * @param start address of the first element
+     * @param length number of elements
+     * @param refresh poll interval in milliseconds
+     */
+    public record ReadRange(ModbusReadFunctionCode functionCode, int start, int length, long refresh) {
+    }
+
+    /**
+     * Single read request of a plan
+     *
+     * @param functionCode function code of the request
+     * @param start address of the first element to read
+     * @param length number of elements to read
+     * @param refresh poll interval in milliseconds
+     * @param usedLength number of elements actually read by some data thing
+     */
+    public record PlannedRead(ModbusReadFunctionCode functionCode, int start, int length, long refresh,
+            int usedLength) {
+
+        /**
+         * Whether both plan the same request, i.e. they differ at most in the number of used elements
+         */
+        public boolean isSameRequest(PlannedRead other) {
+            return functionCode == other.functionCode && start == other.start && length == other.length
+                    && refresh == other.refresh;
+        }
+
+        /**
+         * Whether the request reads all of the given elements
+         */
+        public boolean covers(ModbusReadFunctionCode functionCode, int start, int length) {
+            return this.functionCode == functionCode && start >= this.start
+                    && start + length <= this.start + this.length;
+        }
+    }
+
+    private ModbusReadPlanner() {
+        // static utility class
+    }
+
+    /**
+     * Compute the read requests for the given ranges
+     *
+     * @param ranges ranges to read
+     * @param maxGap maximum number of unused elements between two ranges read with the same request
+     * @return requests ordered by function code, refresh interval and address
+     */
+    public static List<PlannedRead> plan(Collection<ReadRange> ranges, int maxGap) {
+        List<ReadRange> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparing(ReadRange::functionCode).thenComparingLong(ReadRange::refresh)
+                .thenComparingInt(ReadRange::start).thenComparingInt(ReadRange::length));
+
+        List<PlannedRead> plan = new ArrayList<>();
+        @Nullable
+        ReadRange current = null;
+        int end = 0;
+        int used = 0;
+        for (ReadRange range : sorted) {
+            int rangeEnd = range.start() + range.length();
+            if (current != null && current.functionCode() == range.functionCode()
+                    && current.refresh() == range.refresh() && range.start() - end <= Math.max(0, maxGap)
+                    && Math.max(end, rangeEnd) - current.start() <= getMaxLength(range.functionCode())) {
+                used += Math.max(0, rangeEnd - Math.max(range.start(), end));
+                end = Math.max(end, rangeEnd);
+                continue;
+            }
+            if (current != null) {
+                plan.add(new PlannedRead(current.functionCode(), current.start(), end - current.start(),
+                        current.refresh(), used));
+            }
+            current = range;
+            end = rangeEnd;
+            used = range.length();
+        }
+        if (current != null) {
+            plan.add(new PlannedRead(current.functionCode(), current.start(), end - current.start(), current.refresh(),
+                    used));
+        }
+        return plan;
+    }
+
+    /**
+     * Get the maximum number of elements that can be read with a single request
+     */
+    public static int getMaxLength(ModbusReadFunctionCode functionCode) {
+        switch (functionCode) {
+            case READ_COILS:
+            case READ_INPUT_DISCRETES:
+                return ModbusConstants.MAX_BITS_READ_COUNT;
+            default:
+                return ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        }
+    }
+
+    /**
+     * Get the number of elements (registers, coils or discrete inputs) covered by a value
+     *
+     * @param functionCode function code used to read the value
+     * @param valueType type of the value
+     * @return number of elements
+     */
+    public static int getElementCount(ModbusReadFunctionCode functionCode, ValueType valueType) {
+        if (functionCode == ModbusReadFunctionCode.READ_COILS
+                || functionCode == ModbusReadFunctionCode.READ_INPUT_DISCRETES) {
+            return 1;
+        }
+        return Math.max(1, valueType.getBits() / 16);
+    }
+
+    /**
+     * Parse the range read by a data thing from its configuration
+     *
+     * @param functionCode function code of the poller
+     * @param readStart configured read start, in X or X.Y format
+     * @param readValueType configured read value type, optional with coils and discrete inputs
+     * @param refresh poll interval in milliseconds
+     * @return the range read, or <code>null</code> if the thing does not read or the configuration is invalid
+     */
+    public static @Nullable ReadRange parseReadRange(ModbusReadFunctionCode functionCode, @Nullable String readStart,
+            @Nullable String readValueType, long refresh) {
+        if (readStart == null || readStart.isBlank()) {
+            return null;
+        }
+        ValueType valueType;
+        try {
+            valueType = readValueType == null || readValueType.isBlank() ? ValueType.BIT
+                    : ValueType.fromConfigValue(readValueType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        try {
+            int start = Integer.parseInt(readStart.trim().split("\\.", 2)[0]);
+            if (start < 0) {
+                return null;
+            }
+            return new ReadRange(functionCode, start, getElementCount(functionCode, valueType), refresh);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
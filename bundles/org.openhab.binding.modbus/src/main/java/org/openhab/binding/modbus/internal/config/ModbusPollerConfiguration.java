@@ -29,6 +29,8 @@ public class ModbusPollerConfiguration {
     private @Nullable String type;
     private int maxTries = 3;// backwards compatibility and tests
     private long cacheMillis = 50L;
+    private boolean autoPlan;
+    private int maxGap = 10;
 
     /**
      * Gets refresh period in milliseconds
@@ -115,4 +117,34 @@ public class ModbusPollerConfiguration {
     public void setCacheMillis(long cacheMillis) {
         this.cacheMillis = cacheMillis;
     }
+
+    /**
+     * Gets whether read requests are planned automatically from the data things of this poller. When enabled,
+     * start and length are ignored.
+     */
+    public boolean isAutoPlan() {
+        return autoPlan;
+    }
+
+    /**
+     * Sets whether read requests are planned automatically from the data things of this poller
+     */
+    public void setAutoPlan(boolean autoPlan) {
+        this.autoPlan = autoPlan;
+    }
+
+    /**
+     * Gets maximum number of unused registers, coils or discrete inputs read in between two data things, when
+     * planning read requests automatically
+     */
+    public int getMaxGap() {
+        return maxGap;
+    }
+
+    /**
+     * Sets maximum number of unused registers, coils or discrete inputs read in between two data things
+     */
+    public void setMaxGap(int maxGap) {
+        this.maxGap = maxGap;
+    }
 }
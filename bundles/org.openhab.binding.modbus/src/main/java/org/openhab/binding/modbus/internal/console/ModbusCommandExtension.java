@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.console;
+
+import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal.*;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.PlannedRead;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
+import org.openhab.binding.modbus.internal.handler.ModbusEndpointMetrics;
+import org.openhab.binding.modbus.internal.handler.ModbusPollScheduler;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link ModbusCommandExtension} is responsible for handling console commands
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class ModbusCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String PLAN = "plan";
+    private static final String ENDPOINTS = "endpoints";
+    private static final String RESET = "reset";
+    private static final StringsCompleter SUBCMD_COMPLETER = new StringsCompleter(List.of(PLAN, ENDPOINTS), false);
+
+    private final ThingRegistry thingRegistry;
+
+    @Activate
+    public ModbusCommandExtension(final @Reference ThingRegistry thingRegistry) {
+        super("modbus", "Interact with the Modbus binding.");
+        this.thingRegistry = thingRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length >= 1 && PLAN.equals(args[0])) {
+            List<Thing> pollers = thingRegistry.getAll().stream()
+                    .filter(thing -> THING_TYPE_MODBUS_POLLER.equals(thing.getThingTypeUID()))
+                    .filter(thing -> args.length < 2 || thing.getUID().getAsString().equals(args[1])).toList();
+            boolean printed = false;
+            for (Thing poller : pollers) {
+                if (poller.getHandler() instanceof ModbusPollerThingHandler handler && handler.isAutoPlanning()) {
+                    printPlan(console, poller, handler.getPlan());
+                    printed = true;
+                }
+            }
+            if (!printed) {
+                console.println("No poller planning read requests automatically");
+            }
+        } else if (args.length >= 1 && ENDPOINTS.equals(args[0])) {
+            boolean reset = args.length >= 2 && RESET.equals(args[1]);
+            boolean printed = false;
+            for (Thing thing : thingRegistry.getAll()) {
+                if ((THING_TYPE_MODBUS_TCP.equals(thing.getThingTypeUID())
+                        || THING_TYPE_MODBUS_SERIAL.equals(thing.getThingTypeUID()))
+                        && thing.getHandler() instanceof AbstractModbusEndpointThingHandler<?, ?> handler) {
+                    ModbusPollScheduler scheduler = handler.getPollScheduler();
+                    if (scheduler != null) {
+                        printEndpoint(console, thing, scheduler);
+                        if (reset) {
+                            scheduler.getMetrics().reset();
+                        }
+                        printed = true;
+                    }
+                }
+            }
+            if (!printed) {
+                console.println("No initialized endpoint");
+            }
+        } else {
+            printUsage(console);
+        }
+    }
+
+    private void printPlan(Console console, Thing poller, List<PlannedRead> plan) {
+        console.println(poller.getUID().getAsString() + " (" + poller.getLabel() + ")");
+        double requestsPerSecond = 0;
+        double elementsPerSecond = 0;
+        int polled = 0;
+        int used = 0;
+        for (PlannedRead read : plan) {
+            String elements = getElementName(read.functionCode());
+            console.println(String.format(Locale.ROOT, "  %s %d-%d: %d %s, %d used, every %d ms",
+                    read.functionCode(), read.start(), read.start() + read.length() - 1, read.length(), elements,
+                    read.usedLength(), read.refresh()));
+            if (read.refresh() > 0) {
+                requestsPerSecond += 1000.0 / read.refresh();
+                elementsPerSecond += 1000.0 * read.length() / read.refresh();
+            }
+            polled += read.length();
+            used += read.usedLength();
+        }
+        console.println(String.format(Locale.ROOT,
+                "  %d requests, %.2f requests/s, %.1f elements/s, %d%% of polled elements used", plan.size(),
+                requestsPerSecond, elementsPerSecond, polled == 0 ? 0 : 100 * used / polled));
+    }
+
+    private void printEndpoint(Console console, Thing thing, ModbusPollScheduler scheduler) {
+        ModbusEndpointMetrics.Snapshot metrics = scheduler.getMetrics().snapshot();
+        console.println(thing.getUID().getAsString() + " (" + thing.getLabel() + "): " + scheduler.getEndpoint());
+        console.println(String.format(Locale.ROOT,
+                "  %d regular polls registered, %d transactions scheduled, %.2f scheduled transactions/s",
+                scheduler.getRegisteredPollCount(), scheduler.getScheduledRequests().size(),
+                scheduler.getScheduledTransactionRate()));
+        console.println(String.format(Locale.ROOT,
+                "  %d transactions, %.2f transactions/s, %d errors", metrics.transactions(),
+                metrics.transactionsPerSecond(), metrics.errors()));
+        console.println(String.format(Locale.ROOT,
+                "  one-time latency %.1f ms average, %d ms max, regular poll jitter %.1f ms average, %d ms max",
+                metrics.averageLatencyMillis(), metrics.maxLatencyMillis(), metrics.averageJitterMillis(),
+                metrics.maxJitterMillis()));
+    }
+
+    private static String getElementName(ModbusReadFunctionCode functionCode) {
+        switch (functionCode) {
+            case READ_COILS:
+                return "coils";
+            case READ_INPUT_DISCRETES:
+                return "discrete inputs";
+            default:
+                return "registers";
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(
+                buildCommandUsage(PLAN + " [<pollerUID>]",
+                        "show read requests and bus utilisation of pollers planning requests automatically"),
+                buildCommandUsage(ENDPOINTS + " [" + RESET + "]",
+                        "show scheduled polls and transaction metrics of the endpoints, optionally resetting them"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return SUBCMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        } else if (cursorArgumentIndex == 1 && PLAN.equals(args[0])) {
+            return new StringsCompleter(thingRegistry.getAll().stream()
+                    .filter(thing -> THING_TYPE_MODBUS_POLLER.equals(thing.getThingTypeUID()))
+                    .map(thing -> thing.getUID().getAsString()).toList(), true)
+                    .complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        } else if (cursorArgumentIndex == 1 && ENDPOINTS.equals(args[0])) {
+            return new StringsCompleter(List.of(RESET), false).complete(args, cursorArgumentIndex, cursorPosition,
+                    candidates);
+        }
+        return false;
+    }
+}
@@ -47,7 +47,7 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected ModbusManager modbusManager;
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
-    private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private @NonNullByDefault({}) ModbusPollScheduler comms;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -75,7 +75,9 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                     throw new IllegalStateException("endpoint null after configuration!");
                 }
                 try {
-                    comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    comms = new ModbusPollScheduler(
+                            modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration),
+                            isPollMergingEnabled());
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -110,6 +112,13 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    /**
+     * Get the scheduler of regular polls of this endpoint, or <code>null</code> if the endpoint is not initialized
+     */
+    public @Nullable ModbusPollScheduler getPollScheduler() {
+        return comms;
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
@@ -123,6 +132,12 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
      */
     protected abstract void configure() throws ModbusConfigurationException;
 
+    /**
+     * Whether adjacent and overlapping regular polls of the things using this endpoint are merged. Called after
+     * {@link #configure()}.
+     */
+    protected abstract boolean isPollMergingEnabled();
+
     /**
      * Format error message in case some other endpoint has been configured with different
      * {@link EndpointPoolConfiguration}
@@ -35,9 +35,11 @@ import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.CascadedValueTransformationImpl;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
 import org.openhab.binding.modbus.internal.SingleValueTransformation;
 import org.openhab.binding.modbus.internal.ValueTransformation;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
+import org.openhab.binding.modbus.internal.handler.PollerDecodePlan.ReadWindow;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
 import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
@@ -135,6 +137,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile @Nullable CascadedValueTransformationImpl writeTransformation;
     private volatile Optional<Integer> readIndex = Optional.empty();
     private volatile Optional<Integer> readSubIndex = Optional.empty();
+    private volatile int readLength;
+    private volatile @Nullable ReadWindow readWindow;
     private volatile Optional<Integer> writeStart = Optional.empty();
     private volatile Optional<Integer> writeSubIndex = Optional.empty();
     private volatile int pollStart;
@@ -142,15 +146,20 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile @Nullable ModbusReadFunctionCode functionCode;
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
     private volatile long updateUnchangedValuesEveryMillis;
+    private volatile long updateDueMillis;
+    private volatile boolean lastReadSuccessLinked;
     private volatile @NonNullByDefault({}) ModbusCommunicationInterface comms;
     private volatile boolean isWriteEnabled;
     private volatile boolean isReadEnabled;
     private volatile boolean writeParametersHavingTransformationOnly;
     private volatile boolean childOfEndpoint;
+    private volatile boolean autoPlanned;
     private volatile @Nullable ModbusPollerThingHandler pollerHandler;
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+    // whether channelLastState holds the states of all linked channels for the last decoded value
+    private volatile boolean channelLastStateComplete;
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
@@ -423,6 +432,25 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 childOfEndpoint = true;
                 functionCode = null;
                 readRequest = null;
+            } else if (bridgeHandler instanceof ModbusPollerThingHandler localPollerHandler
+                    && localPollerHandler.isAutoPlanning()) {
+                pollerHandler = localPollerHandler;
+                ModbusReadFunctionCode localFunctionCode = localPollerHandler.getFunctionCode();
+                if (localFunctionCode == null) {
+                    logger.debug(
+                            "Poller {} '{}' has no function code -- configuration is changing or bridge having invalid configuration?",
+                            bridge.getUID(), bridge.getLabel());
+                    updateStatusIfChanged(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE,
+                            String.format("Poller %s '%s' has no poll task", bridge.getUID(), bridge.getLabel()));
+                    return;
+                }
+                // read request is resolved from the poller plan once the read parameters are known
+                readRequest = null;
+                slaveId = localPollerHandler.getSlaveId();
+                functionCode = localFunctionCode;
+                comms = localPollerHandler.getCommunicationInterface();
+                childOfEndpoint = false;
+                autoPlanned = true;
             } else if (bridgeHandler instanceof ModbusPollerThingHandler localPollerHandler) {
                 pollerHandler = localPollerHandler;
                 ModbusReadRequestBlueprint localReadRequest = localPollerHandler.getRequest();
@@ -449,6 +477,12 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             validateAndParseReadParameters(localConfig);
             validateAndParseWriteParameters(localConfig);
             validateMustReadOrWrite();
+            ValueType localReadValueType = readValueType;
+            if (isReadEnabled && localReadValueType != null) {
+                readWindow = new ReadWindow(readIndex.get(), readLength, autoPlanned, localReadValueType,
+                        readSubIndex.orElse(0));
+            }
+            lastReadSuccessLinked = isLinked(getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS));
 
             updateStatusIfChanged(ThingStatus.ONLINE);
         } catch (ModbusConfigurationException | EndpointNotInitializedException e) {
@@ -469,6 +503,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         writeTransformation = null;
         readIndex = Optional.empty();
         readSubIndex = Optional.empty();
+        readLength = 0;
+        readWindow = null;
+        updateDueMillis = 0L;
+        lastReadSuccessLinked = false;
         writeStart = Optional.empty();
         writeSubIndex = Optional.empty();
         pollStart = 0;
@@ -480,12 +518,14 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         isReadEnabled = false;
         writeParametersHavingTransformationOnly = false;
         childOfEndpoint = false;
+        autoPlanned = false;
         pollerHandler = null;
         channelCache = new HashMap<>();
         lastStatusInfoUpdate = LocalDateTime.MIN;
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        channelLastStateComplete = false;
     }
 
     @Override
@@ -575,6 +615,21 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                         config.getReadStart());
                 throw new ModbusConfigurationException(errmsg);
             }
+            ValueType localReadValueType = readValueType;
+            if (functionCode != null && localReadValueType != null) {
+                readLength = ModbusReadPlanner.getElementCount(functionCode, localReadValueType);
+            }
+            ModbusPollerThingHandler localPollerHandler = pollerHandler;
+            if (autoPlanned && localPollerHandler != null) {
+                ModbusReadRequestBlueprint plannedRequest = localPollerHandler.getPlannedRequest(getThing().getUID(),
+                        readIndex.get(), readLength);
+                if (plannedRequest == null) {
+                    String errmsg = String.format("Thing %s readStart=%s is not read by any planned request",
+                            getThing().getUID(), config.getReadStart());
+                    throw new ModbusConfigurationException(errmsg);
+                }
+                readRequest = plannedRequest;
+            }
         }
         readTransformation = new CascadedValueTransformationImpl(config.getReadTransform());
         validateReadIndex();
@@ -667,6 +722,12 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             }
 
             if (writeSubIndex.isPresent()) {
+                if (autoPlanned) {
+                    String errmsg = String.format(
+                            "Thing %s invalid. writeStart=X.Y is not supported with poller planning requests automatically.",
+                            getThing().getUID());
+                    throw new ModbusConfigurationException(errmsg);
+                }
                 if (writeValueTypeMissing || writeTypeMissing || !WRITE_TYPE_HOLDING.equals(config.getWriteType())
                         || !ModbusConstants.ValueType.BIT.equals(localWriteValueType) || childOfEndpoint) {
                     String errmsg = String.format(
@@ -795,6 +856,83 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         return acceptedDataTypes.stream().anyMatch(clz -> clz.equals(OpenClosedType.class));
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        // make sure the newly linked channel gets updated with the next poll, even when data does not change
+        updateDueMillis = 0L;
+        channelLastStateComplete = false;
+        lastReadSuccessLinked = isLinked(getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS));
+        super.channelLinked(channelUID);
+    }
+
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        channelLastStateComplete = false;
+        lastReadSuccessLinked = isLinked(getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS));
+        super.channelUnlinked(channelUID);
+    }
+
+    /**
+     * Get the elements read by this thing, see {@link PollerDecodePlan}
+     *
+     * @return elements read, or <code>null</code> if the thing does not read data
+     */
+    public @Nullable ReadWindow getReadWindow() {
+        return readWindow;
+    }
+
+    /**
+     * Whether channels need to be updated with the next poll result even if the polled data did not change
+     *
+     * @param now current time in milliseconds
+     * @return true if channels would be updated with unchanged data
+     */
+    public boolean isUpdateDue(long now) {
+        return updateUnchangedValuesEveryMillis <= 0L || lastReadSuccessLinked
+                || statusInfo.getStatus() != ThingStatus.ONLINE || now >= updateDueMillis;
+    }
+
+    /**
+     * Update channels with a value decoded by the {@link PollerDecodePlan}
+     *
+     * @param request the request that read the value
+     * @param numericState decoded value
+     * @param boolValue boolean value corresponding to decoded value
+     */
+    public synchronized void onReadValue(ModbusReadRequestBlueprint request, State numericState, boolean boolValue) {
+        if (hasConfigurationError()) {
+            return;
+        } else if (!isReadEnabled) {
+            return;
+        }
+        Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        logger.debug(
+                "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={} -> numeric value {} and boolValue={} for request {}",
+                thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), numericState, boolValue,
+                request);
+    }
+
+    /**
+     * Update channels with the states of the last decoded value, since the data read did not change. This avoids
+     * decoding and transforming the value again.
+     *
+     * @return false if the last states are not available, and the value has to be decoded
+     */
+    public synchronized boolean onUnchangedValue() {
+        if (hasConfigurationError() || !isReadEnabled) {
+            return true;
+        } else if (!channelLastStateComplete) {
+            return false;
+        }
+        Map<ChannelUID, State> states = new HashMap<>(channelLastState);
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        if (states.containsKey(lastReadSuccessUID)) {
+            states.put(lastReadSuccessUID, new DateTimeType());
+        }
+        updateExpiredChannels(states);
+        return true;
+    }
+
     public synchronized void onReadResult(AsyncModbusReadResult result) {
         result.getRegisters().ifPresent(registers -> onRegisters(result.getRequest(), registers));
         result.getBits().ifPresent(bits -> onBits(result.getRequest(), bits));
@@ -808,11 +946,31 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         onError(failure.getRequest(), failure.getCause());
     }
 
+    /**
+     * Whether the request reads the value of this thing. With automatic planning, the poller issues several requests
+     * and results of all of them are delegated to all data things.
+     */
+    private boolean isReadBy(ModbusReadRequestBlueprint request) {
+        if (!autoPlanned) {
+            // single request of the poller, bounds checked in initialize
+            return true;
+        }
+        int index = readIndex.orElse(-1);
+        return index >= request.getReference()
+                && index + readLength <= request.getReference() + request.getDataLength();
+    }
+
+    private int getPollStart(ModbusReadRequestBlueprint request) {
+        return autoPlanned ? request.getReference() : pollStart;
+    }
+
     private synchronized void onRegisters(ModbusReadRequestBlueprint request, ModbusRegisterArray registers) {
         if (hasConfigurationError()) {
             return;
         } else if (!isReadEnabled) {
             return;
+        } else if (!isReadBy(request)) {
+            return;
         }
         ValueType readValueType = this.readValueType;
         if (readValueType == null) {
@@ -833,11 +991,11 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         if (readValueType.getBits() >= 16) {
             // Invariant, checked in initialize
             assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
+            extractIndex = readIndex.get() - getPollStart(request);
         } else {
             int subIndex = readSubIndex.orElse(0);
             int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
+            extractIndex = (readIndex.get() - getPollStart(request)) * itemsPerRegister + subIndex;
         }
         numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
@@ -854,8 +1012,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         } else if (!isReadEnabled) {
             return;
+        } else if (!isReadBy(request)) {
+            return;
         }
-        boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        boolean boolValue = bits.getBit(readIndex.get() - getPollStart(request));
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
@@ -868,6 +1028,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         } else if (!isReadEnabled) {
             return;
+        } else if (!isReadBy(request)) {
+            return;
         }
         if (error instanceof ModbusConnectionException) {
             logger.trace("Thing {} '{}' had {} error on read: {}", getThing().getUID(), getThing().getLabel(),
@@ -1022,6 +1184,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             states.put(lastReadSuccessUID, new DateTimeType());
         }
         updateExpiredChannels(states);
+        channelLastStateComplete = true;
         return states;
     }
 
@@ -1032,6 +1195,12 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             // Update channels that have not been updated in a while, or when their values has changed
             states.forEach((uid, state) -> updateExpiredChannel(now, uid, state));
             channelLastState = states;
+            // unchanged values are updated again once the oldest channel update expires
+            long oldestUpdateMillis = now;
+            for (ChannelUID uid : states.keySet()) {
+                oldestUpdateMillis = Math.min(oldestUpdateMillis, channelLastUpdated.getOrDefault(uid, 0L));
+            }
+            updateDueMillis = oldestUpdateMillis + updateUnchangedValuesEveryMillis;
         }
     }
 
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.handler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Transaction metrics of a Modbus endpoint
+ *
+ * Latency of one-time polls and writes is measured from submission to response. Regular polls are not timed
+ * individually, instead their jitter is measured as the deviation of the time between consecutive results from the
+ * poll period.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusEndpointMetrics {
+
+    /**
+     * Point-in-time copy of the metrics
+     *
+     * @param transactions number of transactions completed, successfully or not
+     * @param errors number of failed transactions
+     * @param transactionsPerSecond average transaction rate since the metrics were reset
+     * @param averageLatencyMillis average latency of one-time polls and writes, in milliseconds
+     * @param maxLatencyMillis maximum latency of one-time polls and writes, in milliseconds
+     * @param averageJitterMillis average jitter of regular polls, in milliseconds
+     * @param maxJitterMillis maximum jitter of regular polls, in milliseconds
+     */
+    public record Snapshot(long transactions, long errors, double transactionsPerSecond, double averageLatencyMillis,
+            long maxLatencyMillis, double averageJitterMillis, long maxJitterMillis) {
+    }
+
+    /**
+     * Sum, count and maximum of a series of durations
+     */
+    private static class Durations {
+        private final LongAdder sum = new LongAdder();
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        void record(long millis) {
+            sum.add(millis);
+            count.increment();
+            max.accumulate(millis);
+        }
+
+        double average() {
+            long n = count.sum();
+            return n == 0 ? 0 : (double) sum.sum() / n;
+        }
+
+        long max() {
+            return max.get();
+        }
+
+        void reset() {
+            sum.reset();
+            count.reset();
+            max.reset();
+        }
+    }
+
+    private final LongSupplier clock;
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Durations latency = new Durations();
+    private final Durations jitter = new Durations();
+    private final AtomicLong sinceMillis;
+
+    /**
+     * @param clock source of the current time in milliseconds
+     */
+    public ModbusEndpointMetrics(LongSupplier clock) {
+        this.clock = clock;
+        this.sinceMillis = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Record a completed one-time poll or write
+     *
+     * @param success whether the transaction succeeded
+     * @param latencyMillis time from submission to response
+     */
+    public void recordTransaction(boolean success, long latencyMillis) {
+        record(success);
+        latency.record(Math.max(0, latencyMillis));
+    }
+
+    /**
+     * Record a completed regular poll
+     *
+     * @param success whether the transaction succeeded
+     * @param jitterMillis deviation of the time since the previous result from the poll period, negative if not known
+     */
+    public void recordRegularPoll(boolean success, long jitterMillis) {
+        record(success);
+        if (jitterMillis >= 0) {
+            jitter.record(jitterMillis);
+        }
+    }
+
+    private void record(boolean success) {
+        transactions.increment();
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long count = transactions.sum();
+        double seconds = Math.max(1, clock.getAsLong() - sinceMillis.get()) / 1000.0;
+        return new Snapshot(count, errors.sum(), count / seconds, latency.average(), latency.max(), jitter.average(),
+                jitter.max());
+    }
+
+    public void reset() {
+        transactions.reset();
+        errors.reset();
+        latency.reset();
+        jitter.reset();
+        sinceMillis.set(clock.getAsLong());
+    }
+}
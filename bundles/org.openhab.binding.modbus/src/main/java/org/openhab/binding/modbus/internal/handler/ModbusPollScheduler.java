@@ -0,0 +1,446 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.PlannedRead;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.ReadRange;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Communication interface of an endpoint thing, scheduling the regular polls of all handlers using the endpoint.
+ *
+ * When merging is enabled, regular polls with the same unit id, function code and poll period that overlap or are
+ * adjacent are merged into a single transaction, and the result is sliced back to the requests of the individual
+ * handlers. Some devices reject reads spanning registers of different handlers, so merging is disabled by default.
+ *
+ * The polls are spread evenly over their poll period instead of all firing at the same time. Transaction counts,
+ * errors, latency of one-time transactions and jitter of regular polls are collected in
+ * {@link ModbusEndpointMetrics}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollScheduler implements ModbusCommunicationInterface {
+
+    private record GroupKey(int unitId, ModbusReadFunctionCode functionCode, long pollPeriodMillis) {
+    }
+
+    /**
+     * Regular poll registered by a handler
+     */
+    private class Registration implements PollTask {
+        private final ModbusReadRequestBlueprint request;
+        private final long pollPeriodMillis;
+        private final long initialDelayMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        private Registration(ModbusReadRequestBlueprint request, long pollPeriodMillis, long initialDelayMillis,
+                ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.pollPeriodMillis = pollPeriodMillis;
+            this.initialDelayMillis = initialDelayMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        private GroupKey getKey() {
+            return new GroupKey(request.getUnitID(), request.getFunctionCode(), pollPeriodMillis);
+        }
+
+        @Override
+        public ModbusSlaveEndpoint getEndpoint() {
+            return delegate.getEndpoint();
+        }
+
+        @Override
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        @Override
+        public ModbusReadCallback getResultCallback() {
+            return resultCallback;
+        }
+
+        @Override
+        public ModbusFailureCallback<ModbusReadRequestBlueprint> getFailureCallback() {
+            return failureCallback;
+        }
+
+        @Override
+        public String toString() {
+            return "Registration(" + request + ", every " + pollPeriodMillis + " ms)";
+        }
+    }
+
+    /**
+     * Transaction actually polled, serving one or more registrations
+     */
+    private class MergedPoll {
+        private final ModbusReadRequestBlueprint request;
+        private final long pollPeriodMillis;
+        private final List<Registration> members;
+        private long phaseMillis;
+        private @Nullable PollTask task;
+        private volatile long lastResponseMillis;
+
+        private MergedPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis, List<Registration> members) {
+            this.request = request;
+            this.pollPeriodMillis = pollPeriodMillis;
+            this.members = members;
+        }
+
+        private void onResult(AsyncModbusReadResult result) {
+            recordRegularPoll(true);
+            if (members.size() == 1) {
+                members.get(0).resultCallback.handle(result);
+                return;
+            }
+            @Nullable
+            ModbusRegisterArray registers = ((Optional<@Nullable ModbusRegisterArray>) result.getRegisters())
+                    .orElse(null);
+            @Nullable
+            BitArray bits = ((Optional<@Nullable BitArray>) result.getBits()).orElse(null);
+            for (Registration member : members) {
+                try {
+                    int offset = member.request.getReference() - request.getReference();
+                    int length = member.request.getDataLength();
+                    int available = registers != null ? registers.size() : bits != null ? bits.size() : 0;
+                    if (offset + length > available) {
+                        member.failureCallback.handle(new AsyncModbusFailure<>(member.request,
+                                new IllegalStateException(String.format(
+                                        "Merged response has %d elements, %d needed", available, offset + length))));
+                    } else if (registers != null) {
+                        member.resultCallback.handle(new AsyncModbusReadResult(member.request, new ModbusRegisterArray(
+                                Arrays.copyOfRange(registers.getBytes(), offset * 2, (offset + length) * 2))));
+                    } else if (bits != null) {
+                        boolean[] slice = new boolean[length];
+                        for (int i = 0; i < length; i++) {
+                            slice[i] = bits.getBit(offset + i);
+                        }
+                        member.resultCallback.handle(new AsyncModbusReadResult(member.request, new BitArray(slice)));
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Unhandled exception in result callback of {}", member, e);
+                }
+            }
+        }
+
+        private void onFailure(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            recordRegularPoll(false);
+            if (members.size() == 1) {
+                members.get(0).failureCallback.handle(failure);
+                return;
+            }
+            for (Registration member : members) {
+                try {
+                    member.failureCallback.handle(new AsyncModbusFailure<>(member.request, failure.getCause()));
+                } catch (RuntimeException e) {
+                    logger.warn("Unhandled exception in failure callback of {}", member, e);
+                }
+            }
+        }
+
+        private void recordRegularPoll(boolean success) {
+            long now = clock.getAsLong();
+            long previous = lastResponseMillis;
+            lastResponseMillis = now;
+            metrics.recordRegularPoll(success, previous == 0 ? -1 : Math.abs(now - previous - pollPeriodMillis));
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollScheduler.class);
+    private final ModbusCommunicationInterface delegate;
+    private final boolean mergePolls;
+    private final LongSupplier clock;
+    private final ModbusEndpointMetrics metrics;
+    private final Map<GroupKey, List<Registration>> registrations = new LinkedHashMap<>();
+    private final Map<GroupKey, List<MergedPoll>> mergedPolls = new HashMap<>();
+
+    public ModbusPollScheduler(ModbusCommunicationInterface delegate, boolean mergePolls) {
+        this(delegate, mergePolls, System::currentTimeMillis);
+    }
+
+    /**
+     * @param delegate communication interface executing the transactions
+     * @param mergePolls whether overlapping and adjacent regular polls are merged into a single transaction
+     * @param clock source of the current time in milliseconds, used for scheduling and metrics
+     */
+    ModbusPollScheduler(ModbusCommunicationInterface delegate, boolean mergePolls, LongSupplier clock) {
+        this.delegate = delegate;
+        this.mergePolls = mergePolls;
+        this.clock = clock;
+        this.metrics = new ModbusEndpointMetrics(clock);
+    }
+
+    @Override
+    public ModbusSlaveEndpoint getEndpoint() {
+        return delegate.getEndpoint();
+    }
+
+    @Override
+    public Future<?> submitOneTimePoll(ModbusReadRequestBlueprint request, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        long submitted = clock.getAsLong();
+        return delegate.submitOneTimePoll(request, result -> {
+            metrics.recordTransaction(true, clock.getAsLong() - submitted);
+            resultCallback.handle(result);
+        }, failure -> {
+            metrics.recordTransaction(false, clock.getAsLong() - submitted);
+            failureCallback.handle(failure);
+        });
+    }
+
+    @Override
+    public Future<?> submitOneTimeWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        long submitted = clock.getAsLong();
+        return delegate.submitOneTimeWrite(request, result -> {
+            metrics.recordTransaction(true, clock.getAsLong() - submitted);
+            resultCallback.handle(result);
+        }, failure -> {
+            metrics.recordTransaction(false, clock.getAsLong() - submitted);
+            failureCallback.handle(failure);
+        });
+    }
+
+    @Override
+    public synchronized PollTask registerRegularPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            long initialDelayMillis, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        Registration registration = new Registration(request, pollPeriodMillis, initialDelayMillis, resultCallback,
+                failureCallback);
+        GroupKey key = registration.getKey();
+        registrations.computeIfAbsent(key, k -> new ArrayList<>()).add(registration);
+        reschedule(key);
+        return registration;
+    }
+
+    @Override
+    public synchronized boolean unregisterRegularPoll(PollTask task) {
+        if (!(task instanceof Registration registration)) {
+            return delegate.unregisterRegularPoll(task);
+        }
+        GroupKey key = registration.getKey();
+        List<Registration> group = registrations.get(key);
+        if (group == null || !group.remove(registration)) {
+            return false;
+        }
+        if (group.isEmpty()) {
+            registrations.remove(key);
+        }
+        reschedule(key);
+        return true;
+    }
+
+    @Override
+    public void close() throws Exception {
+        synchronized (this) {
+            for (List<MergedPoll> polls : mergedPolls.values()) {
+                polls.forEach(this::unregister);
+            }
+            mergedPolls.clear();
+            registrations.clear();
+        }
+        delegate.close();
+    }
+
+    public ModbusEndpointMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Get the number of regular polls registered by handlers
+     */
+    public synchronized int getRegisteredPollCount() {
+        return registrations.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Get the number of regular poll transactions per second, after merging
+     */
+    public synchronized double getScheduledTransactionRate() {
+        return mergedPolls.values().stream().flatMap(List::stream).filter(poll -> poll.pollPeriodMillis > 0)
+                .mapToDouble(poll -> 1000.0 / poll.pollPeriodMillis).sum();
+    }
+
+    /**
+     * Get the requests actually polled, after merging
+     */
+    public synchronized List<ModbusReadRequestBlueprint> getScheduledRequests() {
+        return mergedPolls.values().stream().flatMap(List::stream).map(poll -> poll.request).toList();
+    }
+
+    /**
+     * Plan the polls of a group again, and replace the polls which changed
+     */
+    private void reschedule(GroupKey key) {
+        List<Registration> group = registrations.getOrDefault(key, List.of());
+        List<MergedPoll> oldPolls = mergedPolls.getOrDefault(key, List.of());
+
+        List<Map.Entry<PlannedRead, List<Registration>>> plan = new ArrayList<>();
+        if (mergePolls) {
+            // ranges are merged only when overlapping or adjacent, never reading unrequested elements
+            Map<ReadRange, List<Registration>> byRange = new LinkedHashMap<>();
+            for (Registration registration : group) {
+                ReadRange range = new ReadRange(key.functionCode(), registration.request.getReference(),
+                        registration.request.getDataLength(), key.pollPeriodMillis());
+                byRange.computeIfAbsent(range, r -> new ArrayList<>()).add(registration);
+            }
+            for (PlannedRead read : ModbusReadPlanner.plan(byRange.keySet(), 0)) {
+                List<Registration> members = new ArrayList<>();
+                byRange.forEach((range, registrationsOfRange) -> {
+                    if (read.covers(range.functionCode(), range.start(), range.length())) {
+                        members.addAll(registrationsOfRange);
+                    }
+                });
+                plan.add(Map.entry(read, members));
+            }
+        } else {
+            // every registration is polled on its own, only the phase is scheduled
+            for (Registration registration : group) {
+                PlannedRead read = new PlannedRead(key.functionCode(), registration.request.getReference(),
+                        registration.request.getDataLength(), key.pollPeriodMillis(),
+                        registration.request.getDataLength());
+                plan.add(Map.entry(read, List.of(registration)));
+            }
+        }
+
+        List<MergedPoll> newPolls = new ArrayList<>();
+        Set<MergedPoll> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<PlannedRead, List<Registration>> entry : plan) {
+            PlannedRead read = entry.getKey();
+            List<Registration> members = entry.getValue();
+            @Nullable
+            MergedPoll existing = oldPolls.stream()
+                    .filter(poll -> poll.request.getReference() == read.start()
+                            && poll.request.getDataLength() == read.length() && sameMembers(poll.members, members))
+                    .findFirst().orElse(null);
+            if (existing != null) {
+                kept.add(existing);
+                newPolls.add(existing);
+            } else {
+                newPolls.add(new MergedPoll(createRequest(key, read, members), key.pollPeriodMillis(),
+                        List.copyOf(members)));
+            }
+        }
+
+        oldPolls.stream().filter(poll -> !kept.contains(poll)).forEach(this::unregister);
+        if (newPolls.isEmpty()) {
+            mergedPolls.remove(key);
+        } else {
+            mergedPolls.put(key, newPolls);
+        }
+        newPolls.stream().filter(poll -> !kept.contains(poll)).forEach(this::register);
+    }
+
+    private static boolean sameMembers(List<Registration> a, List<Registration> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        Set<Registration> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(a);
+        return set.containsAll(b);
+    }
+
+    private static ModbusReadRequestBlueprint createRequest(GroupKey key, PlannedRead read,
+            List<Registration> members) {
+        if (members.size() == 1) {
+            return members.get(0).request;
+        }
+        int maxTries = members.stream().mapToInt(member -> member.request.getMaxTries()).max().orElse(1);
+        return new ModbusReadRequestBlueprint(key.unitId(), key.functionCode(), read.start(), read.length(),
+                maxTries);
+    }
+
+    private void register(MergedPoll poll) {
+        long period = poll.pollPeriodMillis;
+        long initialDelay = poll.members.stream().mapToLong(member -> member.initialDelayMillis).max().orElse(0);
+        long now = clock.getAsLong();
+        long delay = initialDelay + computePhaseShift(period, now + initialDelay);
+        poll.phaseMillis = period > 0 ? Math.floorMod(now + delay, period) : 0;
+        poll.task = delegate.registerRegularPoll(poll.request, period, delay, poll::onResult, poll::onFailure);
+        logger.debug("Registered regular poll {} every {} ms with initial delay {} ms, serving {} registrations",
+                poll.request, period, delay, poll.members.size());
+    }
+
+    /**
+     * Compute the shift needed to start a poll in the middle of the largest gap between the polls having the same
+     * poll period
+     *
+     * @param period poll period
+     * @param earliestStart earliest start time of the poll
+     * @return shift in milliseconds, 0 if no other poll has the same period
+     */
+    private long computePhaseShift(long period, long earliestStart) {
+        if (period <= 0) {
+            return 0;
+        }
+        long[] phases = mergedPolls.values().stream().flatMap(List::stream)
+                .filter(poll -> poll.pollPeriodMillis == period && poll.task != null)
+                .mapToLong(poll -> poll.phaseMillis).sorted().toArray();
+        if (phases.length == 0) {
+            return 0;
+        }
+        long bestStart = phases[phases.length - 1];
+        long bestGap = phases[0] + period - bestStart;
+        for (int i = 1; i < phases.length; i++) {
+            long gap = phases[i] - phases[i - 1];
+            if (gap > bestGap) {
+                bestGap = gap;
+                bestStart = phases[i - 1];
+            }
+        }
+        long target = Math.floorMod(bestStart + bestGap / 2, period);
+        return Math.floorMod(target - earliestStart, period);
+    }
+
+    private void unregister(MergedPoll poll) {
+        PollTask task = poll.task;
+        if (task != null) {
+            delegate.unregisterRegularPoll(task);
+            poll.task = null;
+        }
+    }
+}
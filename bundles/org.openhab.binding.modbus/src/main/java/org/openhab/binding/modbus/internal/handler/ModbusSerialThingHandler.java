@@ -104,6 +104,12 @@ public class ModbusSerialThingHandler
         return config.getId();
     }
 
+    @Override
+    protected boolean isPollMergingEnabled() {
+        ModbusSerialConfiguration localConfig = config;
+        return localConfig != null && localConfig.isMergePolls();
+    }
+
     @Override
     public ThingUID getUID() {
         return getThing().getUID();
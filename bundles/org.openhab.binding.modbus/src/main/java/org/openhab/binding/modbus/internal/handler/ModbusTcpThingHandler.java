@@ -82,6 +82,12 @@ public class ModbusTcpThingHandler
         return localConfig.getId();
     }
 
+    @Override
+    protected boolean isPollMergingEnabled() {
+        ModbusTcpConfiguration localConfig = config;
+        return localConfig != null && localConfig.isMergePolls();
+    }
+
     @Override
     public ThingUID getUID() {
         return getThing().getUID();
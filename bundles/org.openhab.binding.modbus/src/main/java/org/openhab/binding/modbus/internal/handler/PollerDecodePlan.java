@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.handler;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Dispatches poll results of a single request to the data things of a poller.
+ *
+ * The plan is compiled from the elements read by each data thing. For every result, a single pass over all data
+ * things compares their raw registers (or bits) against the previous result, and decodes the value of those with
+ * changed data, which are then handed the decoded value. Data things with unchanged data are not decoded at all. If
+ * they are due for an update anyway (see {@link ModbusDataThingHandler#isUpdateDue(long)}), they repeat their last
+ * channel states instead (see {@link ModbusDataThingHandler#onUnchangedValue()}). This avoids value extraction and
+ * transformation of unchanged values, also when unchanged values are updated with every poll.
+ * <p>
+ * Results replayed from the cache, e.g. on a REFRESH command, are always decoded and delivered.
+ *
+ * Not thread-safe, the caller is expected to serialize calls.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PollerDecodePlan {
+
+    /**
+     * Elements read by a data thing
+     *
+     * @param start address of the first element
+     * @param length number of elements
+     * @param planned whether the thing is a child of a poller planning requests automatically. Such things ignore
+     *            results of requests not reading their elements.
+     * @param valueType type of the value read
+     * @param subIndex index of the value within the first register, for value types shorter than a register
+     */
+    public record ReadWindow(int start, int length, boolean planned, ValueType valueType, int subIndex) {
+    }
+
+    private ModbusDataThingHandler[] children = new ModbusDataThingHandler[0];
+    private @Nullable ReadWindow[] windows = new ReadWindow[0];
+    private int[] rawOffsets = new int[0];
+    private int[] lastRaw = new int[0];
+    private boolean[] known = new boolean[0];
+
+    /**
+     * Notify data things about a poll result
+     *
+     * @param currentChildren current data things of the poller
+     * @param result poll result
+     * @param replay whether the result is replayed from the cache, in which case all data things are notified
+     */
+    public void dispatch(List<ModbusDataThingHandler> currentChildren, AsyncModbusReadResult result, boolean replay) {
+        if (!isCompiledFor(currentChildren)) {
+            compile(currentChildren);
+        }
+        ModbusReadRequestBlueprint request = result.getRequest();
+        @Nullable
+        ModbusRegisterArray registers = ((Optional<@Nullable ModbusRegisterArray>) result.getRegisters())
+                .orElse(null);
+        @Nullable
+        BitArray bits = ((Optional<@Nullable BitArray>) result.getBits()).orElse(null);
+        long now = System.currentTimeMillis();
+        int available = registers != null ? registers.size() : bits != null ? bits.size() : 0;
+        for (int i = 0; i < children.length; i++) {
+            ModbusDataThingHandler child = children[i];
+            ReadWindow window = windows[i];
+            if (window == null) {
+                // thing does not tell what it reads, let it decide
+                child.onReadResult(result);
+                continue;
+            }
+            int offset = window.start() - request.getReference();
+            if (offset < 0 || offset + window.length() > request.getDataLength()
+                    || offset + window.length() > available) {
+                if (!window.planned()) {
+                    // let the thing handle (and report) the bad configuration as before
+                    child.onReadResult(result);
+                }
+                continue;
+            }
+            boolean changed = updateRaw(i, window, offset, registers, bits);
+            if (changed || replay || (child.isUpdateDue(now) && !child.onUnchangedValue())) {
+                decode(child, window, offset, request, registers, bits);
+            }
+        }
+    }
+
+    private void decode(ModbusDataThingHandler child, ReadWindow window, int offset,
+            ModbusReadRequestBlueprint request, @Nullable ModbusRegisterArray registers, @Nullable BitArray bits) {
+        State numericState;
+        boolean boolValue;
+        if (registers != null) {
+            ValueType valueType = window.valueType();
+            // with value types shorter than a register, the index counts the 1-bit/8-bit items of all registers
+            int extractIndex = valueType.getBits() >= 16 ? offset
+                    : offset * (16 / valueType.getBits()) + window.subIndex();
+            numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, valueType)
+                    .map(state -> (State) state).orElse(UnDefType.UNDEF);
+            boolValue = !numericState.equals(DecimalType.ZERO);
+        } else if (bits != null) {
+            boolValue = bits.getBit(offset);
+            numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
+        } else {
+            return;
+        }
+        child.onReadValue(request, numericState, boolValue);
+    }
+
+    private boolean isCompiledFor(List<ModbusDataThingHandler> currentChildren) {
+        if (currentChildren.size() != children.length) {
+            return false;
+        }
+        int i = 0;
+        for (ModbusDataThingHandler child : currentChildren) {
+            if (children[i] != child || windows[i] != child.getReadWindow()) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    private void compile(List<ModbusDataThingHandler> currentChildren) {
+        ModbusDataThingHandler[] newChildren = currentChildren.toArray(ModbusDataThingHandler[]::new);
+        @Nullable
+        ReadWindow[] newWindows = new ReadWindow[newChildren.length];
+        int[] newRawOffsets = new int[newChildren.length];
+        int rawLength = 0;
+        for (int i = 0; i < newChildren.length; i++) {
+            ReadWindow window = newChildren[i].getReadWindow();
+            newWindows[i] = window;
+            newRawOffsets[i] = rawLength;
+            if (window != null) {
+                rawLength += window.length();
+            }
+        }
+        children = newChildren;
+        windows = newWindows;
+        rawOffsets = newRawOffsets;
+        lastRaw = new int[rawLength];
+        known = new boolean[newChildren.length];
+    }
+
+    /**
+     * Store the raw data read by a data thing
+     *
+     * @return whether the data changed since previous result, or is not known to be unchanged
+     */
+    private boolean updateRaw(int index, ReadWindow window, int offset, @Nullable ModbusRegisterArray registers,
+            @Nullable BitArray bits) {
+        int rawOffset = rawOffsets[index];
+        boolean changed = !known[index];
+        for (int k = 0; k < window.length(); k++) {
+            int value = registers != null ? registers.getRegister(offset + k)
+                    : bits != null && bits.getBit(offset + k) ? 1 : 0;
+            if (lastRaw[rawOffset + k] != value) {
+                lastRaw[rawOffset + k] = value;
+                changed = true;
+            }
+        }
+        known[index] = true;
+        return changed;
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openhab.core.io.transport.modbus.ModbusReadFunctionCode.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.PlannedRead;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.ReadRange;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlannerTest {
+
+    @Test
+    public void testEmpty() {
+        assertThat(ModbusReadPlanner.plan(List.of(), 10), is(equalTo(List.of())));
+    }
+
+    @Test
+    public void testMergeWithinGap() {
+        List<PlannedRead> plan = ModbusReadPlanner.plan(List.of(new ReadRange(READ_MULTIPLE_REGISTERS, 10, 2, 1000),
+                new ReadRange(READ_MULTIPLE_REGISTERS, 0, 1, 1000), new ReadRange(READ_MULTIPLE_REGISTERS, 1, 4, 1000),
+                new ReadRange(READ_MULTIPLE_REGISTERS, 30, 1, 1000)), 5);
+        assertThat(plan, is(equalTo(List.of(new PlannedRead(READ_MULTIPLE_REGISTERS, 0, 12, 1000, 7),
+                new PlannedRead(READ_MULTIPLE_REGISTERS, 30, 1, 1000, 1)))));
+    }
+
+    @Test
+    public void testOverlappingRangesAreCountedOnce() {
+        List<PlannedRead> plan = ModbusReadPlanner.plan(List.of(new ReadRange(READ_INPUT_REGISTERS, 0, 4, 500),
+                new ReadRange(READ_INPUT_REGISTERS, 2, 1, 500), new ReadRange(READ_INPUT_REGISTERS, 3, 2, 500)), 0);
+        assertThat(plan, is(equalTo(List.of(new PlannedRead(READ_INPUT_REGISTERS, 0, 5, 500, 5)))));
+    }
+
+    @Test
+    public void testZeroGapMergesOnlyAdjacentRanges() {
+        List<PlannedRead> plan = ModbusReadPlanner.plan(List.of(new ReadRange(READ_COILS, 0, 1, 500),
+                new ReadRange(READ_COILS, 1, 1, 500), new ReadRange(READ_COILS, 3, 1, 500)), 0);
+        assertThat(plan, is(equalTo(
+                List.of(new PlannedRead(READ_COILS, 0, 2, 500, 2), new PlannedRead(READ_COILS, 3, 1, 500, 1)))));
+    }
+
+    @Test
+    public void testProtocolLimitIsRespected() {
+        List<PlannedRead> plan = ModbusReadPlanner.plan(List.of(new ReadRange(READ_MULTIPLE_REGISTERS, 0, 2, 1000),
+                new ReadRange(READ_MULTIPLE_REGISTERS, 100, 2, 1000),
+                new ReadRange(READ_MULTIPLE_REGISTERS, 123, 4, 1000)), 200);
+        assertThat(plan, is(equalTo(List.of(new PlannedRead(READ_MULTIPLE_REGISTERS, 0, 102, 1000, 4),
+                new PlannedRead(READ_MULTIPLE_REGISTERS, 123, 4, 1000, 4)))));
+
+        List<PlannedRead> bitPlan = ModbusReadPlanner.plan(List.of(new ReadRange(READ_INPUT_DISCRETES, 0, 1, 1000),
+                new ReadRange(READ_INPUT_DISCRETES, 1999, 1, 1000)), 5000);
+        assertThat(bitPlan, is(equalTo(List.of(new PlannedRead(READ_INPUT_DISCRETES, 0, 2000, 1000, 2)))));
+    }
+
+    @Test
+    public void testGroupedByFunctionCodeAndRefresh() {
+        List<PlannedRead> plan = ModbusReadPlanner.plan(List.of(new ReadRange(READ_MULTIPLE_REGISTERS, 0, 1, 1000),
+                new ReadRange(READ_MULTIPLE_REGISTERS, 1, 1, 5000), new ReadRange(READ_INPUT_REGISTERS, 2, 1, 1000)),
+                10);
+        assertThat(plan.size(), is(equalTo(3)));
+    }
+
+    @Test
+    public void testParseReadRange() {
+        assertThat(ModbusReadPlanner.parseReadRange(READ_MULTIPLE_REGISTERS, "5", "int32", 1000),
+                is(equalTo(new ReadRange(READ_MULTIPLE_REGISTERS, 5, 2, 1000))));
+        assertThat(ModbusReadPlanner.parseReadRange(READ_MULTIPLE_REGISTERS, "5.1", "int8", 1000),
+                is(equalTo(new ReadRange(READ_MULTIPLE_REGISTERS, 5, 1, 1000))));
+        assertThat(ModbusReadPlanner.parseReadRange(READ_MULTIPLE_REGISTERS, "7", "float64_nonexisting", 1000),
+                is(nullValue()));
+        assertThat(ModbusReadPlanner.parseReadRange(READ_COILS, "3", null, 1000),
+                is(equalTo(new ReadRange(READ_COILS, 3, 1, 1000))));
+        assertThat(ModbusReadPlanner.parseReadRange(READ_COILS, "", "bit", 1000), is(nullValue()));
+        assertThat(ModbusReadPlanner.parseReadRange(READ_COILS, "x", "bit", 1000), is(nullValue()));
+    }
+
+    @Test
+    public void testCovers() {
+        PlannedRead read = new PlannedRead(READ_MULTIPLE_REGISTERS, 10, 5, 1000, 5);
+        assertThat(read.covers(READ_MULTIPLE_REGISTERS, 10, 5), is(true));
+        assertThat(read.covers(READ_MULTIPLE_REGISTERS, 13, 2), is(true));
+        assertThat(read.covers(READ_MULTIPLE_REGISTERS, 13, 4), is(false));
+        assertThat(read.covers(READ_MULTIPLE_REGISTERS, 9, 1), is(false));
+        assertThat(read.covers(READ_INPUT_REGISTERS, 10, 1), is(false));
+    }
+
+    @Test
+    public void testIsSameRequestIgnoresUsedLength() {
+        PlannedRead read = new PlannedRead(READ_MULTIPLE_REGISTERS, 10, 5, 1000, 3);
+        assertThat(read.isSameRequest(new PlannedRead(READ_MULTIPLE_REGISTERS, 10, 5, 1000, 5)), is(true));
+        assertThat(read.isSameRequest(new PlannedRead(READ_MULTIPLE_REGISTERS, 10, 6, 1000, 3)), is(false));
+        assertThat(read.isSameRequest(new PlannedRead(READ_MULTIPLE_REGISTERS, 10, 5, 500, 3)), is(false));
+        assertThat(read.isSameRequest(new PlannedRead(READ_INPUT_REGISTERS, 10, 5, 1000, 3)), is(false));
+    }
+}
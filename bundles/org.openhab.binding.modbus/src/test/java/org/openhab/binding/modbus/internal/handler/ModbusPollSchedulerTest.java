@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.handler;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollSchedulerTest {
+
+    private @NonNullByDefault({}) ModbusCommunicationInterface delegate;
+    private @NonNullByDefault({}) ModbusPollScheduler scheduler;
+    private long now = 1_000_000;
+    private final List<AsyncModbusReadResult> firstResults = new ArrayList<>();
+    private final List<AsyncModbusReadResult> secondResults = new ArrayList<>();
+    private final List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(ModbusCommunicationInterface.class);
+        doAnswer(invocation -> mock(PollTask.class)).when(delegate).registerRegularPoll(any(), anyLong(), anyLong(),
+                any(), any());
+        scheduler = new ModbusPollScheduler(delegate, true, () -> now);
+    }
+
+    private static ModbusReadRequestBlueprint request(ModbusReadFunctionCode functionCode, int start, int length) {
+        return new ModbusReadRequestBlueprint(1, functionCode, start, length, 3);
+    }
+
+    private PollTask register(ModbusReadRequestBlueprint request, List<AsyncModbusReadResult> results) {
+        return scheduler.registerRegularPoll(request, 1000, 0, results::add, failures::add);
+    }
+
+    private static void assertRegisters(AsyncModbusReadResult result, int... expected) {
+        ModbusRegisterArray registers = result.getRegisters().get();
+        assertThat(registers.size(), is(equalTo(expected.length)));
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(registers.getRegister(i), is(equalTo(expected[i])));
+        }
+    }
+
+    private static void assertBits(AsyncModbusReadResult result, boolean... expected) {
+        BitArray bits = result.getBits().get();
+        assertThat(bits.size(), is(equalTo(expected.length)));
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(bits.getBit(i), is(equalTo(expected[i])));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ModbusFailureCallback<ModbusReadRequestBlueprint> anyFailureCallback() {
+        return any(ModbusFailureCallback.class);
+    }
+
+    @Test
+    public void testSingleRegistrationIsPassedThrough() {
+        ModbusReadRequestBlueprint request = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 2);
+        register(request, firstResults);
+
+        ArgumentCaptor<ModbusReadCallback> callback = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        verify(delegate).registerRegularPoll(same(request), eq(1000L), eq(0L), callback.capture(),
+                anyFailureCallback());
+
+        AsyncModbusReadResult result = new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2));
+        callback.getValue().handle(result);
+        assertThat(firstResults, is(equalTo(List.of(result))));
+        assertThat(scheduler.getMetrics().snapshot().transactions(), is(equalTo(1L)));
+    }
+
+    @Test
+    public void testRegularPollJitterAndOneTimeLatencyAreSeparate() {
+        ModbusReadRequestBlueprint request = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 2);
+        register(request, firstResults);
+
+        ArgumentCaptor<ModbusReadCallback> callback = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        verify(delegate).registerRegularPoll(same(request), eq(1000L), eq(0L), callback.capture(),
+                anyFailureCallback());
+        AsyncModbusReadResult result = new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2));
+        callback.getValue().handle(result);
+        now += 1030;
+        callback.getValue().handle(result);
+
+        scheduler.submitOneTimePoll(request, r -> {
+        }, f -> {
+        });
+        ArgumentCaptor<ModbusReadCallback> oneTimeCallback = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        verify(delegate).submitOneTimePoll(same(request), oneTimeCallback.capture(), anyFailureCallback());
+        now += 50;
+        oneTimeCallback.getValue().handle(result);
+
+        ModbusEndpointMetrics.Snapshot metrics = scheduler.getMetrics().snapshot();
+        assertThat(metrics.transactions(), is(equalTo(3L)));
+        assertThat(metrics.maxJitterMillis(), is(equalTo(30L)));
+        assertThat(metrics.averageJitterMillis(), is(equalTo(30.0)));
+        assertThat(metrics.maxLatencyMillis(), is(equalTo(50L)));
+        assertThat(metrics.averageLatencyMillis(), is(equalTo(50.0)));
+    }
+
+    @Test
+    public void testAdjacentRegistrationsAreMerged() {
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 2);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 12, 3);
+        PollTask firstTask = register(first, firstResults);
+        register(second, secondResults);
+
+        assertThat(scheduler.getRegisteredPollCount(), is(equalTo(2)));
+        assertThat(scheduler.getScheduledRequests().size(), is(equalTo(1)));
+        ModbusReadRequestBlueprint merged = scheduler.getScheduledRequests().get(0);
+        assertThat(merged.getReference(), is(equalTo(10)));
+        assertThat(merged.getDataLength(), is(equalTo(5)));
+        assertThat(merged.getMaxTries(), is(equalTo(3)));
+        verify(delegate).unregisterRegularPoll(any());
+
+        ArgumentCaptor<ModbusReadCallback> callback = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        verify(delegate).registerRegularPoll(eq(merged), eq(1000L), anyLong(), callback.capture(),
+                anyFailureCallback());
+        callback.getValue().handle(new AsyncModbusReadResult(merged, new ModbusRegisterArray(1, 2, 3, 4, 5)));
+
+        assertThat(firstResults.size(), is(equalTo(1)));
+        assertThat(firstResults.get(0).getRequest(), is(sameInstance(first)));
+        assertRegisters(firstResults.get(0), 1, 2);
+        assertThat(secondResults.size(), is(equalTo(1)));
+        assertThat(secondResults.get(0).getRequest(), is(sameInstance(second)));
+        assertRegisters(secondResults.get(0), 3, 4, 5);
+
+        // removing a registration splits the poll again
+        assertThat(scheduler.unregisterRegularPoll(firstTask), is(true));
+        assertThat(scheduler.getScheduledRequests(), is(equalTo(List.of(second))));
+        assertThat(scheduler.unregisterRegularPoll(firstTask), is(false));
+    }
+
+    @Test
+    public void testMergedBitsAndFailuresAreFannedOut() {
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_COILS, 0, 2);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_COILS, 1, 2);
+        register(first, firstResults);
+        register(second, secondResults);
+        ModbusReadRequestBlueprint merged = scheduler.getScheduledRequests().get(0);
+        assertThat(merged.getDataLength(), is(equalTo(3)));
+
+        ArgumentCaptor<ModbusReadCallback> callback = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ModbusFailureCallback<ModbusReadRequestBlueprint>> failureCallback = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(delegate).registerRegularPoll(eq(merged), eq(1000L), anyLong(), callback.capture(),
+                failureCallback.capture());
+
+        callback.getValue().handle(new AsyncModbusReadResult(merged, new BitArray(true, false, true)));
+        assertBits(firstResults.get(0), true, false);
+        assertBits(secondResults.get(0), false, true);
+
+        Exception cause = new Exception("timeout");
+        failureCallback.getValue().handle(new AsyncModbusFailure<>(merged, cause));
+        assertThat(failures.size(), is(equalTo(2)));
+        assertThat(failures.get(0).getRequest(), is(sameInstance(first)));
+        assertThat(failures.get(1).getRequest(), is(sameInstance(second)));
+        assertThat(failures.get(1).getCause(), is(sameInstance(cause)));
+        assertThat(scheduler.getMetrics().snapshot().errors(), is(equalTo(1L)));
+    }
+
+    @Test
+    public void testDistinctRequestsAreSpreadOverPeriod() {
+        register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 1), firstResults);
+        register(request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 100, 1), secondResults);
+
+        ArgumentCaptor<Long> delays = ArgumentCaptor.forClass(Long.class);
+        verify(delegate, times(2)).registerRegularPoll(any(), eq(1000L), delays.capture(), any(),
+                anyFailureCallback());
+        // started half a period after the first one
+        assertThat(delays.getAllValues(), is(equalTo(List.of(0L, 500L))));
+        verify(delegate, never()).unregisterRegularPoll(any());
+    }
+
+    @Test
+    public void testPhaseShiftAccountsForElapsedTime() {
+        register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 1), firstResults);
+        now += 200;
+        register(request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 100, 1), secondResults);
+
+        ArgumentCaptor<Long> delays = ArgumentCaptor.forClass(Long.class);
+        verify(delegate, times(2)).registerRegularPoll(any(), eq(1000L), delays.capture(), any(),
+                anyFailureCallback());
+        assertThat(delays.getAllValues(), is(equalTo(List.of(0L, 300L))));
+    }
+
+    @Test
+    public void testAdjacentRegistrationsAreNotMergedByDefault() {
+        scheduler = new ModbusPollScheduler(delegate, false, () -> now);
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 2);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 12, 3);
+        register(first, firstResults);
+        register(second, secondResults);
+
+        assertThat(scheduler.getScheduledRequests(), is(equalTo(List.of(first, second))));
+        verify(delegate).registerRegularPoll(same(first), eq(1000L), eq(0L), any(), anyFailureCallback());
+        verify(delegate).registerRegularPoll(same(second), eq(1000L), eq(500L), any(), anyFailureCallback());
+        verify(delegate, never()).unregisterRegularPoll(any());
+    }
+
+    @Test
+    public void testCloseUnregistersPolls() throws Exception {
+        register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 1), firstResults);
+        scheduler.close();
+        verify(delegate).unregisterRegularPoll(any());
+        verify(delegate).close();
+        assertThat(scheduler.getRegisteredPollCount(), is(equalTo(0)));
+    }
+}
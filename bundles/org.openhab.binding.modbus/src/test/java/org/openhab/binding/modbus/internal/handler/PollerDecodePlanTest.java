@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.handler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.modbus.internal.handler.PollerDecodePlan.ReadWindow;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.library.types.DecimalType;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PollerDecodePlanTest {
+
+    private static final ModbusReadRequestBlueprint REGISTER_REQUEST = new ModbusReadRequestBlueprint(1,
+            ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 4, 1);
+
+    private ModbusDataThingHandler mockChild(ReadWindow window, boolean updateDue) {
+        ModbusDataThingHandler child = mock(ModbusDataThingHandler.class);
+        doReturn(window).when(child).getReadWindow();
+        doReturn(updateDue).when(child).isUpdateDue(anyLong());
+        return child;
+    }
+
+    private ReadWindow window(int start, ValueType valueType, boolean planned) {
+        int length = valueType.getBits() > 16 ? valueType.getBits() / 16 : 1;
+        return new ReadWindow(start, length, planned, valueType, 0);
+    }
+
+    @Test
+    public void testOnlyChangedChildrenAreDecoded() {
+        ModbusDataThingHandler first = mockChild(window(10, ValueType.UINT16, false), false);
+        ModbusDataThingHandler second = mockChild(window(11, ValueType.UINT32, false), false);
+        List<ModbusDataThingHandler> children = List.of(first, second);
+        PollerDecodePlan plan = new PollerDecodePlan();
+
+        plan.dispatch(children, new AsyncModbusReadResult(REGISTER_REQUEST, new ModbusRegisterArray(1, 2, 3, 4)),
+                false);
+        verify(first, times(1)).onReadValue(REGISTER_REQUEST, new DecimalType(1), true);
+        verify(second, times(1)).onReadValue(REGISTER_REQUEST, new DecimalType(2 * 65536 + 3), true);
+
+        // second register changes
+        plan.dispatch(children, new AsyncModbusReadResult(REGISTER_REQUEST, new ModbusRegisterArray(1, 5, 3, 4)),
+                false);
+        verify(first, times(1)).onReadValue(any(), any(), anyBoolean());
+        verify(second, times(1)).onReadValue(REGISTER_REQUEST, new DecimalType(5 * 65536 + 3), true);
+
+        // register not read by anyone changes
+        plan.dispatch(children, new AsyncModbusReadResult(REGISTER_REQUEST, new ModbusRegisterArray(1, 5, 3, 9)),
+                false);
+        verify(first, times(1)).onReadValue(any(), any(), anyBoolean());
+        verify(second, times(2)).onReadValue(any(), any(), anyBoolean());
+        verify(first, never()).onUnchangedValue();
+        verify(second, never()).onUnchangedValue();
+        verify(first, never()).onReadResult(any());
+    }
+
+    @Test
+    public void testDueChildrenWithUnchangedDataRepeatLastStates() {
+        ModbusDataThingHandler due = mockChild(window(10, ValueType.UINT16, false), true);
+        doReturn(true).when(due).onUnchangedValue();
+        ModbusDataThingHandler notDue = mockChild(window(10, ValueType.UINT16, false), false);
+        List<ModbusDataThingHandler> children = List.of(due, notDue);
+        PollerDecodePlan plan = new PollerDecodePlan();
+
+        AsyncModbusReadResult result = new AsyncModbusReadResult(REGISTER_REQUEST, new ModbusRegisterArray(1, 2, 3, 4));
+        plan.dispatch(children, result, false);
+        plan.dispatch(children, result, false);
+        verify(due, times(1)).onReadValue(any(), any(), anyBoolean());
+        verify(due, times(1)).onUnchangedValue();
+        verify(notDue, times(1)).onReadValue(any(), any(), anyBoolean());
+        verify(notDue, never()).onUnchangedValue();
+    }
+
+    @Test
+    public void testDueChildrenWithoutLastStatesAreDecoded() {
+        ModbusDataThingHandler due = mockChild(window(10, ValueType.UINT16, false), true);
+        doReturn(false).when(due).onUnchangedValue();
+        PollerDecodePlan plan = new PollerDecodePlan();
+
+        AsyncModbusReadResult result = new AsyncModbusReadResult(REGISTER_REQUEST, new ModbusRegisterArray(1, 2, 3, 4));
+        plan.dispatch(List.of(due), result, false);
+        plan.dispatch(List.of(due), result, false);
+        verify(due, times(2)).onReadValue(REGISTER_REQUEST, new DecimalType(1), true);
+    }
+
+    @Test
+    public void testReplayedResultsAreAlwaysDelivered() {
+        ModbusDataThingHandler child = mockChild(window(10, ValueType.UINT16, false), false);
+        PollerDecodePlan plan = new PollerDecodePlan();
+
+        AsyncModbusReadResult result = new AsyncModbusReadResult(REGISTER_REQUEST, new ModbusRegisterArray(1, 2, 3, 4));
+        plan.dispatch(List.of(child), result, false);
+        plan.dispatch(List.of(child), result, true);
+        verify(child, times(2)).onReadValue(REGISTER_REQUEST, new DecimalType(1), true);
+        verify(child, never()).onUnchangedValue();
+    }
+
+    @Test
+    public void testChildrenWithoutWindowAreAlwaysNotified() {
+        ModbusDataThingHandler child = mock(ModbusDataThingHandler.class);
+        PollerDecodePlan plan = new PollerDecodePlan();
+
+        AsyncModbusReadResult result = new AsyncModbusReadResult(REGISTER_REQUEST, new ModbusRegisterArray(1, 2, 3, 4));
+        plan.dispatch(List.of(child), result, false);
+        plan.dispatch(List.of(child), result, false);
+        verify(child, times(2)).onReadResult(result);
+    }
+
+    @Test
+    public void testPlannedChildrenIgnoreOtherRequests() {
+        ModbusDataThingHandler planned = mockChild(window(20, ValueType.UINT16, true), true);
+        ModbusDataThingHandler manual = mockChild(window(20, ValueType.UINT16, false), false);
+        PollerDecodePlan plan = new PollerDecodePlan();
+
+        AsyncModbusReadResult result = new AsyncModbusReadResult(REGISTER_REQUEST, new ModbusRegisterArray(1, 2, 3, 4));
+        plan.dispatch(List.of(planned, manual), result, false);
+        verify(planned, never()).onReadResult(any());
+        verify(planned, never()).onReadValue(any(), any(), anyBoolean());
+        verify(manual, times(1)).onReadResult(result);
+    }
+
+    @Test
+    public void testBits() {
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_COILS, 0,
+                3, 1);
+        ModbusDataThingHandler child = mockChild(window(2, ValueType.BIT, false), false);
+        PollerDecodePlan plan = new PollerDecodePlan();
+
+        plan.dispatch(List.of(child), new AsyncModbusReadResult(request, new BitArray(false, false, true)), false);
+        plan.dispatch(List.of(child), new AsyncModbusReadResult(request, new BitArray(true, false, true)), false);
+        verify(child, times(1)).onReadValue(eq(request), any(), eq(true));
+        plan.dispatch(List.of(child), new AsyncModbusReadResult(request, new BitArray(true, false, false)), false);
+        verify(child, times(1)).onReadValue(request, DecimalType.ZERO, false);
+    }
+
+    @Test
+    public void testBitOfRegister() {
+        ModbusDataThingHandler child = mockChild(new ReadWindow(11, 1, false, ValueType.BIT, 2), false);
+        PollerDecodePlan plan = new PollerDecodePlan();
+
+        plan.dispatch(List.of(child), new AsyncModbusReadResult(REGISTER_REQUEST, new ModbusRegisterArray(0, 4, 0, 0)),
+                false);
+        verify(child, times(1)).onReadValue(REGISTER_REQUEST, new DecimalType(1), true);
+    }
+
+    @Test
+    public void testChangedWindowRecompilesPlan() {
+        ModbusDataThingHandler child = mockChild(window(10, ValueType.UINT16, false), false);
+        PollerDecodePlan plan = new PollerDecodePlan();
+        AsyncModbusReadResult result = new AsyncModbusReadResult(REGISTER_REQUEST, new ModbusRegisterArray(1, 2, 3, 4));
+
+        plan.dispatch(List.of(child), result, false);
+        // thing was initialized again
+        doReturn(window(10, ValueType.UINT16, false)).when(child).getReadWindow();
+        plan.dispatch(List.of(child), result, false);
+        verify(child, times(2)).onReadValue(any(), any(), anyBoolean());
+    }
+}
@@ -15,11 +15,14 @@ package org.openhab.binding.network.internal.discovery;
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 import static org.openhab.binding.network.internal.utils.NetworkUtils.durationToMillis;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -33,6 +36,7 @@ import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
+import org.openhab.binding.network.internal.utils.PortScanner;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
@@ -58,6 +62,7 @@ import org.slf4j.LoggerFactory;
 public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
     static final Duration PING_TIMEOUT = Duration.ofMillis(500);
     static final int MAXIMUM_IPS_PER_INTERFACE = 255;
+    static final int MAXIMUM_CONNECTS_IN_FLIGHT = 512;
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
@@ -67,6 +72,10 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     private Set<Integer> tcpServicePorts = Set.of(80, 548, 554, 1025);
     private AtomicInteger scannedIPcount = new AtomicInteger(0);
     private @Nullable ExecutorService executorService = null;
+    private @Nullable PortScanner portScanner = null;
+    // open ports found by the port scanner, only reported for hosts that do not answer pings
+    private final Map<String, List<Integer>> openPortsByIp = new ConcurrentHashMap<>();
+    private final Set<String> pingReachableIps = ConcurrentHashMap.newKeySet();
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
 
@@ -107,6 +116,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     public void partialDetectionResult(PresenceDetectionValue value) {
         final String ip = value.getHostAddress();
         if (value.isPingReachable()) {
+            pingReachableIps.add(ip);
             newPingDevice(ip);
         } else if (value.isTcpServiceReachable()) {
             List<Integer> tcpServices = value.getReachableTcpPorts();
@@ -137,6 +147,22 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
 
         final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
         scannedIPcount.set(0);
+        openPortsByIp.clear();
+        pingReachableIps.clear();
+        // one task per IP for ICMP and ARP pings and a single task scanning the TCP ports of all IPs
+        final int taskCount = networkIPs.size() + 1;
+
+        final PortScanner scanner = new PortScanner(PING_TIMEOUT, MAXIMUM_CONNECTS_IN_FLIGHT);
+        portScanner = scanner;
+        service.execute(() -> {
+            Thread.currentThread().setName("Discovery port scan");
+            try {
+                scanner.scan(networkIPs, tcpServicePorts, this::openPortFound);
+            } catch (IOException e) {
+                logger.debug("Unable to scan TCP ports", e);
+            }
+            taskFinished(taskCount);
+        });
 
         for (String ip : networkIPs) {
             final PresenceDetection pd = new PresenceDetection(this, scheduler, Duration.ofSeconds(2));
@@ -147,8 +173,8 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
             // Ping devices
             pd.setUseIcmpPing(true);
             pd.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            pd.setServicePorts(tcpServicePorts);
+            // TCP devices are found by the port scanner
+            pd.setServicePorts(Set.of());
 
             service.execute(() -> {
                 Thread.currentThread().setName("Discovery thread " + ip);
@@ -157,18 +183,50 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
                 } catch (ExecutionException | InterruptedException e) {
                     stopScan();
                 }
-                int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
-                    stopScan();
-                }
+                taskFinished(taskCount);
             });
         }
     }
 
+    private void taskFinished(int taskCount) {
+        int count = scannedIPcount.incrementAndGet();
+        if (count == taskCount) {
+            logger.trace("Scan of {} IPs successful", taskCount - 1);
+            reportServiceDevices();
+            stopScan();
+        }
+    }
+
+    /**
+     * Remember an open TCP port found by the port scanner. It is reported by {@link #reportServiceDevices()}.
+     *
+     * @param ip The device IP
+     * @param tcpPort The TCP port
+     */
+    void openPortFound(String ip, int tcpPort) {
+        openPortsByIp.computeIfAbsent(ip, k -> new CopyOnWriteArrayList<>()).add(tcpPort);
+    }
+
+    /**
+     * Submit the service devices found by the port scanner. Like the per-IP presence detection, services are only
+     * reported for hosts that did not answer the ICMP or ARP pings, since those are already reported as ping devices.
+     */
+    void reportServiceDevices() {
+        openPortsByIp.forEach((ip, ports) -> {
+            if (!pingReachableIps.contains(ip)) {
+                ports.forEach(port -> newServiceDevice(ip, port));
+            }
+        });
+    }
+
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
+        final PortScanner scanner = portScanner;
+        if (scanner != null) {
+            scanner.stop();
+            portScanner = null;
+        }
         final ExecutorService service = executorService;
         if (service == null) {
             return;
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+
+/**
+ * The {@link DetectionExecutor} runs the checks of all presence detections on one binding-wide thread pool.
+ * Idle threads are reused by the next detection and expire after a minute, instead of a new fixed thread pool
+ * being created and shut down for every detection of every host.
+ * <p>
+ * Each detection gets a lightweight {@link ExecutorService} view via {@link #newBatch(int)}, which runs at most the
+ * given number of its checks at once and queues the others. Shutting down a batch only interrupts the checks
+ * submitted through this batch, the shared threads keep running.
+ * <p>
+ * The shared pool is owned by the {@link org.openhab.binding.network.internal.NetworkHandlerFactory}, which shuts it
+ * down via {@link #shutdown()} when it is deactivated. A new pool is created when checks are submitted afterwards.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DetectionExecutor {
+
+    private static @Nullable ExecutorService sharedPool;
+
+    private DetectionExecutor() {
+        // Static helper
+    }
+
+    /**
+     * Creates a view on the shared thread pool for the checks of a single presence detection.
+     *
+     * @param maxParallel the maximum number of checks of this batch running at the same time
+     * @return an {@link ExecutorService} which may be shut down without affecting other detections
+     */
+    public static ExecutorService newBatch(int maxParallel) {
+        return new Batch(Math.max(1, maxParallel));
+    }
+
+    /**
+     * Shuts down the shared thread pool. Checks that are already running are allowed to finish.
+     */
+    public static synchronized void shutdown() {
+        ExecutorService pool = sharedPool;
+        if (pool != null) {
+            pool.shutdown();
+            sharedPool = null;
+        }
+    }
+
+    private static synchronized ExecutorService getSharedPool() {
+        ExecutorService pool = sharedPool;
+        if (pool == null) {
+            pool = Executors.newCachedThreadPool(new NamedThreadFactory("network-presence"));
+            sharedPool = pool;
+        }
+        return pool;
+    }
+
+    private static class Batch extends AbstractExecutorService {
+        private final int maxParallel;
+        private final Set<Thread> running = new HashSet<>();
+        private final Deque<Runnable> queued = new ArrayDeque<>();
+        // checks handed to the shared pool and not finished yet
+        private int active;
+        // checks accepted and not finished yet, including queued ones
+        private int pending;
+        private boolean shutdown;
+
+        Batch(int maxParallel) {
+            this.maxParallel = maxParallel;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            synchronized (this) {
+                if (shutdown) {
+                    throw new RejectedExecutionException("Detection batch has been shut down");
+                }
+                pending++;
+                if (active >= maxParallel) {
+                    queued.add(command);
+                    return;
+                }
+                active++;
+            }
+            dispatch(command);
+        }
+
+        private void dispatch(Runnable command) {
+            try {
+                getSharedPool().execute(() -> run(command));
+            } catch (RejectedExecutionException e) {
+                Runnable next = finished(null);
+                if (next != null) {
+                    dispatch(next);
+                }
+                throw e;
+            }
+        }
+
+        private void run(Runnable command) {
+            Thread thread = Thread.currentThread();
+            boolean started = false;
+            try {
+                synchronized (this) {
+                    if (shutdown) {
+                        return;
+                    }
+                    running.add(thread);
+                    started = true;
+                }
+                command.run();
+            } finally {
+                Runnable next = finished(started ? thread : null);
+                if (next != null) {
+                    dispatch(next);
+                }
+            }
+        }
+
+        /**
+         * Marks a check as finished and returns the next queued check, which takes over its slot.
+         */
+        private synchronized @Nullable Runnable finished(@Nullable Thread thread) {
+            if (thread != null) {
+                running.remove(thread);
+            }
+            pending--;
+            notifyAll();
+            Runnable next = queued.poll();
+            if (next == null) {
+                active--;
+            }
+            return next;
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public synchronized List<Runnable> shutdownNow() {
+            shutdown = true;
+            running.forEach(Thread::interrupt);
+            List<Runnable> notStarted = new ArrayList<>(queued);
+            pending -= queued.size();
+            queued.clear();
+            notifyAll();
+            return notStarted;
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public synchronized boolean isTerminated() {
+            return shutdown && pending == 0;
+        }
+
+        @Override
+        public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+}
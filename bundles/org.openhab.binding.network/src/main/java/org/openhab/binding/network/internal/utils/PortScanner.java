@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PortScanner} checks a large number of TCP host/port combinations with non-blocking connects on a single
+ * {@link Selector}. Up to a given number of connects are kept in flight at the same time, each of them is abandoned
+ * once its timeout expires. All of this happens on the calling thread, so scanning a whole subnet does not need
+ * a thread per address.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PortScanner {
+
+    private final Logger logger = LoggerFactory.getLogger(PortScanner.class);
+
+    private final Duration timeout;
+    private final int maxInFlight;
+    private volatile boolean stopped;
+    private volatile @Nullable Selector selector;
+    private int active;
+
+    /**
+     * @param timeout the time after which a single connect attempt is given up
+     * @param maxInFlight the maximum number of connect attempts in progress at the same time
+     */
+    public PortScanner(Duration timeout, int maxInFlight) {
+        this.timeout = timeout;
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    /**
+     * Tries to connect to every given port on every given host and reports each open port. This method blocks until
+     * all connect attempts have completed or timed out, or until {@link #stop()} is called.
+     *
+     * @param hosts the IP addresses to scan
+     * @param ports the TCP ports to check on each host
+     * @param openPortConsumer called on the scanning thread with host and port of each accepted connection
+     * @throws IOException if the selector could not be opened
+     */
+    public void scan(Collection<String> hosts, Collection<Integer> ports, BiConsumer<String, Integer> openPortConsumer)
+            throws IOException {
+        if (hosts.isEmpty() || ports.isEmpty()) {
+            return;
+        }
+        stopped = false;
+        List<Integer> portList = List.copyOf(ports);
+        Iterator<String> hostIterator = hosts.iterator();
+        @Nullable
+        String nextHost = hostIterator.next();
+        int portIndex = 0;
+        long timeoutNanos = timeout.toNanos();
+        // all attempts share the same timeout, so they expire in the order they were started
+        Deque<Attempt> inFlight = new ArrayDeque<>();
+        active = 0;
+
+        try (Selector selector = Selector.open()) {
+            this.selector = selector;
+            while (!stopped) {
+                @Nullable
+                String host = nextHost;
+                while (active < maxInFlight && host != null) {
+                    int port = portList.get(portIndex);
+                    Attempt attempt = connect(selector, host, port, System.nanoTime() + timeoutNanos,
+                            openPortConsumer);
+                    if (attempt != null) {
+                        inFlight.add(attempt);
+                        active++;
+                    }
+                    if (++portIndex == portList.size()) {
+                        portIndex = 0;
+                        host = hostIterator.hasNext() ? hostIterator.next() : null;
+                    }
+                }
+                nextHost = host;
+
+                expire(inFlight);
+                if (inFlight.isEmpty()) {
+                    if (nextHost == null) {
+                        break;
+                    }
+                    continue;
+                }
+
+                long waitMillis = Math.max(1, (inFlight.getFirst().deadline - System.nanoTime()) / 1_000_000);
+                selector.select(waitMillis);
+                for (Iterator<SelectionKey> it = selector.selectedKeys().iterator(); it.hasNext();) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    if (key.isValid() && key.isConnectable()) {
+                        finishConnect((Attempt) key.attachment(), openPortConsumer);
+                    }
+                }
+            }
+        } finally {
+            this.selector = null;
+            inFlight.forEach(Attempt::close);
+        }
+    }
+
+    /**
+     * Aborts a running scan. Pending connect attempts are closed.
+     */
+    public void stop() {
+        stopped = true;
+        Selector selector = this.selector;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    private @Nullable Attempt connect(Selector selector, String host, int port, long deadline,
+            BiConsumer<String, Integer> openPortConsumer) {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            Attempt attempt = new Attempt(channel, host, port, deadline);
+            if (channel.connect(new InetSocketAddress(host, port))) {
+                // connection to a local address can be established immediately
+                openPortConsumer.accept(host, port);
+                channel.close();
+                return null;
+            }
+            channel.register(selector, SelectionKey.OP_CONNECT, attempt);
+            return attempt;
+        } catch (IOException | RuntimeException e) {
+            logger.trace("Could not connect to {}:{}", host, port, e);
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }
+            return null;
+        }
+    }
+
+    private void finishConnect(Attempt attempt, BiConsumer<String, Integer> openPortConsumer) {
+        try {
+            if (attempt.channel.finishConnect()) {
+                openPortConsumer.accept(attempt.host, attempt.port);
+            } else {
+                return;
+            }
+        } catch (IOException e) {
+            logger.trace("Could not connect to {}:{}", attempt.host, attempt.port, e);
+        }
+        close(attempt);
+    }
+
+    private void expire(Deque<Attempt> inFlight) {
+        long now = System.nanoTime();
+        while (!inFlight.isEmpty()) {
+            Attempt attempt = inFlight.getFirst();
+            if (attempt.channel.isOpen() && attempt.deadline - now > 0) {
+                break;
+            }
+            inFlight.removeFirst();
+            close(attempt);
+        }
+    }
+
+    private void close(Attempt attempt) {
+        if (attempt.channel.isOpen()) {
+            attempt.close();
+            active--;
+        }
+    }
+
+    private static class Attempt {
+        final SocketChannel channel;
+        final String host;
+        final int port;
+        final long deadline;
+
+        Attempt(SocketChannel channel, String host, int port, long deadline) {
+            this.channel = channel;
+            this.host = host;
+            this.port = port;
+            this.deadline = deadline;
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
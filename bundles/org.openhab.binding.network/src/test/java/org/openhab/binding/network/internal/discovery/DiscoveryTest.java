@@ -91,4 +91,32 @@ public class DiscoveryTest {
         assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_HOSTNAME), is(ip));
         assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_PORT), is(1010));
     }
+
+    @Test
+    public void scannedPortOfPingDeviceNotReported() {
+        NetworkDiscoveryService d = new NetworkDiscoveryService();
+        d.addDiscoveryListener(listener);
+
+        ArgumentCaptor<DiscoveryResult> result = ArgumentCaptor.forClass(DiscoveryResult.class);
+
+        when(value.isPingReachable()).thenReturn(true);
+        d.partialDetectionResult(value);
+        d.openPortFound(ip, 80);
+        d.reportServiceDevices();
+        verify(listener).thingDiscovered(any(), result.capture());
+        assertThat(result.getValue().getThingUID(), is(NetworkDiscoveryService.createPingUID(ip)));
+    }
+
+    @Test
+    public void scannedPortOfUnreachableDeviceReported() {
+        NetworkDiscoveryService d = new NetworkDiscoveryService();
+        d.addDiscoveryListener(listener);
+
+        ArgumentCaptor<DiscoveryResult> result = ArgumentCaptor.forClass(DiscoveryResult.class);
+
+        d.openPortFound(ip, 80);
+        d.reportServiceDevices();
+        verify(listener).thingDiscovered(any(), result.capture());
+        assertThat(result.getValue().getThingUID(), is(NetworkDiscoveryService.createServiceUID(ip, 80)));
+    }
 }
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the batches of the shared presence detection thread pool.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DetectionExecutorTest {
+
+    @Test
+    public void batchRunsAtMostMaxParallelChecks() throws InterruptedException {
+        ExecutorService batch = DetectionExecutor.newBatch(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(6);
+        for (int i = 0; i < 6; i++) {
+            batch.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 2);
+        batch.shutdown();
+        assertTrue(batch.awaitTermination(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shutdownNowReturnsQueuedChecks() throws InterruptedException {
+        ExecutorService batch = DetectionExecutor.newBatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        batch.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                // expected on shutdownNow
+            }
+        });
+        batch.execute(() -> fail("queued check must not run"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, batch.shutdownNow().size());
+        assertTrue(batch.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void checksRunAfterSharedPoolShutdown() throws InterruptedException {
+        CountDownLatch before = new CountDownLatch(1);
+        DetectionExecutor.newBatch(1).execute(before::countDown);
+        assertTrue(before.await(5, TimeUnit.SECONDS));
+
+        DetectionExecutor.shutdown();
+
+        CountDownLatch after = new CountDownLatch(1);
+        DetectionExecutor.newBatch(1).execute(after::countDown);
+        assertTrue(after.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the non-blocking TCP port scanner.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PortScannerTest {
+
+    private static final String LOCALHOST = "127.0.0.1";
+
+    @Test
+    public void onlyOpenPortsAreReported() throws IOException {
+        int closedPort;
+        try (ServerSocket closed = new ServerSocket(0, 1, InetAddress.getByName(LOCALHOST))) {
+            closedPort = closed.getLocalPort();
+        }
+
+        try (ServerSocket open = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+            List<String> found = new ArrayList<>();
+            PortScanner scanner = new PortScanner(Duration.ofSeconds(1), 1);
+            scanner.scan(List.of(LOCALHOST), List.of(closedPort, open.getLocalPort()),
+                    (host, port) -> found.add(host + ":" + port));
+
+            assertEquals(List.of(LOCALHOST + ":" + open.getLocalPort()), found);
+        }
+    }
+
+    @Test
+    public void emptyInputDoesNothing() throws IOException {
+        List<String> found = new ArrayList<>();
+        PortScanner scanner = new PortScanner(Duration.ofSeconds(1), 10);
+        scanner.scan(List.of(), List.of(80), (host, port) -> found.add(host));
+        scanner.scan(List.of(LOCALHOST), List.of(), (host, port) -> found.add(host));
+
+        assertTrue(found.isEmpty());
+    }
+}
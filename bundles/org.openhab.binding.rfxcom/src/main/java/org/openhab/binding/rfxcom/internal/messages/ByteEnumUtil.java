@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.rfxcom.internal.messages;
 
+import java.util.Arrays;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.rfxcom.internal.exceptions.RFXComUnsupportedValueException;
 
@@ -22,16 +24,51 @@ import org.openhab.binding.rfxcom.internal.exceptions.RFXComUnsupportedValueExce
  */
 @NonNullByDefault
 public class ByteEnumUtil {
+    private static final ByteEnumWrapper[] NO_VALUES = new ByteEnumWrapper[0];
+
+    /**
+     * Per enum type a table indexed by byte value, holding the constants with that byte value in declaration order.
+     * Built once per type on first use, so a lookup neither clones the constants nor scans them.
+     */
+    private static final ClassValue<ByteEnumWrapper[][]> BY_BYTE = new ClassValue<>() {
+        @Override
+        protected ByteEnumWrapper[][] computeValue(Class<?> type) {
+            ByteEnumWrapper[][] table = new ByteEnumWrapper[256][];
+            Arrays.fill(table, NO_VALUES);
+            Object[] constants = type.getEnumConstants();
+            if (constants != null) {
+                for (Object constant : constants) {
+                    ByteEnumWrapper value = (ByteEnumWrapper) constant;
+                    int index = value.toByte() - Byte.MIN_VALUE;
+                    ByteEnumWrapper[] values = Arrays.copyOf(table[index], table[index].length + 1);
+                    values[values.length - 1] = value;
+                    table[index] = values;
+                }
+            }
+            return table;
+        }
+    };
+
     private ByteEnumUtil() {
         // deliberately empty
     }
 
+    /**
+     * @return the constants of the given type with the given byte value, in declaration order. The input is
+     *         compared with the signed byte value, like {@link ByteEnumWrapper#toByte()} returns it.
+     */
+    static ByteEnumWrapper[] allFromByte(Class<? extends ByteEnumWrapper> typeClass, int input) {
+        if (input < Byte.MIN_VALUE || input > Byte.MAX_VALUE) {
+            return NO_VALUES;
+        }
+        return BY_BYTE.get(typeClass)[input - Byte.MIN_VALUE];
+    }
+
     public static <T extends ByteEnumWrapper> T fromByte(Class<T> typeClass, int input)
             throws RFXComUnsupportedValueException {
-        for (T enumValue : typeClass.getEnumConstants()) {
-            if (enumValue.toByte() == input) {
-                return enumValue;
-            }
+        ByteEnumWrapper[] values = allFromByte(typeClass, input);
+        if (values.length > 0) {
+            return typeClass.cast(values[0]);
         }
 
         throw new RFXComUnsupportedValueException(typeClass, input);
@@ -55,8 +92,9 @@ public class ByteEnumUtil {
 
     public static <T extends ByteEnumWrapperWithSupportedSubTypes<?>> T fromByte(Class<T> typeClass, int input,
             Object subType) throws RFXComUnsupportedValueException {
-        for (T enumValue : typeClass.getEnumConstants()) {
-            if (enumValue.toByte() == input && enumValue.supportedBySubTypes().contains(subType)) {
+        for (ByteEnumWrapper value : allFromByte(typeClass, input)) {
+            T enumValue = typeClass.cast(value);
+            if (enumValue.supportedBySubTypes().contains(subType)) {
                 return enumValue;
             }
         }
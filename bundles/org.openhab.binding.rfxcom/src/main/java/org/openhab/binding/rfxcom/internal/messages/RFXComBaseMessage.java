@@ -133,18 +133,17 @@ public abstract class RFXComBaseMessage implements RFXComMessage {
     }
 
     private PacketType fromByte(byte packetId, byte subType) throws RFXComUnsupportedValueException {
-        for (PacketType enumValue : PacketType.values()) {
-            if (enumValue.toByte() == packetId) {
-                // if there are no subtypes?
-                if (enumValue.subTypes.length == 0) {
+        for (ByteEnumWrapper value : ByteEnumUtil.allFromByte(PacketType.class, packetId)) {
+            PacketType enumValue = (PacketType) value;
+            // if there are no subtypes?
+            if (enumValue.subTypes.length == 0) {
+                return enumValue;
+            }
+            // otherwise check for the matching subType
+            for (ByteEnumWrapper e : enumValue.subTypes) {
+                if (e.toByte() == subType) {
                     return enumValue;
                 }
-                // otherwise check for the matching subType
-                for (ByteEnumWrapper e : enumValue.subTypes) {
-                    if (e.toByte() == subType) {
-                        return enumValue;
-                    }
-                }
             }
         }
 
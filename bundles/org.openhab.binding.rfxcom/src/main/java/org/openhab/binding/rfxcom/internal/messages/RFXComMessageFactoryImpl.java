@@ -12,11 +12,10 @@
  */
 package org.openhab.binding.rfxcom.internal.messages;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.openhab.binding.rfxcom.internal.config.RFXComDeviceConfiguration;
 import org.openhab.binding.rfxcom.internal.exceptions.RFXComException;
@@ -35,67 +34,90 @@ import org.openhab.core.types.Command;
 public enum RFXComMessageFactoryImpl implements RFXComMessageFactory {
     INSTANCE();
 
-    @SuppressWarnings("serial")
-    private static final Map<PacketType, Class<? extends RFXComMessage>> MESSAGE_CLASSES = Collections
-            .unmodifiableMap(new HashMap<>() {
-                {
-                    put(PacketType.INTERFACE_CONTROL, RFXComInterfaceControlMessage.class);
-                    put(PacketType.INTERFACE_MESSAGE, RFXComInterfaceMessage.class);
-                    put(PacketType.TRANSMITTER_MESSAGE, RFXComTransmitterMessage.class);
-                    put(PacketType.UNDECODED_RF_MESSAGE, RFXComUndecodedRFMessage.class);
-                    put(PacketType.LIGHTING1, RFXComLighting1Message.class);
-                    put(PacketType.LIGHTING2, RFXComLighting2Message.class);
-                    // put(PacketType.LIGHTING3, RFXComLighting3Message.class);
-                    put(PacketType.LIGHTING4, RFXComLighting4Message.class);
-                    put(PacketType.LIGHTING5, RFXComLighting5Message.class);
-                    put(PacketType.LIGHTING6, RFXComLighting6Message.class);
-                    put(PacketType.CHIME, RFXComChimeMessage.class);
-                    put(PacketType.FAN, RFXComFanMessage.class);
-                    // put(PacketType.FAN_SF01, RFXComFanMessage.class);
-                    // put(PacketType.FAN_ITHO, RFXComFanMessage.class);
-                    // put(PacketType.FAN_SEAV, RFXComFanMessage.class);
-                    put(PacketType.FAN_LUCCI_DC, RFXComFanMessage.class);
-                    // put(PacketType.FAN_FT1211R, RFXComFanMessage.class);
-                    put(PacketType.FAN_FALMEC, RFXComFanMessage.class);
-                    put(PacketType.FAN_LUCCI_DC_II, RFXComFanMessage.class);
-                    put(PacketType.FAN_NOVY, RFXComFanMessage.class);
-                    put(PacketType.CURTAIN1, RFXComCurtain1Message.class);
-                    put(PacketType.BLINDS1, RFXComBlinds1Message.class);
-                    put(PacketType.RFY, RFXComRfyMessage.class);
-                    put(PacketType.HOME_CONFORT, RFXComHomeConfortMessage.class);
-                    put(PacketType.SECURITY1, RFXComSecurity1Message.class);
-                    put(PacketType.SECURITY2, RFXComSecurity2Message.class);
-                    // put(PacketType.CAMERA1, RFXComCamera1Message.class);
-                    // put(PacketType.REMOTE_CONTROL, RFXComRemoteControlMessage.class);
-                    put(PacketType.THERMOSTAT1, RFXComThermostat1Message.class);
-                    // put(PacketType.THERMOSTAT2, RFXComThermostat2Message.class);
-                    put(PacketType.THERMOSTAT3, RFXComThermostat3Message.class);
-                    // put(PacketType.RADIATOR1, RFXComRadiator1Message.class);
-                    put(PacketType.BBQ, RFXComBBQTemperatureMessage.class);
-                    put(PacketType.TEMPERATURE_RAIN, RFXComTemperatureRainMessage.class);
-                    put(PacketType.TEMPERATURE, RFXComTemperatureMessage.class);
-                    put(PacketType.HUMIDITY, RFXComHumidityMessage.class);
-                    put(PacketType.TEMPERATURE_HUMIDITY, RFXComTemperatureHumidityMessage.class);
-                    // put(PacketType.BAROMETRIC, RFXComBarometricMessage.class);
-                    put(PacketType.TEMPERATURE_HUMIDITY_BAROMETRIC, RFXComTemperatureHumidityBarometricMessage.class);
-                    put(PacketType.RAIN, RFXComRainMessage.class);
-                    put(PacketType.WIND, RFXComWindMessage.class);
-                    put(PacketType.UV, RFXComUVMessage.class);
-                    put(PacketType.DATE_TIME, RFXComDateTimeMessage.class);
-                    put(PacketType.CURRENT, RFXComCurrentMessage.class);
-                    put(PacketType.ENERGY, RFXComEnergyMessage.class);
-                    put(PacketType.CURRENT_ENERGY, RFXComCurrentEnergyMessage.class);
-                    // put(PacketType.POWER, RFXComPowerMessage.class);
-                    // put(PacketType.WEIGHT, RFXComWeightMessage.class);
-                    // put(PacketType.GAS, RFXComGasMessage.class);
-                    // put(PacketType.WATER, RFXComWaterMessage.class);
-                    put(PacketType.RFXSENSOR, RFXComRFXSensorMessage.class);
-                    // put(PacketType.RFXMETER, RFXComRFXMeterMessage.class);
-                    // put(PacketType.FS20, RFXComFS20Message.class);
-                    put(PacketType.RAW, RFXComRawMessage.class);
-                    // put(PacketType.IO_LINES, RFXComIOLinesMessage.class);
-                }
-            });
+    /**
+     * Creates a message from the bytes received from the RFXCom device.
+     */
+    @FunctionalInterface
+    private interface PacketConstructor {
+        RFXComMessage create(byte[] packet) throws RFXComException;
+    }
+
+    /**
+     * Constructor references of a message class, so creating a message needs neither reflection nor a lookup of the
+     * constructor. Messages that are only received have no constructor for transmission.
+     */
+    private record MessageConstructors(Supplier<RFXComMessage> forTransmission, PacketConstructor fromPacket) {
+    }
+
+    private static final Map<PacketType, MessageConstructors> MESSAGE_CLASSES;
+
+    static {
+        Map<PacketType, MessageConstructors> messages = new EnumMap<>(PacketType.class);
+        put(messages, PacketType.INTERFACE_CONTROL, null, RFXComInterfaceControlMessage::new);
+        put(messages, PacketType.INTERFACE_MESSAGE, null, RFXComInterfaceMessage::new);
+        put(messages, PacketType.TRANSMITTER_MESSAGE, RFXComTransmitterMessage::new, RFXComTransmitterMessage::new);
+        put(messages, PacketType.UNDECODED_RF_MESSAGE, RFXComUndecodedRFMessage::new, RFXComUndecodedRFMessage::new);
+        put(messages, PacketType.LIGHTING1, RFXComLighting1Message::new, RFXComLighting1Message::new);
+        put(messages, PacketType.LIGHTING2, RFXComLighting2Message::new, RFXComLighting2Message::new);
+        // put(messages, PacketType.LIGHTING3, RFXComLighting3Message::new, RFXComLighting3Message::new);
+        put(messages, PacketType.LIGHTING4, RFXComLighting4Message::new, RFXComLighting4Message::new);
+        put(messages, PacketType.LIGHTING5, RFXComLighting5Message::new, RFXComLighting5Message::new);
+        put(messages, PacketType.LIGHTING6, RFXComLighting6Message::new, RFXComLighting6Message::new);
+        put(messages, PacketType.CHIME, RFXComChimeMessage::new, RFXComChimeMessage::new);
+        put(messages, PacketType.FAN, RFXComFanMessage::new, RFXComFanMessage::new);
+        // put(messages, PacketType.FAN_SF01, RFXComFanMessage::new, RFXComFanMessage::new);
+        // put(messages, PacketType.FAN_ITHO, RFXComFanMessage::new, RFXComFanMessage::new);
+        // put(messages, PacketType.FAN_SEAV, RFXComFanMessage::new, RFXComFanMessage::new);
+        put(messages, PacketType.FAN_LUCCI_DC, RFXComFanMessage::new, RFXComFanMessage::new);
+        // put(messages, PacketType.FAN_FT1211R, RFXComFanMessage::new, RFXComFanMessage::new);
+        put(messages, PacketType.FAN_FALMEC, RFXComFanMessage::new, RFXComFanMessage::new);
+        put(messages, PacketType.FAN_LUCCI_DC_II, RFXComFanMessage::new, RFXComFanMessage::new);
+        put(messages, PacketType.FAN_NOVY, RFXComFanMessage::new, RFXComFanMessage::new);
+        put(messages, PacketType.CURTAIN1, RFXComCurtain1Message::new, RFXComCurtain1Message::new);
+        put(messages, PacketType.BLINDS1, RFXComBlinds1Message::new, RFXComBlinds1Message::new);
+        put(messages, PacketType.RFY, RFXComRfyMessage::new, RFXComRfyMessage::new);
+        put(messages, PacketType.HOME_CONFORT, RFXComHomeConfortMessage::new, RFXComHomeConfortMessage::new);
+        put(messages, PacketType.SECURITY1, RFXComSecurity1Message::new, RFXComSecurity1Message::new);
+        put(messages, PacketType.SECURITY2, RFXComSecurity2Message::new, RFXComSecurity2Message::new);
+        // put(messages, PacketType.CAMERA1, RFXComCamera1Message::new, RFXComCamera1Message::new);
+        // put(messages, PacketType.REMOTE_CONTROL, RFXComRemoteControlMessage::new, RFXComRemoteControlMessage::new);
+        put(messages, PacketType.THERMOSTAT1, RFXComThermostat1Message::new, RFXComThermostat1Message::new);
+        // put(messages, PacketType.THERMOSTAT2, RFXComThermostat2Message::new, RFXComThermostat2Message::new);
+        put(messages, PacketType.THERMOSTAT3, RFXComThermostat3Message::new, RFXComThermostat3Message::new);
+        // put(messages, PacketType.RADIATOR1, RFXComRadiator1Message::new, RFXComRadiator1Message::new);
+        put(messages, PacketType.BBQ, RFXComBBQTemperatureMessage::new, RFXComBBQTemperatureMessage::new);
+        put(messages, PacketType.TEMPERATURE_RAIN, RFXComTemperatureRainMessage::new,
+                RFXComTemperatureRainMessage::new);
+        put(messages, PacketType.TEMPERATURE, RFXComTemperatureMessage::new, RFXComTemperatureMessage::new);
+        put(messages, PacketType.HUMIDITY, RFXComHumidityMessage::new, RFXComHumidityMessage::new);
+        put(messages, PacketType.TEMPERATURE_HUMIDITY, RFXComTemperatureHumidityMessage::new,
+                RFXComTemperatureHumidityMessage::new);
+        // put(messages, PacketType.BAROMETRIC, RFXComBarometricMessage::new, RFXComBarometricMessage::new);
+        put(messages, PacketType.TEMPERATURE_HUMIDITY_BAROMETRIC, RFXComTemperatureHumidityBarometricMessage::new,
+                RFXComTemperatureHumidityBarometricMessage::new);
+        put(messages, PacketType.RAIN, RFXComRainMessage::new, RFXComRainMessage::new);
+        put(messages, PacketType.WIND, RFXComWindMessage::new, RFXComWindMessage::new);
+        put(messages, PacketType.UV, RFXComUVMessage::new, RFXComUVMessage::new);
+        put(messages, PacketType.DATE_TIME, RFXComDateTimeMessage::new, RFXComDateTimeMessage::new);
+        put(messages, PacketType.CURRENT, RFXComCurrentMessage::new, RFXComCurrentMessage::new);
+        put(messages, PacketType.ENERGY, RFXComEnergyMessage::new, RFXComEnergyMessage::new);
+        put(messages, PacketType.CURRENT_ENERGY, RFXComCurrentEnergyMessage::new, RFXComCurrentEnergyMessage::new);
+        // put(messages, PacketType.POWER, RFXComPowerMessage::new, RFXComPowerMessage::new);
+        // put(messages, PacketType.WEIGHT, RFXComWeightMessage::new, RFXComWeightMessage::new);
+        // put(messages, PacketType.GAS, RFXComGasMessage::new, RFXComGasMessage::new);
+        // put(messages, PacketType.WATER, RFXComWaterMessage::new, RFXComWaterMessage::new);
+        put(messages, PacketType.RFXSENSOR, RFXComRFXSensorMessage::new, RFXComRFXSensorMessage::new);
+        // put(messages, PacketType.RFXMETER, RFXComRFXMeterMessage::new, RFXComRFXMeterMessage::new);
+        // put(messages, PacketType.FS20, RFXComFS20Message::new, RFXComFS20Message::new);
+        put(messages, PacketType.RAW, RFXComRawMessage::new, RFXComRawMessage::new);
+        // put(messages, PacketType.IO_LINES, RFXComIOLinesMessage::new, RFXComIOLinesMessage::new);
+        MESSAGE_CLASSES = Collections.unmodifiableMap(messages);
+    }
+
+    private static void put(Map<PacketType, MessageConstructors> messages, PacketType packetType,
+            Supplier<RFXComMessage> forTransmission, PacketConstructor fromPacket) {
+        messages.put(packetType, new MessageConstructors(forTransmission, fromPacket));
+    }
 
     /**
      * Create message for transmission from the packet type associated with the thing.
@@ -103,18 +125,14 @@ public enum RFXComMessageFactoryImpl implements RFXComMessageFactory {
     @Override
     public RFXComMessage createMessage(PacketType packetType, RFXComDeviceConfiguration config, ChannelUID channelUID,
             Command command) throws RFXComException {
-        try {
-            Class<? extends RFXComMessage> cl = MESSAGE_CLASSES.get(packetType);
-            if (cl == null) {
-                throw new RFXComMessageNotImplementedException("Message " + packetType + " not implemented");
-            }
-            RFXComMessage msg = cl.getDeclaredConstructor().newInstance();
-            msg.setConfig(config);
-            msg.convertFromState(channelUID.getId(), command);
-            return msg;
-        } catch (ReflectiveOperationException e) {
-            throw new RFXComException(e);
+        MessageConstructors constructors = MESSAGE_CLASSES.get(packetType);
+        if (constructors == null || constructors.forTransmission() == null) {
+            throw new RFXComMessageNotImplementedException("Message " + packetType + " not implemented");
         }
+        RFXComMessage msg = constructors.forTransmission().get();
+        msg.setConfig(config);
+        msg.convertFromState(channelUID.getId(), command);
+        return msg;
     }
 
     /**
@@ -124,20 +142,13 @@ public enum RFXComMessageFactoryImpl implements RFXComMessageFactory {
     public RFXComMessage createMessage(byte[] packet) throws RFXComException {
         PacketType packetType = ByteEnumUtil.fromByte(PacketType.class, packet[1]);
 
+        MessageConstructors constructors = MESSAGE_CLASSES.get(packetType);
+        if (constructors == null) {
+            throw new RFXComMessageNotImplementedException("Message " + packetType + " not implemented");
+        }
         try {
-            Class<? extends RFXComMessage> cl = MESSAGE_CLASSES.get(packetType);
-            if (cl == null) {
-                throw new RFXComMessageNotImplementedException("Message " + packetType + " not implemented");
-            }
-            Constructor<?> c = cl.getConstructor(byte[].class);
-            return (RFXComMessage) c.newInstance(packet);
-        } catch (InvocationTargetException e) {
-            if (e.getCause() instanceof RFXComException) {
-                throw (RFXComException) e.getCause();
-            } else {
-                throw new RFXComException(e);
-            }
-        } catch (NoSuchMethodException | IllegalAccessException | InstantiationException e) {
+            return constructors.fromPacket().create(packet);
+        } catch (RuntimeException e) {
             throw new RFXComException(e);
         }
     }
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.rfxcom.internal.messages;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComException;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComUnsupportedValueException;
+import org.openhab.binding.rfxcom.internal.messages.RFXComBaseMessage.PacketType;
+import org.openhab.binding.rfxcom.internal.messages.RFXComLighting5Message.Commands;
+import org.openhab.binding.rfxcom.internal.messages.RFXComLighting5Message.SubType;
+
+/**
+ * Test for the byte lookup tables of {@link ByteEnumUtil}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ByteEnumUtilTest {
+
+    @Test
+    public void testFromByte() throws RFXComException {
+        assertEquals(PacketType.TEMPERATURE, ByteEnumUtil.fromByte(PacketType.class, 0x50));
+        // the first constant in declaration order wins for shared byte values
+        assertEquals(PacketType.FAN, ByteEnumUtil.fromByte(PacketType.class, 0x17));
+        // values are compared as signed bytes
+        assertEquals(PacketType.IO_LINES, ByteEnumUtil.fromByte(PacketType.class, (byte) 0x80));
+        assertThrows(RFXComUnsupportedValueException.class, () -> ByteEnumUtil.fromByte(PacketType.class, 0x80));
+        assertThrows(RFXComUnsupportedValueException.class, () -> ByteEnumUtil.fromByte(PacketType.class, 0xCC));
+        assertThrows(RFXComUnsupportedValueException.class, () -> ByteEnumUtil.fromByte(PacketType.class, 1000));
+    }
+
+    @Test
+    public void testFromByteWithSubType() throws RFXComException {
+        assertEquals(Commands.GROUP_OFF, ByteEnumUtil.fromByte(Commands.class, 0x02, SubType.LIGHTWAVERF));
+        assertEquals(Commands.LEARN, ByteEnumUtil.fromByte(Commands.class, 0x02, SubType.EMW100));
+        assertEquals(Commands.TOGGLE_2, ByteEnumUtil.fromByte(Commands.class, 0x02, SubType.LIVOLO_APPLIANCE));
+        assertThrows(RFXComUnsupportedValueException.class,
+                () -> ByteEnumUtil.fromByte(Commands.class, 0x13, SubType.EMW100));
+    }
+
+    @Test
+    public void testConvertSubType() throws RFXComException {
+        assertEquals(SubType.IT, ByteEnumUtil.convertSubType(SubType.class, "IT"));
+        assertEquals(SubType.LIGHTWAVERF, ByteEnumUtil.convertSubType(SubType.class, "0"));
+        assertThrows(RFXComUnsupportedValueException.class, () -> ByteEnumUtil.convertSubType(SubType.class, "X"));
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.rfxcom.internal.messages;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComException;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComMessageNotImplementedException;
+import org.openhab.binding.rfxcom.internal.messages.RFXComBaseMessage.PacketType;
+import org.openhab.core.util.HexUtils;
+
+/**
+ * Test for {@link RFXComMessageFactoryImpl}, replaying a mix of received sensor and remote packets like a busy
+ * 433 MHz environment produces them.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RFXComMessageFactoryImplTest {
+    private static final Map<String, Class<? extends RFXComMessage>> TRAFFIC = Map.ofEntries(
+            Map.entry("08500110000180BC69", RFXComTemperatureMessage.class),
+            Map.entry("0850021DFB0100D770", RFXComTemperatureMessage.class),
+            Map.entry("0A5201800F0201294C0349", RFXComTemperatureHumidityMessage.class),
+            Map.entry("0A520211700200A72D0089", RFXComTemperatureHumidityMessage.class),
+            Map.entry("085101027700360189", RFXComHumidityMessage.class),
+            Map.entry("0B550217B6000000004D3C69", RFXComRainMessage.class),
+            Map.entry("105601122F000087000000140000000079", RFXComWindMessage.class),
+            Map.entry("095703123421194731E9", RFXComUVMessage.class),
+            Map.entry("115A01071A7300000003F600000000350B89", RFXComEnergyMessage.class),
+            Map.entry("0B11000600109B520B000080", RFXComLighting2Message.class),
+            Map.entry("091300E1D8AD59018F70", RFXComLighting4Message.class),
+            Map.entry("0820004DD3DC540089", RFXComSecurity1Message.class));
+
+    @Test
+    public void testReplayMixedTraffic() throws RFXComException {
+        List<String> packets = List.copyOf(TRAFFIC.keySet());
+        for (int i = 0; i < 1000; i++) {
+            String hexMsg = packets.get(i % packets.size());
+            RFXComMessage msg = RFXComMessageFactoryImpl.INSTANCE.createMessage(HexUtils.hexToBytes(hexMsg));
+            assertEquals(TRAFFIC.get(hexMsg), msg.getClass(), hexMsg);
+        }
+    }
+
+    @Test
+    public void testPacketTypeWithoutMessageClass() {
+        // barometric packets are known, but not implemented
+        assertThrows(RFXComMessageNotImplementedException.class,
+                () -> RFXComMessageFactoryImpl.INSTANCE.createMessage(HexUtils.hexToBytes("0953010100000000000000")));
+    }
+
+    @Test
+    public void testReceiveOnlyMessageIsNotCreatedForTransmission() {
+        assertThrows(RFXComMessageNotImplementedException.class,
+                () -> RFXComMessageFactoryImpl.INSTANCE.createMessage(PacketType.INTERFACE_MESSAGE, null, null, null));
+    }
+}
@@ -37,6 +37,14 @@ import org.openhab.binding.shelly.internal.config.ShellyThingConfiguration;
 public interface ShellyApiInterface {
     boolean isInitialized();
 
+    /**
+     * Check if the device pushes its status over a live connection, so that status polling can be skipped
+     *
+     * @param maxAgeSec Maximum age of the last received status message in seconds
+     * @return true if the status stream is healthy
+     */
+    boolean isStatusStreamHealthy(int maxAgeSec);
+
     void initialize() throws ShellyApiException;
 
     void setConfig(String thingName, ShellyThingConfiguration config);
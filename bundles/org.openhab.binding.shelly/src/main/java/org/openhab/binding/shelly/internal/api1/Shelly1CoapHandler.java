@@ -155,6 +155,17 @@ public class Shelly1CoapHandler implements Shelly1CoapListener {
         return statusClient != null;
     }
 
+    @Override
+    public String getDeviceIp() {
+        return config.deviceIp;
+    }
+
+    @Override
+    public String getDeviceMac() {
+        // the thing handler replaces its profile once the device has been queried, so don't use the cached one
+        return getString(thingHandler.getProfile().device.mac);
+    }
+
     /**
      * Process an inbound Response (or mapped Request): decode CoAP options. handle discovery result or status updates
      *
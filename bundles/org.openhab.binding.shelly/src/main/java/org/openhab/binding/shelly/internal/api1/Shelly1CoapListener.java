@@ -24,4 +24,15 @@ import org.eclipse.jdt.annotation.Nullable;
 @NonNullByDefault
 public interface Shelly1CoapListener {
     public void processResponse(@Nullable Response response);
+
+    /**
+     * @return IP address of the device served by this listener, used to route inbound CoIoT packets
+     */
+    public String getDeviceIp();
+
+    /**
+     * @return MAC address of the device served by this listener (empty if not yet known), used to route inbound
+     *         CoIoT packets when the sender address doesn't match (e.g. device behind NAT/proxy)
+     */
+    public String getDeviceMac();
 }
@@ -12,19 +12,24 @@
  */
 package org.openhab.binding.shelly.internal.api1;
 
-import static org.openhab.binding.shelly.internal.api1.Shelly1CoapJSonDTO.COIOT_PORT;
+import static org.openhab.binding.shelly.internal.api1.Shelly1CoapJSonDTO.*;
+import static org.openhab.binding.shelly.internal.util.ShellyUtils.substringBetween;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.net.UnknownHostException;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import org.eclipse.californium.core.CoapResource;
 import org.eclipse.californium.core.CoapServer;
 import org.eclipse.californium.core.coap.CoAP;
 import org.eclipse.californium.core.coap.CoAP.Code;
 import org.eclipse.californium.core.coap.CoAP.ResponseCode;
+import org.eclipse.californium.core.coap.Option;
 import org.eclipse.californium.core.coap.Request;
 import org.eclipse.californium.core.coap.Response;
 import org.eclipse.californium.core.network.CoapEndpoint;
@@ -39,10 +44,17 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link Shelly1CoapServer} implements the UDP listener and status event processor (for /cit/s messages)
  *
+ * Inbound packets are routed to exactly one listener: first by the sender's IP address, then by the MAC address
+ * included in the CoIoT global device id option. Resolved routes are cached, so each packet is matched once instead of
+ * being offered to (and filtered by) every registered listener. The caches are cleared when a listener is started or
+ * stopped, a cached route is dropped once its listener's IP or MAC address no longer matches, and senders without a
+ * listener are checked again after a while, so routing follows changes of the thing configuration or device profile.
+ *
  * @author Markus Michels - Initial contribution
  */
 @NonNullByDefault
 public class Shelly1CoapServer {
+    private static final long UNROUTED_EXPIRY_MS = 60 * 1000;
     private final Logger logger = LoggerFactory.getLogger(Shelly1CoapServer.class);
 
     boolean started = false;
@@ -50,6 +62,9 @@ public class Shelly1CoapServer {
     private @Nullable UdpMulticastConnector statusConnector;
     private CoapServer server = new CoapServer(NetworkConfig.getStandard(), COIOT_PORT);
     private final Set<Shelly1CoapListener> coapListeners = ConcurrentHashMap.newKeySet();
+    private final Map<String, Shelly1CoapListener> routesByAddress = new ConcurrentHashMap<>();
+    private final Map<String, Shelly1CoapListener> routesByMac = new ConcurrentHashMap<>();
+    private final Map<String, Long> unroutedAddresses = new ConcurrentHashMap<>();
 
     protected class ShellyStatusListener extends CoapResource {
         private Shelly1CoapServer listener;
@@ -99,10 +114,96 @@ public class Shelly1CoapServer {
         if (!coapListeners.contains(listener)) {
             coapListeners.add(listener);
         }
+        clearRoutes();
     }
 
     protected void processResponse(Response response) {
-        coapListeners.forEach(listener -> listener.processResponse(response));
+        Shelly1CoapListener listener = route(response);
+        if (listener != null) {
+            listener.processResponse(response);
+        }
+    }
+
+    /**
+     * Find the listener for an inbound packet. Lookups are done on the route caches first, only a miss scans the
+     * registered listeners. Senders matching no listener (e.g. Shelly devices not configured as things) are remembered
+     * until the set of listeners changes or UNROUTED_EXPIRY_MS has passed.
+     *
+     * @param response Inbound packet
+     * @return Listener for the sending device or null if no thing is configured for it
+     */
+    private @Nullable Shelly1CoapListener route(Response response) {
+        InetSocketAddress peer = response.getSourceContext().getPeerAddress();
+        InetAddress peerAddress = peer.getAddress();
+        String address = peerAddress != null ? peerAddress.getHostAddress() : peer.getHostString();
+        Shelly1CoapListener listener = routesByAddress.get(address);
+        if (listener != null) {
+            if (address.equals(listener.getDeviceIp())) {
+                return listener;
+            }
+            routesByAddress.remove(address, listener);
+        }
+        String mac = getMac(response);
+        if (!mac.isEmpty()) {
+            listener = routesByMac.get(mac);
+            if (listener != null) {
+                if (matchesMac(listener, mac)) {
+                    return listener;
+                }
+                routesByMac.remove(mac, listener);
+            }
+        }
+        String unroutedKey = address + "#" + mac;
+        Long unroutedSince = unroutedAddresses.get(unroutedKey);
+        if (unroutedSince != null && System.currentTimeMillis() - unroutedSince < UNROUTED_EXPIRY_MS) {
+            return null;
+        }
+
+        listener = findListener(l -> address.equals(l.getDeviceIp()));
+        if (listener != null) {
+            routesByAddress.put(address, listener);
+            return listener;
+        }
+        if (!mac.isEmpty()) {
+            listener = findListener(l -> matchesMac(l, mac));
+            if (listener != null) {
+                routesByMac.put(mac, listener);
+                return listener;
+            }
+        }
+        logger.trace("CoIoT packet from {} (mac={}) doesn't match any thing, discard", address, mac);
+        unroutedAddresses.put(unroutedKey, System.currentTimeMillis());
+        return null;
+    }
+
+    private static boolean matchesMac(Shelly1CoapListener listener, String mac) {
+        return listener.getDeviceMac().toUpperCase().contains(mac);
+    }
+
+    private @Nullable Shelly1CoapListener findListener(Predicate<Shelly1CoapListener> filter) {
+        return coapListeners.stream().filter(filter).findFirst().orElse(null);
+    }
+
+    /**
+     * Extract the MAC address from the CoIoT global device id option. Format: {@code <device type>#<mac>#<version>}
+     *
+     * @param response Inbound packet
+     * @return MAC address (upper case) or empty string if not available
+     */
+    private static String getMac(Response response) {
+        for (Option opt : response.getOptions().asSortedList()) {
+            if (opt.getNumber() == COIOT_OPTION_GLOBAL_DEVID) {
+                String devId = opt.getStringValue();
+                return devId.contains("#") ? substringBetween(devId, "#", "#").toUpperCase() : "";
+            }
+        }
+        return "";
+    }
+
+    private void clearRoutes() {
+        routesByAddress.clear();
+        routesByMac.clear();
+        unroutedAddresses.clear();
     }
 
     public static Response createResponse(Request request) {
@@ -125,6 +226,7 @@ public class Shelly1CoapServer {
      */
     public void stop(Shelly1CoapListener listener) {
         coapListeners.remove(listener);
+        clearRoutes();
         if (coapListeners.isEmpty()) {
             stop();
         }
@@ -158,6 +158,11 @@ public class Shelly1HttpApi extends ShellyHttpClient implements ShellyApiInterfa
         return profile.initialized;
     }
 
+    @Override
+    public boolean isStatusStreamHealthy(int maxAgeSec) {
+        return false; // Gen1 devices have no persistent connection, CoIoT is handled separately
+    }
+
     /**
      * Get generic device settings/status. Json returned from API will be mapped to a Gson object
      *
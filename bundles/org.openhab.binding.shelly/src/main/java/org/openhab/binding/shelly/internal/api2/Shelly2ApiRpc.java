@@ -97,6 +97,7 @@ import org.slf4j.LoggerFactory;
 public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterface, Shelly2RpctInterface {
     private final Logger logger = LoggerFactory.getLogger(Shelly2ApiRpc.class);
     private final @Nullable ShellyThingTable thingTable;
+    private final @Nullable Shelly2RpcConnectionManager connectionManager;
 
     protected boolean initialized = false;
     private boolean discovery = false;
@@ -110,10 +111,23 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
      * @param thing Thing Handler (ThingHandlerInterface)
      */
     public Shelly2ApiRpc(String thingName, ShellyThingTable thingTable, ShellyThingInterface thing) {
+        this(thingName, thingTable, thing, null);
+    }
+
+    /**
+     * Regular constructor - called by Thing handler, Rpc socket uses the binding-wide WebSocket client
+     *
+     * @param thingName Symbolic thing name
+     * @param thing Thing Handler (ThingHandlerInterface)
+     * @param connectionManager Connection manager owning the shared WebSocket client
+     */
+    public Shelly2ApiRpc(String thingName, ShellyThingTable thingTable, ShellyThingInterface thing,
+            @Nullable Shelly2RpcConnectionManager connectionManager) {
         super(thingName, thing);
         this.thingName = thingName;
         this.thing = thing;
         this.thingTable = thingTable;
+        this.connectionManager = connectionManager;
     }
 
     /**
@@ -127,6 +141,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
         super(thingName, config, httpClient);
         this.thingName = thingName;
         this.thingTable = null;
+        this.connectionManager = null;
         this.discovery = true;
     }
 
@@ -136,7 +151,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
             logger.debug("{}: Disconnect Rpc Socket on initialize", thingName);
             disconnect();
         }
-        rpcSocket = new Shelly2RpcSocket(thingName, thingTable, config.deviceIp);
+        rpcSocket = new Shelly2RpcSocket(thingName, thingTable, config.deviceIp, connectionManager);
         rpcSocket.addMessageHandler(this);
         initialized = true;
     }
@@ -146,6 +161,11 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
         return initialized;
     }
 
+    @Override
+    public boolean isStatusStreamHealthy(int maxAgeSec) {
+        return initialized && rpcSocket.isStatusStreamHealthy(maxAgeSec);
+    }
+
     @Override
     public void startScan() {
         try {
@@ -545,7 +565,9 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
 
     @Override
     public void onNotifyStatus(Shelly2RpcNotifyStatus message) {
-        logger.debug("{}: NotifyStatus update received: {}", thingName, gson.toJson(message));
+        if (logger.isDebugEnabled()) {
+            logger.debug("{}: NotifyStatus update received: {}", thingName, gson.toJson(message));
+        }
         try {
             ShellyThingInterface t = thing;
             if (t == null) {
@@ -617,7 +639,9 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
     @Override
     public void onNotifyEvent(Shelly2RpcNotifyEvent message) {
         try {
-            logger.debug("{}: NotifyEvent  received: {}", thingName, gson.toJson(message));
+            if (logger.isDebugEnabled()) {
+                logger.debug("{}: NotifyEvent  received: {}", thingName, gson.toJson(message));
+            }
             ShellyDeviceProfile profile = getProfile();
 
             getThing().incProtMessages();
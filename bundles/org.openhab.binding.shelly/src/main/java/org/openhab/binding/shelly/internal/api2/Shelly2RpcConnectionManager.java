@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.api2;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.openhab.binding.shelly.internal.api.ShellyApiException;
+import org.openhab.core.io.net.http.WebSocketFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Shelly2RpcConnectionManager} owns the outbound Rpc WebSockets of all Gen2+ devices. Instead of every
+ * {@link Shelly2RpcSocket} starting its own {@link WebSocketClient} (each with its own selector and thread pool), all
+ * sockets share a single client, so the number of threads no longer grows with the number of devices.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Shelly2RpcConnectionManager {
+    private static final String CLIENT_NAME = "shelly-rpc";
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+
+    private final Logger logger = LoggerFactory.getLogger(Shelly2RpcConnectionManager.class);
+    private final WebSocketFactory webSocketFactory;
+    private final Map<String, Shelly2RpcSocket> sockets = new ConcurrentHashMap<>();
+    private @Nullable WebSocketClient client;
+
+    public Shelly2RpcConnectionManager(WebSocketFactory webSocketFactory) {
+        this.webSocketFactory = webSocketFactory;
+    }
+
+    /**
+     * Get the shared WebSocket client, start it on first use
+     *
+     * @return Running WebSocket client
+     * @throws ShellyApiException
+     */
+    public synchronized WebSocketClient getClient() throws ShellyApiException {
+        WebSocketClient client = this.client;
+        if (client == null || !client.isRunning()) {
+            try {
+                client = webSocketFactory.createWebSocketClient(CLIENT_NAME);
+                client.setConnectTimeout(CONNECT_TIMEOUT_MS);
+                client.setStopTimeout(0);
+                client.start();
+                this.client = client;
+                logger.debug("Shared Rpc WebSocket client started");
+            } catch (Exception e) {
+                throw new ShellyApiException("Unable to start WebSocket client", e);
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Register a socket once it is connected
+     *
+     * @param deviceIp Device IP address
+     * @param socket Connected socket
+     */
+    public void register(String deviceIp, Shelly2RpcSocket socket) {
+        sockets.put(deviceIp, socket);
+    }
+
+    /**
+     * Remove a socket on disconnect
+     *
+     * @param deviceIp Device IP address
+     * @param socket Socket to be removed (ignored if another socket has been registered for the IP meanwhile)
+     */
+    public void unregister(String deviceIp, Shelly2RpcSocket socket) {
+        sockets.remove(deviceIp, socket);
+    }
+
+    /**
+     * Stop the shared client, called when the binding is deactivated
+     */
+    public synchronized void dispose() {
+        sockets.values().forEach(Shelly2RpcSocket::disconnect);
+        sockets.clear();
+        WebSocketClient client = this.client;
+        if (client != null) {
+            try {
+                client.stop();
+            } catch (Exception e) {
+                logger.debug("Unable to stop shared Rpc WebSocket client", e);
+            }
+            this.client = null;
+        }
+    }
+}
@@ -45,6 +45,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 
 /**
  * {@link Shelly1HttpApi} wraps the Shelly REST API and provides various low level function to access the device api
@@ -68,6 +72,8 @@ public class Shelly2RpcSocket {
     private @Nullable Shelly2RpctInterface websocketHandler;
     private WebSocketClient client = new WebSocketClient();
     private @Nullable ShellyThingTable thingTable;
+    private @Nullable Shelly2RpcConnectionManager connectionManager;
+    private volatile long lastStatusNotification = 0;
 
     public Shelly2RpcSocket() {
     }
@@ -85,6 +91,20 @@ public class Shelly2RpcSocket {
         this.thingTable = thingTable;
     }
 
+    /**
+     * Constructor for Thing handler using the binding-wide shared WebSocket client
+     *
+     * @param thingName Thing/Service name
+     * @param thingTable
+     * @param deviceIp IP address for the device
+     * @param connectionManager Connection manager owning the shared WebSocket client
+     */
+    public Shelly2RpcSocket(String thingName, @Nullable ShellyThingTable thingTable, String deviceIp,
+            @Nullable Shelly2RpcConnectionManager connectionManager) {
+        this(thingName, thingTable, deviceIp);
+        this.connectionManager = connectionManager;
+    }
+
     /**
      * Constructor called from Servlet handler
      *
@@ -122,12 +142,19 @@ public class Shelly2RpcSocket {
             request.setHeader("Cache-Control", "no-cache");
 
             logger.debug("{}: Connect WebSocket, URI={}", thingName, uri);
-            client = new WebSocketClient();
             connectLatch = new CountDownLatch(1);
-            client.start();
-            client.setConnectTimeout(5000);
-            client.setStopTimeout(0);
+            Shelly2RpcConnectionManager manager = connectionManager;
+            if (manager != null) {
+                client = manager.getClient();
+            } else {
+                client = new WebSocketClient();
+                client.start();
+                client.setConnectTimeout(5000);
+                client.setStopTimeout(0);
+            }
             client.connect(this, uri, request);
+        } catch (ShellyApiException e) {
+            throw e;
         } catch (Exception e) {
             throw new ShellyApiException("Unable to initialize WebSocket", e);
         }
@@ -151,6 +178,10 @@ public class Shelly2RpcSocket {
                 // This is the inbound event web socket
                 deviceIp = session.getRemoteAddress().getAddress().getHostAddress();
             }
+            Shelly2RpcConnectionManager manager = connectionManager;
+            if (manager != null && !inbound) {
+                manager.register(deviceIp, this);
+            }
             if (websocketHandler == null) {
                 if (thingTable != null) {
                     ShellyThingInterface thing = thingTable.getThing(deviceIp);
@@ -211,6 +242,7 @@ public class Shelly2RpcSocket {
                 s.close(StatusCode.NORMAL, "Socket closed");
                 session = null;
             }
+            lastStatusNotification = 0;
         } catch (Exception e) {
             if (e.getCause() instanceof InterruptedException) {
                 logger.debug("{}: Unable to close socket - interrupted", thingName); // e.g. device was rebooted
@@ -218,11 +250,17 @@ public class Shelly2RpcSocket {
                 logger.debug("{}: Unable to close socket", thingName, e);
             }
         } finally {
-            // make sure client is stopped / thread terminates / socket resource is free up
-            try {
-                client.stop();
-            } catch (Exception e) {
-                logger.debug("{}: Unable to close Web Socket", thingName, e);
+            Shelly2RpcConnectionManager manager = connectionManager;
+            if (manager != null) {
+                // shared client keeps running for the other devices
+                manager.unregister(deviceIp, this);
+            } else {
+                // make sure client is stopped / thread terminates / socket resource is free up
+                try {
+                    client.stop();
+                } catch (Exception e) {
+                    logger.debug("{}: Unable to close Web Socket", thingName, e);
+                }
             }
         }
     }
@@ -237,27 +275,34 @@ public class Shelly2RpcSocket {
     public void onText(Session session, String receivedMessage) {
         try {
             Shelly2RpctInterface handler = websocketHandler;
-            Shelly2RpcBaseMessage message = fromJson(gson, receivedMessage, Shelly2RpcBaseMessage.class);
+            // parse the frame only once, DTOs are mapped from the resulting tree
+            JsonObject json = JsonParser.parseString(receivedMessage).getAsJsonObject();
+            String src = getJsonString(json, "src");
+            String method = getJsonString(json, "method");
             logger.trace("{}: Inbound Rpc message: {}", thingName, receivedMessage);
             if (handler != null) {
                 if (thingName.isEmpty()) {
-                    thingName = getString(message.src);
+                    thingName = src;
                 }
-                if (message.method == null) {
-                    message.method = SHELLYRPC_METHOD_NOTIFYFULLSTATUS;
+                if (method.isEmpty()) {
+                    method = SHELLYRPC_METHOD_NOTIFYFULLSTATUS;
+                } else if (SHELLYRPC_METHOD_NOTIFYSTATUS.equals(method)
+                        || SHELLYRPC_METHOD_NOTIFYFULLSTATUS.equals(method)) {
+                    // only status notifications pushed by the device count, not replies to our own requests
+                    lastStatusNotification = now();
                 }
-                switch (getString(message.method)) {
+                switch (method) {
                     case SHELLYRPC_METHOD_NOTIFYSTATUS:
                     case SHELLYRPC_METHOD_NOTIFYFULLSTATUS:
-                        Shelly2RpcNotifyStatus status = fromJson(gson, receivedMessage, Shelly2RpcNotifyStatus.class);
+                        Shelly2RpcNotifyStatus status = fromJsonTree(json, Shelly2RpcNotifyStatus.class);
                         if (status.params == null) {
                             status.params = status.result;
                         }
                         handler.onNotifyStatus(status);
                         return;
                     case SHELLYRPC_METHOD_NOTIFYEVENT:
-                        Shelly2RpcNotifyEvent events = fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class);
-                        events.src = message.src;
+                        Shelly2RpcNotifyEvent events = fromJsonTree(json, Shelly2RpcNotifyEvent.class);
+                        events.src = src;
                         if (events.params == null || events.params.events == null) {
                             logger.debug("{}: Malformed event data: {}", thingName, receivedMessage);
                         } else {
@@ -269,19 +314,18 @@ public class Shelly2RpcSocket {
                                             ShellyThingInterface thing = thingTable.getThing(address);
                                             Shelly2ApiRpc api = (Shelly2ApiRpc) thing.getApi();
                                             handler = api.getRpcHandler();
-                                            handler.onNotifyEvent(
-                                                    fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class));
+                                            handler.onNotifyEvent(fromJsonTree(json, Shelly2RpcNotifyEvent.class));
                                         }
                                     } else { // new device
                                         if (e.event.equals(SHELLY2_EVENT_BLUSCAN)) {
-                                            ShellyBluSensorHandler.addBluThing(message.src, e, thingTable);
+                                            ShellyBluSensorHandler.addBluThing(src, e, thingTable);
                                         } else {
-                                            logger.debug("{}: NotifyEvent {} for unknown device {}", message.src,
-                                                    e.event, e.data.name);
+                                            logger.debug("{}: NotifyEvent {} for unknown device {}", src, e.event,
+                                                    e.data.name);
                                         }
                                     }
                                 } else {
-                                    handler.onNotifyEvent(fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class));
+                                    handler.onNotifyEvent(fromJsonTree(json, Shelly2RpcNotifyEvent.class));
                                 }
                             }
                         }
@@ -290,16 +334,40 @@ public class Shelly2RpcSocket {
                         handler.onMessage(receivedMessage);
                 }
             } else {
-                logger.debug("{}: No Rpc listener registered for device {}, skip message: {}", thingName,
-                        getString(message.src), receivedMessage);
+                logger.debug("{}: No Rpc listener registered for device {}, skip message: {}", thingName, src,
+                        receivedMessage);
             }
-        } catch (ShellyApiException | IllegalArgumentException e) {
+        } catch (ShellyApiException | IllegalArgumentException | IllegalStateException | JsonParseException e) {
             logger.debug("{}: Unable to process Rpc message ({}): {}", thingName, e.getMessage(), receivedMessage);
         } catch (NullPointerException e) {
             logger.debug("{}: Unable to process Rpc message: {}", thingName, receivedMessage, e);
         }
     }
 
+    private <T> T fromJsonTree(JsonElement json, Class<T> classOfT) throws ShellyApiException {
+        T obj = gson.fromJson(json, classOfT);
+        if (obj == null) {
+            throw new ShellyApiException("Unable to create JSON object");
+        }
+        return obj;
+    }
+
+    private static String getJsonString(JsonObject json, String member) {
+        JsonElement element = json.get(member);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : "";
+    }
+
+    /**
+     * Check if the socket delivers status updates, so that polling can be suppressed
+     *
+     * @param maxAgeSec Maximum age of the last received status notification in seconds
+     * @return true if the socket is connected (outbound) and received a NotifyStatus/NotifyFullStatus recently
+     */
+    public boolean isStatusStreamHealthy(int maxAgeSec) {
+        long last = lastStatusNotification;
+        return !inbound && isConnected() && last > 0 && (now() - last) <= maxAgeSec;
+    }
+
     public boolean isConnected() {
         return session != null && session.isOpen();
     }
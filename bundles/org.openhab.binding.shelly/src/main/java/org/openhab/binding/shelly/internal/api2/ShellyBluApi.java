@@ -101,6 +101,11 @@ public class ShellyBluApi extends Shelly2ApiRpc {
         return initialized;
     }
 
+    @Override
+    public boolean isStatusStreamHealthy(int maxAgeSec) {
+        return false; // BLU devices report through the gateway, there is no socket to the device
+    }
+
     @Override
     public void setConfig(String thingName, ShellyThingConfiguration config) {
         this.thingName = thingName;
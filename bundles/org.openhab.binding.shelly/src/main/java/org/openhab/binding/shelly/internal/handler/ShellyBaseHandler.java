@@ -47,6 +47,7 @@ import org.openhab.binding.shelly.internal.api1.Shelly1CoapServer;
 import org.openhab.binding.shelly.internal.api1.Shelly1HttpApi;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2APClientList.Shelly2APClient;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiRpc;
+import org.openhab.binding.shelly.internal.api2.Shelly2RpcConnectionManager;
 import org.openhab.binding.shelly.internal.api2.ShellyBluApi;
 import org.openhab.binding.shelly.internal.config.ShellyBindingConfiguration;
 import org.openhab.binding.shelly.internal.config.ShellyThingConfiguration;
@@ -123,6 +124,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     protected int scheduledUpdates = 0;
     private int skipCount = UPDATE_SKIP_COUNT;
     private int skipUpdate = 0;
+    private long lastStatusPoll = 0;
     private boolean refreshSettings = false;
     private @Nullable ScheduledFuture<?> statusJob;
     private @Nullable ScheduledFuture<?> initJob;
@@ -136,11 +138,13 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
      *            configuration)
      * @param thingTable
      * @param coapServer coap server instance
+     * @param rpcConnectionManager binding-wide manager for Gen2 Rpc WebSockets
      * @param httpClient from httpService
      */
     public ShellyBaseHandler(final Thing thing, final ShellyTranslationProvider translationProvider,
             final ShellyBindingConfiguration bindingConfig, ShellyThingTable thingTable,
-            final Shelly1CoapServer coapServer, final HttpClient httpClient) {
+            final Shelly1CoapServer coapServer, final Shelly2RpcConnectionManager rpcConnectionManager,
+            final HttpClient httpClient) {
         super(thing);
 
         this.thingTable = thingTable;
@@ -157,7 +161,8 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         String thingType = getThingType();
         gen2 = "2".equals(gen) || "3".equals(gen) || ShellyDeviceProfile.isGeneration2(thingType);
         blu = ShellyDeviceProfile.isBluSeries(thingType);
-        this.api = !blu ? !gen2 ? new Shelly1HttpApi(thingName, this) : new Shelly2ApiRpc(thingName, thingTable, this)
+        this.api = !blu ? !gen2 ? new Shelly1HttpApi(thingName, this)
+                : new Shelly2ApiRpc(thingName, thingTable, this, rpcConnectionManager)
                 : new ShellyBluApi(thingName, thingTable, this);
         if (gen2) {
             config.eventsCoIoT = false;
@@ -540,7 +545,20 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
                     logger.debug("{}: Status update triggered thing initialization", thingName);
                     initializeThing(); // may fire an exception if initialization failed
                 }
-                ShellySettingsStatus status = api.getStatus();
+                ShellySettingsStatus status;
+                if (!refreshSettings && (scheduledUpdates == 0) && profile.isInitialized()
+                        && (thingStatus == ThingStatus.ONLINE) && api.isStatusStreamHealthy(profile.updatePeriod)
+                        && (now() - lastStatusPoll < STATUS_POLL_MAX_AGE_SECONDS)) {
+                    // Rpc socket delivers status notifications, which are already applied to the profile's status.
+                    // Those don't cover sys values like uptime, RSSI or update availability, so the device status is
+                    // still polled at the default update interval, which also lets checkRestarted() see an uptime
+                    // reset.
+                    logger.trace("{}: Status stream is alive, skip polling the device status", thingName);
+                    status = profile.status;
+                } else {
+                    status = api.getStatus();
+                    lastStatusPoll = now();
+                }
                 boolean restarted = checkRestarted(status);
                 profile = getProfile(refreshSettings || restarted);
                 profile.status = status;
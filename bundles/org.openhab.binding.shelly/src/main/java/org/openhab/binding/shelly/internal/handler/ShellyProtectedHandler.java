@@ -15,6 +15,7 @@ package org.openhab.binding.shelly.internal.handler;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.shelly.internal.api1.Shelly1CoapServer;
+import org.openhab.binding.shelly.internal.api2.Shelly2RpcConnectionManager;
 import org.openhab.binding.shelly.internal.config.ShellyBindingConfiguration;
 import org.openhab.binding.shelly.internal.provider.ShellyTranslationProvider;
 import org.openhab.core.thing.Thing;
@@ -34,12 +35,14 @@ public class ShellyProtectedHandler extends ShellyBaseHandler {
      * @param bindingConfig configuration of the binding
      * @param thingTable
      * @param coapService coap server instance
+     * @param rpcConnectionManager binding-wide manager for Gen2 Rpc WebSockets
      * @param httpClient to connect to the openHAB HTTP API
      */
     public ShellyProtectedHandler(final Thing thing, final ShellyTranslationProvider translationProvider,
             final ShellyBindingConfiguration bindingConfig, ShellyThingTable thingTable,
-            final Shelly1CoapServer coapService, final HttpClient httpClient) {
-        super(thing, translationProvider, bindingConfig, thingTable, coapService, httpClient);
+            final Shelly1CoapServer coapService, final Shelly2RpcConnectionManager rpcConnectionManager,
+            final HttpClient httpClient) {
+        super(thing, translationProvider, bindingConfig, thingTable, coapService, rpcConnectionManager, httpClient);
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.openhab.binding.shelly.internal.api1.Shelly1ApiJsonDTO.ShellySettings
 import org.openhab.binding.shelly.internal.api1.Shelly1ApiJsonDTO.ShellySettingsStatus;
 import org.openhab.binding.shelly.internal.api1.Shelly1ApiJsonDTO.ShellyShortLightStatus;
 import org.openhab.binding.shelly.internal.api1.Shelly1CoapServer;
+import org.openhab.binding.shelly.internal.api2.Shelly2RpcConnectionManager;
 import org.openhab.binding.shelly.internal.config.ShellyBindingConfiguration;
 import org.openhab.binding.shelly.internal.provider.ShellyChannelDefinitions;
 import org.openhab.binding.shelly.internal.provider.ShellyTranslationProvider;
@@ -58,12 +59,14 @@ public class ShellyRelayHandler extends ShellyBaseHandler {
      * @param bindingConfig configuration of the binding
      * @param thingTable
      * @param coapServer coap server instance
+     * @param rpcConnectionManager binding-wide manager for Gen2 Rpc WebSockets
      * @param httpClient to connect to the openHAB HTTP API
      */
     public ShellyRelayHandler(final Thing thing, final ShellyTranslationProvider translationProvider,
             final ShellyBindingConfiguration bindingConfig, ShellyThingTable thingTable,
-            final Shelly1CoapServer coapServer, final HttpClient httpClient) {
-        super(thing, translationProvider, bindingConfig, thingTable, coapServer, httpClient);
+            final Shelly1CoapServer coapServer, final Shelly2RpcConnectionManager rpcConnectionManager,
+            final HttpClient httpClient) {
+        super(thing, translationProvider, bindingConfig, thingTable, coapServer, rpcConnectionManager, httpClient);
     }
 
     @Override
@@ -13,6 +13,7 @@
 package org.openhab.binding.snmp.internal;
 
 import java.io.IOException;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -22,6 +23,7 @@ import org.snmp4j.CommandResponder;
 import org.snmp4j.PDU;
 import org.snmp4j.Target;
 import org.snmp4j.event.ResponseListener;
+import org.snmp4j.smi.OID;
 
 /**
  * The {@link SnmpService} is responsible for SNMP communication
@@ -37,6 +39,16 @@ public interface SnmpService {
 
     void removeCommandResponder(CommandResponder listener);
 
+    /**
+     * Restricts the traps delivered to a command responder to traps from the given address containing one of the
+     * given OIDs, and SNMP v1 traps with one of the given OIDs as enterprise OID.
+     *
+     * @param listener a registered command responder
+     * @param address the host address of the trap source, or null if not known
+     * @param trapOids the OIDs the command responder handles
+     */
+    void setTrapFilter(CommandResponder listener, @Nullable String address, Set<OID> trapOids);
+
     void send(PDU pdu, Target target, @Nullable Object userHandle, ResponseListener listener) throws IOException;
 
     void addUser(String userName, SnmpAuthProtocol snmpAuthProtocol, @Nullable String authPassphrase,
@@ -13,9 +13,7 @@
 package org.openhab.binding.snmp.internal;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -24,6 +22,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.snmp.internal.config.SnmpServiceConfiguration;
 import org.openhab.binding.snmp.internal.types.SnmpAuthProtocol;
 import org.openhab.binding.snmp.internal.types.SnmpPrivProtocol;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.Configuration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -42,6 +41,7 @@ import org.snmp4j.security.SecurityModels;
 import org.snmp4j.security.SecurityProtocols;
 import org.snmp4j.security.USM;
 import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.OID;
 import org.snmp4j.smi.OctetString;
 import org.snmp4j.smi.UdpAddress;
 import org.snmp4j.transport.DefaultUdpTransportMapping;
@@ -62,7 +62,8 @@ public class SnmpServiceImpl implements SnmpService {
     private @Nullable Snmp snmp;
     private @Nullable DefaultUdpTransportMapping transport;
 
-    private final List<CommandResponder> listeners = new ArrayList<>();
+    private final SnmpTrapDispatcher trapDispatcher = new SnmpTrapDispatcher(
+            ThreadPoolManager.getPool("snmp-traps"));
     private final Set<UserEntry> userEntries = new HashSet<>();
 
     @Activate
@@ -95,7 +96,7 @@ public class SnmpServiceImpl implements SnmpService {
             SecurityProtocols.getInstance().addPrivacyProtocol(new Priv3DES());
 
             final Snmp snmp = new Snmp(transport);
-            listeners.forEach(snmp::addCommandResponder);
+            snmp.addCommandResponder(trapDispatcher);
             snmp.listen();
 
             // re-add user entries
@@ -113,6 +114,8 @@ public class SnmpServiceImpl implements SnmpService {
     @SuppressWarnings("unused")
     @Deactivate
     public void deactivate() {
+        logger.debug("received {} traps, delivered {}, dropped {}", trapDispatcher.getReceived(),
+                trapDispatcher.getDelivered(), trapDispatcher.getDropped());
         try {
             shutdownSnmp();
         } catch (IOException e) {
@@ -135,20 +138,17 @@ public class SnmpServiceImpl implements SnmpService {
 
     @Override
     public void addCommandResponder(CommandResponder listener) {
-        Snmp snmp = this.snmp;
-        if (snmp != null) {
-            snmp.addCommandResponder(listener);
-        }
-        listeners.add(listener);
+        trapDispatcher.register(listener);
     }
 
     @Override
     public void removeCommandResponder(CommandResponder listener) {
-        Snmp snmp = this.snmp;
-        if (snmp != null) {
-            snmp.removeCommandResponder(listener);
-        }
-        listeners.remove(listener);
+        trapDispatcher.unregister(listener);
+    }
+
+    @Override
+    public void setTrapFilter(CommandResponder listener, @Nullable String address, Set<OID> trapOids) {
+        trapDispatcher.setFilter(listener, address, trapOids);
     }
 
     @Override
@@ -17,9 +17,13 @@ import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
@@ -89,6 +93,8 @@ import org.snmp4j.smi.VariableBinding;
 public class SnmpTargetHandler extends BaseThingHandler implements ResponseListener, CommandResponder {
     private static final Pattern HEXSTRING_VALIDITY = Pattern.compile("([a-f0-9]{2}[ :-]?)+");
     private static final Pattern HEXSTRING_EXTRACTOR = Pattern.compile("[^a-f0-9]");
+    private static final int WALK_MAX_REPETITIONS = 20;
+    private static final int WALK_MAX_ROWS = 10000;
 
     private final Logger logger = LoggerFactory.getLogger(SnmpTargetHandler.class);
 
@@ -103,6 +109,12 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> readChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> writeChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> trapChannelSet;
+    private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> walkChannelSet;
+    private @NonNullByDefault({}) Map<OID, List<SnmpInternalChannelConfiguration>> readChannelIndex;
+    private @NonNullByDefault({}) Map<OID, List<SnmpInternalChannelConfiguration>> trapChannelIndex;
+    private final Set<ChannelUID> runningWalks = ConcurrentHashMap.newKeySet();
+    // number of variable bindings per GET request, reduced if the agent responds with tooBig
+    private volatile int maxVarbinds;
 
     public SnmpTargetHandler(Thing thing, SnmpService snmpService) {
         super(thing);
@@ -118,6 +130,12 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
 
         try {
             if (command instanceof RefreshType) {
+                SnmpInternalChannelConfiguration walkChannel = walkChannelSet.stream()
+                        .filter(c -> channelUID.equals(c.channelUID)).findFirst().orElse(null);
+                if (walkChannel != null) {
+                    startWalk(walkChannel);
+                    return;
+                }
                 SnmpInternalChannelConfiguration channel = readChannelSet.stream()
                         .filter(c -> channelUID.equals(c.channelUID)).findFirst()
                         .orElseThrow(() -> new IllegalArgumentException("no readable channel found"));
@@ -223,6 +241,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             }
 
             snmpService.addCommandResponder(this);
+            snmpService.setTrapFilter(this, null, trapChannelIndex.keySet());
 
             target.setRetries(config.retries);
             target.setTimeout(config.timeout);
@@ -230,6 +249,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             target.setAddress(null);
 
             timeoutCounter = 0;
+            maxVarbinds = config.maxVarbinds > 0 ? config.maxVarbinds : Integer.MAX_VALUE;
         } catch (IllegalArgumentException e) {
             // some methods of SNMP4J throw an unchecked IllegalArgumentException if they receive invalid values
             String message = "Exception during initialization: " + e.getMessage();
@@ -265,7 +285,11 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
 
         PDU response = event.getResponse();
+        Object userHandle = event.getUserHandle();
         if (response == null) {
+            if (userHandle instanceof TableWalk walk) {
+                runningWalks.remove(walk.channelConfig.channelUID);
+            }
             Exception e = event.getError();
             if (e == null) { // no response, no error -> request timed out
                 timeoutCounter++;
@@ -284,13 +308,43 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
         logger.trace("{} received {}", thing.getUID(), response);
 
+        if (userHandle instanceof TableWalk walk) {
+            processWalkResponse(walk, response);
+            return;
+        }
+        if (response.getErrorStatus() == PDU.tooBig) {
+            retryTooBig(event.getRequest());
+            return;
+        }
+
         response.getVariableBindings().forEach(variable -> {
             if (variable != null) {
-                updateChannels(variable.getOid(), variable.getVariable(), readChannelSet);
+                updateChannels(variable.getOid(), variable.getVariable(), readChannelIndex);
             }
         });
     }
 
+    /**
+     * Splits a GET request the agent could not answer in a single response and remembers the smaller size for
+     * subsequent requests.
+     */
+    private void retryTooBig(@Nullable PDU request) {
+        if (request == null) {
+            return;
+        }
+        int size = request.size();
+        if (size <= 1) {
+            logger.warn("{} response for {} is too big for a single PDU", thing.getUID(), request);
+            return;
+        }
+        maxVarbinds = Math.max(1, size / 2);
+        logger.debug("{} reported tooBig for {} variable bindings, reducing to {}", thing.getUID(), size,
+                maxVarbinds);
+        List<OID> oids = new ArrayList<>(size);
+        request.getVariableBindings().forEach(variable -> oids.add(variable.getOid()));
+        sendGetRequests(oids);
+    }
+
     @Override
     public void processPdu(@Nullable CommandResponderEvent event) {
         if (event == null) {
@@ -309,13 +363,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             if (trapValue == PDUv1.ENTERPRISE_SPECIFIC) {
                 trapValue = pduv1.getSpecificTrap();
             }
-            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelSet);
+            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelIndex);
         }
         if ((pdu.getType() == PDU.TRAP || pdu.getType() == PDU.V1TRAP) && config.community.equals(community)
-                && targetAddressString.equals(address)) {
+                && address.equals(targetAddressString)) {
             pdu.getVariableBindings().forEach(variable -> {
                 if (variable != null) {
-                    updateChannels(variable.getOid(), variable.getVariable(), trapChannelSet);
+                    updateChannels(variable.getOid(), variable.getVariable(), trapChannelIndex);
                 }
             });
         }
@@ -365,6 +419,10 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 exceptionValue = StringType.valueOf(configExceptionValue);
             }
         } else if (CHANNEL_TYPE_UID_SWITCH.equals(channel.getChannelTypeUID())) {
+            if (config.mode == SnmpChannelMode.WALK) {
+                logger.warn("mode WALK is not supported for switch channel {}", channel.getUID());
+                return null;
+            }
             if (datatype == null) {
                 datatype = SnmpDatatype.UINT32;
             }
@@ -404,11 +462,16 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 .collect(Collectors.toSet());
         this.trapChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TRAP)
                 .collect(Collectors.toSet());
+        this.walkChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.WALK)
+                .collect(Collectors.toSet());
+        this.readChannelIndex = readChannelSet.stream().collect(Collectors.groupingBy(c -> c.oid));
+        this.trapChannelIndex = trapChannelSet.stream().collect(Collectors.groupingBy(c -> c.oid));
     }
 
-    private void updateChannels(OID oid, Variable value, Set<SnmpInternalChannelConfiguration> channelConfigs) {
-        Set<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigs.stream()
-                .filter(c -> c.oid.equals(oid)).collect(Collectors.toSet());
+    private void updateChannels(OID oid, Variable value,
+            Map<OID, List<SnmpInternalChannelConfiguration>> channelConfigIndex) {
+        List<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigIndex.getOrDefault(oid,
+                List.of());
         if (!updateChannelConfigs.isEmpty()) {
             updateChannelConfigs.forEach(channelConfig -> {
                 ChannelUID channelUID = channelConfig.channelUID;
@@ -542,6 +605,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         try {
             target.setAddress(new UdpAddress(InetAddress.getByName(config.hostname), config.port));
             targetAddressString = ((UdpAddress) target.getAddress()).getInetAddress().getHostAddress();
+            snmpService.setTrapFilter(this, targetAddressString, trapChannelIndex.keySet());
             return true;
         } catch (UnknownHostException e) {
             target.setAddress(null);
@@ -557,15 +621,134 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
         }
-        PDU pdu = getPDU();
-        pdu.setType(PDU.GET);
-        readChannelSet.stream().map(c -> new VariableBinding(c.oid)).forEach(pdu::add);
-        if (!pdu.getVariableBindings().isEmpty()) {
+        sendGetRequests(new ArrayList<>(readChannelIndex.keySet()));
+        walkChannelSet.forEach(this::startWalk);
+    }
+
+    /**
+     * Requests the OIDs in GET requests of at most {@link #maxVarbinds} variable bindings each.
+     */
+    private void sendGetRequests(List<OID> oids) {
+        int chunkSize = maxVarbinds;
+        for (int start = 0; start < oids.size(); start += chunkSize) {
+            PDU pdu = getPDU();
+            pdu.setType(PDU.GET);
+            oids.subList(start, Math.min(oids.size(), start + chunkSize))
+                    .forEach(oid -> pdu.add(new VariableBinding(oid)));
             try {
                 snmpService.send(pdu, target, null, this);
             } catch (IOException e) {
                 logger.info("Could not send PDU", e);
+                return;
+            }
+        }
+    }
+
+    private void startWalk(SnmpInternalChannelConfiguration channelConfig) {
+        if (!runningWalks.add(channelConfig.channelUID)) {
+            logger.debug("walk of {} still running, skipping", channelConfig.channelUID);
+            return;
+        }
+        sendWalkRequest(new TableWalk(channelConfig));
+    }
+
+    /**
+     * Requests the next rows of a walk, with GETBULK for SNMP v2c/v3 and GETNEXT for SNMP v1.
+     */
+    private void sendWalkRequest(TableWalk walk) {
+        PDU pdu = getPDU();
+        if (config.protocol.toInteger() == SnmpConstants.version1) {
+            pdu.setType(PDU.GETNEXT);
+        } else {
+            pdu.setType(PDU.GETBULK);
+            pdu.setNonRepeaters(0);
+            pdu.setMaxRepetitions(walk.maxRepetitions);
+        }
+        pdu.add(new VariableBinding(walk.lastOid));
+        try {
+            snmpService.send(pdu, target, walk, this);
+        } catch (IOException e) {
+            runningWalks.remove(walk.channelConfig.channelUID);
+            logger.info("Could not send PDU", e);
+        }
+    }
+
+    private void processWalkResponse(TableWalk walk, PDU response) {
+        if (response.getErrorStatus() == PDU.tooBig && walk.maxRepetitions > 1) {
+            walk.maxRepetitions = Math.max(1, walk.maxRepetitions / 2);
+            sendWalkRequest(walk);
+            return;
+        }
+        boolean finished = response.getErrorStatus() != PDU.noError || response.getVariableBindings().isEmpty();
+        for (VariableBinding variable : response.getVariableBindings()) {
+            OID oid = variable.getOid();
+            if (variable.isException() || !oid.startsWith(walk.channelConfig.oid) || oid.compareTo(walk.lastOid) <= 0
+                    || walk.values.size() >= WALK_MAX_ROWS) {
+                finished = true;
+                break;
+            }
+            walk.values.add(variable.getVariable());
+            walk.lastOid = oid;
+        }
+        if (finished) {
+            runningWalks.remove(walk.channelConfig.channelUID);
+            updateWalkChannel(walk);
+        } else {
+            sendWalkRequest(walk);
+        }
+    }
+
+    /**
+     * Updates a walk channel: number channels receive the sum of all rows, string channels a comma separated list.
+     */
+    private void updateWalkChannel(TableWalk walk) {
+        SnmpInternalChannelConfiguration channelConfig = walk.channelConfig;
+        Channel channel = thing.getChannel(channelConfig.channelUID);
+        if (channel == null) {
+            return;
+        }
+        State state;
+        if (walk.values.isEmpty()) {
+            if (!channelConfig.doNotLogException) {
+                logger.info("SNMP walk of {} returned no values", channelConfig.oid);
+            }
+            state = channelConfig.exceptionValue;
+        } else if (CHANNEL_TYPE_UID_NUMBER.equals(channel.getChannelTypeUID())) {
+            long sum = 0;
+            try {
+                for (Variable value : walk.values) {
+                    sum += value.toLong();
+                }
+            } catch (UnsupportedOperationException e) {
+                logger.warn("could not convert walk of {} to number for channel {}", channelConfig.oid,
+                        channelConfig.channelUID);
+                return;
             }
+            Unit<?> channelUnit = channelConfig.unit;
+            state = channelUnit == null ? new DecimalType(sum) : new QuantityType<>(sum, channelUnit);
+        } else {
+            state = new StringType(walk.values.stream().map(value -> {
+                if (channelConfig.datatype == SnmpDatatype.HEXSTRING && value instanceof OctetString octetString) {
+                    return octetString.toHexString(' ').toLowerCase();
+                }
+                return value.toString();
+            }).collect(Collectors.joining(",")));
+        }
+        updateState(channelConfig.channelUID, state);
+    }
+
+    /**
+     * State of a subtree walk, passed as user handle of its requests.
+     */
+    private static class TableWalk {
+        private final SnmpInternalChannelConfiguration channelConfig;
+        private final List<Variable> values = new ArrayList<>();
+        private OID lastOid;
+        private int maxRepetitions = WALK_MAX_REPETITIONS;
+
+        private TableWalk(SnmpInternalChannelConfiguration channelConfig) {
+            this.channelConfig = channelConfig;
+            this.lastOid = channelConfig.oid;
         }
     }
 
@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.PDU;
+import org.snmp4j.PDUv1;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * The {@link SnmpTrapDispatcher} receives all traps and delivers each trap only to the responders registered for its
+ * source address and OIDs. Traps are queued and delivered asynchronously, so a trap flood does not block the SNMP
+ * listener thread. Traps that do not fit into the queue are dropped and counted.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnmpTrapDispatcher implements CommandResponder {
+    static final int QUEUE_CAPACITY = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(SnmpTrapDispatcher.class);
+
+    private final Executor executor;
+    private final BlockingQueue<CommandResponderEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean overflowing = false;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Map<CommandResponder, Registration> registrations = new HashMap<>();
+    // indexes rebuilt on each registration change, read without locking by the dispatching thread
+    private volatile List<Registration> unfiltered = List.of();
+    private volatile Map<String, List<Registration>> byAddress = Map.of();
+    private volatile Map<OID, List<Registration>> byOid = Map.of();
+
+    public SnmpTrapDispatcher(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Registers a responder that receives all traps, until {@link #setFilter} is called for it.
+     */
+    public synchronized void register(CommandResponder responder) {
+        registrations.put(responder, new Registration(responder, true, null, Set.of()));
+        rebuildIndexes();
+    }
+
+    /**
+     * Restricts the traps delivered to a responder. A responder receives traps sent from its address that contain
+     * one of its OIDs, and SNMP v1 traps whose enterprise OID is one of its OIDs.
+     *
+     * @param responder a registered responder
+     * @param address the host address of the trap source, or null if not known yet
+     * @param oids the OIDs the responder is interested in
+     */
+    public synchronized void setFilter(CommandResponder responder, @Nullable String address, Set<OID> oids) {
+        if (registrations.containsKey(responder)) {
+            registrations.put(responder, new Registration(responder, false, address, Set.copyOf(oids)));
+            rebuildIndexes();
+        }
+    }
+
+    public synchronized void unregister(CommandResponder responder) {
+        if (registrations.remove(responder) != null) {
+            rebuildIndexes();
+        }
+    }
+
+    private void rebuildIndexes() {
+        List<Registration> newUnfiltered = new ArrayList<>();
+        Map<String, List<Registration>> newByAddress = new HashMap<>();
+        Map<OID, List<Registration>> newByOid = new HashMap<>();
+        for (Registration registration : registrations.values()) {
+            if (registration.unfiltered) {
+                newUnfiltered.add(registration);
+                continue;
+            }
+            String address = registration.address;
+            if (address != null && !registration.oids.isEmpty()) {
+                newByAddress.computeIfAbsent(address, a -> new ArrayList<>()).add(registration);
+            }
+            registration.oids.forEach(oid -> newByOid.computeIfAbsent(oid, o -> new ArrayList<>()).add(registration));
+        }
+        unfiltered = List.copyOf(newUnfiltered);
+        byAddress = newByAddress;
+        byOid = newByOid;
+    }
+
+    @Override
+    public void processPdu(@Nullable CommandResponderEvent event) {
+        if (event == null) {
+            return;
+        }
+        PDU pdu = event.getPDU();
+        if (pdu == null || (pdu.getType() != PDU.TRAP && pdu.getType() != PDU.V1TRAP)) {
+            return;
+        }
+        received.incrementAndGet();
+        if (!queue.offer(event)) {
+            long droppedCount = dropped.incrementAndGet();
+            if (!overflowing) {
+                overflowing = true;
+                logger.warn("Trap queue is full, dropping traps ({} dropped so far)", droppedCount);
+            }
+            return;
+        }
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            CommandResponderEvent event;
+            while ((event = queue.poll()) != null) {
+                dispatch(event);
+            }
+            overflowing = false;
+            draining.set(false);
+            // a trap may have been queued after the last poll but before draining was reset
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private void dispatch(CommandResponderEvent event) {
+        PDU pdu = event.getPDU();
+        Set<Registration> receivers = new LinkedHashSet<>(unfiltered);
+
+        Address peerAddress = event.getPeerAddress();
+        if (peerAddress instanceof IpAddress ipAddress) {
+            List<Registration> candidates = byAddress.get(ipAddress.getInetAddress().getHostAddress());
+            if (candidates != null) {
+                for (VariableBinding variable : pdu.getVariableBindings()) {
+                    for (Registration candidate : candidates) {
+                        if (variable != null && candidate.oids.contains(variable.getOid())) {
+                            receivers.add(candidate);
+                        }
+                    }
+                }
+            }
+        }
+        if (pdu instanceof PDUv1 pduv1 && pdu.getType() == PDU.V1TRAP) {
+            List<Registration> candidates = byOid.get(pduv1.getEnterprise());
+            if (candidates != null) {
+                receivers.addAll(candidates);
+            }
+        }
+
+        for (Registration receiver : receivers) {
+            try {
+                receiver.responder.processPdu(event);
+                delivered.incrementAndGet();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to process trap {}: {}", pdu, e.getMessage());
+            }
+        }
+        if (receivers.isEmpty()) {
+            logger.trace("No receiver for trap {} from {}", pdu, peerAddress);
+        }
+    }
+
+    public long getReceived() {
+        return received.get();
+    }
+
+    public long getDelivered() {
+        return delivered.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    private static class Registration {
+        private final CommandResponder responder;
+        private final boolean unfiltered;
+        private final @Nullable String address;
+        private final Set<OID> oids;
+
+        private Registration(CommandResponder responder, boolean unfiltered, @Nullable String address,
+                Set<OID> oids) {
+            this.responder = responder;
+            this.unfiltered = unfiltered;
+            this.address = address;
+            this.oids = oids;
+        }
+    }
+}
@@ -34,6 +34,7 @@ public class SnmpTargetConfiguration {
     public int refresh = 60;
     public int timeout = 1500;
     public int retries = 2;
+    public int maxVarbinds = 50;
 
     // v1/v2c only
     public String community = "public";
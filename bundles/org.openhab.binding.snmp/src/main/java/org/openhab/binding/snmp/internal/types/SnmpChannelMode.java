@@ -24,5 +24,6 @@ public enum SnmpChannelMode {
     READ,
     WRITE,
     READ_WRITE,
-    TRAP
+    TRAP,
+    WALK
 }
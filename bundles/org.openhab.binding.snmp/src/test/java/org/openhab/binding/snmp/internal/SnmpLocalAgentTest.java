@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.snmp.internal.types.SnmpAuthProtocol;
+import org.openhab.binding.snmp.internal.types.SnmpPrivProtocol;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.test.java.JavaTest;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerCallback;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openhab.core.thing.type.ChannelTypeUID;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.Target;
+import org.snmp4j.event.ResponseListener;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * Tests the request handling of the {@link SnmpTargetHandler} against a local SNMP agent.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnmpLocalAgentTest extends JavaTest {
+    private static final ThingUID THING_UID = new ThingUID(THING_TYPE_TARGET, "agent");
+    private static final String SYSTEM_OID = "1.3.6.1.2.1.1";
+    private static final String IF_DESCR_OID = "1.3.6.1.2.1.2.2.1.2";
+    private static final String IF_IN_OCTETS_OID = "1.3.6.1.2.1.2.2.1.10";
+    private static final int AGENT_MAX_VARBINDS = 4;
+    private static final int READ_CHANNELS = 10;
+    private static final int INTERFACES = 30;
+
+    private final TreeMap<OID, Variable> mib = new TreeMap<>();
+    private final List<PDU> requests = new CopyOnWriteArrayList<>();
+    private final ThingHandlerCallback callback = mock(ThingHandlerCallback.class);
+
+    private @NonNullByDefault({}) Snmp agent;
+    private @NonNullByDefault({}) Snmp manager;
+    private @NonNullByDefault({}) SnmpTargetHandler thingHandler;
+    private int agentPort;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        for (int i = 1; i <= READ_CHANNELS; i++) {
+            mib.put(new OID(SYSTEM_OID + "." + i + ".0"), new Integer32(i));
+        }
+        for (int i = 1; i <= INTERFACES; i++) {
+            mib.put(new OID(IF_DESCR_OID + "." + i), new OctetString("eth" + i));
+            mib.put(new OID(IF_IN_OCTETS_OID + "." + i), new Integer32(100 * i));
+        }
+        // an unrelated object after the tables, the walks must stop before it
+        mib.put(new OID("1.3.6.1.2.1.3.1.0"), new Integer32(-1));
+
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            agentPort = socket.getLocalPort();
+        }
+        agent = new Snmp(new DefaultUdpTransportMapping(new UdpAddress("127.0.0.1/" + agentPort)));
+        agent.addCommandResponder(new LocalAgent());
+        agent.listen();
+
+        manager = new Snmp(new DefaultUdpTransportMapping());
+        manager.listen();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (thingHandler != null) {
+            thingHandler.dispose();
+        }
+        manager.close();
+        agent.close();
+    }
+
+    @Test
+    public void testChunkedReadAndWalks() {
+        Map<String, Object> thingConfig = new HashMap<>();
+        thingConfig.put("hostname", "127.0.0.1");
+        thingConfig.put("port", agentPort);
+        thingConfig.put("protocol", "v2c");
+        thingConfig.put("maxVarbinds", 8);
+        thingConfig.put("refresh", 3600);
+
+        ThingBuilder thingBuilder = ThingBuilder.create(THING_TYPE_TARGET, THING_UID).withLabel("Local agent")
+                .withConfiguration(new Configuration(thingConfig));
+        for (int i = 1; i <= READ_CHANNELS; i++) {
+            thingBuilder.withChannel(
+                    channel("system" + i, CHANNEL_TYPE_UID_NUMBER, SYSTEM_OID + "." + i + ".0", "READ"));
+        }
+        thingBuilder.withChannel(channel("ifDescr", CHANNEL_TYPE_UID_STRING, IF_DESCR_OID, "WALK"));
+        thingBuilder.withChannel(channel("ifInOctets", CHANNEL_TYPE_UID_NUMBER, IF_IN_OCTETS_OID, "WALK"));
+        Thing thing = thingBuilder.build();
+
+        thingHandler = new SnmpTargetHandler(thing, new ManagerService());
+        thing.setHandler(thingHandler);
+        thingHandler.setCallback(callback);
+        doAnswer(answer -> {
+            ((Thing) answer.getArgument(0)).setStatusInfo(answer.getArgument(1));
+            return null;
+        }).when(callback).statusUpdated(any(), any());
+
+        thingHandler.initialize();
+
+        for (int i = 1; i <= READ_CHANNELS; i++) {
+            verify(callback, timeout(5000)).stateUpdated(eq(new ChannelUID(THING_UID, "system" + i)),
+                    eq(new DecimalType(i)));
+        }
+        StringBuilder descriptions = new StringBuilder();
+        int octets = 0;
+        for (int i = 1; i <= INTERFACES; i++) {
+            descriptions.append(i > 1 ? "," : "").append("eth").append(i);
+            octets += 100 * i;
+        }
+        verify(callback, timeout(5000)).stateUpdated(eq(new ChannelUID(THING_UID, "ifDescr")),
+                eq(new StringType(descriptions.toString())));
+        verify(callback, timeout(5000)).stateUpdated(eq(new ChannelUID(THING_UID, "ifInOctets")),
+                eq(new DecimalType(octets)));
+        waitForAssert(() -> assertEquals(ThingStatus.ONLINE, thing.getStatusInfo().getStatus()));
+
+        // the first GET was too big for the agent and has been split, later GETs respect the agent's limit
+        assertTrue(requests.stream().anyMatch(pdu -> pdu.getType() == PDU.GET && pdu.size() > AGENT_MAX_VARBINDS));
+        PDU lastGet = requests.stream().filter(pdu -> pdu.getType() == PDU.GET).reduce((a, b) -> b).orElseThrow();
+        assertTrue(lastGet.size() <= AGENT_MAX_VARBINDS);
+        // each walk needs two GETBULK requests for 30 rows
+        assertTrue(requests.stream().filter(pdu -> pdu.getType() == PDU.GETBULK).count() >= 4);
+    }
+
+    private Channel channel(String id, ChannelTypeUID channelTypeUID, String oid, String mode) {
+        Map<String, Object> channelConfig = new HashMap<>();
+        channelConfig.put("oid", oid);
+        channelConfig.put("mode", mode);
+        String itemType = CHANNEL_TYPE_UID_NUMBER.equals(channelTypeUID) ? "Number" : "String";
+        return ChannelBuilder.create(new ChannelUID(THING_UID, id), itemType).withType(channelTypeUID)
+                .withConfiguration(new Configuration(channelConfig)).build();
+    }
+
+    /**
+     * A minimal agent answering GET, GETNEXT and GETBULK requests from the MIB map, and rejecting GET requests
+     * with more than {@link #AGENT_MAX_VARBINDS} variable bindings as too big.
+     */
+    private class LocalAgent implements CommandResponder {
+        @Override
+        public void processPdu(@Nullable CommandResponderEvent event) {
+            if (event == null) {
+                return;
+            }
+            PDU request = event.getPDU();
+            requests.add(request);
+            PDU response = new PDU();
+            response.setType(PDU.RESPONSE);
+            response.setRequestID(request.getRequestID());
+            if (request.getType() == PDU.GET && request.size() > AGENT_MAX_VARBINDS) {
+                response.setErrorStatus(PDU.tooBig);
+                request.getVariableBindings().forEach(response::add);
+            } else {
+                for (VariableBinding binding : request.getVariableBindings()) {
+                    OID oid = binding.getOid();
+                    switch (request.getType()) {
+                        case PDU.GET -> {
+                            Variable value = mib.get(oid);
+                            response.add(new VariableBinding(oid, value != null ? value : Null.noSuchObject));
+                        }
+                        case PDU.GETNEXT -> response.add(next(oid));
+                        case PDU.GETBULK -> {
+                            for (int i = 0; i < request.getMaxRepetitions(); i++) {
+                                VariableBinding next = next(oid);
+                                response.add(next);
+                                if (next.isException()) {
+                                    break;
+                                }
+                                oid = next.getOid();
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            }
+            try {
+                event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(),
+                        event.getSecurityModel(), event.getSecurityName(), event.getSecurityLevel(), response,
+                        event.getMaxSizeResponsePDU(), event.getStateReference(), new StatusInformation());
+            } catch (MessageException e) {
+                fail(e.getMessage());
+            }
+            event.setProcessed(true);
+        }
+
+        private VariableBinding next(OID oid) {
+            Entry<OID, Variable> next = mib.higherEntry(oid);
+            return next != null ? new VariableBinding(next.getKey(), next.getValue())
+                    : new VariableBinding(oid, Null.endOfMibView);
+        }
+    }
+
+    /**
+     * {@link SnmpService} sending requests through a plain manager session.
+     */
+    private class ManagerService implements SnmpService {
+        @Override
+        public void addCommandResponder(CommandResponder listener) {
+        }
+
+        @Override
+        public void removeCommandResponder(CommandResponder listener) {
+        }
+
+        @Override
+        public void setTrapFilter(CommandResponder listener, @Nullable String address, Set<OID> trapOids) {
+        }
+
+        @Override
+        public void send(PDU pdu, Target target, @Nullable Object userHandle, ResponseListener listener)
+                throws IOException {
+            manager.send(pdu, target, userHandle, listener);
+        }
+
+        @Override
+        public void addUser(String userName, SnmpAuthProtocol snmpAuthProtocol, @Nullable String authPassphrase,
+                SnmpPrivProtocol snmpPrivProtocol, @Nullable String privPassphrase, byte[] engineId) {
+        }
+    }
+}
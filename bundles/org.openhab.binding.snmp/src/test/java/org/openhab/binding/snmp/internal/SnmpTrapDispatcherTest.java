@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.PDU;
+import org.snmp4j.PDUv1;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * Tests cases for {@link SnmpTrapDispatcher}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnmpTrapDispatcherTest {
+    private static final OID TRAP_OID = new OID("1.2.3.4");
+    private static final OID OTHER_OID = new OID("1.2.3.5");
+
+    private static CommandResponderEvent trap(String address, OID oid) {
+        PDU pdu = new PDU();
+        pdu.setType(PDU.TRAP);
+        pdu.add(new VariableBinding(oid, new OctetString("foo")));
+        return event(address, pdu);
+    }
+
+    private static CommandResponderEvent event(String address, PDU pdu) {
+        CommandResponderEvent event = mock(CommandResponderEvent.class);
+        when(event.getPDU()).thenReturn(pdu);
+        when(event.getPeerAddress()).thenReturn(new UdpAddress(address + "/162"));
+        return event;
+    }
+
+    @Test
+    public void testTrapsAreDeliveredByAddressAndOid() {
+        SnmpTrapDispatcher dispatcher = new SnmpTrapDispatcher(Runnable::run);
+        CommandResponder first = mock(CommandResponder.class);
+        CommandResponder second = mock(CommandResponder.class);
+        dispatcher.register(first);
+        dispatcher.register(second);
+        dispatcher.setFilter(first, "192.168.0.1", Set.of(TRAP_OID));
+        dispatcher.setFilter(second, "192.168.0.2", Set.of(TRAP_OID));
+
+        CommandResponderEvent event = trap("192.168.0.1", TRAP_OID);
+        dispatcher.processPdu(event);
+        verify(first).processPdu(event);
+        verify(second, never()).processPdu(any());
+
+        // unknown OID
+        dispatcher.processPdu(trap("192.168.0.1", OTHER_OID));
+        // unknown address
+        dispatcher.processPdu(trap("192.168.0.3", TRAP_OID));
+        verify(first, times(1)).processPdu(any());
+        verify(second, never()).processPdu(any());
+        assertEquals(3, dispatcher.getReceived());
+        assertEquals(1, dispatcher.getDelivered());
+    }
+
+    @Test
+    public void testV1TrapsAreDeliveredByEnterprise() {
+        SnmpTrapDispatcher dispatcher = new SnmpTrapDispatcher(Runnable::run);
+        CommandResponder responder = mock(CommandResponder.class);
+        dispatcher.register(responder);
+        // the address is not known yet
+        dispatcher.setFilter(responder, null, Set.of(TRAP_OID));
+
+        PDUv1 pdu = new PDUv1();
+        pdu.setType(PDU.V1TRAP);
+        pdu.setEnterprise(TRAP_OID);
+        CommandResponderEvent event = event("192.168.0.1", pdu);
+        dispatcher.processPdu(event);
+        verify(responder).processPdu(event);
+    }
+
+    @Test
+    public void testUnfilteredAndUnregisteredResponders() {
+        SnmpTrapDispatcher dispatcher = new SnmpTrapDispatcher(Runnable::run);
+        CommandResponder responder = mock(CommandResponder.class);
+        dispatcher.register(responder);
+        dispatcher.processPdu(trap("192.168.0.1", OTHER_OID));
+        verify(responder, times(1)).processPdu(any());
+
+        dispatcher.unregister(responder);
+        dispatcher.processPdu(trap("192.168.0.1", OTHER_OID));
+        verify(responder, times(1)).processPdu(any());
+    }
+
+    @Test
+    public void testFloodIsDroppedWithoutBlocking() {
+        List<Runnable> tasks = new ArrayList<>();
+        SnmpTrapDispatcher dispatcher = new SnmpTrapDispatcher(tasks::add);
+        CommandResponder responder = mock(CommandResponder.class);
+        dispatcher.register(responder);
+
+        int traps = SnmpTrapDispatcher.QUEUE_CAPACITY + 100;
+        for (int i = 0; i < traps; i++) {
+            dispatcher.processPdu(trap("192.168.0.1", TRAP_OID));
+        }
+        // only one drain task is scheduled while the queue is being filled
+        assertEquals(1, tasks.size());
+        assertEquals(traps, dispatcher.getReceived());
+        assertEquals(100, dispatcher.getDropped());
+
+        tasks.get(0).run();
+        verify(responder, times(SnmpTrapDispatcher.QUEUE_CAPACITY)).processPdu(any());
+        assertEquals(SnmpTrapDispatcher.QUEUE_CAPACITY, dispatcher.getDelivered());
+    }
+}
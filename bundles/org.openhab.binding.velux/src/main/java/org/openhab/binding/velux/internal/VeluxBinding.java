@@ -93,6 +93,11 @@ public class VeluxBinding extends VeluxBridgeConfiguration {
             this.isBulkRetrievalEnabled = uncheckedConfiguration.isBulkRetrievalEnabled;
             this.isSequentialEnforced = uncheckedConfiguration.isSequentialEnforced;
             this.isProtocolTraceEnabled = uncheckedConfiguration.isProtocolTraceEnabled;
+            logger.trace("VeluxBinding(): checking {}.", VeluxBridgeConfiguration.BRIDGE_COMMAND_COALESCING_MSECS);
+            if ((uncheckedConfiguration.commandCoalescingMsecs >= 0)
+                    && (uncheckedConfiguration.commandCoalescingMsecs <= 1000)) {
+                this.commandCoalescingMsecs = uncheckedConfiguration.commandCoalescingMsecs;
+            }
 
         }
         logger.trace("VeluxBinding(constructor) done.");
@@ -107,7 +112,7 @@ public class VeluxBinding extends VeluxBridgeConfiguration {
     public VeluxBridgeConfiguration checked() {
         logger.trace("checked() called.");
         // @formatter:off
-        logger.debug("{}Config[{}={},{}={},{}={},{}={},{}={},{}={},{}={},{}={},{}={},{}={}]",
+        logger.debug("{}Config[{}={},{}={},{}={},{}={},{}={},{}={},{}={},{}={},{}={},{}={},{}={}]",
                 VeluxBindingConstants.BINDING_ID,
                 VeluxBridgeConfiguration.BRIDGE_PROTOCOL, protocol,
                 VeluxBridgeConfiguration.BRIDGE_IPADDRESS, this.ipAddress,
@@ -118,7 +123,8 @@ public class VeluxBinding extends VeluxBridgeConfiguration {
                 VeluxBridgeConfiguration.BRIDGE_REFRESH_MSECS, refreshMSecs,
                 VeluxBridgeConfiguration.BRIDGE_IS_BULK_RETRIEVAL_ENABLED, isBulkRetrievalEnabled,
                 VeluxBridgeConfiguration.BRIDGE_IS_SEQUENTIAL_ENFORCED, isSequentialEnforced,
-                VeluxBridgeConfiguration.BRIDGE_PROTOCOL_TRACE_ENABLED, isProtocolTraceEnabled);
+                VeluxBridgeConfiguration.BRIDGE_PROTOCOL_TRACE_ENABLED, isProtocolTraceEnabled,
+                VeluxBridgeConfiguration.BRIDGE_COMMAND_COALESCING_MSECS, commandCoalescingMsecs);
         // @formatter:off
         logger.trace("checked() done.");
         return this;
@@ -12,7 +12,10 @@
  */
 package org.openhab.binding.velux.internal.bridge.slip;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Random;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -45,6 +48,9 @@ import org.slf4j.LoggerFactory;
  * Methods in addition to the mentioned interface:
  * <UL>
  * <LI>{@link #setNodeIdAndParameters} to define the node and intended parameter value.</LI>
+ * <LI>{@link #setNodeIdsAndParameters} to define up to {@link #MAX_NODES} nodes and their common intended parameter
+ * value.</LI>
+ * <LI>{@link #isNodeSuccessful} to check the result for one of the addressed nodes.</LI>
  * </UL>
  *
  * @see RunProductCommand
@@ -59,6 +65,11 @@ public class SCrunProductCommand extends RunProductCommand implements SlipBridge
     private static final String DESCRIPTION = "Send Command to Actuator";
     private static final Command COMMAND = Command.GW_COMMAND_SEND_REQ;
 
+    /**
+     * Maximum number of nodes which can be addressed by one command.
+     */
+    public static final int MAX_NODES = 20;
+
     /*
      * ===========================================================
      * Message Content Parameters
@@ -71,8 +82,8 @@ public class SCrunProductCommand extends RunProductCommand implements SlipBridge
     private int reqFPI1 = 0; // Functional Parameter Indicator 1 set of bits
     private int reqFPI2 = 0; // Functional Parameter Indicator 2 set of bits
     private int reqMainParameter = 0; // for FunctionalParameterValueArray
-    private int reqIndexArrayCount = 1; // One node will be addressed
-    private int reqIndexArray01 = 1; // This is the node
+    private int reqIndexArrayCount = 1; // Number of nodes to be addressed
+    private int[] reqIndexArray = { 1 }; // These are the nodes
     private int reqPriorityLevelLock = 0; // Do not set a new lock on priority level
     private int reqPL03 = 0; // unused
     private int reqPL47 = 0; // unused
@@ -93,7 +104,9 @@ public class SCrunProductCommand extends RunProductCommand implements SlipBridge
 
     private boolean success = false;
     private boolean finished = false;
+    private final Set<Integer> failedNodes = new HashSet<>();
 
+    private int setMainParameter = VeluxProductPosition.VPP_VELUX_IGNORE;
     private VeluxProduct product = VeluxProduct.UNKNOWN;
 
     /*
@@ -122,6 +135,7 @@ public class SCrunProductCommand extends RunProductCommand implements SlipBridge
     public CommandNumber getRequestCommand() {
         success = false;
         finished = false;
+        failedNodes.clear();
         logger.debug("getRequestCommand() returns {}.", COMMAND.getCommand());
         return COMMAND.getCommand();
     }
@@ -143,7 +157,9 @@ public class SCrunProductCommand extends RunProductCommand implements SlipBridge
         request.setOneByteValue(6, reqFPI2);
         request.setTwoByteValue(7, reqMainParameter);
         request.setOneByteValue(41, reqIndexArrayCount);
-        request.setOneByteValue(42, reqIndexArray01);
+        for (int i = 0; i < reqIndexArrayCount; i++) {
+            request.setOneByteValue(42 + i, reqIndexArray[i]);
+        }
         request.setOneByteValue(62, reqPriorityLevelLock);
         request.setOneByteValue(63, reqPL03);
         request.setOneByteValue(64, reqPL47);
@@ -161,8 +177,8 @@ public class SCrunProductCommand extends RunProductCommand implements SlipBridge
             logger.trace("getRequestDataAsArrayOfBytes(): reqMainParameter={}.", hex(reqMainParameter));
             logger.trace("getRequestDataAsArrayOfBytes(): reqFunctionalParameters={}.", reqFunctionalParameters);
             logger.trace("getRequestDataAsArrayOfBytes(): reqIndexArrayCount={}.", hex(reqIndexArrayCount));
-            logger.trace("getRequestDataAsArrayOfBytes(): reqIndexArray01={} (reqNodeId={}).", reqIndexArray01,
-                    reqIndexArray01);
+            logger.trace("getRequestDataAsArrayOfBytes(): reqIndexArray={} (reqNodeIds).",
+                    Arrays.toString(reqIndexArray));
             logger.trace("getRequestDataAsArrayOfBytes(): reqPriorityLevelLock={}.", hex(reqPriorityLevelLock));
             logger.trace("getRequestDataAsArrayOfBytes(): reqPL03={}.", hex(reqPL03));
             logger.trace("getRequestDataAsArrayOfBytes(): reqPL47={}.", hex(reqPL47));
@@ -252,8 +268,12 @@ public class SCrunProductCommand extends RunProductCommand implements SlipBridge
                         success = true;
                         break;
                     case 1:
-                        logger.info("setResponse(): returned ntfRunStatus: EXECUTION_FAILED.");
-                        finished = true;
+                        logger.info("setResponse(): returned ntfRunStatus: EXECUTION_FAILED for node {}.", ntfIndex);
+                        failedNodes.add(ntfIndex);
+                        // the session goes on as long as other nodes are still being executed
+                        if (failedNodes.size() >= reqIndexArrayCount) {
+                            finished = true;
+                        }
                         break;
                     case 2:
                         logger.debug("setResponse(): returned ntfRunStatus: EXECUTION_ACTIVE.");
@@ -340,22 +360,36 @@ public class SCrunProductCommand extends RunProductCommand implements SlipBridge
     public boolean setNodeIdAndParameters(int nodeId, @Nullable VeluxProductPosition mainParameter,
             @Nullable FunctionalParameters functionalParameters) {
         logger.debug("setNodeIdAndParameters({}) called.", nodeId);
+        return setNodeIdsAndParameters(new int[] { nodeId }, mainParameter, functionalParameters);
+    }
+
+    /**
+     * Modifies the state of several actuators with one command.
+     *
+     * @param nodeIds Gateway internal actuator identifiers (zero to 199), at most {@link #MAX_NODES}.
+     * @param mainParameter target device state.
+     * @param functionalParameters the target Functional Parameters.
+     * @return true if the method succeeds
+     */
+    public boolean setNodeIdsAndParameters(int[] nodeIds, @Nullable VeluxProductPosition mainParameter,
+            @Nullable FunctionalParameters functionalParameters) {
+        logger.debug("setNodeIdsAndParameters({}) called.", Arrays.toString(nodeIds));
 
-        if ((mainParameter != null) || (functionalParameters != null)) {
-            reqIndexArray01 = nodeId;
+        if ((nodeIds.length > 0) && (nodeIds.length <= MAX_NODES)
+                && ((mainParameter != null) || (functionalParameters != null))) {
+            reqIndexArrayCount = nodeIds.length;
+            reqIndexArray = nodeIds.clone();
 
             reqMainParameter = (mainParameter == null) ? VeluxProductPosition.VPP_VELUX_STOP
                     : mainParameter.getPositionAsVeluxType();
 
-            int setMainParameter = VeluxProductPosition.isValid(reqMainParameter) ? reqMainParameter
+            setMainParameter = VeluxProductPosition.isValid(reqMainParameter) ? reqMainParameter
                     : VeluxProductPosition.VPP_VELUX_IGNORE;
 
             reqFunctionalParameters = functionalParameters;
 
             // create notification product that clones the new command positions
-            product = new VeluxProduct(VeluxProductName.UNKNOWN, new ProductBridgeIndex(reqIndexArray01),
-                    ProductState.EXECUTING.value, setMainParameter, setMainParameter, reqFunctionalParameters, COMMAND)
-                    .overrideDataSource(DataSource.BINDING);
+            product = createProduct(reqIndexArray[0]);
 
             return true;
         }
@@ -363,8 +397,38 @@ public class SCrunProductCommand extends RunProductCommand implements SlipBridge
         return false;
     }
 
+    private VeluxProduct createProduct(int nodeId) {
+        return new VeluxProduct(VeluxProductName.UNKNOWN, new ProductBridgeIndex(nodeId), ProductState.EXECUTING.value,
+                setMainParameter, setMainParameter, reqFunctionalParameters, COMMAND)
+                .overrideDataSource(DataSource.BINDING);
+    }
+
     public VeluxProduct getProduct() {
         logger.trace("getProduct(): returning {}.", product);
         return product;
     }
+
+    /**
+     * Returns the notification product for one of the addressed nodes.
+     *
+     * @param nodeId one of the nodes passed to {@link #setNodeIdsAndParameters}.
+     * @return the product cloning the new command positions, or {@link VeluxProduct#UNKNOWN}.
+     */
+    public VeluxProduct getProduct(int nodeId) {
+        if (product == VeluxProduct.UNKNOWN || Arrays.stream(reqIndexArray).noneMatch(id -> id == nodeId)) {
+            return VeluxProduct.UNKNOWN;
+        }
+        return nodeId == reqIndexArray[0] ? product : createProduct(nodeId);
+    }
+
+    /**
+     * Returns whether the command was successful for one of the addressed nodes, i.e. the communication succeeded and
+     * the bridge did not report a failed execution for this node.
+     *
+     * @param nodeId one of the nodes passed to {@link #setNodeIdsAndParameters}.
+     * @return true if the command succeeded for this node.
+     */
+    public boolean isNodeSuccessful(int nodeId) {
+        return success && !failedNodes.contains(nodeId);
+    }
 }
@@ -36,6 +36,8 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
  * actuators.</LI>
  * <li>{@link VeluxBridgeConfiguration#isProtocolTraceEnabled isProtocolTraceEnabled} flag to enable protocol logging
  * (via loglevel INFO).</li>
+ * <li>{@link VeluxBridgeConfiguration#commandCoalescingMsecs commandCoalescingMsecs} time in milliseconds to collect
+ * actuator commands which are sent together (0 to disable).</li>
  * </ul>
  * <p>
  *
@@ -53,6 +55,7 @@ public class VeluxBridgeConfiguration {
     public static final String BRIDGE_IS_BULK_RETRIEVAL_ENABLED = "isBulkRetrievalEnabled";
     public static final String BRIDGE_IS_SEQUENTIAL_ENFORCED = "isSequentialEnforced";
     public static final String BRIDGE_PROTOCOL_TRACE_ENABLED = "isProtocolTraceEnabled";
+    public static final String BRIDGE_COMMAND_COALESCING_MSECS = "commandCoalescingMsecs";
 
     /*
      * Value to flag any changes towards the getter.
@@ -72,4 +75,5 @@ public class VeluxBridgeConfiguration {
     public boolean isBulkRetrievalEnabled = true;
     public boolean isSequentialEnforced = false;
     public boolean isProtocolTraceEnabled = false;
+    public int commandCoalescingMsecs = 0;
 }
@@ -266,6 +266,11 @@ final class ChannelActuatorPosition extends ChannelHandlerTemplate {
 
             if ((mainParameter != null) || (functionalParameters != null)) {
                 LOGGER.debug("handleCommand(): sending command '{}' for channel id '{}'.", command, channelId);
+                if (thisBridgeHandler.queueActuatorCommand(productBridgeIndex.toInt(), mainParameter,
+                        functionalParameters)) {
+                    LOGGER.debug("handleCommand(): command queued to be sent together with other actuators.");
+                    break;
+                }
                 RunProductCommand bcp = thisBridgeHandler.thisBridge.bridgeAPI().runProductCommand();
                 boolean success = false;
                 if (bcp instanceof SCrunProductCommand productCommand) {
@@ -17,6 +17,7 @@ import java.net.InetAddress;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -49,10 +50,13 @@ import org.openhab.binding.velux.internal.bridge.common.RunProductCommand;
 import org.openhab.binding.velux.internal.bridge.common.RunReboot;
 import org.openhab.binding.velux.internal.bridge.json.JsonVeluxBridge;
 import org.openhab.binding.velux.internal.bridge.slip.FunctionalParameters;
+import org.openhab.binding.velux.internal.bridge.slip.SCrunProductCommand;
 import org.openhab.binding.velux.internal.bridge.slip.SlipVeluxBridge;
 import org.openhab.binding.velux.internal.config.VeluxBridgeConfiguration;
 import org.openhab.binding.velux.internal.development.Threads;
 import org.openhab.binding.velux.internal.factory.VeluxHandlerFactory;
+import org.openhab.binding.velux.internal.handler.utils.ActuatorCommandCoalescer;
+import org.openhab.binding.velux.internal.handler.utils.ActuatorCommandCoalescer.Batch;
 import org.openhab.binding.velux.internal.handler.utils.ExtendedBaseBridgeHandler;
 import org.openhab.binding.velux.internal.handler.utils.Thing2VeluxActuator;
 import org.openhab.binding.velux.internal.handler.utils.ThingProperty;
@@ -141,6 +145,11 @@ public class VeluxBridgeHandler extends ExtendedBaseBridgeHandler implements Vel
     private @Nullable ExecutorService communicationsJobExecutor = null;
     private @Nullable NamedThreadFactory threadFactory = null;
 
+    /**
+     * Actuator commands waiting to be merged into multi-node commands.
+     */
+    private final ActuatorCommandCoalescer actuatorCommandCoalescer = new ActuatorCommandCoalescer();
+
     private VeluxBridge myJsonBridge = new JsonVeluxBridge(this);
     private VeluxBridge mySlipBridge = new SlipVeluxBridge(this);
     private boolean disposing = false;
@@ -302,6 +311,7 @@ public class VeluxBridgeHandler extends ExtendedBaseBridgeHandler implements Vel
                 ((long) Math.pow(2, veluxBridgeConfiguration.retries + 1) - 1) * veluxBridgeConfiguration.refreshMSecs);
 
         initializeRetriesDone = 0;
+        actuatorCommandCoalescer.clear();
 
         scheduler.execute(() -> {
             disposing = false;
@@ -350,6 +360,7 @@ public class VeluxBridgeHandler extends ExtendedBaseBridgeHandler implements Vel
 
     @Override
     public void dispose() {
+        actuatorCommandCoalescer.clear();
         scheduler.submit(() -> {
             disposing = true;
             disposeSchedulerJob();
@@ -940,6 +951,74 @@ public class VeluxBridgeHandler extends ExtendedBaseBridgeHandler implements Vel
         return false;
     }
 
+    /**
+     * Queues an actuator command, so that the commands for several nodes with the same target which arrive within
+     * the configured coalescing time are sent to the bridge as one multi-node command.
+     *
+     * @param nodeId the node to be moved.
+     * @param mainParameter the target main position.
+     * @param functionalParameters the target functional parameters.
+     * @return false if commands are not coalesced, so the caller has to send the command itself.
+     */
+    boolean queueActuatorCommand(int nodeId, @Nullable VeluxProductPosition mainParameter,
+            @Nullable FunctionalParameters functionalParameters) {
+        int coalescingMsecs = veluxBridgeConfiguration.commandCoalescingMsecs;
+        if (coalescingMsecs <= 0 || !(thisBridge.bridgeAPI().runProductCommand() instanceof SCrunProductCommand)) {
+            return false;
+        }
+        if (actuatorCommandCoalescer.add(nodeId, mainParameter, functionalParameters)) {
+            scheduler.schedule(this::flushActuatorCommands, coalescingMsecs, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
+    /**
+     * Closes the coalescing window by taking the queued actuator commands, and hands them to the communications job.
+     */
+    private void flushActuatorCommands() {
+        List<Batch> batches = actuatorCommandCoalescer.drain();
+        if (!batches.isEmpty()) {
+            submitCommunicationsJob(() -> sendQueuedActuatorCommands(batches));
+        }
+    }
+
+    /**
+     * Sends the queued actuator commands, up to {@link SCrunProductCommand#MAX_NODES} nodes with the same target per
+     * command, and updates the products of the nodes for which the command succeeded.
+     *
+     * @param batches the commands taken from the {@link ActuatorCommandCoalescer}.
+     */
+    private synchronized void sendQueuedActuatorCommands(List<Batch> batches) {
+        RunProductCommand bcp = thisBridge.bridgeAPI().runProductCommand();
+        if (!(bcp instanceof SCrunProductCommand productCommand)) {
+            logger.debug("sendQueuedActuatorCommands(): bridge protocol changed, dropping {} commands.",
+                    batches.size());
+            return;
+        }
+        for (Batch batch : batches) {
+            int[] nodeIds = batch.nodeIds().stream().mapToInt(Integer::intValue).toArray();
+            synchronized (bcp) {
+                boolean success = productCommand.setNodeIdsAndParameters(nodeIds, batch.mainParameter(),
+                        batch.functionalParameters()) && thisBridge.bridgeCommunicate(bcp)
+                        && bcp.isCommunicationSuccessful();
+                for (int nodeId : nodeIds) {
+                    if (success && productCommand.isNodeSuccessful(nodeId)) {
+                        if (existingProducts().update(productCommand.getProduct(nodeId))) {
+                            logger.trace("sendQueuedActuatorCommands(): node {} immediate update requested.", nodeId);
+                        }
+                    } else {
+                        logger.debug("sendQueuedActuatorCommands(): command for node {} failed.", nodeId);
+                    }
+                }
+                logger.debug("sendQueuedActuatorCommands(): command for nodes {} finished {}.", batch.nodeIds(),
+                        (success ? "successfully" : "with failure"));
+            }
+        }
+        if (bridgeParameters.actuators.autoRefresh(thisBridge)) {
+            logger.trace("sendQueuedActuatorCommands(): actuator positions will be updated via polling.");
+        }
+    }
+
     /**
      * If necessary initialise the communications job executor. Then check if the executor is shut down. And if it is
      * not shut down, then submit the given communications job for execution.
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.velux.internal.handler.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.velux.internal.bridge.slip.FunctionalParameters;
+import org.openhab.binding.velux.internal.bridge.slip.SCrunProductCommand;
+import org.openhab.binding.velux.internal.things.VeluxProductPosition;
+
+/**
+ * The class {@link ActuatorCommandCoalescer} collects the actuator commands which arrive within a short time window,
+ * so that commands for different nodes with the same target can be sent to the bridge as one multi-node command.
+ * <ul>
+ * <li>{@link #add} queues a command for a node and returns whether the caller has to schedule a flush,</li>
+ * <li>{@link #drain} returns the queued commands grouped by target, at most {@link SCrunProductCommand#MAX_NODES}
+ * nodes each,</li>
+ * <li>{@link #clear} drops the queued commands.</li>
+ * </ul>
+ * If a node receives another command before the queued one has been sent, only the newest command is kept.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ActuatorCommandCoalescer {
+
+    /**
+     * Commands for nodes with an equal target are merged into one batch.
+     */
+    private record Target(int mainParameter, @Nullable FunctionalParameters functionalParameters) {
+    }
+
+    private record PendingCommand(Target target, @Nullable VeluxProductPosition mainParameter) {
+    }
+
+    /**
+     * A command for up to {@link SCrunProductCommand#MAX_NODES} nodes sharing the same target.
+     *
+     * @param nodeIds the nodes to be addressed in the order of the arrival of their commands.
+     * @param mainParameter the target main position.
+     * @param functionalParameters the target functional parameters.
+     */
+    public record Batch(List<Integer> nodeIds, @Nullable VeluxProductPosition mainParameter,
+            @Nullable FunctionalParameters functionalParameters) {
+    }
+
+    private final Map<Integer, PendingCommand> pendingCommands = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+
+    /**
+     * Queues a command for the given node.
+     *
+     * @param nodeId the node to be moved.
+     * @param mainParameter the target main position.
+     * @param functionalParameters the target functional parameters.
+     * @return true if this is the first command of a new window, so the caller has to schedule a flush.
+     */
+    public synchronized boolean add(int nodeId, @Nullable VeluxProductPosition mainParameter,
+            @Nullable FunctionalParameters functionalParameters) {
+        int mainValue = mainParameter == null ? VeluxProductPosition.VPP_VELUX_STOP
+                : mainParameter.getPositionAsVeluxType();
+        // re-insert to keep the nodes in the order of their latest command
+        pendingCommands.remove(nodeId);
+        pendingCommands.put(nodeId, new PendingCommand(new Target(mainValue, functionalParameters), mainParameter));
+        if (flushScheduled) {
+            return false;
+        }
+        flushScheduled = true;
+        return true;
+    }
+
+    /**
+     * Removes all queued commands and returns them merged into batches, in the order of the first command of
+     * each target. The next command opens a new window.
+     *
+     * @return the batches to be sent.
+     */
+    public synchronized List<Batch> drain() {
+        Map<Target, List<Integer>> nodesByTarget = new LinkedHashMap<>();
+        Map<Target, PendingCommand> firstCommands = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<Integer, PendingCommand> entry : pendingCommands.entrySet()) {
+                Target target = entry.getValue().target();
+                nodesByTarget.computeIfAbsent(target, t -> new ArrayList<>()).add(entry.getKey());
+                firstCommands.putIfAbsent(target, entry.getValue());
+            }
+        } finally {
+            clear();
+        }
+
+        List<Batch> batches = new ArrayList<>();
+        for (Map.Entry<Target, List<Integer>> entry : nodesByTarget.entrySet()) {
+            List<Integer> nodeIds = entry.getValue();
+            PendingCommand command = Objects.requireNonNull(firstCommands.get(entry.getKey()));
+            for (int from = 0; from < nodeIds.size(); from += SCrunProductCommand.MAX_NODES) {
+                List<Integer> chunk = List
+                        .copyOf(nodeIds.subList(from, Math.min(from + SCrunProductCommand.MAX_NODES, nodeIds.size())));
+                batches.add(new Batch(chunk, command.mainParameter(), command.target().functionalParameters()));
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * Drops all queued commands, so the next command opens a new window.
+     */
+    public synchronized void clear() {
+        pendingCommands.clear();
+        flushScheduled = false;
+    }
+
+    /**
+     * Returns the number of nodes with a queued command.
+     *
+     * @return number of queued commands.
+     */
+    public synchronized int size() {
+        return pendingCommands.size();
+    }
+}
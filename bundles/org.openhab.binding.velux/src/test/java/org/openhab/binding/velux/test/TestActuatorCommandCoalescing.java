@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.velux.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.velux.internal.bridge.slip.SCrunProductCommand;
+import org.openhab.binding.velux.internal.handler.utils.ActuatorCommandCoalescer;
+import org.openhab.binding.velux.internal.handler.utils.ActuatorCommandCoalescer.Batch;
+import org.openhab.binding.velux.internal.things.VeluxProduct;
+import org.openhab.binding.velux.internal.things.VeluxKLFAPI.Command;
+import org.openhab.binding.velux.internal.things.VeluxProductPosition;
+import org.openhab.core.library.types.PercentType;
+
+/**
+ * JUnit test suite to check the coalescing of actuator commands into multi-node commands.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TestActuatorCommandCoalescing {
+
+    private static VeluxProductPosition position(int percent) {
+        return new VeluxProductPosition(new PercentType(percent));
+    }
+
+    /**
+     * Commands with the same target are merged, and only the latest command per node is kept.
+     */
+    @Test
+    void testCommandsWithSameTargetAreMerged() {
+        ActuatorCommandCoalescer coalescer = new ActuatorCommandCoalescer();
+        assertTrue(coalescer.add(1, position(100), null));
+        assertFalse(coalescer.add(2, position(100), null));
+        assertFalse(coalescer.add(3, position(50), null));
+        assertFalse(coalescer.add(4, position(0), null));
+        // node 4 changes its mind before the window closes
+        assertFalse(coalescer.add(4, position(100), null));
+        assertEquals(4, coalescer.size());
+
+        List<Batch> batches = coalescer.drain();
+        assertEquals(2, batches.size());
+        assertEquals(List.of(1, 2, 4), batches.get(0).nodeIds());
+        assertEquals(List.of(3), batches.get(1).nodeIds());
+        assertEquals(0, coalescer.size());
+
+        // the next command opens a new window
+        assertTrue(coalescer.add(1, position(0), null));
+    }
+
+    /**
+     * Dropping the queued commands closes the window, so the next command schedules a new flush.
+     */
+    @Test
+    void testClearOpensNewWindow() {
+        ActuatorCommandCoalescer coalescer = new ActuatorCommandCoalescer();
+        assertTrue(coalescer.add(1, position(100), null));
+        assertFalse(coalescer.add(2, position(100), null));
+        coalescer.clear();
+        assertEquals(0, coalescer.size());
+        assertTrue(coalescer.drain().isEmpty());
+
+        assertTrue(coalescer.add(3, position(0), null));
+        assertEquals(List.of(3), coalescer.drain().get(0).nodeIds());
+    }
+
+    /**
+     * A batch never exceeds the number of nodes one command can address.
+     */
+    @Test
+    void testBatchesAreLimited() {
+        ActuatorCommandCoalescer coalescer = new ActuatorCommandCoalescer();
+        for (int nodeId = 0; nodeId < 45; nodeId++) {
+            coalescer.add(nodeId, position(100), null);
+        }
+        List<Batch> batches = coalescer.drain();
+        assertEquals(3, batches.size());
+        assertEquals(SCrunProductCommand.MAX_NODES, batches.get(0).nodeIds().size());
+        assertEquals(SCrunProductCommand.MAX_NODES, batches.get(1).nodeIds().size());
+        assertEquals(5, batches.get(2).nodeIds().size());
+    }
+
+    /**
+     * All nodes of a multi-node command are written into the index array of the request.
+     */
+    @Test
+    void testMultiNodeRequest() {
+        SCrunProductCommand bcp = new SCrunProductCommand();
+        assertFalse(bcp.setNodeIdsAndParameters(new int[0], position(100), null));
+        assertFalse(bcp.setNodeIdsAndParameters(new int[SCrunProductCommand.MAX_NODES + 1], position(100), null));
+
+        assertTrue(bcp.setNodeIdsAndParameters(new int[] { 3, 7, 9 }, position(100), null));
+        byte[] request = bcp.getRequestDataAsArrayOfBytes();
+        assertEquals(3, request[41]);
+        assertEquals(3, request[42]);
+        assertEquals(7, request[43]);
+        assertEquals(9, request[44]);
+        assertEquals(0, request[45]);
+
+        assertEquals(7, bcp.getProduct(7).getBridgeProductIndex().toInt());
+        assertEquals(VeluxProduct.UNKNOWN, bcp.getProduct(8));
+    }
+
+    /**
+     * A node reporting a failed execution does not fail the other nodes of a multi-node command.
+     */
+    @Test
+    void testNodeResultsOfMultiNodeCommand() {
+        SCrunProductCommand bcp = new SCrunProductCommand();
+        assertTrue(bcp.setNodeIdsAndParameters(new int[] { 3, 7 }, position(100), null));
+        byte[] request = bcp.getRequestDataAsArrayOfBytes();
+        byte sessionHigh = request[0];
+        byte sessionLow = request[1];
+
+        bcp.setResponse(Command.GW_COMMAND_SEND_CFM.getShort(), new byte[] { sessionHigh, sessionLow, 1 }, true);
+        assertFalse(bcp.isCommunicationFinished());
+
+        // node 3 fails, node 7 completes, each reported with run status, status reply and information code
+        bcp.setResponse(Command.GW_COMMAND_RUN_STATUS_NTF.getShort(),
+                new byte[] { sessionHigh, sessionLow, 1, 3, 0, (byte) 0xC8, 0, 1, 1, 0, 0, 0, 0 }, true);
+        assertFalse(bcp.isCommunicationFinished());
+        bcp.setResponse(Command.GW_COMMAND_RUN_STATUS_NTF.getShort(),
+                new byte[] { sessionHigh, sessionLow, 1, 7, 0, (byte) 0xC8, 0, 0, 1, 0, 0, 0, 0 }, true);
+        assertFalse(bcp.isCommunicationFinished());
+        bcp.setResponse(Command.GW_SESSION_FINISHED_NTF.getShort(), new byte[] { sessionHigh, sessionLow }, true);
+        assertTrue(bcp.isCommunicationFinished());
+        assertTrue(bcp.isCommunicationSuccessful());
+
+        assertFalse(bcp.isNodeSuccessful(3));
+        assertTrue(bcp.isNodeSuccessful(7));
+    }
+}